@@ -29,20 +29,38 @@ package schemacrawler.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.Table;
 import us.fatehi.utility.Multimap;
 
+/**
+ * Inverted index from normalized column match keys to columns. Columns for each match key are
+ * also grouped by their Java SQL type, so that columns of incompatible types are never paired up.
+ */
 final class ColumnMatchKeysMap {
 
+  static String javaSqlTypeName(final Column column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (columnDataType == null) {
+      return "";
+    }
+    return columnDataType.getJavaSqlType().getName();
+  }
+
   private final Multimap<String, Column> columnsForMatchKey;
+  private final Map<String, Multimap<String, Column>> columnsForMatchKeyByType;
   private final Multimap<Column, String> matchKeysForColumn;
 
   ColumnMatchKeysMap(final List<Table> tables) {
     requireNonNull(tables, "No tables provided");
     columnsForMatchKey = new Multimap<>();
+    columnsForMatchKeyByType = new HashMap<>();
     matchKeysForColumn = new Multimap<>();
 
     for (final Table table : tables) {
@@ -66,6 +84,21 @@ final class ColumnMatchKeysMap {
     return columnsForMatchKey.get(matchKey);
   }
 
+  /**
+   * Gets columns for a match key, which have the given Java SQL type.
+   *
+   * @param matchKey Normalized column match key
+   * @param javaSqlTypeName Java SQL type name
+   * @return Matching columns, or an empty list
+   */
+  public List<Column> get(final String matchKey, final String javaSqlTypeName) {
+    final Multimap<String, Column> columnsByType = columnsForMatchKeyByType.get(javaSqlTypeName);
+    if (columnsByType == null || !columnsByType.containsKey(matchKey)) {
+      return Collections.emptyList();
+    }
+    return columnsByType.get(matchKey);
+  }
+
   @Override
   public String toString() {
     return columnsForMatchKey.toString();
@@ -82,6 +115,9 @@ final class ColumnMatchKeysMap {
       }
       if (!matchColumnName.equals("id")) {
         columnsForMatchKey.add(matchColumnName, column);
+        columnsForMatchKeyByType
+            .computeIfAbsent(javaSqlTypeName(column), key -> new Multimap<>())
+            .add(matchColumnName, column);
         matchKeysForColumn.add(column, matchColumnName);
       }
     }
@@ -35,12 +35,11 @@ import java.util.List;
 
 import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ForeignKey;
-import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
 
 final class ForeignKeys {
 
-  private final Collection<ColumnReference> foreignKeys;
+  private final Collection<ProposedWeakAssociation> foreignKeys;
 
   ForeignKeys(final List<Table> tables) {
     foreignKeys = mapForeignKeyColumns(tables);
@@ -51,17 +50,9 @@ final class ForeignKeys {
       return false;
     }
 
-    // We have to loop through the collection, since we want to use the
-    // equals from the WeakAssociation
-    for (final ColumnReference columnReference : foreignKeys) {
-      final ProposedWeakAssociation columnReferenceAsProposal =
-          new ProposedWeakAssociation(columnReference);
-      final boolean equals = columnMap.equals(columnReferenceAsProposal);
-      if (equals) {
-        return true;
-      }
-    }
-    return false;
+    // Foreign key column references are held as proposals, so that
+    // the equals from the WeakAssociation is used for the lookup
+    return foreignKeys.contains(columnMap);
   }
 
   @Override
@@ -69,14 +60,14 @@ final class ForeignKeys {
     return foreignKeys.toString();
   }
 
-  private Collection<ColumnReference> mapForeignKeyColumns(final List<Table> tables) {
+  private Collection<ProposedWeakAssociation> mapForeignKeyColumns(final List<Table> tables) {
     requireNonNull(tables, "No tables provided");
 
-    final Collection<ColumnReference> fkColumnsMap = new HashSet<>();
+    final Collection<ProposedWeakAssociation> fkColumnsMap = new HashSet<>();
     for (final Table table : tables) {
       for (final ForeignKey foreignKey : table.getForeignKeys()) {
-        for (final ForeignKeyColumnReference columnRef : foreignKey) {
-          fkColumnsMap.add(columnRef);
+        for (final ColumnReference columnRef : foreignKey) {
+          fkColumnsMap.add(new ProposedWeakAssociation(columnRef));
         }
       }
     }
@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.analysis.associations.ColumnMatchKeysMap.javaSqlTypeName;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -68,6 +69,11 @@ public final class WeakAssociationsAnalyzer {
     return weakAssociations;
   }
 
+  /**
+   * Finds weak associations using an inverted index from normalized match keys to columns, grouped
+   * by Java SQL type. Tables are analyzed one after the other, so weak associations are returned in
+   * table order.
+   */
   private void findWeakAssociations(final List<Table> tables) {
     LOGGER.log(Level.INFO, "Finding weak associations");
     final ForeignKeys foreignKeys = new ForeignKeys(tables);
@@ -78,42 +84,56 @@ public final class WeakAssociationsAnalyzer {
       LOGGER.log(Level.FINER, new StringFormat("Column match keys <%s>", columnMatchKeysMap));
       LOGGER.log(Level.FINER, new StringFormat("Column match keys <%s>", tableMatchKeys));
     }
+
     for (final Table table : tables) {
-      final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
-      LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
-      for (final Column pkColumn : tableCandidateKeys) {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey()) {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn)) {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
-        }
+      weakAssociations.addAll(
+          findWeakAssociations(table, foreignKeys, columnMatchKeysMap, tableMatchKeys));
+    }
+  }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey : fkColumnMatchKeys) {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
+  private List<ProposedWeakAssociation> findWeakAssociations(
+      final Table table,
+      final ForeignKeys foreignKeys,
+      final ColumnMatchKeysMap columnMatchKeysMap,
+      final TableMatchKeys tableMatchKeys) {
+    final List<ProposedWeakAssociation> weakAssociationsForTable = new ArrayList<>();
+
+    final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
+    LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
+    for (final Column pkColumn : tableCandidateKeys) {
+      final Set<String> fkColumnMatchKeys = new HashSet<>();
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey()) {
+        fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
+      }
+      // Look for all columns matching this column match key
+      if (columnMatchKeysMap.containsKey(pkColumn)) {
+        fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+      }
+
+      // Only columns of the same type can be matched, so look in the
+      // index for that type alone
+      final String pkColumnType = javaSqlTypeName(pkColumn);
+      final Set<Column> fkColumns = new HashSet<>();
+      for (final String fkColumnMatchKey : fkColumnMatchKeys) {
+        fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey, pkColumnType));
+      }
+
+      for (final Column fkColumn : fkColumns) {
+        if (pkColumn.equals(fkColumn)) {
+          continue;
         }
 
-        for (final Column fkColumn : fkColumns) {
-          if (pkColumn.equals(fkColumn)) {
-            continue;
-          }
-
-          final ProposedWeakAssociation proposedWeakAssociation =
-              new ProposedWeakAssociation(pkColumn, fkColumn);
-          if (proposedWeakAssociation.isValid() && !foreignKeys.contains(proposedWeakAssociation)) {
-            LOGGER.log(
-                Level.FINE,
-                new StringFormat("Found weak association <%s>", proposedWeakAssociation));
-            weakAssociations.add(proposedWeakAssociation);
-          }
+        final ProposedWeakAssociation proposedWeakAssociation =
+            new ProposedWeakAssociation(pkColumn, fkColumn);
+        if (proposedWeakAssociation.isValid() && !foreignKeys.contains(proposedWeakAssociation)) {
+          LOGGER.log(
+              Level.FINE, new StringFormat("Found weak association <%s>", proposedWeakAssociation));
+          weakAssociationsForTable.add(proposedWeakAssociation);
         }
       }
     }
+
+    return weakAssociationsForTable;
   }
 }
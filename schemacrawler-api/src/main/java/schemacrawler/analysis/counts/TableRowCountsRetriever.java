@@ -28,64 +28,399 @@ http://www.gnu.org/licenses/
 package schemacrawler.analysis.counts;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.addEstimatedRowCountToTable;
 import static schemacrawler.analysis.counts.TableRowCountsUtility.addRowCountToTable;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.markRowCountUnknown;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
 import static us.fatehi.utility.DatabaseUtility.checkConnection;
+import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Retrieves table row counts. Exact counts are obtained by running a count query for each table,
+ * spread across a number of workers, each with its own connection. Every count query can be given
+ * a timeout, and all counting can be given a deadline. Tables that could not be counted are marked
+ * as having an unknown row count. Alternatively, row counts can be estimated from database
+ * statistics, using the table row counts information schema view. After the deadline, running count
+ * queries are cancelled, and counting waits for the query on the primary connection to stop, so
+ * that the connection is never used by a straggler once counting returns.
+ */
 @Retriever
 public final class TableRowCountsRetriever {
 
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(TableRowCountsRetriever.class.getName());
 
+  private static final long CANCEL_GRACE_SECONDS = 5;
+
+  private static String lookupKey(final String schemaName, final String tableName) {
+    return String.format("%s\u0000%s", schemaName, tableName);
+  }
+
   private final Connection connection;
+  private final Supplier<Connection> connectionSource;
   private final Catalog catalog;
+  private final LimitOptions limitOptions;
+  private final LoadOptions loadOptions;
+  private final InformationSchemaViews informationSchemaViews;
+  private final Query countQuery;
 
   public TableRowCountsRetriever(final Connection connection, final Catalog catalog)
       throws SQLException {
+    this(
+        connection,
+        null,
+        catalog,
+        LimitOptionsBuilder.newLimitOptions(),
+        LoadOptionsBuilder.newLoadOptions(),
+        InformationSchemaViewsBuilder.newInformationSchemaViews());
+  }
+
+  /**
+   * Row counts retriever that can spread counting across a number of connections.
+   *
+   * @param connection Primary connection, used by the first worker
+   * @param connectionSource Source of additional connections for other workers, which may be null
+   * @param catalog Catalog with tables to count
+   * @param limitOptions Limit options, with the schema inclusion rule for the estimates query
+   * @param loadOptions Options for workers, timeouts and estimation
+   * @param informationSchemaViews Information schema views, for the row count estimates query
+   * @throws SQLException On an invalid connection
+   */
+  public TableRowCountsRetriever(
+      final Connection connection,
+      final Supplier<Connection> connectionSource,
+      final Catalog catalog,
+      final LimitOptions limitOptions,
+      final LoadOptions loadOptions,
+      final InformationSchemaViews informationSchemaViews)
+      throws SQLException {
     this.connection = checkConnection(connection);
+    this.connectionSource = connectionSource;
     this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.limitOptions = requireNonNull(limitOptions, "No limit options provided");
+    this.loadOptions = requireNonNull(loadOptions, "No load options provided");
+    this.informationSchemaViews =
+        requireNonNull(informationSchemaViews, "No information schema views provided");
+    countQuery = new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
   }
 
   public void retrieveTableRowCounts() {
 
-    Identifiers identifiers;
+    final Identifiers identifiers;
     try {
       identifiers = Identifiers.identifiers().withConnection(connection).build();
     } catch (final SQLException e) {
       // The offline snapshot executable may not have a live connection,
       // so we cannot fail with an exception. Log and continue.
       LOGGER.log(Level.WARNING, "No connection provided", e);
+      return;
+    }
 
-      identifiers = Identifiers.identifiers().withIdentifierQuoteString("\"").build();
+    final List<Table> allTables = new ArrayList<>(catalog.getTables());
+    if (loadOptions.isEstimateRowCounts()) {
+      if (informationSchemaViews.hasQuery(TABLE_ROW_COUNTS)) {
+        try {
+          retrieveEstimatedRowCounts(allTables);
+          return;
+        } catch (final SQLException e) {
+          LOGGER.log(
+              Level.WARNING, "Could not estimate table row counts, so counting rows instead", e);
+        }
+      } else {
+        LOGGER.log(
+            Level.INFO, "Not estimating table row counts, since no estimates SQL was provided");
+      }
+    }
 
+    countTableRows(allTables, identifiers);
+  }
+
+  private void countTableRows(final List<Table> tables, final Identifiers identifiers) {
+    if (tables.isEmpty()) {
       return;
     }
 
-    final Query query =
-        new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
-    final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table : allTables) {
-      try {
-        final long count = executeForLong(query, connection, table, identifiers);
+    final int workers;
+    if (connectionSource == null) {
+      workers = 1;
+    } else {
+      workers = Math.max(1, Math.min(loadOptions.getRowCountWorkers(), tables.size()));
+    }
+    final int deadlineSeconds = loadOptions.getRowCountDeadlineSeconds();
+    final long deadlineNanos;
+    if (deadlineSeconds > 0) {
+      deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(deadlineSeconds);
+    } else {
+      deadlineNanos = 0;
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Counting rows for %d tables, with %d workers", tables.size(), workers));
+
+    final Queue<Table> pendingTables = new ConcurrentLinkedQueue<>(tables);
+    final Map<Table, Long> counts = new ConcurrentHashMap<>();
+    final Set<Statement> runningStatements = ConcurrentHashMap.newKeySet();
+    final AtomicBoolean isStopped = new AtomicBoolean();
+    final List<Connection> openedConnections = Collections.synchronizedList(new ArrayList<>());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(workers);
+    Future<?> primaryWorker = null;
+    try {
+      for (int i = 0; i < workers; i++) {
+        final boolean isPrimary = i == 0;
+        final Future<?> worker =
+            executor.submit(
+                () -> {
+                  final Connection workerConnection;
+                  try {
+                    if (isPrimary) {
+                      workerConnection = connection;
+                    } else {
+                      workerConnection = connectionSource.get();
+                      openedConnections.add(workerConnection);
+                    }
+                  } catch (final RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Could not open a connection for counting rows", e);
+                    return;
+                  }
+                  countTableRows(
+                      workerConnection,
+                      pendingTables,
+                      counts,
+                      runningStatements,
+                      isStopped,
+                      identifiers,
+                      deadlineNanos);
+                });
+        if (isPrimary) {
+          primaryWorker = worker;
+        }
+      }
+      executor.shutdown();
+
+      final boolean isFinished;
+      if (deadlineSeconds > 0) {
+        isFinished = executor.awaitTermination(deadlineSeconds, TimeUnit.SECONDS);
+      } else {
+        isFinished = executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+      }
+      if (!isFinished) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Stopped counting rows after the deadline of %d seconds", deadlineSeconds));
+        cancel(executor, primaryWorker, runningStatements, isStopped);
+      }
+    } catch (final InterruptedException e) {
+      LOGGER.log(Level.WARNING, "Interrupted while counting rows", e);
+      cancel(executor, primaryWorker, runningStatements, isStopped);
+      Thread.currentThread().interrupt();
+    } finally {
+      closeConnections(openedConnections);
+    }
+
+    // Take a snapshot, and apply results on this thread only, since
+    // stragglers may still be running after a deadline
+    final Map<Table, Long> countsSnapshot = new HashMap<>(counts);
+    int unknownCount = 0;
+    for (final Table table : tables) {
+      final Long count = countsSnapshot.get(table);
+      if (count == null) {
+        markRowCountUnknown(table);
+        unknownCount = unknownCount + 1;
+      } else {
         addRowCountToTable(table, count);
+      }
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Counted rows for %d tables, with %d tables unknown",
+            tables.size() - unknownCount, unknownCount));
+  }
+
+  private void countTableRows(
+      final Connection workerConnection,
+      final Queue<Table> pendingTables,
+      final Map<Table, Long> counts,
+      final Set<Statement> runningStatements,
+      final AtomicBoolean isStopped,
+      final Identifiers identifiers,
+      final long deadlineNanos) {
+    final int queryTimeoutSeconds = loadOptions.getRowCountQueryTimeoutSeconds();
+    Table table;
+    while ((table = pendingTables.poll()) != null) {
+      if (isStopped.get()
+          || Thread.currentThread().isInterrupted()
+          || deadlineNanos != 0 && System.nanoTime() - deadlineNanos > 0) {
+        return;
+      }
+
+      try (final Statement statement = workerConnection.createStatement()) {
+        runningStatements.add(statement);
+        try {
+          // Counting may have been stopped before the statement could be
+          // seen, and cancelled
+          if (isStopped.get()) {
+            return;
+          }
+          if (queryTimeoutSeconds > 0) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+          }
+          try (final ResultSet results =
+              executeAgainstTable(countQuery, statement, table, true, identifiers)) {
+            if (results != null && results.next()) {
+              counts.put(table, results.getLong(1));
+            }
+          }
+        } finally {
+          runningStatements.remove(statement);
+        }
       } catch (final SQLException e) {
         LOGGER.log(Level.WARNING, new StringFormat("Could not get count for table <%s>", table), e);
       }
     }
   }
+
+  private void cancel(
+      final ExecutorService executor,
+      final Future<?> primaryWorker,
+      final Set<Statement> runningStatements,
+      final AtomicBoolean isStopped) {
+    isStopped.set(true);
+    for (final Statement statement : runningStatements) {
+      try {
+        statement.cancel();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.FINE, "Could not cancel row count query", e);
+      }
+    }
+    executor.shutdownNow();
+    try {
+      executor.awaitTermination(CANCEL_GRACE_SECONDS, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    // Other workers have their own connections, which are closed, but the
+    // primary connection is used for the rest of the crawl
+    if (primaryWorker != null && !primaryWorker.isDone()) {
+      LOGGER.log(
+          Level.WARNING, "Waiting for the cancelled row count query on the primary connection");
+      try {
+        primaryWorker.get();
+      } catch (final ExecutionException e) {
+        LOGGER.log(Level.FINE, "Row count query on the primary connection failed", e);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void closeConnections(final List<Connection> openedConnections) {
+    synchronized (openedConnections) {
+      for (final Connection openedConnection : openedConnections) {
+        try {
+          openedConnection.close();
+        } catch (final SQLException e) {
+          LOGGER.log(Level.WARNING, "Could not close connection", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Estimates row counts from database statistics. The query is expected to return TABLE_CATALOG,
+   * TABLE_SCHEMA, TABLE_NAME and ROW_COUNT columns. Tables that have no statistics are marked as
+   * having an unknown row count.
+   */
+  private void retrieveEstimatedRowCounts(final List<Table> tables) throws SQLException {
+    final Map<String, List<Table>> tablesLookup = new HashMap<>();
+    for (final Table table : tables) {
+      final Schema schema = table.getSchema();
+      tablesLookup
+          .computeIfAbsent(lookupKey(schema.getName(), table.getName()), key -> new ArrayList<>())
+          .add(table);
+    }
+
+    LOGGER.log(Level.INFO, "Estimating table row counts");
+    final Query estimatesQuery = informationSchemaViews.getQuery(TABLE_ROW_COUNTS);
+    final Map<Table, Long> estimates = new HashMap<>();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results =
+            executeAgainstSchema(estimatesQuery, statement, limitOptions)) {
+      while (results.next()) {
+        final String catalogName = results.getString("TABLE_CATALOG");
+        final String schemaName = results.getString("TABLE_SCHEMA");
+        final String tableName = results.getString("TABLE_NAME");
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (results.wasNull()) {
+          continue;
+        }
+
+        final List<Table> matchingTables =
+            tablesLookup.getOrDefault(lookupKey(schemaName, tableName), Collections.emptyList());
+        for (final Table table : matchingTables) {
+          final String tableCatalogName = table.getSchema().getCatalogName();
+          if (isBlank(catalogName)
+              || isBlank(tableCatalogName)
+              || catalogName.equals(tableCatalogName)) {
+            estimates.put(table, rowCount);
+          }
+        }
+      }
+    }
+
+    for (final Table table : tables) {
+      final Long estimate = estimates.get(table);
+      if (estimate == null) {
+        markRowCountUnknown(table);
+      } else {
+        addEstimatedRowCountToTable(table, estimate);
+      }
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Estimated row counts for %d of %d tables", estimates.size(), tables.size()));
+  }
 }
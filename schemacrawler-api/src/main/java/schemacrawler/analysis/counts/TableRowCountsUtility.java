@@ -37,6 +37,8 @@ public final class TableRowCountsUtility {
 
   private static final int UNKNOWN_TABLE_ROW_COUNT = -1;
   private static final String TABLE_ROW_COUNT_KEY = "schemacrawler.table.row_count";
+  private static final String TABLE_ROW_COUNT_ESTIMATED_KEY =
+      "schemacrawler.table.row_count_estimated";
 
   public static long getRowCount(final Table table) {
     if (table == null) {
@@ -63,14 +65,60 @@ public final class TableRowCountsUtility {
     }
   }
 
+  /**
+   * Message for the row count of a table. Tables that could not be counted, or have no statistics
+   * for an estimate, have "unknown rows", and estimated counts start with "about".
+   *
+   * @param table Table with a row count
+   * @return Message for the row count of the table
+   */
   public static String getRowCountMessage(final Table table) {
-    return getRowCountMessage(getRowCount(table));
+    if (isRowCountUnknown(table)) {
+      return "unknown rows";
+    }
+    final String rowCountMessage = getRowCountMessage(getRowCount(table));
+    if (isRowCountEstimated(table)) {
+      return "about " + rowCountMessage;
+    } else {
+      return rowCountMessage;
+    }
   }
 
   public static boolean hasRowCount(final Table table) {
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
+  /**
+   * Whether the row count was estimated from database statistics, rather than counted.
+   *
+   * @param table Table to check
+   * @return Whether the row count is an estimate
+   */
+  public static boolean isRowCountEstimated(final Table table) {
+    return hasRowCount(table) && table.hasAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
+  }
+
+  /**
+   * Whether an attempt was made to count rows, but the count could not be obtained.
+   *
+   * @param table Table to check
+   * @return Whether the row count is unknown
+   */
+  public static boolean isRowCountUnknown(final Table table) {
+    return hasRowCount(table) && getRowCount(table) < 0;
+  }
+
+  static void addEstimatedRowCountToTable(final Table table, final long rowCount) {
+    if (table != null) {
+      if (rowCount >= 0) {
+        table.setAttribute(TABLE_ROW_COUNT_KEY, rowCount);
+        table.setAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, true);
+      } else {
+        markRowCountUnknown(table);
+      }
+    }
+  }
+
   static void addRowCountToTable(final Table table, final long rowCount) {
     if (table != null) {
       if (rowCount >= 0) {
@@ -78,6 +126,14 @@ public final class TableRowCountsUtility {
       } else {
         table.removeAttribute(TABLE_ROW_COUNT_KEY);
       }
+      table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
+    }
+  }
+
+  static void markRowCountUnknown(final Table table) {
+    if (table != null) {
+      table.setAttribute(TABLE_ROW_COUNT_KEY, (long) UNKNOWN_TABLE_ROW_COUNT);
+      table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
     }
   }
 
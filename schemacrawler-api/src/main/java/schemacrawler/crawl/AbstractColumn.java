@@ -162,6 +162,7 @@ abstract class AbstractColumn<P extends DatabaseObject> extends AbstractDependan
 
   final void setOrdinalPosition(final int ordinalPosition) {
     this.ordinalPosition = ordinalPosition;
+    sortKeysChanged();
   }
 
   /**
@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
@@ -51,6 +52,10 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
   private static final long serialVersionUID = 3099561832386790624L;
 
   private final Schema schema;
+  // Full names and lookup keys only depend on the name and the schema, which do not change, so they
+  // are worked out once and cached
+  private transient String fullName;
+  private transient List<String> lookupKey;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -110,7 +115,15 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
   /** {@inheritDoc} */
   @Override
   public String getFullName() {
-    return Identifiers.STANDARD.quoteFullName(this);
+    String fullName = this.fullName;
+    if (fullName == null) {
+      fullName = Identifiers.STANDARD.quoteFullName(this);
+      // Do not cache names for objects that are still being deserialized
+      if (schema != null) {
+        this.fullName = fullName;
+      }
+    }
+    return fullName;
   }
 
   @Override
@@ -128,9 +141,14 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
 
   @Override
   public List<String> toUniqueLookupKey() {
+    List<String> lookupKey = this.lookupKey;
+    if (lookupKey == null) {
+      final List<String> schemaLookupKey = new ArrayList<>(schema.toUniqueLookupKey());
+      schemaLookupKey.add(getName());
+      lookupKey = unmodifiableList(schemaLookupKey);
+      this.lookupKey = lookupKey;
+    }
     // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(schema.toUniqueLookupKey());
-    lookupKey.add(getName());
-    return lookupKey;
+    return new ArrayList<>(lookupKey);
   }
 }
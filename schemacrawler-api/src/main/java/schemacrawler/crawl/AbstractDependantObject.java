@@ -50,6 +50,9 @@ abstract class AbstractDependantObject<D extends DatabaseObject> extends Abstrac
   private static final long serialVersionUID = -4327208866052082457L;
 
   private final DatabaseObjectReference<D> parent;
+  // The parent and name do not change, so quoted names are worked out once and cached
+  private transient String fullName;
+  private transient String shortName;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -81,7 +84,15 @@ abstract class AbstractDependantObject<D extends DatabaseObject> extends Abstrac
   /** {@inheritDoc} */
   @Override
   public final String getFullName() {
-    return Identifiers.STANDARD.quoteFullName(this);
+    String fullName = this.fullName;
+    if (fullName == null) {
+      fullName = Identifiers.STANDARD.quoteFullName(this);
+      // Do not cache names for objects that are still being deserialized
+      if (parent != null) {
+        this.fullName = fullName;
+      }
+    }
+    return fullName;
   }
 
   /** {@inheritDoc} */
@@ -97,7 +108,14 @@ abstract class AbstractDependantObject<D extends DatabaseObject> extends Abstrac
 
   @Override
   public final String getShortName() {
-    return Identifiers.STANDARD.quoteShortName(this);
+    String shortName = this.shortName;
+    if (shortName == null) {
+      shortName = Identifiers.STANDARD.quoteShortName(this);
+      if (parent != null) {
+        this.shortName = shortName;
+      }
+    }
+    return shortName;
   }
 
   @Override
@@ -46,6 +46,8 @@ abstract class AbstractNamedObject implements NamedObject {
   private static final long serialVersionUID = -1486322887991472729L;
 
   private final String name;
+  private transient volatile String compactLookupKey;
+  private transient volatile int sortKeysVersion;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -108,4 +110,45 @@ abstract class AbstractNamedObject implements NamedObject {
   public List<String> toUniqueLookupKey() {
     return new ArrayList<>(Arrays.asList(name));
   }
+
+  /**
+   * Clears the cached compact lookup key, for objects with lookup key parts that can change, such
+   * as a specific name.
+   */
+  final void clearLookupKey() {
+    compactLookupKey = null;
+  }
+
+  /**
+   * Gets the unique lookup key as a compact string, for named object lists. The key is cached,
+   * since lists look up objects by it again and again.
+   *
+   * @return Compact lookup key
+   */
+  final String getLookupKey() {
+    String lookupKey = compactLookupKey;
+    if (lookupKey == null) {
+      lookupKey = NamedObjectList.makeLookupKey(toUniqueLookupKey());
+      compactLookupKey = lookupKey;
+    }
+    return lookupKey;
+  }
+
+  /**
+   * Gets the number of times that the values this object is sorted by have changed.
+   *
+   * @return Sort keys version
+   */
+  final int getSortKeysVersion() {
+    return sortKeysVersion;
+  }
+
+  /**
+   * Notes that a value that this object is sorted by has changed, such as a sort index or an
+   * ordinal position, so that lists that hold this object sort their values again. Sort keys are
+   * only changed while a catalog is crawled, by one thread at a time for each object.
+   */
+  final void sortKeysChanged() {
+    sortKeysVersion = sortKeysVersion + 1;
+  }
 }
@@ -47,7 +47,8 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
     implements AttributedObject, DescribedObject {
 
   private static final long serialVersionUID = -1486322887991472729L;
-  private final Map<String, Object> attributeMap;
+  // Most objects have no attributes, so the map is only created when the first attribute is set
+  private Map<String, Object> attributeMap;
   private String remarks;
 
   /**
@@ -58,7 +59,6 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
    */
   AbstractNamedObjectWithAttributes(final String name) {
     super(name);
-    attributeMap = new HashMap<>();
   }
 
   /** {@inheritDoc} */
@@ -71,6 +71,9 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   @Override
   public final <T> T getAttribute(final String name, final T defaultValue)
       throws ClassCastException {
+    if (attributeMap == null) {
+      return defaultValue;
+    }
     final Object attributeValue = attributeMap.get(name);
     if (attributeValue == null) {
       return defaultValue;
@@ -82,6 +85,9 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   /** {@inheritDoc} */
   @Override
   public final Map<String, Object> getAttributes() {
+    if (attributeMap == null) {
+      return Collections.emptyMap();
+    }
     return Collections.unmodifiableMap(attributeMap);
   }
 
@@ -94,7 +100,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   /** {@inheritDoc} */
   @Override
   public final boolean hasAttribute(final String name) {
-    return attributeMap.containsKey(name);
+    return attributeMap != null && attributeMap.containsKey(name);
   }
 
   /** {@inheritDoc} */
@@ -112,7 +118,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   /** {@inheritDoc} */
   @Override
   public final void removeAttribute(final String name) {
-    if (!isBlank(name)) {
+    if (!isBlank(name) && attributeMap != null) {
       attributeMap.remove(name);
     }
   }
@@ -122,15 +128,23 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   public final void setAttribute(final String name, final Object value) {
     if (!isBlank(name)) {
       if (value == null) {
-        attributeMap.remove(name);
+        removeAttribute(name);
       } else {
+        if (attributeMap == null) {
+          attributeMap = new HashMap<>();
+        }
         attributeMap.put(name, value);
       }
     }
   }
 
   protected final void addAttributes(final Map<String, Object> values) {
-    if (values != null) {
+    if (values == null || values.isEmpty()) {
+      return;
+    }
+    if (attributeMap == null) {
+      attributeMap = new HashMap<>(values);
+    } else {
       attributeMap.putAll(values);
     }
   }
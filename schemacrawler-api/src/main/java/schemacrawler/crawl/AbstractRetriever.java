@@ -29,22 +29,25 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
-import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
@@ -105,6 +108,22 @@ abstract class AbstractRetriever {
     return belongsToCatalog && belongsToSchema;
   }
 
+  /**
+   * Groups tables by the schema that they belong to, in table sort order, so that metadata can be
+   * retrieved for all the tables in a schema at a time.
+   *
+   * @param allTables Tables to group
+   * @return Tables for each schema
+   */
+  final Map<Schema, List<MutableTable>> groupTablesBySchema(
+      final NamedObjectList<MutableTable> allTables) {
+    final Map<Schema, List<MutableTable>> tablesBySchema = new LinkedHashMap<>();
+    for (final MutableTable table : allTables) {
+      tablesBySchema.computeIfAbsent(table.getSchema(), schema -> new ArrayList<>()).add(table);
+    }
+    return tablesBySchema;
+  }
+
   final NamedObjectList<SchemaReference> getAllSchemas() {
     return catalog.getAllSchemas();
   }
@@ -113,6 +132,10 @@ abstract class AbstractRetriever {
     return retrieverConnection.getConnection();
   }
 
+  final LimitOptions getLimitOptions() {
+    return options.getLimitOptions();
+  }
+
   final DatabaseMetaData getMetaData() {
     return retrieverConnection.getMetaData();
   }
@@ -121,10 +144,6 @@ abstract class AbstractRetriever {
     return retrieverConnection;
   }
 
-  final InclusionRule getSchemaInclusionRule() {
-    return options.getLimitOptions().get(ruleForSchemaInclusion);
-  }
-
   final void logPossiblyUnsupportedSQLFeature(
       final Supplier<String> message, final SQLException e) {
     // HYC00 = Optional feature not implemented
@@ -171,6 +190,19 @@ abstract class AbstractRetriever {
       final int javaSqlTypeInt,
       final String databaseSpecificTypeName,
       final String mappedClassName) {
+    // Column data types are shared between tables and routines, which
+    // may be crawled in parallel
+    synchronized (catalog) {
+      return lookupOrCreateColumnDataTypeUnsynchronized(
+          schema, javaSqlTypeInt, databaseSpecificTypeName, mappedClassName);
+    }
+  }
+
+  private MutableColumnDataType lookupOrCreateColumnDataTypeUnsynchronized(
+      final Schema schema,
+      final int javaSqlTypeInt,
+      final String databaseSpecificTypeName,
+      final String mappedClassName) {
     MutableColumnDataType columnDataType =
         catalog
             .lookupColumnDataType(schema, databaseSpecificTypeName)
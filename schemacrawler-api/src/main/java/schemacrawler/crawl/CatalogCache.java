@@ -0,0 +1,472 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.InformationSchemaKey.SCHEMA_FINGERPRINT;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.Version;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.RoutineType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schema.TableTypes;
+import schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaInfoRetrieval;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Disk-backed cache of crawled catalogs, for repeated crawls of an unchanged database. Entries are
+ * keyed by the connection URL, user, and the options that affect the crawl, and are stored as
+ * indexed catalog snapshots. An entry is only used if the schema fingerprint of the database,
+ * obtained with the SCHEMA_FINGERPRINT query, has not changed since the entry was stored. The
+ * least recently used entries are removed when the cache grows larger than its maximum size.
+ *
+ * <p>Cache failures are logged, and never fail the crawl.
+ */
+final class CatalogCache {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(CatalogCache.class.getName());
+
+  private static final String SNAPSHOT_EXTENSION = ".scidx";
+  private static final String FINGERPRINT_EXTENSION = ".fingerprint";
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      // SHA-256 is available on every Java platform
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String toHex(final byte[] bytes) {
+    final StringBuilder buffer = new StringBuilder(bytes.length * 2);
+    for (final byte b : bytes) {
+      buffer.append(String.format("%02x", b));
+    }
+    return buffer.toString();
+  }
+
+  private static void update(final MessageDigest digest, final Object value) {
+    digest.update(String.valueOf(value).getBytes(UTF_8));
+    digest.update((byte) 0);
+  }
+
+  /**
+   * Adds an inclusion rule to the cache key. Rules with regular expressions are keyed by their
+   * patterns. Other rules can only be keyed by their class, since they do not expose what they
+   * match.
+   */
+  private static void update(final MessageDigest digest, final InclusionRule inclusionRule) {
+    if (inclusionRule == null) {
+      update(digest, (Object) null);
+      return;
+    }
+    update(digest, inclusionRule.getClass().getName());
+    if (inclusionRule instanceof InclusionRuleWithRegularExpression) {
+      final InclusionRuleWithRegularExpression regularExpressionRule =
+          (InclusionRuleWithRegularExpression) inclusionRule;
+      update(digest, regularExpressionRule.getInclusionPattern().pattern());
+      update(digest, regularExpressionRule.getExclusionPattern().pattern());
+    }
+  }
+
+  private static void update(final MessageDigest digest, final SchemaCrawlerOptions options) {
+    final LimitOptions limitOptions = options.getLimitOptions();
+    for (final DatabaseObjectRuleForInclusion ruleKey : DatabaseObjectRuleForInclusion.values()) {
+      update(digest, ruleKey);
+      update(digest, limitOptions.get(ruleKey));
+    }
+    update(digest, limitOptions.getTableNamePattern());
+    final TableTypes tableTypes = limitOptions.getTableTypes();
+    update(digest, tableTypes.isIncludeAll());
+    update(digest, tableTypes.isIncludeNone());
+    for (final TableType tableType : tableTypes) {
+      update(digest, tableType.getTableType());
+    }
+    for (final RoutineType routineType : limitOptions.getRoutineTypes()) {
+      update(digest, routineType);
+    }
+
+    final FilterOptions filterOptions = options.getFilterOptions();
+    update(digest, filterOptions.getChildTableFilterDepth());
+    update(digest, filterOptions.getParentTableFilterDepth());
+    update(digest, filterOptions.isNoEmptyTables());
+
+    final GrepOptions grepOptions = options.getGrepOptions();
+    update(digest, grepOptions.getGrepColumnInclusionRule().orElse(null));
+    update(digest, grepOptions.getGrepDefinitionInclusionRule().orElse(null));
+    update(digest, grepOptions.getGrepRoutineParameterInclusionRule().orElse(null));
+    update(digest, grepOptions.isGrepInvertMatch());
+    update(digest, grepOptions.isGrepOnlyMatching());
+
+    // Cache, metrics and worker settings do not change what is in the catalog
+    final LoadOptions loadOptions = options.getLoadOptions();
+    final SchemaInfoLevel schemaInfoLevel = loadOptions.getSchemaInfoLevel();
+    for (final SchemaInfoRetrieval schemaInfoRetrieval : SchemaInfoRetrieval.values()) {
+      update(digest, schemaInfoLevel.is(schemaInfoRetrieval));
+    }
+    update(digest, loadOptions.isLoadRowCounts());
+    update(digest, loadOptions.isEstimateRowCounts());
+    update(digest, loadOptions.isOptimizeMemory());
+  }
+
+  private final Path cacheDirectory;
+  private final long maxBytes;
+  private final Connection connection;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final SchemaCrawlerOptions options;
+  private String cacheKey;
+  private String fingerprint;
+  private long hits;
+  private long misses;
+  private long bytesSaved;
+
+  CatalogCache(
+      final Path cacheDirectory,
+      final long maxBytes,
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options) {
+    this.cacheDirectory = requireNonNull(cacheDirectory, "No cache directory provided");
+    this.maxBytes = maxBytes;
+    this.connection = requireNonNull(connection, "No connection provided");
+    this.schemaRetrievalOptions =
+        requireNonNull(schemaRetrievalOptions, "No schema retrieval options provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+  }
+
+  /**
+   * Gets the number of bytes of catalog snapshots that were loaded from this cache, instead of
+   * crawling the database.
+   *
+   * @return Bytes loaded from the cache
+   */
+  long getBytesSaved() {
+    return bytesSaved;
+  }
+
+  /**
+   * Gets the number of lookups that found a usable cached catalog.
+   *
+   * @return Number of cache hits
+   */
+  long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of lookups that did not find a usable cached catalog.
+   *
+   * @return Number of cache misses
+   */
+  long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Looks up a cached catalog for the database. The schema fingerprint that is obtained here is
+   * used to store a catalog that is crawled afterwards.
+   *
+   * @return Cached catalog, if there is one for the current schema fingerprint
+   */
+  Optional<Catalog> load() {
+    try {
+      fingerprint = retrieveFingerprint();
+      if (fingerprint == null) {
+        LOGGER.log(
+            Level.INFO, "Not using catalog cache, since there is no schema fingerprint");
+        return Optional.empty();
+      }
+      cacheKey = makeCacheKey();
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Not using catalog cache, could not obtain schema fingerprint", e);
+      fingerprint = null;
+      return Optional.empty();
+    }
+
+    final Path snapshotFile = snapshotFile();
+    final Path fingerprintFile = fingerprintFile();
+    try {
+      if (Files.isRegularFile(snapshotFile)
+          && Files.isRegularFile(fingerprintFile)
+          && fingerprint.equals(new String(Files.readAllBytes(fingerprintFile), UTF_8))) {
+        final Catalog catalog = IndexedCatalogSnapshot.load(snapshotFile, options);
+        // Mark as recently used, for eviction
+        Files.setLastModifiedTime(snapshotFile, FileTime.fromMillis(System.currentTimeMillis()));
+        hits++;
+        bytesSaved = bytesSaved + Files.size(snapshotFile);
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat("Catalog cache hit, loaded catalog from <%s>", snapshotFile));
+        logStatistics();
+        return Optional.of(catalog);
+      }
+    } catch (final IOException | SchemaCrawlerException e) {
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat("Could not load catalog from cache <%s>", snapshotFile),
+          e);
+    }
+
+    misses++;
+    LOGGER.log(Level.INFO, "Catalog cache miss");
+    logStatistics();
+    return Optional.empty();
+  }
+
+  /**
+   * Stores a crawled catalog in the cache, for the schema fingerprint obtained when the cache was
+   * looked up, and removes the least recently used entries if the cache is too large.
+   *
+   * @param catalog Crawled catalog
+   */
+  void save(final Catalog catalog) {
+    if (fingerprint == null) {
+      return;
+    }
+    try {
+      Files.createDirectories(cacheDirectory);
+      final Path snapshotFile = snapshotFile();
+      // Write to a temporary file first, so that a partly written snapshot is never used
+      final Path tempFile = Files.createTempFile(cacheDirectory, cacheKey, ".tmp");
+      try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+        IndexedCatalogSnapshot.save(catalog, out);
+      }
+      Files.deleteIfExists(fingerprintFile());
+      Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+      Files.write(fingerprintFile(), fingerprint.getBytes(UTF_8));
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Saved catalog to cache <%s>, %d bytes", snapshotFile, Files.size(snapshotFile)));
+
+      evict(snapshotFile);
+    } catch (final IOException | SchemaCrawlerException e) {
+      LOGGER.log(Level.WARNING, "Could not save catalog to cache", e);
+    }
+  }
+
+  /** Removes least recently used entries, until the cache fits within its maximum size. */
+  private void evict(final Path keepSnapshotFile) throws IOException {
+    final List<Path> snapshotFiles = new ArrayList<>();
+    long totalBytes = 0;
+    try (final DirectoryStream<Path> files =
+        Files.newDirectoryStream(cacheDirectory, "*" + SNAPSHOT_EXTENSION)) {
+      for (final Path file : files) {
+        snapshotFiles.add(file);
+        totalBytes = totalBytes + Files.size(file);
+      }
+    }
+    if (totalBytes <= maxBytes) {
+      return;
+    }
+
+    snapshotFiles.sort(
+        (file1, file2) -> {
+          try {
+            return Files.getLastModifiedTime(file1).compareTo(Files.getLastModifiedTime(file2));
+          } catch (final IOException e) {
+            return 0;
+          }
+        });
+    for (final Path file : snapshotFiles) {
+      if (totalBytes <= maxBytes) {
+        break;
+      }
+      if (file.equals(keepSnapshotFile)) {
+        continue;
+      }
+      final long size = Files.size(file);
+      final String fileName = file.getFileName().toString();
+      final String key =
+          fileName.substring(0, fileName.length() - SNAPSHOT_EXTENSION.length());
+      Files.deleteIfExists(cacheDirectory.resolve(key + FINGERPRINT_EXTENSION));
+      Files.deleteIfExists(file);
+      totalBytes = totalBytes - size;
+      LOGGER.log(Level.FINE, new StringFormat("Evicted catalog <%s> from cache", file));
+    }
+  }
+
+  private Path fingerprintFile() {
+    return cacheDirectory.resolve(cacheKey + FINGERPRINT_EXTENSION);
+  }
+
+  private void logStatistics() {
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Catalog cache: %d hits, %d misses, %d bytes served from cache",
+            hits, misses, bytesSaved));
+  }
+
+  /**
+   * Makes a key from everything that affects the crawled catalog, other than the database schema
+   * itself.
+   */
+  private String makeCacheKey() throws SQLException {
+    final MessageDigest digest = newDigest();
+
+    final DatabaseMetaData metaData = connection.getMetaData();
+    update(digest, Version.getVersion());
+    update(digest, metaData.getURL());
+    update(digest, metaData.getUserName());
+
+    update(digest, schemaRetrievalOptions.getDatabaseServerType().getDatabaseSystemIdentifier());
+    update(digest, schemaRetrievalOptions.isSupportsCatalogs());
+    update(digest, schemaRetrievalOptions.isSupportsSchemas());
+    for (final SchemaInfoMetadataRetrievalStrategy strategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      update(digest, schemaRetrievalOptions.get(strategy));
+    }
+    final InformationSchemaViews informationSchemaViews =
+        schemaRetrievalOptions.getInformationSchemaViews();
+    for (final InformationSchemaKey key : InformationSchemaKey.values()) {
+      if (informationSchemaViews.hasQuery(key)) {
+        update(digest, key);
+        update(digest, informationSchemaViews.getQuery(key).getQuery());
+      }
+    }
+
+    update(digest, options);
+
+    return toHex(digest.digest());
+  }
+
+  /**
+   * Obtains the schema fingerprint, by hashing all the values returned by the SCHEMA_FINGERPRINT
+   * query, such as the time of the last DDL change, and object counts. If the query returns
+   * TABLE_CATALOG or TABLE_SCHEMA columns, rows for schemas that are not crawled are skipped, so
+   * that changes to other schemas do not invalidate the cache. If no rows are left, for example
+   * because the user cannot see the data dictionary views, there is nothing to detect changes with,
+   * so there is no fingerprint.
+   *
+   * @return Schema fingerprint, or null if no query was provided, or it returned no results for the
+   *     crawled schemas
+   */
+  private String retrieveFingerprint() throws SQLException {
+    final InformationSchemaViews informationSchemaViews =
+        schemaRetrievalOptions.getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(SCHEMA_FINGERPRINT)) {
+      return null;
+    }
+
+    final InclusionRule schemaInclusionRule =
+        options.getLimitOptions().get(ruleForSchemaInclusion);
+    final MessageDigest digest = newDigest();
+    boolean hasRows = false;
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results =
+            executeAgainstSchema(
+                informationSchemaViews.getQuery(SCHEMA_FINGERPRINT),
+                statement,
+                schemaInclusionRule)) {
+      if (results == null) {
+        return null;
+      }
+      final ResultSetMetaData resultsMetaData = results.getMetaData();
+      final int columnCount = resultsMetaData.getColumnCount();
+      int catalogColumn = 0;
+      int schemaColumn = 0;
+      for (int i = 1; i <= columnCount; i++) {
+        final String columnLabel = resultsMetaData.getColumnLabel(i);
+        if ("TABLE_CATALOG".equalsIgnoreCase(columnLabel)) {
+          catalogColumn = i;
+        } else if ("TABLE_SCHEMA".equalsIgnoreCase(columnLabel)) {
+          schemaColumn = i;
+        }
+      }
+
+      while (results.next()) {
+        if (catalogColumn > 0 || schemaColumn > 0) {
+          final SchemaReference schema =
+              new SchemaReference(
+                  catalogColumn > 0 ? results.getString(catalogColumn) : null,
+                  schemaColumn > 0 ? results.getString(schemaColumn) : null);
+          if (!schemaInclusionRule.test(schema.getFullName())) {
+            continue;
+          }
+        }
+        for (int i = 1; i <= columnCount; i++) {
+          update(digest, results.getObject(i));
+        }
+        hasRows = true;
+      }
+    }
+    if (!hasRows) {
+      LOGGER.log(Level.INFO, "Schema fingerprint SQL returned no results for the crawled schemas");
+      return null;
+    }
+    return toHex(digest.digest());
+  }
+
+  private Path snapshotFile() {
+    return cacheDirectory.resolve(cacheKey + SNAPSHOT_EXTENSION);
+  }
+}
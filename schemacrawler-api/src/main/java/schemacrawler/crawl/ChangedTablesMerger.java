@@ -0,0 +1,227 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Merges tables that were crawled again into a catalog from an earlier crawl. The earlier versions
+ * of the changed tables are removed, along with any foreign keys, weak associations and view table
+ * usage in the unchanged tables that refer to them. Then the new versions of the tables are added,
+ * references between the new tables and the unchanged tables are resolved, and the tables are
+ * sorted again.
+ */
+final class ChangedTablesMerger {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(ChangedTablesMerger.class.getName());
+
+  private final MutableCatalog catalog;
+  private final Map<MutableView, List<Table>> removedViewTableUsage;
+
+  ChangedTablesMerger(final MutableCatalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    removedViewTableUsage = new IdentityHashMap<>();
+  }
+
+  /**
+   * Merges changed tables into the catalog.
+   *
+   * @param changedTablesCatalog Catalog with only the changed tables that still exist
+   * @param changedTableFullNames Full names of all the changed tables, including dropped tables
+   */
+  void merge(
+      final MutableCatalog changedTablesCatalog, final Collection<String> changedTableFullNames) {
+    requireNonNull(changedTablesCatalog, "No catalog of changed tables provided");
+    requireNonNull(changedTableFullNames, "No changed tables provided");
+
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    final int previousTablesCount = allTables.size();
+    allTables.filter(table -> !changedTableFullNames.contains(table.getFullName()));
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Removed %d changed tables", previousTablesCount - allTables.size()));
+
+    for (final MutableTable table : allTables) {
+      removeReferencesToChangedTables(table, changedTableFullNames);
+    }
+
+    final List<MutableTable> changedTables =
+        new ArrayList<>(changedTablesCatalog.getAllTables().values());
+    for (final MutableTable table : changedTables) {
+      addTable(table);
+    }
+    LOGGER.log(Level.INFO, new StringFormat("Added %d changed tables", changedTables.size()));
+
+    new PartialReferencesResolver(catalog).resolveTableReferences(changedTables);
+    for (final MutableTable table : changedTables) {
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        for (final ForeignKeyColumnReference columnReference : foreignKey) {
+          final Column fkColumn = columnReference.getForeignKeyColumn();
+          if (fkColumn instanceof MutableColumn && fkColumn.getReferencedColumn() == null) {
+            ((MutableColumn) fkColumn).setReferencedColumn(columnReference.getPrimaryKeyColumn());
+          }
+        }
+      }
+    }
+
+    for (final Entry<MutableView, List<Table>> viewTableUsage : removedViewTableUsage.entrySet()) {
+      final MutableView view = viewTableUsage.getKey();
+      for (final Table usedTable : viewTableUsage.getValue()) {
+        catalog
+            .lookupTable(usedTable.getSchema(), usedTable.getName())
+            .ifPresent(view::addTableUsage);
+      }
+    }
+
+    for (final MutableSynonym synonym : catalog.getAllSynonyms()) {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject instanceof Table
+          && changedTableFullNames.contains(referencedObject.getFullName())) {
+        synonym.setReferencedObject(
+            catalog
+                .lookupTable(referencedObject.getSchema(), referencedObject.getName())
+                .<DatabaseObject>map(table -> table)
+                .orElse(new TablePartial((Table) referencedObject)));
+      }
+    }
+
+    final TablesGraph tablesGraph = new TablesGraph(allTables);
+    tablesGraph.setTablesSortIndexes();
+  }
+
+  private void addTable(final MutableTable table) {
+    final SchemaReference schema = (SchemaReference) table.getSchema();
+    if (!catalog.getSchemas().contains(schema)) {
+      catalog.addSchema(schema);
+    }
+
+    final List<Column> columns = new ArrayList<>(table.getColumns());
+    columns.addAll(table.getHiddenColumns());
+    for (final Column column : columns) {
+      ((MutableColumn) column).setColumnDataType(lookupColumnDataType(column));
+    }
+
+    catalog.addTable(table);
+  }
+
+  private boolean isReferencingChangedTable(
+      final Collection<? extends ColumnReference> columnReferences,
+      final Collection<String> changedTableFullNames) {
+    for (final ColumnReference columnReference : columnReferences) {
+      final Table pkTable = columnReference.getPrimaryKeyColumn().getParent();
+      final Table fkTable = columnReference.getForeignKeyColumn().getParent();
+      if (changedTableFullNames.contains(pkTable.getFullName())
+          || changedTableFullNames.contains(fkTable.getFullName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Uses the column data types that are already in the catalog, so that column data types are
+   * shared by the unchanged and the changed tables.
+   */
+  private ColumnDataType lookupColumnDataType(final Column column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (!(columnDataType instanceof MutableColumnDataType)) {
+      return columnDataType;
+    }
+    final String name = columnDataType.getName();
+    final MutableColumnDataType existingColumnDataType =
+        catalog
+            .lookupColumnDataType(columnDataType.getSchema(), name)
+            .orElse(catalog.lookupSystemColumnDataType(name).orElse(null));
+    if (existingColumnDataType != null) {
+      return existingColumnDataType;
+    }
+    catalog.addColumnDataType((MutableColumnDataType) columnDataType);
+    return columnDataType;
+  }
+
+  /**
+   * Removes foreign keys and weak associations to the earlier versions of changed tables, since
+   * they are added again with the new versions of the tables. View table usage of changed tables
+   * is removed, and added again once the new versions of the tables are in the catalog.
+   */
+  private void removeReferencesToChangedTables(
+      final MutableTable table, final Collection<String> changedTableFullNames) {
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      if (isReferencingChangedTable(foreignKey.getColumnReferences(), changedTableFullNames)) {
+        table.removeForeignKey(foreignKey);
+      }
+    }
+
+    for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+      if (isReferencingChangedTable(weakAssociation.getColumnReferences(), changedTableFullNames)) {
+        table.removeWeakAssociation(weakAssociation);
+      }
+    }
+
+    final List<Column> columns = new ArrayList<>(table.getColumns());
+    columns.addAll(table.getHiddenColumns());
+    for (final Column column : columns) {
+      final Column referencedColumn = column.getReferencedColumn();
+      if (referencedColumn != null
+          && changedTableFullNames.contains(referencedColumn.getParent().getFullName())) {
+        ((MutableColumn) column).setReferencedColumn(null);
+      }
+    }
+
+    if (table instanceof MutableView) {
+      final MutableView view = (MutableView) table;
+      for (final Table usedTable : view.getTableUsage()) {
+        if (changedTableFullNames.contains(usedTable.getFullName())) {
+          view.removeTableUsage(usedTable);
+          removedViewTableUsage.computeIfAbsent(view, key -> new ArrayList<>()).add(usedTable);
+        }
+      }
+    }
+  }
+}
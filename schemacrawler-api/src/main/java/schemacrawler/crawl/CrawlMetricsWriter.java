@@ -0,0 +1,206 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import schemacrawler.schema.CrawlMetrics;
+
+/**
+ * Writes crawl metrics as JSON, or in the OpenMetrics text format, so that they can be loaded into
+ * dashboards, or compared across crawls. Durations are written in seconds.
+ */
+final class CrawlMetricsWriter {
+
+  private static final String METRIC_PREFIX = "schemacrawler_crawl_";
+
+  private final CrawlMetrics crawlMetrics;
+
+  CrawlMetricsWriter(final CrawlMetrics crawlMetrics) {
+    this.crawlMetrics = requireNonNull(crawlMetrics, "No crawl metrics provided");
+  }
+
+  /**
+   * Writes crawl metrics to a file, as JSON if the file name ends with ".json", and in the
+   * OpenMetrics text format otherwise.
+   *
+   * @param crawlMetricsFile Crawl metrics file
+   * @throws IOException On an exception writing the file
+   */
+  void write(final Path crawlMetricsFile) throws IOException {
+    requireNonNull(crawlMetricsFile, "No crawl metrics file provided");
+    final String fileName = crawlMetricsFile.getFileName().toString().toLowerCase(Locale.ENGLISH);
+    try (final Writer writer = Files.newBufferedWriter(crawlMetricsFile, UTF_8)) {
+      if (fileName.endsWith(".json")) {
+        writeJson(writer);
+      } else {
+        writeOpenMetrics(writer);
+      }
+    }
+  }
+
+  void writeJson(final Writer writer) throws IOException {
+    writer.write("{\n");
+    writer.write("  \"jdbcCalls\": " + crawlMetrics.getJdbcCallCount() + ",\n");
+    writer.write("  \"fetchRoundTrips\": " + crawlMetrics.getFetchRoundTrips() + ",\n");
+    writer.write("  \"taskDurationSeconds\": {");
+    String separator = "\n";
+    for (final Entry<String, Duration> taskDuration :
+        crawlMetrics.getTaskDurations().entrySet()) {
+      writer.write(separator);
+      writer.write(
+          "    " + jsonString(taskDuration.getKey()) + ": " + seconds(taskDuration.getValue()));
+      separator = ",\n";
+    }
+    writer.write("\n  },\n");
+    writer.write("  \"rowsRead\": ");
+    writeJsonCounts(writer, crawlMetrics.getRowsRead());
+    writer.write(",\n");
+    writer.write("  \"objectCounts\": ");
+    writeJsonCounts(writer, crawlMetrics.getObjectCounts());
+    writer.write("\n}\n");
+  }
+
+  void writeOpenMetrics(final Writer writer) throws IOException {
+    writeMetricFamily(writer, "jdbc_calls", "counter", "Result sets read from the database");
+    writer.write(METRIC_PREFIX + "jdbc_calls_total " + crawlMetrics.getJdbcCallCount() + "\n");
+
+    writeMetricFamily(
+        writer, "fetch_round_trips", "counter", "Estimated round trips to fetch result set rows");
+    writer.write(
+        METRIC_PREFIX + "fetch_round_trips_total " + crawlMetrics.getFetchRoundTrips() + "\n");
+
+    writeMetricFamily(writer, "task_duration_seconds", "gauge", "Time taken for each crawl step");
+    for (final Entry<String, Duration> taskDuration :
+        crawlMetrics.getTaskDurations().entrySet()) {
+      writer.write(
+          METRIC_PREFIX
+              + "task_duration_seconds{task="
+              + labelValue(taskDuration.getKey())
+              + "} "
+              + seconds(taskDuration.getValue())
+              + "\n");
+    }
+
+    writeMetricFamily(writer, "rows_read", "counter", "Rows read for each result set");
+    for (final Entry<String, Long> rowsRead : crawlMetrics.getRowsRead().entrySet()) {
+      writer.write(
+          METRIC_PREFIX
+              + "rows_read_total{result_set="
+              + labelValue(rowsRead.getKey())
+              + "} "
+              + rowsRead.getValue()
+              + "\n");
+    }
+
+    writeMetricFamily(writer, "objects", "gauge", "Database objects in the catalog, by type");
+    for (final Entry<String, Long> objectCount : crawlMetrics.getObjectCounts().entrySet()) {
+      writer.write(
+          METRIC_PREFIX
+              + "objects{type="
+              + labelValue(objectCount.getKey())
+              + "} "
+              + objectCount.getValue()
+              + "\n");
+    }
+
+    writer.write("# EOF\n");
+  }
+
+  private String escape(final String value, final boolean isJson) {
+    final StringBuilder buffer = new StringBuilder(value.length() + 2);
+    for (final char ch : value.toCharArray()) {
+      switch (ch) {
+        case '"':
+          buffer.append("\\\"");
+          break;
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        default:
+          if (isJson && ch < ' ') {
+            buffer.append(String.format("\\u%04x", (int) ch));
+          } else {
+            buffer.append(ch);
+          }
+          break;
+      }
+    }
+    return buffer.toString();
+  }
+
+  private String jsonString(final String value) {
+    return "\"" + escape(value, true) + "\"";
+  }
+
+  private String labelValue(final String value) {
+    return "\"" + escape(value, false) + "\"";
+  }
+
+  private String seconds(final Duration duration) {
+    final BigDecimal seconds = BigDecimal.valueOf(duration.toNanos(), 9).stripTrailingZeros();
+    if (seconds.signum() == 0) {
+      return "0";
+    }
+    return seconds.toPlainString();
+  }
+
+  private void writeJsonCounts(final Writer writer, final Map<String, Long> counts)
+      throws IOException {
+    writer.write("{");
+    String separator = "\n";
+    for (final Entry<String, Long> count : counts.entrySet()) {
+      writer.write(separator);
+      writer.write("    " + jsonString(count.getKey()) + ": " + count.getValue());
+      separator = ",\n";
+    }
+    writer.write("\n  }");
+  }
+
+  private void writeMetricFamily(
+      final Writer writer, final String name, final String type, final String help)
+      throws IOException {
+    writer.write("# TYPE " + METRIC_PREFIX + name + " " + type + "\n");
+    writer.write("# HELP " + METRIC_PREFIX + name + " " + help + "\n");
+  }
+}
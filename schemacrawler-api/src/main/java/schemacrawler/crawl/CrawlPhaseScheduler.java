@@ -0,0 +1,257 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+
+/**
+ * Runs crawl phases concurrently, honoring the dependencies between them. Each running phase
+ * borrows a retriever connection from a small pool, which is seeded with the primary connection,
+ * and grown on demand from a connection source. Connections opened by the scheduler are closed
+ * once all phases are complete.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CrawlPhaseScheduler {
+
+  @FunctionalInterface
+  interface CrawlPhase {
+    void crawl(RetrieverConnection retrieverConnection) throws Exception;
+  }
+
+  private static final class PhaseTiming {
+
+    private final String phaseName;
+    private final Duration wallClockTime;
+
+    PhaseTiming(final String phaseName, final Duration wallClockTime) {
+      this.phaseName = phaseName;
+      this.wallClockTime = wallClockTime;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s - %d ms", phaseName, wallClockTime.toMillis());
+    }
+  }
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(CrawlPhaseScheduler.class.getName());
+
+  private final Supplier<Connection> connectionSource;
+  private final int maxConnections;
+  private final Map<String, CompletableFuture<Void>> phases;
+  private final List<PhaseTiming> timings;
+  private final BlockingQueue<RetrieverConnection> pool;
+  private final List<Connection> openedConnections;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final ExecutorService executor;
+  private final MutableCrawlMetrics crawlMetrics;
+
+  CrawlPhaseScheduler(
+      final RetrieverConnection primaryConnection,
+      final Supplier<Connection> connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final int maxConnections) {
+    requireNonNull(primaryConnection, "No primary retriever connection provided");
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    this.schemaRetrievalOptions =
+        requireNonNull(schemaRetrievalOptions, "No schema retrieval options provided");
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("At least one connection is needed");
+    }
+    this.maxConnections = maxConnections;
+
+    phases = new LinkedHashMap<>();
+    timings = new ArrayList<>();
+    pool = new LinkedBlockingQueue<>();
+    pool.add(primaryConnection);
+    openedConnections = new ArrayList<>();
+    executor = Executors.newFixedThreadPool(maxConnections);
+    // Phases record their metrics to the crawl that scheduled them
+    crawlMetrics = MutableCrawlMetrics.current();
+  }
+
+  /**
+   * Schedules a crawl phase, to run after all the phases it depends on have completed. Phases
+   * that a phase depends on need to be scheduled before it.
+   *
+   * @param phaseName Name of the phase
+   * @param phase Crawl phase to run
+   * @param dependsOn Names of phases that need to complete first
+   */
+  void schedule(final String phaseName, final CrawlPhase phase, final String... dependsOn) {
+    requireNonNull(phaseName, "No phase name provided");
+    requireNonNull(phase, "No crawl phase provided");
+    if (phases.containsKey(phaseName)) {
+      throw new IllegalArgumentException(String.format("Phase <%s> already scheduled", phaseName));
+    }
+
+    final CompletableFuture<?>[] dependencies = new CompletableFuture<?>[dependsOn.length];
+    for (int i = 0; i < dependsOn.length; i++) {
+      final CompletableFuture<Void> dependency = phases.get(dependsOn[i]);
+      if (dependency == null) {
+        throw new IllegalArgumentException(
+            String.format("Phase <%s> depends on unknown phase <%s>", phaseName, dependsOn[i]));
+      }
+      dependencies[i] = dependency;
+    }
+
+    final CompletableFuture<Void> future =
+        CompletableFuture.allOf(dependencies).thenRunAsync(() -> run(phaseName, phase), executor);
+    phases.put(phaseName, future);
+  }
+
+  /**
+   * Waits for all scheduled phases to complete, and releases resources.
+   *
+   * @throws SchemaCrawlerException On an exception from any of the phases
+   */
+  void await() throws SchemaCrawlerException {
+    final long start = System.nanoTime();
+    try {
+      CompletableFuture.allOf(phases.values().toArray(new CompletableFuture<?>[0])).join();
+    } catch (final CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException) {
+        throw (SchemaCrawlerException) cause;
+      } else {
+        throw new SchemaCrawlerException("Exception in parallel crawl", cause);
+      }
+    } finally {
+      executor.shutdownNow();
+      closeOpenedConnections();
+      logTimings(Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  private RetrieverConnection borrowConnection() throws SQLException, InterruptedException {
+    final RetrieverConnection pooled = pool.poll();
+    if (pooled != null) {
+      return pooled;
+    }
+
+    synchronized (openedConnections) {
+      // One connection (the primary) is not opened by this scheduler
+      if (openedConnections.size() + 1 < maxConnections) {
+        final Connection connection = connectionSource.get();
+        openedConnections.add(connection);
+        LOGGER.log(
+            Level.CONFIG,
+            String.format(
+                "Opened crawl connection %d of %d", openedConnections.size() + 1, maxConnections));
+        return new RetrieverConnection(connection, schemaRetrievalOptions);
+      }
+    }
+
+    return pool.take();
+  }
+
+  private void closeOpenedConnections() {
+    synchronized (openedConnections) {
+      for (final Connection connection : openedConnections) {
+        try {
+          connection.close();
+        } catch (final SQLException e) {
+          LOGGER.log(Level.WARNING, "Could not close crawl connection", e);
+        }
+      }
+      openedConnections.clear();
+    }
+  }
+
+  private void logTimings(final Duration totalWallClockTime) {
+    if (!LOGGER.isLoggable(Level.INFO)) {
+      return;
+    }
+
+    final StringBuilder buffer = new StringBuilder(1024);
+    Duration sumWallClockTime = Duration.ZERO;
+    synchronized (timings) {
+      for (final PhaseTiming timing : timings) {
+        buffer.append(String.format("- %s%n", timing));
+        sumWallClockTime = sumWallClockTime.plus(timing.wallClockTime);
+      }
+    }
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "Parallel crawl took %d ms, for %d ms of phase time, using up to %d connections%n%s",
+            totalWallClockTime.toMillis(),
+            sumWallClockTime.toMillis(),
+            maxConnections,
+            buffer));
+  }
+
+  private void run(final String phaseName, final CrawlPhase phase) {
+    RetrieverConnection retrieverConnection = null;
+    MutableCrawlMetrics.setCurrent(crawlMetrics);
+    try {
+      retrieverConnection = borrowConnection();
+
+      final long wallClockStart = System.nanoTime();
+
+      phase.crawl(retrieverConnection);
+
+      final PhaseTiming timing =
+          new PhaseTiming(phaseName, Duration.ofNanos(System.nanoTime() - wallClockStart));
+      synchronized (timings) {
+        timings.add(timing);
+      }
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    } finally {
+      MutableCrawlMetrics.setCurrent(null);
+      if (retrieverConnection != null) {
+        pool.add(retrieverConnection);
+      }
+    }
+  }
+}
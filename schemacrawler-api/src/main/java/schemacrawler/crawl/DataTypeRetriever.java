@@ -79,6 +79,7 @@ final class DataTypeRetriever extends AbstractRetriever {
         retrieveSystemColumnDataTypesFromDataDictionary(systemSchema);
         break;
 
+      case metadata_all_per_schema:
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving system column data types");
         retrieveSystemColumnDataTypesFromMetadata(systemSchema);
@@ -197,7 +198,7 @@ final class DataTypeRetriever extends AbstractRetriever {
 
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(typeInfoSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(typeInfoSql, statement, getLimitOptions())) {
       results.setDescription("retrieveSystemColumnDataTypesFromDataDictionary");
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
@@ -38,10 +38,14 @@ import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.MetadataResultSet.BoundColumn;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
@@ -63,6 +67,40 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class ForeignKeyRetriever extends AbstractRetriever {
 
+  /** Foreign key metadata columns, bound once for each result set. */
+  private static final class ForeignKeyResults {
+
+    private final BoundColumn fkName;
+    private final BoundColumn pkTableCat;
+    private final BoundColumn pkTableSchem;
+    private final BoundColumn pkTableName;
+    private final BoundColumn pkColumnName;
+    private final BoundColumn fkTableCat;
+    private final BoundColumn fkTableSchem;
+    private final BoundColumn fkTableName;
+    private final BoundColumn fkColumnName;
+    private final BoundColumn keySeq;
+    private final BoundColumn updateRule;
+    private final BoundColumn deleteRule;
+    private final BoundColumn deferrability;
+
+    ForeignKeyResults(final MetadataResultSet results) {
+      fkName = results.bind("FK_NAME");
+      pkTableCat = results.bind("PKTABLE_CAT");
+      pkTableSchem = results.bind("PKTABLE_SCHEM");
+      pkTableName = results.bind("PKTABLE_NAME");
+      pkColumnName = results.bind("PKCOLUMN_NAME");
+      fkTableCat = results.bind("FKTABLE_CAT");
+      fkTableSchem = results.bind("FKTABLE_SCHEM");
+      fkTableName = results.bind("FKTABLE_NAME");
+      fkColumnName = results.bind("FKCOLUMN_NAME");
+      keySeq = results.bind("KEY_SEQ");
+      updateRule = results.bind("UPDATE_RULE");
+      deleteRule = results.bind("DELETE_RULE");
+      deferrability = results.bind("DEFERRABILITY");
+    }
+  }
+
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(ForeignKeyRetriever.class.getName());
 
@@ -82,9 +120,14 @@ final class ForeignKeyRetriever extends AbstractRetriever {
         retrieveForeignKeysFromDataDictionary();
         break;
 
+      case metadata_all_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving foreign keys, for all tables in each schema");
+        retrieveForeignKeysFromMetadataForSchemas(allTables);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving foreign keys");
-        retrieveForeignKeysFromMetadata(allTables);
+        retrieveForeignKeysFromMetadata(allTables, new NamedObjectList<>());
         break;
 
       default:
@@ -95,27 +138,28 @@ final class ForeignKeyRetriever extends AbstractRetriever {
   private void createForeignKeys(
       final MetadataResultSet results, final NamedObjectList<MutableForeignKey> foreignKeys)
       throws SQLException {
+    final ForeignKeyResults bound = new ForeignKeyResults(results);
     while (results.next()) {
-      final String foreignKeyName = results.getString("FK_NAME");
+      final String foreignKeyName = results.getString(bound.fkName);
       LOGGER.log(Level.FINE, new StringFormat("Retrieving foreign key: %s", foreignKeyName));
 
-      final String pkTableCatalogName = normalizeCatalogName(results.getString("PKTABLE_CAT"));
-      final String pkTableSchemaName = normalizeSchemaName(results.getString("PKTABLE_SCHEM"));
-      final String pkTableName = results.getString("PKTABLE_NAME");
-      final String pkColumnName = results.getString("PKCOLUMN_NAME");
+      final String pkTableCatalogName = normalizeCatalogName(results.getString(bound.pkTableCat));
+      final String pkTableSchemaName = normalizeSchemaName(results.getString(bound.pkTableSchem));
+      final String pkTableName = results.getString(bound.pkTableName);
+      final String pkColumnName = results.getString(bound.pkColumnName);
 
-      final String fkTableCatalogName = normalizeCatalogName(results.getString("FKTABLE_CAT"));
-      final String fkTableSchemaName = normalizeSchemaName(results.getString("FKTABLE_SCHEM"));
-      final String fkTableName = results.getString("FKTABLE_NAME");
-      final String fkColumnName = results.getString("FKCOLUMN_NAME");
+      final String fkTableCatalogName = normalizeCatalogName(results.getString(bound.fkTableCat));
+      final String fkTableSchemaName = normalizeSchemaName(results.getString(bound.fkTableSchem));
+      final String fkTableName = results.getString(bound.fkTableName);
+      final String fkColumnName = results.getString(bound.fkColumnName);
 
-      final int keySequence = results.getInt("KEY_SEQ", 0);
+      final int keySequence = results.getInt(bound.keySeq, 0);
       final ForeignKeyUpdateRule updateRule =
-          results.getEnumFromId("UPDATE_RULE", ForeignKeyUpdateRule.unknown);
+          results.getEnumFromId(bound.updateRule, ForeignKeyUpdateRule.unknown);
       final ForeignKeyUpdateRule deleteRule =
-          results.getEnumFromId("DELETE_RULE", ForeignKeyUpdateRule.unknown);
+          results.getEnumFromId(bound.deleteRule, ForeignKeyUpdateRule.unknown);
       final ForeignKeyDeferrability deferrability =
-          results.getEnumFromId("DEFERRABILITY", ForeignKeyDeferrability.unknown);
+          results.getEnumFromId(bound.deferrability, ForeignKeyDeferrability.unknown);
 
       final Column pkColumn =
           lookupOrCreateColumn(pkTableCatalogName, pkTableSchemaName, pkTableName, pkColumnName);
@@ -221,7 +265,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(fkSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(fkSql, statement, getLimitOptions())) {
       results.setDescription("retrieveForeignKeysUsingSql");
       createForeignKeys(results, foreignKeys);
     } catch (final SQLException e) {
@@ -229,10 +273,10 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     }
   }
 
-  private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
+  private void retrieveForeignKeysFromMetadata(
+      final Iterable<MutableTable> tables, final NamedObjectList<MutableForeignKey> foreignKeys)
       throws SchemaCrawlerSQLException {
-    final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
-    for (final MutableTable table : allTables) {
+    for (final MutableTable table : tables) {
       if (table instanceof View) {
         continue;
       }
@@ -268,4 +312,54 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       }
     }
   }
+
+  /**
+   * Retrieves imported and exported foreign keys for all the tables in a schema with a single
+   * metadata call each. Rows for tables that were not selected are handled the same way as for
+   * the per-table calls, so a foreign key is kept if either end is a selected table. If the driver
+   * rejects a null table name, foreign keys are retrieved one table at a time for the remaining
+   * schemas.
+   */
+  private void retrieveForeignKeysFromMetadataForSchemas(
+      final NamedObjectList<MutableTable> allTables) throws SchemaCrawlerSQLException {
+    final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
+    boolean isBulkRetrievalSupported = true;
+    final Map<Schema, List<MutableTable>> tablesBySchema = groupTablesBySchema(allTables);
+    for (final Entry<Schema, List<MutableTable>> schemaTables : tablesBySchema.entrySet()) {
+      final Schema schema = schemaTables.getKey();
+      if (isBulkRetrievalSupported) {
+        isBulkRetrievalSupported = retrieveForeignKeysFromMetadataForSchema(schema, foreignKeys);
+      }
+      if (!isBulkRetrievalSupported) {
+        retrieveForeignKeysFromMetadata(schemaTables.getValue(), foreignKeys);
+      }
+    }
+  }
+
+  private boolean retrieveForeignKeysFromMetadataForSchema(
+      final Schema schema, final NamedObjectList<MutableForeignKey> foreignKeys) {
+    LOGGER.log(Level.FINE, new StringFormat("Retrieving foreign keys for schema <%s>", schema));
+    final DatabaseMetaData metaData = getMetaData();
+    final String catalogName = schema.getCatalogName();
+    final String schemaName = schema.getName();
+    try {
+      try (final MetadataResultSet results =
+          new MetadataResultSet(metaData.getImportedKeys(catalogName, schemaName, null))) {
+        createForeignKeys(results, foreignKeys);
+      }
+      try (final MetadataResultSet results =
+          new MetadataResultSet(metaData.getExportedKeys(catalogName, schemaName, null))) {
+        createForeignKeys(results, foreignKeys);
+      }
+      return true;
+    } catch (final SQLException e) {
+      logPossiblyUnsupportedSQLFeature(
+          new StringFormat(
+              "Could not retrieve foreign keys for schema <%s>, "
+                  + "so retrieving foreign keys for each table",
+              schema),
+          e);
+      return false;
+    }
+  }
 }
@@ -43,6 +43,7 @@ import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.MetadataResultSet.BoundColumn;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.FunctionParameter;
@@ -61,6 +62,40 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class FunctionParameterRetriever extends AbstractRetriever {
 
+  /** Function parameter metadata columns, bound once for each result set. */
+  private static final class FunctionParameterResults {
+
+    private final BoundColumn functionCat;
+    private final BoundColumn functionSchem;
+    private final BoundColumn functionName;
+    private final BoundColumn columnName;
+    private final BoundColumn specificName;
+    private final BoundColumn columnType;
+    private final BoundColumn ordinalPosition;
+    private final BoundColumn dataType;
+    private final BoundColumn typeName;
+    private final BoundColumn length;
+    private final BoundColumn precision;
+    private final BoundColumn nullable;
+    private final BoundColumn remarks;
+
+    FunctionParameterResults(final MetadataResultSet results) {
+      functionCat = results.bind("FUNCTION_CAT");
+      functionSchem = results.bind("FUNCTION_SCHEM");
+      functionName = results.bind("FUNCTION_NAME");
+      columnName = results.bind("COLUMN_NAME");
+      specificName = results.bind("SPECIFIC_NAME");
+      columnType = results.bind("COLUMN_TYPE");
+      ordinalPosition = results.bind("ORDINAL_POSITION");
+      dataType = results.bind("DATA_TYPE");
+      typeName = results.bind("TYPE_NAME");
+      length = results.bind("LENGTH");
+      precision = results.bind("PRECISION");
+      nullable = results.bind("NULLABLE");
+      remarks = results.bind("REMARKS");
+    }
+  }
+
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(FunctionParameterRetriever.class.getName());
 
@@ -90,6 +125,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
         retrieveFunctionParametersFromDataDictionary(allRoutines, parameterFilter);
         break;
 
+      case metadata_all_per_schema:
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving function parameters");
         retrieveFunctionParametersFromMetadata(allRoutines, parameterFilter);
@@ -102,17 +138,18 @@ final class FunctionParameterRetriever extends AbstractRetriever {
 
   private void createFunctionParameter(
       final MetadataResultSet results,
+      final FunctionParameterResults bound,
       final NamedObjectList<MutableRoutine> allRoutines,
       final InclusionRuleFilter<FunctionParameter> parameterFilter) {
-    final String columnCatalogName = normalizeCatalogName(results.getString("FUNCTION_CAT"));
-    final String schemaName = normalizeSchemaName(results.getString("FUNCTION_SCHEM"));
-    final String functionName = results.getString("FUNCTION_NAME");
-    String columnName = results.getString("COLUMN_NAME");
-    final String specificName = results.getString("SPECIFIC_NAME");
+    final String columnCatalogName = normalizeCatalogName(results.getString(bound.functionCat));
+    final String schemaName = normalizeSchemaName(results.getString(bound.functionSchem));
+    final String functionName = results.getString(bound.functionName);
+    String columnName = results.getString(bound.columnName);
+    final String specificName = results.getString(bound.specificName);
 
     final ParameterModeType parameterMode =
         getFunctionParameterMode(
-            results.getInt("COLUMN_TYPE", DatabaseMetaData.functionColumnUnknown));
+            results.getInt(bound.columnType, DatabaseMetaData.functionColumnUnknown));
 
     LOGGER.log(
         Level.FINE,
@@ -143,15 +180,15 @@ final class FunctionParameterRetriever extends AbstractRetriever {
         lookupOrCreateFunctionParameter(function, columnName);
     if (parameterFilter.test(parameter)
         && belongsToSchema(function, columnCatalogName, schemaName)) {
-      final int ordinalPosition = results.getInt("ORDINAL_POSITION", 0);
-      final int dataType = results.getInt("DATA_TYPE", 0);
-      final String typeName = results.getString("TYPE_NAME");
-      final int length = results.getInt("LENGTH", 0);
-      final int precision = results.getInt("PRECISION", 0);
+      final int ordinalPosition = results.getInt(bound.ordinalPosition, 0);
+      final int dataType = results.getInt(bound.dataType, 0);
+      final String typeName = results.getString(bound.typeName);
+      final int length = results.getInt(bound.length, 0);
+      final int precision = results.getInt(bound.precision, 0);
       final boolean isNullable =
-          results.getShort("NULLABLE", (short) DatabaseMetaData.functionNullableUnknown)
+          results.getShort(bound.nullable, (short) DatabaseMetaData.functionNullableUnknown)
               == (short) DatabaseMetaData.functionNullable;
-      final String remarks = results.getString("REMARKS");
+      final String remarks = results.getString(bound.remarks);
       parameter.setOrdinalPosition(ordinalPosition);
       parameter.setParameterMode(parameterMode);
       parameter.setColumnDataType(
@@ -206,10 +243,11 @@ final class FunctionParameterRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(functionColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(functionColumnsSql, statement, getLimitOptions())) {
       results.setDescription("retrieveFunctionColumnsFromDataDictionary");
+      final FunctionParameterResults bound = new FunctionParameterResults(results);
       while (results.next()) {
-        createFunctionParameter(results, allRoutines, parameterFilter);
+        createFunctionParameter(results, bound, allRoutines, parameterFilter);
       }
     }
   }
@@ -232,8 +270,9 @@ final class FunctionParameterRetriever extends AbstractRetriever {
                       function.getSchema().getName(),
                       function.getName(),
                       null))) {
+        final FunctionParameterResults bound = new FunctionParameterResults(results);
         while (results.next()) {
-          createFunctionParameter(results, allRoutines, parameterFilter);
+          createFunctionParameter(results, bound, allRoutines, parameterFilter);
         }
       } catch (final AbstractMethodError | SQLFeatureNotSupportedException e) {
         logSQLFeatureNotSupported(
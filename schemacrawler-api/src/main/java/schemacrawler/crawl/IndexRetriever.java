@@ -36,10 +36,15 @@ import static us.fatehi.utility.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.MetadataResultSet.BoundColumn;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
@@ -57,6 +62,36 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class IndexRetriever extends AbstractRetriever {
 
+  /** Index metadata columns, bound once for each result set. */
+  private static final class IndexResults {
+
+    private final BoundColumn tableCat;
+    private final BoundColumn tableSchem;
+    private final BoundColumn tableName;
+    private final BoundColumn indexName;
+    private final BoundColumn columnName;
+    private final BoundColumn nonUnique;
+    private final BoundColumn type;
+    private final BoundColumn ordinalPosition;
+    private final BoundColumn ascOrDesc;
+    private final BoundColumn cardinality;
+    private final BoundColumn pages;
+
+    IndexResults(final MetadataResultSet results) {
+      tableCat = results.bind("TABLE_CAT");
+      tableSchem = results.bind("TABLE_SCHEM");
+      tableName = results.bind("TABLE_NAME");
+      indexName = results.bind("INDEX_NAME");
+      columnName = results.bind("COLUMN_NAME");
+      nonUnique = results.bind("NON_UNIQUE");
+      type = results.bind("TYPE");
+      ordinalPosition = results.bind("ORDINAL_POSITION");
+      ascOrDesc = results.bind("ASC_OR_DESC");
+      cardinality = results.bind("CARDINALITY");
+      pages = results.bind("PAGES");
+    }
+  }
+
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(IndexRetriever.class.getName());
 
@@ -76,6 +111,11 @@ final class IndexRetriever extends AbstractRetriever {
         retrieveIndexesFromDataDictionary(allTables);
         break;
 
+      case metadata_all_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving indexes, for all tables in each schema");
+        retrieveIndexesFromMetadataForSchemas(allTables);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving indexes");
         retrieveIndexesFromMetadata(allTables);
@@ -88,14 +128,16 @@ final class IndexRetriever extends AbstractRetriever {
 
   private void createIndexes(final MutableTable table, final MetadataResultSet results)
       throws SQLException {
+    final IndexResults bound = new IndexResults(results);
     while (results.next()) {
-      createIndexForTable(table, results);
+      createIndexForTable(table, results, bound);
     }
   }
 
-  private void createIndexForTable(final MutableTable table, final MetadataResultSet results) {
+  private void createIndexForTable(
+      final MutableTable table, final MetadataResultSet results, final IndexResults bound) {
     // "TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME"
-    String indexName = results.getString("INDEX_NAME");
+    String indexName = results.getString(bound.indexName);
     LOGGER.log(Level.FINE, new StringFormat("Retrieving index <%s.%s>", table, indexName));
 
     // Work-around PostgreSQL JDBC driver bugs by unquoting column
@@ -104,7 +146,7 @@ final class IndexRetriever extends AbstractRetriever {
     // http://www.postgresql.org/message-id/200707231358.l6NDwlWh026230@wwwmaster.postgresql.org
     // #6253 -
     // http://www.postgresql.org/message-id/201110121403.p9CE3fsx039675@wwwmaster.postgresql.org
-    final String columnName = results.getString("COLUMN_NAME");
+    final String columnName = results.getString(bound.columnName);
     if (isBlank(columnName)) {
       return;
     }
@@ -112,13 +154,13 @@ final class IndexRetriever extends AbstractRetriever {
         Level.FINE,
         new StringFormat("Retrieving index column <%s.%s.%s>", table, indexName, columnName));
 
-    final boolean uniqueIndex = !results.getBoolean("NON_UNIQUE");
-    final IndexType type = results.getEnumFromId("TYPE", IndexType.unknown);
-    final int ordinalPosition = results.getInt("ORDINAL_POSITION", 0);
+    final boolean uniqueIndex = !results.getBoolean(bound.nonUnique);
+    final IndexType type = results.getEnumFromId(bound.type, IndexType.unknown);
+    final int ordinalPosition = results.getInt(bound.ordinalPosition, 0);
     final IndexColumnSortSequence sortSequence =
-        IndexColumnSortSequence.valueOfFromCode(results.getString("ASC_OR_DESC"));
-    final int cardinality = results.getInt("CARDINALITY", 0);
-    final int pages = results.getInt("PAGES", 0);
+        IndexColumnSortSequence.valueOfFromCode(results.getString(bound.ascOrDesc));
+    final int cardinality = results.getInt(bound.cardinality, 0);
+    final int pages = results.getInt(bound.pages, 0);
 
     final Column column;
     final Optional<MutableColumn> columnOptional = table.lookupColumn(columnName);
@@ -177,12 +219,13 @@ final class IndexRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(indexesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(indexesSql, statement, getLimitOptions())) {
       results.setDescription("retrieveIndexesFromDataDictionary");
+      final IndexResults bound = new IndexResults(results);
       while (results.next()) {
-        final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
-        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
-        final String tableName = results.getString("TABLE_NAME");
+        final String catalogName = normalizeCatalogName(results.getString(bound.tableCat));
+        final String schemaName = normalizeSchemaName(results.getString(bound.tableSchem));
+        final String tableName = results.getString(bound.tableName);
 
         final Optional<MutableTable> optionalTable =
             lookupTable(catalogName, schemaName, tableName);
@@ -190,21 +233,80 @@ final class IndexRetriever extends AbstractRetriever {
           continue;
         }
         final MutableTable table = optionalTable.get();
-        createIndexForTable(table, results);
+        createIndexForTable(table, results, bound);
       }
     } catch (final SQLException e) {
       throw new SchemaCrawlerSQLException("Could not retrieve indexes from SQL:\n" + indexesSql, e);
     }
   }
 
-  private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables)
+  private void retrieveIndexesFromMetadata(final Iterable<MutableTable> tables)
       throws SQLException {
-    for (final MutableTable table : allTables) {
+    for (final MutableTable table : tables) {
       retrieveTableIndexesFromMetadata(table, false);
       retrieveTableIndexesFromMetadata(table, true);
     }
   }
 
+  /**
+   * Retrieves indexes for all the tables in a schema with a single metadata call for each of
+   * unique and non-unique indexes, and routes each row to its table by lookup. If the driver
+   * rejects a null table name, indexes are retrieved one table at a time for the remaining schemas.
+   */
+  private void retrieveIndexesFromMetadataForSchemas(final NamedObjectList<MutableTable> allTables)
+      throws SQLException {
+    boolean isBulkRetrievalSupported = true;
+    final Map<Schema, List<MutableTable>> tablesBySchema = groupTablesBySchema(allTables);
+    for (final Entry<Schema, List<MutableTable>> schemaTables : tablesBySchema.entrySet()) {
+      final Schema schema = schemaTables.getKey();
+      if (isBulkRetrievalSupported) {
+        isBulkRetrievalSupported =
+            retrieveSchemaIndexesFromMetadata(schema, allTables, false)
+                && retrieveSchemaIndexesFromMetadata(schema, allTables, true);
+      }
+      if (!isBulkRetrievalSupported) {
+        retrieveIndexesFromMetadata(schemaTables.getValue());
+      }
+    }
+  }
+
+  private boolean retrieveSchemaIndexesFromMetadata(
+      final Schema schema, final NamedObjectList<MutableTable> allTables, final boolean unique) {
+    LOGGER.log(Level.FINE, new StringFormat("Retrieving indexes for schema <%s>", schema));
+    try (final MetadataResultSet results =
+        new MetadataResultSet(
+            getMetaData()
+                .getIndexInfo(
+                    schema.getCatalogName(),
+                    schema.getName(),
+                    null,
+                    unique,
+                    true /* approximate */))) {
+      results.setDescription("retrieveSchemaIndexesFromMetadata");
+      final IndexResults bound = new IndexResults(results);
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString(bound.tableCat));
+        final String schemaName = normalizeSchemaName(results.getString(bound.tableSchem));
+        final String tableName = results.getString(bound.tableName);
+
+        final Optional<MutableTable> optionalTable =
+            allTables.lookup(Arrays.asList(catalogName, schemaName, tableName));
+        if (!optionalTable.isPresent()) {
+          continue;
+        }
+        createIndexForTable(optionalTable.get(), results, bound);
+      }
+      return true;
+    } catch (final SQLException e) {
+      logPossiblyUnsupportedSQLFeature(
+          new StringFormat(
+              "Could not retrieve indexes for schema <%s>, so retrieving indexes for each table",
+              schema),
+          e);
+      return false;
+    }
+  }
+
   private void retrieveTableIndexesFromMetadata(final MutableTable table, final boolean unique)
       throws SQLException {
 
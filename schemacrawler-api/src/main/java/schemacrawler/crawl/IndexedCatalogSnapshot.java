@@ -0,0 +1,809 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForRoutineInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSequenceInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSynonymInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.Version;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Reads and writes indexed catalog snapshots. An indexed snapshot has a core segment, with the
+ * catalog without its tables, routines, sequences and synonyms, followed by a segment for each
+ * schema, and then a table of contents with the position of each segment, and the full names of
+ * the database objects in it. References from one schema segment to objects in another schema are
+ * written as lookup keys.
+ *
+ * <p>When a snapshot is loaded, only the schema segments that can have objects that pass the
+ * inclusion rules are read, directly from a memory-mapped file, and the other segments are never
+ * touched. References to objects in segments that were not read are loaded as partial database
+ * objects, just like they are when a crawl is limited to some schemas.
+ */
+public final class IndexedCatalogSnapshot {
+
+  /** Counts the bytes written, so that segment positions can be recorded. */
+  private static final class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    CountingOutputStream(final OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+      out.write(bytes, offset, length);
+      count = count + length;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      out.write(b);
+      count = count + 1;
+    }
+
+    long getCount() {
+      return count;
+    }
+  }
+
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+
+    @Override
+    public int read() {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int read = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, read);
+      return read;
+    }
+  }
+
+  /** Database objects for one schema. */
+  private static final class SchemaSegment implements Serializable {
+
+    private static final long serialVersionUID = -3817260915393164829L;
+
+    private final List<MutableTable> tables = new ArrayList<>();
+    private final List<MutableRoutine> routines = new ArrayList<>();
+    private final List<MutableSequence> sequences = new ArrayList<>();
+    private final List<MutableSynonym> synonyms = new ArrayList<>();
+  }
+
+  /** Table of contents entry for a schema segment. */
+  private static final class SegmentEntry {
+
+    private final String schemaFullName;
+    private final long offset;
+    private final long length;
+    private final Map<DatabaseObjectKind, List<String>> fullNames;
+
+    SegmentEntry(final String schemaFullName, final long offset, final long length) {
+      this.schemaFullName = schemaFullName;
+      this.offset = offset;
+      this.length = length;
+      fullNames = new LinkedHashMap<>();
+    }
+  }
+
+  private enum DatabaseObjectKind {
+    table,
+    routine,
+    sequence,
+    synonym;
+  }
+
+  private static final class SchemaLookup implements Serializable {
+
+    private static final long serialVersionUID = 6329174020569830721L;
+
+    private final String catalogName;
+    private final String schemaName;
+
+    SchemaLookup(final Schema schema) {
+      catalogName = schema.getCatalogName();
+      schemaName = schema.getName();
+    }
+  }
+
+  /**
+   * Lookup for a column data type in the core segment. The schema is written as a lookup, if it is
+   * in the core segment, and is resolved before the column data type is looked up.
+   */
+  private static final class ColumnDataTypeLookup implements Serializable {
+
+    private static final long serialVersionUID = -1259622587346419361L;
+
+    private final Schema schema;
+    private final String name;
+
+    ColumnDataTypeLookup(final MutableColumnDataType columnDataType) {
+      schema = columnDataType.getSchema();
+      name = columnDataType.getName();
+    }
+  }
+
+  private static final class DatabaseObjectLookup implements Serializable {
+
+    private static final long serialVersionUID = 2871853092347216519L;
+
+    private final DatabaseObjectKind kind;
+    private final Schema schema;
+    private final String name;
+    private final List<String> lookupKey;
+
+    DatabaseObjectLookup(final DatabaseObjectKind kind, final DatabaseObject databaseObject) {
+      this.kind = kind;
+      schema = databaseObject.getSchema();
+      name = databaseObject.getName();
+      lookupKey = new ArrayList<>(databaseObject.toUniqueLookupKey());
+    }
+  }
+
+  /**
+   * Lookup for a column of a table in another schema segment. The table is written as a lookup,
+   * and is resolved to a partial table before the column is looked up.
+   */
+  private static final class ColumnLookup implements Serializable {
+
+    private static final long serialVersionUID = -8062557125396412547L;
+
+    private final Table table;
+    private final String name;
+
+    ColumnLookup(final Column column) {
+      table = column.getParent();
+      name = column.getName();
+    }
+  }
+
+  /** Placeholder for a routine, sequence or synonym in a schema segment that was not read. */
+  private static final class DatabaseObjectPartial extends AbstractDatabaseObject
+      implements PartialDatabaseObject {
+
+    private static final long serialVersionUID = 5046214735870146263L;
+
+    private final DatabaseObjectKind kind;
+    private final List<String> lookupKey;
+
+    DatabaseObjectPartial(
+        final Schema schema,
+        final String name,
+        final DatabaseObjectKind kind,
+        final List<String> lookupKey) {
+      super(schema, name);
+      this.kind = kind;
+      this.lookupKey = lookupKey;
+    }
+  }
+
+  /**
+   * Replaces references to objects that are held elsewhere in the snapshot with lookups, and
+   * writes each distinct string only once.
+   */
+  private static final class SnapshotObjectOutputStream extends ObjectOutputStream {
+
+    private final Map<Object, Object> replacements;
+    private final Schema segmentSchema;
+    private final Map<String, String> strings;
+
+    SnapshotObjectOutputStream(
+        final OutputStream out,
+        final Map<Object, Object> coreReplacements,
+        final Schema segmentSchema)
+        throws IOException {
+      super(out);
+      replacements = new IdentityHashMap<>(coreReplacements);
+      this.segmentSchema = segmentSchema;
+      strings = new HashMap<>();
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj) {
+      if (obj instanceof String) {
+        final String string = (String) obj;
+        final String tableString = strings.putIfAbsent(string, string);
+        return tableString == null ? string : tableString;
+      }
+
+      final Object replacement = replacements.get(obj);
+      if (replacement != null) {
+        return replacement;
+      }
+      if (segmentSchema == null) {
+        return obj;
+      }
+
+      final Object objectLookup;
+      if (obj instanceof MutableColumn) {
+        final Table table = ((MutableColumn) obj).getParent();
+        if (isInSegment(table)) {
+          return obj;
+        }
+        objectLookup = new ColumnLookup((Column) obj);
+      } else if (obj instanceof MutableTable
+          || obj instanceof MutableRoutine
+          || obj instanceof MutableSequence
+          || obj instanceof MutableSynonym) {
+        if (isInSegment((DatabaseObject) obj)) {
+          return obj;
+        }
+        objectLookup = lookup((DatabaseObject) obj);
+      } else {
+        return obj;
+      }
+      replacements.put(obj, objectLookup);
+      return objectLookup;
+    }
+
+    private boolean isInSegment(final DatabaseObject databaseObject) {
+      return segmentSchema.equals(databaseObject.getSchema());
+    }
+
+    private DatabaseObjectLookup lookup(final DatabaseObject databaseObject) {
+      final Object replacement = replacements.get(databaseObject);
+      if (replacement instanceof DatabaseObjectLookup) {
+        return (DatabaseObjectLookup) replacement;
+      }
+
+      final DatabaseObjectKind kind;
+      if (databaseObject instanceof MutableRoutine) {
+        kind = DatabaseObjectKind.routine;
+      } else if (databaseObject instanceof MutableSequence) {
+        kind = DatabaseObjectKind.sequence;
+      } else if (databaseObject instanceof MutableSynonym) {
+        kind = DatabaseObjectKind.synonym;
+      } else {
+        kind = DatabaseObjectKind.table;
+      }
+      final DatabaseObjectLookup lookup = new DatabaseObjectLookup(kind, databaseObject);
+      replacements.put(databaseObject, lookup);
+      return lookup;
+    }
+  }
+
+  /** Resolves lookups against the loaded catalog, or to partial database objects. */
+  private static final class SnapshotObjectInputStream extends ObjectInputStream {
+
+    private final MutableCatalog catalog;
+    private final Map<List<String>, TablePartial> tablePartials;
+    private final Map<List<String>, ColumnPartial> columnPartials;
+
+    SnapshotObjectInputStream(
+        final InputStream in,
+        final MutableCatalog catalog,
+        final Map<List<String>, TablePartial> tablePartials,
+        final Map<List<String>, ColumnPartial> columnPartials)
+        throws IOException {
+      super(in);
+      this.catalog = catalog;
+      this.tablePartials = tablePartials;
+      this.columnPartials = columnPartials;
+      enableResolveObject(true);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj) throws IOException {
+      if (obj instanceof SchemaLookup) {
+        return lookupSchema((SchemaLookup) obj);
+      } else if (obj instanceof ColumnDataTypeLookup) {
+        final ColumnDataTypeLookup lookup = (ColumnDataTypeLookup) obj;
+        final Optional<MutableColumnDataType> columnDataType =
+            catalog.lookupColumnDataType(lookup.schema, lookup.name);
+        if (!columnDataType.isPresent()) {
+          throw new InvalidObjectException(
+              String.format("Cannot find column data type <%s.%s>", lookup.schema, lookup.name));
+        }
+        return columnDataType.get();
+      } else if (obj instanceof DatabaseObjectLookup) {
+        final DatabaseObjectLookup lookup = (DatabaseObjectLookup) obj;
+        if (lookup.kind == DatabaseObjectKind.table) {
+          return tablePartials.computeIfAbsent(
+              lookup.lookupKey, key -> new TablePartial(lookup.schema, lookup.name));
+        } else {
+          return new DatabaseObjectPartial(
+              lookup.schema, lookup.name, lookup.kind, lookup.lookupKey);
+        }
+      } else if (obj instanceof ColumnLookup) {
+        final ColumnLookup lookup = (ColumnLookup) obj;
+        final List<String> columnLookupKey = new ArrayList<>(lookup.table.toUniqueLookupKey());
+        columnLookupKey.add(lookup.name);
+        return columnPartials.computeIfAbsent(
+            columnLookupKey,
+            key -> {
+              final ColumnPartial column = new ColumnPartial(lookup.table, lookup.name);
+              ((TablePartial) lookup.table).addColumn(column);
+              return column;
+            });
+      } else {
+        return obj;
+      }
+    }
+
+    private Schema lookupSchema(final SchemaLookup lookup) throws InvalidObjectException {
+      final Optional<SchemaReference> schema =
+          catalog.getAllSchemas().lookup(Arrays.asList(lookup.catalogName, lookup.schemaName));
+      if (!schema.isPresent()) {
+        throw new InvalidObjectException(
+            String.format("Cannot find schema <%s.%s>", lookup.catalogName, lookup.schemaName));
+      }
+      return schema.get();
+    }
+  }
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(IndexedCatalogSnapshot.class.getName());
+
+  private static final int MAGIC = 0x53434958; // "SCIX"
+  private static final int FORMAT_VERSION = 1;
+  private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+  private static final int BUFFER_SIZE = 256 * 1024;
+
+  /**
+   * Checks whether a file holds an indexed catalog snapshot, by looking for the magic number at
+   * the start and at the end of the file.
+   *
+   * @param snapshotFile Snapshot file
+   * @return Whether the file has an indexed catalog snapshot
+   * @throws IOException On an exception reading the file
+   */
+  public static boolean isIndexedCatalogSnapshot(final Path snapshotFile) throws IOException {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    try (final FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size < Integer.BYTES + TRAILER_SIZE) {
+        return false;
+      }
+      final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+      final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+      readFully(channel, header, 0);
+      readFully(channel, trailer, size - TRAILER_SIZE);
+      return header.getInt(0) == MAGIC && trailer.getInt(Long.BYTES) == MAGIC;
+    }
+  }
+
+  /**
+   * Loads a catalog from an indexed snapshot file. Only the schema segments that can have database
+   * objects that pass the inclusion rules in the limit options are read. The loaded catalog still
+   * needs to be reduced, to apply all of the other options.
+   *
+   * @param snapshotFile Snapshot file
+   * @param options Options to select the schema segments to load
+   * @return Catalog
+   * @throws SchemaCrawlerException On an exception reading the snapshot
+   */
+  public static Catalog load(final Path snapshotFile, final SchemaCrawlerOptions options)
+      throws SchemaCrawlerException {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    requireNonNull(options, "No SchemaCrawler options provided");
+
+    try (final FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+      readFully(channel, trailer, size - TRAILER_SIZE);
+      if (trailer.getInt(Long.BYTES) != MAGIC) {
+        throw new SchemaCrawlerException("Not an indexed catalog snapshot, or it is truncated");
+      }
+      final long tocOffset = trailer.getLong(0);
+
+      final DataInputStream toc =
+          new DataInputStream(openSegment(channel, tocOffset, size - TRAILER_SIZE - tocOffset));
+      final int formatVersion = toc.readInt();
+      final String writerVersion = toc.readUTF();
+      if (formatVersion != FORMAT_VERSION) {
+        throw new SchemaCrawlerException(
+            String.format(
+                "Cannot read indexed catalog snapshot format version %d, written by %s "
+                    + "- expected format version %d",
+                formatVersion, writerVersion, FORMAT_VERSION));
+      }
+      LOGGER.log(
+          Level.CONFIG,
+          new StringFormat("Reading indexed catalog snapshot, written by %s", writerVersion));
+
+      final long coreOffset = toc.readLong();
+      final long coreLength = toc.readLong();
+      final int segmentCount = toc.readInt();
+      final List<SegmentEntry> segments = new ArrayList<>(segmentCount);
+      for (int i = 0; i < segmentCount; i++) {
+        final SegmentEntry segment =
+            new SegmentEntry(toc.readUTF(), toc.readLong(), toc.readLong());
+        for (final DatabaseObjectKind kind : DatabaseObjectKind.values()) {
+          final int count = toc.readInt();
+          final List<String> fullNames = new ArrayList<>(count);
+          for (int j = 0; j < count; j++) {
+            fullNames.add(toc.readUTF());
+          }
+          segment.fullNames.put(kind, fullNames);
+        }
+        segments.add(segment);
+      }
+
+      final Map<List<String>, TablePartial> tablePartials = new HashMap<>();
+      final Map<List<String>, ColumnPartial> columnPartials = new HashMap<>();
+
+      final MutableCatalog catalog;
+      try (final ObjectInputStream in =
+          new SnapshotObjectInputStream(
+              openSegment(channel, coreOffset, coreLength), null, tablePartials, columnPartials)) {
+        catalog = (MutableCatalog) in.readObject();
+      }
+
+      int loadedSegmentCount = 0;
+      for (final SegmentEntry segment : segments) {
+        if (!isSegmentNeeded(segment, options)) {
+          LOGGER.log(
+              Level.FINE,
+              new StringFormat(
+                  "Skipping snapshot segment for schema <%s>", segment.schemaFullName));
+          continue;
+        }
+        try (final ObjectInputStream in =
+            new SnapshotObjectInputStream(
+                openSegment(channel, segment.offset, segment.length),
+                catalog,
+                tablePartials,
+                columnPartials)) {
+          final SchemaSegment schemaSegment = (SchemaSegment) in.readObject();
+          schemaSegment.tables.forEach(catalog::addTable);
+          schemaSegment.routines.forEach(catalog::addRoutine);
+          schemaSegment.sequences.forEach(catalog::addSequence);
+          schemaSegment.synonyms.forEach(catalog::addSynonym);
+        }
+        loadedSegmentCount = loadedSegmentCount + 1;
+      }
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Loaded %d of %d schema segments from indexed catalog snapshot",
+              loadedSegmentCount, segments.size()));
+
+      resolveReferences(catalog);
+
+      return catalog;
+    } catch (ClassNotFoundException | IOException e) {
+      throw new SchemaCrawlerException("Cannot load indexed catalog snapshot", e);
+    }
+  }
+
+  /**
+   * Saves a catalog as an indexed snapshot. The output stream is not closed.
+   *
+   * @param catalog Catalog to save
+   * @param out Output stream
+   * @throws SchemaCrawlerException On an exception writing the snapshot
+   */
+  public static void save(final Catalog catalog, final OutputStream out)
+      throws SchemaCrawlerException {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(out, "No output stream provided");
+    if (!(catalog instanceof MutableCatalog)) {
+      throw new SchemaCrawlerException(
+          "Cannot save an indexed snapshot of " + catalog.getClass().getName());
+    }
+    final MutableCatalog mutableCatalog = (MutableCatalog) catalog;
+
+    // Objects in the core segment are referenced from schema segments by lookups
+    final Map<Object, Object> coreReplacements = new IdentityHashMap<>();
+    for (final SchemaReference schema : mutableCatalog.getAllSchemas()) {
+      coreReplacements.put(schema, new SchemaLookup(schema));
+    }
+    for (final ColumnDataType columnDataType : mutableCatalog.getColumnDataTypes()) {
+      coreReplacements.put(
+          columnDataType, new ColumnDataTypeLookup((MutableColumnDataType) columnDataType));
+    }
+
+    // Schema segments are written in schema order
+    final Map<Schema, SchemaSegment> schemaSegments = new LinkedHashMap<>();
+    for (final Schema schema : mutableCatalog.getAllSchemas()) {
+      schemaSegments.put(schema, new SchemaSegment());
+    }
+    for (final MutableTable table : mutableCatalog.getAllTables()) {
+      schemaSegments.computeIfAbsent(table.getSchema(), k -> new SchemaSegment()).tables.add(table);
+    }
+    for (final MutableRoutine routine : mutableCatalog.getAllRoutines()) {
+      schemaSegments
+          .computeIfAbsent(routine.getSchema(), k -> new SchemaSegment())
+          .routines
+          .add(routine);
+    }
+    for (final MutableSequence sequence : mutableCatalog.getAllSequences()) {
+      schemaSegments
+          .computeIfAbsent(sequence.getSchema(), k -> new SchemaSegment())
+          .sequences
+          .add(sequence);
+    }
+    for (final MutableSynonym synonym : mutableCatalog.getAllSynonyms()) {
+      schemaSegments
+          .computeIfAbsent(synonym.getSchema(), k -> new SchemaSegment())
+          .synonyms
+          .add(synonym);
+    }
+
+    try {
+      final CountingOutputStream countingOut =
+          new CountingOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+      final DataOutputStream dataOut = new DataOutputStream(countingOut);
+      dataOut.writeInt(MAGIC);
+
+      // Write the catalog without database objects that are in schema segments
+      final Map<Object, Object> emptyLists = new IdentityHashMap<>();
+      emptyLists.put(mutableCatalog.getAllTables(), new NamedObjectList<>());
+      emptyLists.put(mutableCatalog.getAllRoutines(), new NamedObjectList<>());
+      emptyLists.put(mutableCatalog.getAllSequences(), new NamedObjectList<>());
+      emptyLists.put(mutableCatalog.getAllSynonyms(), new NamedObjectList<>());
+      final long coreOffset = countingOut.getCount();
+      final ObjectOutputStream coreOut =
+          new SnapshotObjectOutputStream(countingOut, emptyLists, null);
+      coreOut.writeObject(mutableCatalog);
+      coreOut.flush();
+      final long coreLength = countingOut.getCount() - coreOffset;
+
+      final List<SegmentEntry> segments = new ArrayList<>();
+      for (final Map.Entry<Schema, SchemaSegment> entry : schemaSegments.entrySet()) {
+        final Schema schema = entry.getKey();
+        final SchemaSegment schemaSegment = entry.getValue();
+
+        final long offset = countingOut.getCount();
+        final ObjectOutputStream segmentOut =
+            new SnapshotObjectOutputStream(countingOut, coreReplacements, schema);
+        segmentOut.writeObject(schemaSegment);
+        segmentOut.flush();
+
+        final SegmentEntry segment =
+            new SegmentEntry(schema.getFullName(), offset, countingOut.getCount() - offset);
+        segment.fullNames.put(DatabaseObjectKind.table, fullNames(schemaSegment.tables));
+        segment.fullNames.put(DatabaseObjectKind.routine, fullNames(schemaSegment.routines));
+        segment.fullNames.put(DatabaseObjectKind.sequence, fullNames(schemaSegment.sequences));
+        segment.fullNames.put(DatabaseObjectKind.synonym, fullNames(schemaSegment.synonyms));
+        segments.add(segment);
+      }
+
+      final long tocOffset = countingOut.getCount();
+      dataOut.writeInt(FORMAT_VERSION);
+      dataOut.writeUTF(Version.getProductName() + " " + Version.getVersion());
+      dataOut.writeLong(coreOffset);
+      dataOut.writeLong(coreLength);
+      dataOut.writeInt(segments.size());
+      for (final SegmentEntry segment : segments) {
+        dataOut.writeUTF(segment.schemaFullName);
+        dataOut.writeLong(segment.offset);
+        dataOut.writeLong(segment.length);
+        for (final DatabaseObjectKind kind : DatabaseObjectKind.values()) {
+          final List<String> fullNames = segment.fullNames.get(kind);
+          dataOut.writeInt(fullNames.size());
+          for (final String fullName : fullNames) {
+            dataOut.writeUTF(fullName);
+          }
+        }
+      }
+
+      dataOut.writeLong(tocOffset);
+      dataOut.writeInt(MAGIC);
+      dataOut.flush();
+
+      LOGGER.log(
+          Level.CONFIG,
+          new StringFormat(
+              "Wrote indexed catalog snapshot, with %d schema segments", segments.size()));
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not save indexed catalog snapshot", e);
+    }
+  }
+
+  private static List<String> fullNames(final Collection<? extends NamedObject> namedObjects) {
+    final List<String> fullNames = new ArrayList<>(namedObjects.size());
+    for (final NamedObject namedObject : namedObjects) {
+      fullNames.add(namedObject.getFullName());
+    }
+    return fullNames;
+  }
+
+  private static boolean isAnyIncluded(final List<String> fullNames, final InclusionRule rule) {
+    for (final String fullName : fullNames) {
+      if (rule.test(fullName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether a schema segment can have any database objects that are included. Since parent
+   * and child tables are included irrespective of the inclusion rules, all segments are needed if
+   * related tables are asked for.
+   */
+  private static boolean isSegmentNeeded(
+      final SegmentEntry segment, final SchemaCrawlerOptions options) {
+    final FilterOptions filterOptions = options.getFilterOptions();
+    if (filterOptions.getParentTableFilterDepth() > 0
+        || filterOptions.getChildTableFilterDepth() > 0) {
+      return true;
+    }
+
+    final LimitOptions limitOptions = options.getLimitOptions();
+    if (!limitOptions.get(ruleForSchemaInclusion).test(segment.schemaFullName)) {
+      return false;
+    }
+    return isAnyIncluded(
+            segment.fullNames.get(DatabaseObjectKind.table),
+            limitOptions.get(ruleForTableInclusion))
+        || isAnyIncluded(
+            segment.fullNames.get(DatabaseObjectKind.routine),
+            limitOptions.get(ruleForRoutineInclusion))
+        || isAnyIncluded(
+            segment.fullNames.get(DatabaseObjectKind.sequence),
+            limitOptions.get(ruleForSequenceInclusion))
+        || isAnyIncluded(
+            segment.fullNames.get(DatabaseObjectKind.synonym),
+            limitOptions.get(ruleForSynonymInclusion));
+  }
+
+  /**
+   * Opens a segment of the snapshot file for reading. Segments are memory-mapped, unless they are
+   * too large to be mapped in one piece.
+   */
+  private static InputStream openSegment(
+      final FileChannel channel, final long offset, final long length) throws IOException {
+    if (offset < 0 || length < 0 || offset + length > channel.size()) {
+      throw new IOException("Indexed catalog snapshot is corrupt, with a bad segment position");
+    }
+    if (length <= Integer.MAX_VALUE) {
+      return new ByteBufferInputStream(channel.map(READ_ONLY, offset, length));
+    } else {
+      channel.position(offset);
+      return new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+    }
+  }
+
+  private static void readFully(
+      final FileChannel channel, final ByteBuffer buffer, final long offset) throws IOException {
+    long position = offset;
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Indexed catalog snapshot is truncated");
+      }
+      position = position + read;
+    }
+  }
+
+  /**
+   * Fixes up references to database objects that were loaded from other schema segments, since
+   * those could only be loaded as partial database objects while each segment was being read.
+   */
+  private static void resolveReferences(final MutableCatalog catalog) {
+    new PartialReferencesResolver(catalog).resolveTableReferences(catalog.getAllTables());
+
+    for (final MutableSynonym synonym : catalog.getAllSynonyms()) {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      final Optional<? extends DatabaseObject> resolvedObject;
+      if (referencedObject instanceof TablePartial) {
+        resolvedObject =
+            catalog.lookupTable(referencedObject.getSchema(), referencedObject.getName());
+      } else if (referencedObject instanceof DatabaseObjectPartial) {
+        final DatabaseObjectPartial partial = (DatabaseObjectPartial) referencedObject;
+        switch (partial.kind) {
+          case routine:
+            resolvedObject = catalog.lookupRoutine(partial.lookupKey);
+            break;
+          case sequence:
+            resolvedObject = catalog.lookupSequence(partial.getSchema(), partial.getName());
+            break;
+          case synonym:
+            resolvedObject = catalog.lookupSynonym(partial.getSchema(), partial.getName());
+            break;
+          default:
+            resolvedObject = Optional.empty();
+            break;
+        }
+      } else {
+        resolvedObject = Optional.empty();
+      }
+      resolvedObject.ifPresent(synonym::setReferencedObject);
+    }
+  }
+
+  private IndexedCatalogSnapshot() {
+    // Prevent instantiation
+  }
+}
@@ -34,6 +34,7 @@ import static java.sql.Types.LONGNVARCHAR;
 import static java.sql.Types.LONGVARBINARY;
 import static java.sql.Types.LONGVARCHAR;
 import static java.sql.Types.NCLOB;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
 import static schemacrawler.utility.EnumUtility.enumValue;
@@ -49,13 +50,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -63,6 +62,8 @@ import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.IdentifiedEnum;
 import schemacrawler.schema.ResultsColumn;
 import schemacrawler.schema.ResultsColumns;
+import schemacrawler.schemacrawler.FetchSize;
+import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.utility.BinaryData;
 import us.fatehi.utility.string.StringFormat;
@@ -76,36 +77,158 @@ import us.fatehi.utility.string.StringFormat;
  */
 public final class MetadataResultSet implements AutoCloseable {
 
+  /**
+   * A column of the result set, resolved once by name, so that values can be read from each row
+   * without looking up the column by name again. Columns that are not in the result set are bound
+   * too, and always read as null, or the default value. A bound column can only be read from the
+   * result set that bound it.
+   */
+  public static final class BoundColumn {
+
+    private final MetadataResultSet owner;
+    private final String name;
+    private final int index;
+    private final int ordinalPosition;
+
+    private BoundColumn(
+        final MetadataResultSet owner,
+        final String name,
+        final int index,
+        final int ordinalPosition) {
+      this.owner = owner;
+      this.name = name;
+      this.index = index;
+      this.ordinalPosition = ordinalPosition;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isPresent() {
+      return index >= 0;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(MetadataResultSet.class.getName());
 
-  private static final int FETCHSIZE = 20;
+  // Assumed bytes per character, and the maximum width of a column, when
+  // estimating the size of a row for adaptive fetch sizes
+  private static final int BYTES_PER_CHARACTER = 2;
+  private static final int MAX_ESTIMATED_COLUMN_WIDTH = 4000;
 
-  private final ResultsColumns resultsColumns;
+  private static int estimateRowBytes(final List<ResultsColumn> resultsColumns) {
+    int rowBytes = 0;
+    for (final ResultsColumn resultsColumn : resultsColumns) {
+      final int displaySize =
+          Math.max(1, Math.min(resultsColumn.getDisplaySize(), MAX_ESTIMATED_COLUMN_WIDTH));
+      rowBytes = rowBytes + displaySize * BYTES_PER_CHARACTER;
+    }
+    return Math.max(1, rowBytes);
+  }
+
+  private static Statement withFetchSize(final Statement statement, final FetchSize fetchSize) {
+    try {
+      statement.setFetchSize(fetchSize.getInitialFetchSize());
+    } catch (final NullPointerException | SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+    return statement;
+  }
+
+  private final List<ResultsColumn> columns;
+  private final Map<String, Integer> columnIndexes;
+  private final Map<String, BoundColumn> boundColumns;
   private final ResultSet results;
+  private final FetchSize fetchSize;
+  private final int maxFetchRows;
+  private final long startTime;
   private String description;
-  private Set<ResultsColumn> readColumns;
+  private final boolean[] readColumns;
+  private final String[] attributeNames;
   private int rowCount;
   private boolean showLobs;
+  private int currentFetchSize;
+  private int fetchedRows;
+  private int estimatedRoundTrips;
 
   public MetadataResultSet(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule));
+    this(
+        executeAgainstSchema(
+            query, withFetchSize(statement, query.getFetchSize()), schemaInclusionRule),
+        query.getFetchSize());
+    description = query.getName();
+  }
+
+  /**
+   * Executes a data dictionary query, with the schema, table and column inclusion rules
+   * substituted into the query, so that the database server can filter rows before they are
+   * returned.
+   *
+   * @param query Data dictionary query
+   * @param statement Statement to execute the query with
+   * @param limitOptions Limit options, with the inclusion rules
+   * @throws SQLException On an exception
+   */
+  public MetadataResultSet(
+      final Query query, final Statement statement, final LimitOptions limitOptions)
+      throws SQLException {
+    this(
+        executeAgainstSchema(query, withFetchSize(statement, query.getFetchSize()), limitOptions),
+        query.getFetchSize());
     description = query.getName();
   }
 
   public MetadataResultSet(final ResultSet resultSet) throws SQLException {
+    this(resultSet, FetchSize.DEFAULT);
+  }
+
+  public MetadataResultSet(final ResultSet resultSet, final FetchSize fetchSize)
+      throws SQLException {
     results = requireNonNull(resultSet, "Cannot use null results");
+    this.fetchSize = requireNonNull(fetchSize, "No fetch size provided");
+    currentFetchSize = fetchSize.getInitialFetchSize();
     try {
-      results.setFetchSize(FETCHSIZE);
+      results.setFetchSize(currentFetchSize);
     } catch (final NullPointerException | SQLException e) {
       LOGGER.log(Level.WARNING, "Could not set fetch size", e);
     }
 
-    resultsColumns = new ResultsCrawler(results).crawl();
-    readColumns = new HashSet<>();
+    final ResultsColumns resultsColumns = new ResultsCrawler(results).crawl();
+    columns = resultsColumns.getColumns();
+    columnIndexes = new HashMap<>();
+    for (int i = 0; i < columns.size(); i++) {
+      // Look up by label, full name or name, as in ResultsColumns
+      final ResultsColumn resultsColumn = columns.get(i);
+      for (final String columnName :
+          new String[] {
+            resultsColumn.getLabel(), resultsColumn.getFullName(), resultsColumn.getName()
+          }) {
+        if (columnName != null) {
+          columnIndexes.putIfAbsent(columnName.toUpperCase(Locale.ENGLISH), i);
+        }
+      }
+    }
+    boundColumns = new HashMap<>();
+    readColumns = new boolean[columns.size()];
+    attributeNames = new String[columns.size()];
     showLobs = true;
+
+    if (fetchSize.isAdaptive()) {
+      final long maxRows = fetchSize.getMaxFetchBytes() / estimateRowBytes(columns);
+      maxFetchRows = (int) Math.max(currentFetchSize, Math.min(maxRows, Integer.MAX_VALUE));
+    } else {
+      maxFetchRows = currentFetchSize;
+    }
+    startTime = System.nanoTime();
   }
 
   /**
@@ -118,23 +241,56 @@ public final class MetadataResultSet implements AutoCloseable {
   public void close() throws SQLException {
     results.close();
 
+    final MutableCrawlMetrics crawlMetrics = MutableCrawlMetrics.current();
+    if (crawlMetrics != null) {
+      crawlMetrics.recordResultSet(
+          isBlank(description) ? "unnamed" : description, rowCount, estimatedRoundTrips);
+    }
+
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description)) {
-      LOGGER.log(Level.INFO, new StringFormat("Processed %d rows for <%s>", rowCount, description));
+      final double elapsedSeconds = Math.max(System.nanoTime() - startTime, 1L) / 1_000_000_000D;
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Processed %d rows for <%s>, in %d estimated round trips "
+                  + "(%.1f rows per round trip, final fetch size %d), at %.1f rows per second",
+              rowCount,
+              description,
+              estimatedRoundTrips,
+              estimatedRoundTrips == 0 ? 0D : (double) rowCount / estimatedRoundTrips,
+              currentFetchSize,
+              rowCount / elapsedSeconds));
     }
   }
 
   /**
    * Gets unread (and therefore unmapped) columns from the database metadata resultset, and makes
-   * them available as addiiotnal attributes.
+   * them available as addiiotnal attributes. If every column was read, no map is created.
    *
    * @return Map of additional attributes to the database object
    */
   public Map<String, Object> getAttributes() {
-    final Map<String, Object> attributes = new HashMap<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
-      if (!readColumns.contains(resultsColumn)) {
+    int unreadColumns = 0;
+    for (final boolean readColumn : readColumns) {
+      if (!readColumn) {
+        unreadColumns = unreadColumns + 1;
+      }
+    }
+    if (unreadColumns == 0) {
+      return emptyMap();
+    }
+
+    final Map<String, Object> attributes = new HashMap<>(unreadColumns * 4 / 3 + 1);
+    for (int i = 0; i < readColumns.length; i++) {
+      if (!readColumns[i]) {
+        final ResultsColumn resultsColumn = columns.get(i);
         try {
-          final String key = resultsColumn.getLabel().toUpperCase();
+          // Attribute names are the same for every row, so they are only made once
+          String key = attributeNames[i];
+          if (key == null) {
+            key = resultsColumn.getLabel().toUpperCase();
+            attributeNames[i] = key;
+          }
           final Object value = getColumnData(resultsColumn);
           attributes.put(key, value);
         } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
@@ -155,6 +311,32 @@ public final class MetadataResultSet implements AutoCloseable {
     return attributes;
   }
 
+  /**
+   * Resolves a column by name, once for the result set, so that values can be read from each row
+   * without a look up by name. Binding the same name again returns the same bound column.
+   *
+   * @param columnName Column name, label or full name
+   * @return Bound column, which may not be present in the result set
+   */
+  public BoundColumn bind(final String columnName) {
+    BoundColumn column = boundColumns.get(columnName);
+    if (column != null) {
+      return column;
+    }
+
+    Integer index = null;
+    if (columnName != null) {
+      index = columnIndexes.get(columnName.toUpperCase(Locale.ENGLISH));
+    }
+    if (index == null) {
+      column = new BoundColumn(this, columnName, -1, -1);
+    } else {
+      column = new BoundColumn(this, columnName, index, columns.get(index).getOrdinalPosition());
+    }
+    boundColumns.put(columnName, column);
+    return column;
+  }
+
   public BigInteger getBigInteger(final String columnName) {
     String stringBigInteger = getString(columnName);
     if (isBlank(stringBigInteger)) {
@@ -178,9 +360,20 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Whether the string evaluates to true
    */
   public boolean getBoolean(final String columnName) {
-    if (useColumn(columnName)) {
+    return getBoolean(bind(columnName));
+  }
+
+  /**
+   * Checks if the value of a bound column from the result set evaluates to true.
+   *
+   * @param column Bound column to check
+   * @return Whether the string evaluates to true
+   */
+  public boolean getBoolean(final BoundColumn column) {
+    if (useColumn(column)) {
+      final String columnName = column.getName();
       try {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(column.ordinalPosition);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null) {
           LOGGER.log(
@@ -208,8 +401,8 @@ public final class MetadataResultSet implements AutoCloseable {
   }
 
   public String[] getColumnNames() {
-    final List<String> columnNames = new ArrayList<>();
-    resultsColumns.forEach(resultsColumn -> columnNames.add(resultsColumn.getName()));
+    final List<String> columnNames = new ArrayList<>(columns.size());
+    columns.forEach(resultsColumn -> columnNames.add(resultsColumn.getName()));
     return columnNames.toArray(new String[columnNames.size()]);
   }
 
@@ -237,8 +430,20 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public <E extends Enum<E> & IdentifiedEnum> E getEnumFromId(
       final String columnName, final E defaultValue) {
+    return getEnumFromId(bind(columnName), defaultValue);
+  }
+
+  /**
+   * Reads the value of a bound column from the result set as an enum.
+   *
+   * @param column Bound column
+   * @param defaultValue Default enum value to return
+   * @return Enum value of the column, or the default if not available
+   */
+  public <E extends Enum<E> & IdentifiedEnum> E getEnumFromId(
+      final BoundColumn column, final E defaultValue) {
     requireNonNull(defaultValue, "No default value provided");
-    final int value = getInt(columnName, defaultValue.id());
+    final int value = getInt(column, defaultValue.id());
     return enumValueFromId(value, defaultValue);
   }
 
@@ -265,10 +470,23 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Integer value of the column, or the default if not available
    */
   public int getInt(final String columnName, final int defaultValue) {
+    return getInt(bind(columnName), defaultValue);
+  }
+
+  /**
+   * Reads the value of a bound column from the result set as an integer. If the value was null,
+   * returns the default.
+   *
+   * @param column Bound column
+   * @param defaultValue Default value
+   * @return Integer value of the column, or the default if not available
+   */
+  public int getInt(final BoundColumn column, final int defaultValue) {
     int value = defaultValue;
-    if (useColumn(columnName)) {
+    if (useColumn(column)) {
+      final String columnName = column.getName();
       try {
-        value = results.getInt(columnName);
+        value = results.getInt(column.ordinalPosition);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -295,10 +513,23 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Long value of the column, or the default if not available
    */
   public long getLong(final String columnName, final long defaultValue) {
+    return getLong(bind(columnName), defaultValue);
+  }
+
+  /**
+   * Reads the value of a bound column from the result set as a long. If the value was null,
+   * returns the default.
+   *
+   * @param column Bound column
+   * @param defaultValue Default value
+   * @return Long value of the column, or the default if not available
+   */
+  public long getLong(final BoundColumn column, final long defaultValue) {
     long value = defaultValue;
-    if (useColumn(columnName)) {
+    if (useColumn(column)) {
+      final String columnName = column.getName();
       try {
-        value = results.getLong(columnName);
+        value = results.getLong(column.ordinalPosition);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -326,10 +557,23 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Short value of the column, or the default if not available
    */
   public short getShort(final String columnName, final short defaultValue) {
+    return getShort(bind(columnName), defaultValue);
+  }
+
+  /**
+   * Reads the value of a bound column from the result set as a short. If the value was null,
+   * returns the default.
+   *
+   * @param column Bound column
+   * @param defaultValue Default value
+   * @return Short value of the column, or the default if not available
+   */
+  public short getShort(final BoundColumn column, final short defaultValue) {
     short value = defaultValue;
-    if (useColumn(columnName)) {
+    if (useColumn(column)) {
+      final String columnName = column.getName();
       try {
-        value = results.getShort(columnName);
+        value = results.getShort(column.ordinalPosition);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -355,10 +599,21 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return String value of the column, or null if not available
    */
   public String getString(final String columnName) {
+    return getString(bind(columnName));
+  }
+
+  /**
+   * Reads the value of a bound column from the result set as a string.
+   *
+   * @param column Bound column
+   * @return String value of the column, or null if not available
+   */
+  public String getString(final BoundColumn column) {
     String value = null;
-    if (useColumn(columnName)) {
+    if (useColumn(column)) {
+      final String columnName = column.getName();
       try {
-        value = results.getString(columnName);
+        value = results.getString(column.ordinalPosition);
         if (results.wasNull()) {
           value = null;
         }
@@ -386,19 +641,27 @@ public final class MetadataResultSet implements AutoCloseable {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    Arrays.fill(readColumns, false);
 
     final boolean next = results.next();
     logSQLWarnings(results);
     if (next) {
       rowCount = rowCount + 1;
+      if (rowCount > fetchedRows) {
+        // Rows beyond what was already fetched would need a round trip,
+        // but this is only an estimate, since drivers may ignore or cap
+        // the fetch size
+        estimatedRoundTrips = estimatedRoundTrips + 1;
+        fetchedRows = fetchedRows + currentFetchSize;
+        growFetchSize();
+      }
     }
     return next;
   }
 
   public List<Object> row() throws SQLException {
-    final List<Object> currentRow = new ArrayList<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
+    final List<Object> currentRow = new ArrayList<>(columns.size());
+    for (final ResultsColumn resultsColumn : columns) {
       currentRow.add(getColumnData(resultsColumn));
     }
 
@@ -452,6 +715,23 @@ public final class MetadataResultSet implements AutoCloseable {
     return columnData;
   }
 
+  /**
+   * For adaptive fetch sizes, doubles the fetch size for the next round trip, within the memory
+   * limit.
+   */
+  private void growFetchSize() {
+    if (!fetchSize.isAdaptive() || currentFetchSize >= maxFetchRows) {
+      return;
+    }
+    final int nextFetchSize = (int) Math.min((long) currentFetchSize * 2, maxFetchRows);
+    try {
+      results.setFetchSize(nextFetchSize);
+      currentFetchSize = nextFetchSize;
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Could not grow fetch size", e);
+    }
+  }
+
   private Object readCharacterData(final Reader reader) {
     try {
       if (reader != null && showLobs) {
@@ -465,9 +745,18 @@ public final class MetadataResultSet implements AutoCloseable {
     return new BinaryData();
   }
 
-  private boolean useColumn(final String columnName) {
-    final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
-    optionalResultsColumn.ifPresent(readColumns::add);
-    return optionalResultsColumn.isPresent();
+  private boolean useColumn(final BoundColumn column) {
+    if (column == null) {
+      return false;
+    }
+    if (column.owner != this) {
+      throw new IllegalArgumentException(
+          String.format("Column <%s> was bound to a different result set", column));
+    }
+    if (!column.isPresent()) {
+      return false;
+    }
+    readColumns[column.index] = true;
+    return true;
   }
 }
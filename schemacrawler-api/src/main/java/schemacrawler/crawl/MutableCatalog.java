@@ -33,6 +33,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -85,6 +86,8 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<ImmutableDatabaseUser> databaseUsers = new NamedObjectList<>();
   private final MutableCrawlInfo crawlInfo;
+  // Only set while a memory-optimized crawl is in progress
+  private transient volatile StringPool stringPool;
 
   MutableCatalog(final String name) {
     super(name);
@@ -95,13 +98,13 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
 
   /** {@inheritDoc} */
   @Override
-  public Collection<ColumnDataType> getColumnDataTypes() {
+  public synchronized Collection<ColumnDataType> getColumnDataTypes() {
     return new ArrayList<>(columnDataTypes.values());
   }
 
   /** {@inheritDoc} */
   @Override
-  public Collection<ColumnDataType> getColumnDataTypes(final Schema schema) {
+  public synchronized Collection<ColumnDataType> getColumnDataTypes(final Schema schema) {
     final FilterBySchema filter = new FilterBySchema(schema);
     final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
     for (final ColumnDataType columnDataType : this.columnDataTypes) {
@@ -224,7 +227,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
 
   /** {@inheritDoc} */
   @Override
-  public Optional<MutableColumnDataType> lookupColumnDataType(
+  public synchronized Optional<MutableColumnDataType> lookupColumnDataType(
       final Schema schema, final String name) {
     return columnDataTypes.lookup(schema, name);
   }
@@ -299,7 +302,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     }
   }
 
-  void addColumnDataType(final MutableColumnDataType columnDataType) {
+  synchronized void addColumnDataType(final MutableColumnDataType columnDataType) {
     if (columnDataType != null) {
       columnDataTypes.add(columnDataType);
     }
@@ -342,11 +345,57 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     return schemas;
   }
 
+  NamedObjectList<MutableSequence> getAllSequences() {
+    return sequences;
+  }
+
+  NamedObjectList<MutableSynonym> getAllSynonyms() {
+    return synonyms;
+  }
+
   NamedObjectList<MutableTable> getAllTables() {
     return tables;
   }
 
-  MutableColumnDataType lookupBaseColumnDataTypeByType(final int baseType) {
+  MutableCrawlMetrics getCrawlMetrics() {
+    return crawlInfo.getCrawlMetrics();
+  }
+
+  StringPool getStringPool() {
+    return stringPool;
+  }
+
+  /**
+   * Gets the pooled copy of a string from the database metadata, if the catalog is being crawled
+   * with memory optimization.
+   *
+   * @param value String to pool
+   * @return Pooled string, or the value itself if strings are not being pooled
+   */
+  String intern(final String value) {
+    final StringPool pool = stringPool;
+    if (pool == null) {
+      return value;
+    }
+    return pool.intern(value);
+  }
+
+  /**
+   * Pools the names and string values of a map of attributes, if the catalog is being crawled with
+   * memory optimization.
+   *
+   * @param attributes Attributes to pool
+   * @return Pooled attributes, or the attributes themselves if strings are not being pooled
+   */
+  Map<String, Object> intern(final Map<String, Object> attributes) {
+    final StringPool pool = stringPool;
+    if (pool == null) {
+      return attributes;
+    }
+    return pool.intern(attributes);
+  }
+
+  synchronized MutableColumnDataType lookupBaseColumnDataTypeByType(final int baseType) {
     final SchemaReference systemSchema = new SchemaReference();
     MutableColumnDataType columnDataType = null;
     int count = 0;
@@ -372,4 +421,8 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   void setCrawlInfo() {
     crawlInfo.setDatabaseInfo(jdbcDriverInfo, databaseInfo);
   }
+
+  void setStringPool(final StringPool stringPool) {
+    this.stringPool = stringPool;
+  }
 }
@@ -44,15 +44,19 @@ import schemacrawler.schema.Table;
  */
 final class MutableColumn extends AbstractColumn<Table> implements Column {
 
-  private static final long serialVersionUID = 3834591019449528633L;
+  private static final long serialVersionUID = -2946482587207346436L;
+
+  // Flags are held as bits of a single field, since there can be millions of columns in a catalog
+  private static final byte AUTO_INCREMENTED = 0x01;
+  private static final byte GENERATED = 0x02;
+  private static final byte HIDDEN = 0x04;
+  private static final byte PART_OF_INDEX = 0x08;
+  private static final byte PART_OF_PRIMARY_KEY = 0x10;
+  private static final byte PART_OF_UNIQUE_INDEX = 0x20;
+
   private final NamedObjectList<MutablePrivilege<Column>> privileges = new NamedObjectList<>();
   private String defaultValue;
-  private boolean isAutoIncremented;
-  private boolean isGenerated;
-  private boolean isHidden;
-  private boolean isPartOfIndex;
-  private boolean isPartOfPrimaryKey;
-  private boolean isPartOfUniqueIndex;
+  private byte flags;
   private Column referencedColumn;
 
   MutableColumn(final Table parent, final String name) {
@@ -80,19 +84,19 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public boolean isAutoIncremented() {
-    return isAutoIncremented;
+    return hasFlag(AUTO_INCREMENTED);
   }
 
   /** {@inheritDoc} */
   @Override
   public boolean isGenerated() {
-    return isGenerated;
+    return hasFlag(GENERATED);
   }
 
   /** {@inheritDoc} */
   @Override
   public boolean isHidden() {
-    return isHidden;
+    return hasFlag(HIDDEN);
   }
 
   /** {@inheritDoc} */
@@ -104,19 +108,19 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public boolean isPartOfIndex() {
-    return isPartOfIndex;
+    return hasFlag(PART_OF_INDEX);
   }
 
   /** {@inheritDoc} */
   @Override
   public boolean isPartOfPrimaryKey() {
-    return isPartOfPrimaryKey;
+    return hasFlag(PART_OF_PRIMARY_KEY);
   }
 
   /** {@inheritDoc} */
   @Override
   public boolean isPartOfUniqueIndex() {
-    return isPartOfUniqueIndex;
+    return hasFlag(PART_OF_UNIQUE_INDEX);
   }
 
   /** {@inheritDoc} */
@@ -130,19 +134,19 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   }
 
   void markAsPartOfIndex() {
-    isPartOfIndex = true;
+    setFlag(PART_OF_INDEX, true);
   }
 
   void markAsPartOfPrimaryKey() {
-    isPartOfPrimaryKey = true;
+    setFlag(PART_OF_PRIMARY_KEY, true);
   }
 
   void markAsPartOfUniqueIndex() {
-    isPartOfUniqueIndex = true;
+    setFlag(PART_OF_UNIQUE_INDEX, true);
   }
 
   void setAutoIncremented(final boolean isAutoIncremented) {
-    this.isAutoIncremented = isAutoIncremented;
+    setFlag(AUTO_INCREMENTED, isAutoIncremented);
   }
 
   void setDefaultValue(final String defaultValue) {
@@ -150,14 +154,26 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   }
 
   void setGenerated(final boolean isGenerated) {
-    this.isGenerated = isGenerated;
+    setFlag(GENERATED, isGenerated);
   }
 
   void setHidden(final boolean isHidden) {
-    this.isHidden = isHidden;
+    setFlag(HIDDEN, isHidden);
   }
 
   void setReferencedColumn(final Column referencedColumn) {
     this.referencedColumn = referencedColumn;
   }
+
+  private boolean hasFlag(final byte flag) {
+    return (flags & flag) != 0;
+  }
+
+  private void setFlag(final byte flag, final boolean value) {
+    if (value) {
+      flags = (byte) (flags | flag);
+    } else {
+      flags = (byte) (flags & ~flag);
+    }
+  }
 }
@@ -69,6 +69,7 @@ final class MutableCrawlInfo implements CrawlInfo {
   }
 
   private final Instant crawlTimestamp;
+  private final MutableCrawlMetrics crawlMetrics;
   private final ProductVersion jvmVersion;
   private final ProductVersion operatingSystemVersion;
   private final UUID runId;
@@ -83,6 +84,17 @@ final class MutableCrawlInfo implements CrawlInfo {
 
     crawlTimestamp = Instant.now();
     runId = UUID.randomUUID();
+    crawlMetrics = new MutableCrawlMetrics();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public MutableCrawlMetrics getCrawlMetrics() {
+    if (crawlMetrics == null) {
+      // Catalogs that were serialized before crawl metrics were introduced
+      return new MutableCrawlMetrics();
+    }
+    return crawlMetrics;
   }
 
   @Override
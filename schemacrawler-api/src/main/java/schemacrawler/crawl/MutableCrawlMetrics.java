@@ -0,0 +1,205 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import us.fatehi.utility.ObjectToString;
+
+/**
+ * SchemaCrawler crawl metrics. Metrics can be recorded from multiple threads at the same time, so
+ * that parallel crawl phases are covered.
+ *
+ * <p>Result sets do not know which crawl they belong to, so the metrics for a crawl are bound to
+ * the thread that runs it, and to the threads of any parallel crawl phases, and result sets record
+ * their rows to the metrics bound to the current thread.
+ */
+final class MutableCrawlMetrics implements CrawlMetrics {
+
+  private static final long serialVersionUID = -2350866418907131628L;
+
+  private static final ThreadLocal<MutableCrawlMetrics> currentCrawlMetrics = new ThreadLocal<>();
+
+  /**
+   * Gets the crawl metrics bound to the current thread.
+   *
+   * @return Crawl metrics, or null if no metrics are being recorded
+   */
+  static MutableCrawlMetrics current() {
+    return currentCrawlMetrics.get();
+  }
+
+  /**
+   * Binds crawl metrics to the current thread, or unbinds them.
+   *
+   * @param crawlMetrics Crawl metrics, or null to stop recording metrics on this thread
+   */
+  static void setCurrent(final MutableCrawlMetrics crawlMetrics) {
+    if (crawlMetrics == null) {
+      currentCrawlMetrics.remove();
+    } else {
+      currentCrawlMetrics.set(crawlMetrics);
+    }
+  }
+
+  private static Map<String, Long> sum(final Map<String, LongAdder> counters) {
+    final Map<String, Long> sums = new TreeMap<>();
+    for (final Entry<String, LongAdder> counter : counters.entrySet()) {
+      sums.put(counter.getKey(), counter.getValue().sum());
+    }
+    return Collections.unmodifiableMap(sums);
+  }
+
+  private final Map<String, Duration> taskDurations;
+  private final Map<String, LongAdder> rowsRead;
+  private final Map<String, Long> objectCounts;
+  private final LongAdder jdbcCallCount;
+  private final LongAdder fetchRoundTrips;
+
+  MutableCrawlMetrics() {
+    taskDurations = new ConcurrentHashMap<>();
+    rowsRead = new ConcurrentHashMap<>();
+    objectCounts = new ConcurrentHashMap<>();
+    jdbcCallCount = new LongAdder();
+    fetchRoundTrips = new LongAdder();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getFetchRoundTrips() {
+    return fetchRoundTrips.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getJdbcCallCount() {
+    return jdbcCallCount.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<String, Long> getObjectCounts() {
+    return Collections.unmodifiableMap(new TreeMap<>(objectCounts));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<String, Long> getRowsRead() {
+    return sum(rowsRead);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<String, Duration> getTaskDurations() {
+    return Collections.unmodifiableMap(new TreeMap<>(taskDurations));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return ObjectToString.toString(this);
+  }
+
+  /**
+   * Counts the database objects in a crawled catalog, by type.
+   *
+   * @param catalog Crawled catalog
+   */
+  void countObjects(final Catalog catalog) {
+    long columns = 0;
+    long indexes = 0;
+    long triggers = 0;
+    long tableConstraints = 0;
+    final Set<ForeignKey> foreignKeys = new HashSet<>();
+    for (final Table table : catalog.getTables()) {
+      columns = columns + table.getColumns().size();
+      indexes = indexes + table.getIndexes().size();
+      triggers = triggers + table.getTriggers().size();
+      tableConstraints = tableConstraints + table.getTableConstraints().size();
+      foreignKeys.addAll(table.getForeignKeys());
+    }
+    long routineParameters = 0;
+    for (final Routine routine : catalog.getRoutines()) {
+      routineParameters = routineParameters + routine.getParameters().size();
+    }
+
+    setObjectCount("schemas", catalog.getSchemas().size());
+    setObjectCount("column data types", catalog.getColumnDataTypes().size());
+    setObjectCount("tables", catalog.getTables().size());
+    setObjectCount("columns", columns);
+    setObjectCount("foreign keys", foreignKeys.size());
+    setObjectCount("indexes", indexes);
+    setObjectCount("triggers", triggers);
+    setObjectCount("table constraints", tableConstraints);
+    setObjectCount("routines", catalog.getRoutines().size());
+    setObjectCount("routine parameters", routineParameters);
+    setObjectCount("sequences", catalog.getSequences().size());
+    setObjectCount("synonyms", catalog.getSynonyms().size());
+  }
+
+  /**
+   * Records a result set that was read.
+   *
+   * @param resultSetName Name of the metadata call or data dictionary query
+   * @param rowCount Number of rows read
+   * @param roundTrips Estimated number of round trips to fetch the rows
+   */
+  void recordResultSet(final String resultSetName, final long rowCount, final long roundTrips) {
+    jdbcCallCount.increment();
+    fetchRoundTrips.add(roundTrips);
+    rowsRead.computeIfAbsent(resultSetName, key -> new LongAdder()).add(rowCount);
+  }
+
+  /**
+   * Records the time taken for a step of the crawl, replacing any earlier time for the same step.
+   *
+   * @param taskName Name of the crawl step
+   * @param duration Time taken
+   */
+  void recordTaskDuration(final String taskName, final Duration duration) {
+    taskDurations.put(taskName, duration);
+  }
+
+  private void setObjectCount(final String objectType, final long count) {
+    objectCounts.put(objectType, count);
+  }
+}
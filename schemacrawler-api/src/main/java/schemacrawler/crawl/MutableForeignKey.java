@@ -166,6 +166,7 @@ final class MutableForeignKey extends AbstractNamedObjectWithAttributes implemen
     final MutableForeignKeyColumnReference fkColumnReference =
         new MutableForeignKeyColumnReference(keySequence, pkColumn, fkColumn);
     columnReferences.add(fkColumnReference);
+    sortKeysChanged();
   }
 
   void appendDefinition(final String definition) {
@@ -184,6 +185,7 @@ final class MutableForeignKey extends AbstractNamedObjectWithAttributes implemen
 
   void setSpecificName(final String specificName) {
     this.specificName = specificName;
+    clearLookupKey();
   }
 
   void setUpdateRule(final ForeignKeyUpdateRule updateRule) {
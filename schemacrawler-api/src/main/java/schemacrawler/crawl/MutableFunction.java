@@ -82,6 +82,7 @@ final class MutableFunction extends MutableRoutine implements Function {
 
   void addParameter(final MutableFunctionParameter column) {
     columns.add(column);
+    sortKeysChanged();
   }
 
   void setReturnType(final FunctionReturnType returnType) {
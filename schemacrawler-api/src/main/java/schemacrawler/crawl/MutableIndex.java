@@ -167,6 +167,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
 
   final void addColumn(final MutableIndexColumn column) {
     columns.add(column);
+    sortKeysChanged();
   }
 
   final void appendDefinition(final String definition) {
@@ -181,6 +182,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
 
   final void setIndexType(final IndexType indexType) {
     this.indexType = requireNonNull(indexType, "Null index type");
+    sortKeysChanged();
   }
 
   final void setPages(final int pages) {
@@ -189,5 +191,6 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
 
   final void setUnique(final boolean unique) {
     isUnique = unique;
+    sortKeysChanged();
   }
 }
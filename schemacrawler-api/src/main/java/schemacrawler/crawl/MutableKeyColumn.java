@@ -210,5 +210,6 @@ class MutableKeyColumn extends AbstractDependantObject<Table> implements Column,
 
   void setKeyOrdinalPosition(final int keyOrdinalPosition) {
     this.keyOrdinalPosition = keyOrdinalPosition;
+    sortKeysChanged();
   }
 }
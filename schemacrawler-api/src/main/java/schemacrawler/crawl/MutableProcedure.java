@@ -82,6 +82,7 @@ final class MutableProcedure extends MutableRoutine implements Procedure {
 
   void addParameter(final MutableProcedureParameter column) {
     columns.add(column);
+    sortKeysChanged();
   }
 
   void setReturnType(final ProcedureReturnType returnType) {
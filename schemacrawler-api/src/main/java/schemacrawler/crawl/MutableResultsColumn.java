@@ -147,6 +147,7 @@ final class MutableResultsColumn extends AbstractColumn<Table> implements Result
 
   void setLabel(final String label) {
     this.label = label;
+    clearLookupKey();
   }
 
   void setReadOnly(final boolean isReadOnly) {
@@ -143,5 +143,7 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
 
   final void setSpecificName(final String specificName) {
     this.specificName = specificName;
+    clearLookupKey();
+    sortKeysChanged();
   }
 }
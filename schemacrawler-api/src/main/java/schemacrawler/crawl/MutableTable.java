@@ -31,14 +31,11 @@ package schemacrawler.crawl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKey;
-import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.Privilege;
@@ -48,7 +45,6 @@ import schemacrawler.schema.TableConstraint;
 import schemacrawler.schema.TableRelationshipType;
 import schemacrawler.schema.TableType;
 import schemacrawler.schema.Trigger;
-import schemacrawler.utility.NamedObjectSort;
 
 /**
  * Represents a table in the database.
@@ -57,12 +53,6 @@ import schemacrawler.utility.NamedObjectSort;
  */
 class MutableTable extends AbstractDatabaseObject implements Table {
 
-  private enum TableAssociationType {
-    all,
-    exported,
-    imported
-  }
-
   private static final long serialVersionUID = 3257290248802284852L;
 
   private final NamedObjectList<MutableColumn> columns = new NamedObjectList<>();
@@ -77,6 +67,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   private MutablePrimaryKey primaryKey;
   private int sortIndex;
   private TableType tableType = TableType.UNKNOWN; // Default value
+  private transient volatile TableRelationships relationships;
 
   MutableTable(final Schema schema, final String name) {
     super(schema, name);
@@ -117,13 +108,13 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<ForeignKey> getExportedForeignKeys() {
-    return getForeignKeys(TableAssociationType.exported);
+    return new ArrayList<>(getRelationships().getExportedForeignKeys());
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<ForeignKey> getForeignKeys() {
-    return getForeignKeys(TableAssociationType.all);
+    return new ArrayList<>(foreignKeys.values());
   }
 
   /** {@inheritDoc} */
@@ -134,7 +125,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
   @Override
   public Collection<ForeignKey> getImportedForeignKeys() {
-    return getForeignKeys(TableAssociationType.imported);
+    return new ArrayList<>(getRelationships().getImportedForeignKeys());
   }
 
   /** {@inheritDoc} */
@@ -158,34 +149,17 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getRelatedTables(final TableRelationshipType tableRelationshipType) {
-    final Set<Table> relatedTables = new HashSet<>();
-    if (tableRelationshipType != null && tableRelationshipType != TableRelationshipType.none) {
-      final List<MutableForeignKey> foreignKeysList = new ArrayList<>(foreignKeys.values());
-      for (final ForeignKey foreignKey : foreignKeysList) {
-        for (final ForeignKeyColumnReference columnReference : foreignKey) {
-          final Table parentTable = columnReference.getPrimaryKeyColumn().getParent();
-          final Table childTable = columnReference.getForeignKeyColumn().getParent();
-          switch (tableRelationshipType) {
-            case parent:
-              if (equals(childTable)) {
-                relatedTables.add(parentTable);
-              }
-              break;
-            case child:
-              if (equals(parentTable)) {
-                relatedTables.add(childTable);
-              }
-              break;
-            default:
-              break;
-          }
-        }
-      }
+    if (tableRelationshipType == null) {
+      return new ArrayList<>();
+    }
+    switch (tableRelationshipType) {
+      case parent:
+        return new ArrayList<>(getRelationships().getParentTables());
+      case child:
+        return new ArrayList<>(getRelationships().getChildTables());
+      default:
+        return new ArrayList<>();
     }
-
-    final List<Table> relatedTablesList = new ArrayList<>(relatedTables);
-    relatedTablesList.sort(NamedObjectSort.alphabetical);
-    return relatedTablesList;
   }
 
   /** {@inheritDoc} */
@@ -316,6 +290,14 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     return columns;
   }
 
+  final void removeForeignKey(final ForeignKey foreignKey) {
+    foreignKeys.remove(foreignKey);
+  }
+
+  final void removeWeakAssociation(final WeakAssociation weakAssociation) {
+    weakAssociations.remove(weakAssociation);
+  }
+
   final void setPrimaryKey(final MutablePrimaryKey primaryKey) {
     if (primaryKey == null) {
       return;
@@ -326,6 +308,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
   final void setSortIndex(final int sortIndex) {
     this.sortIndex = sortIndex;
+    sortKeysChanged();
   }
 
   final void setTableType(final TableType tableType) {
@@ -336,37 +319,19 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     }
   }
 
-  private Collection<ForeignKey> getForeignKeys(final TableAssociationType tableAssociationType) {
-    final List<ForeignKey> foreignKeysList = new ArrayList<>(foreignKeys.values());
-    if (tableAssociationType != null && tableAssociationType != TableAssociationType.all) {
-      for (final Iterator<ForeignKey> iterator = foreignKeysList.iterator(); iterator.hasNext(); ) {
-        final ForeignKey mutableForeignKey = iterator.next();
-        boolean isExportedKey = false;
-        boolean isImportedKey = false;
-        for (final ForeignKeyColumnReference columnReference : mutableForeignKey) {
-          if (columnReference.getPrimaryKeyColumn().getParent().equals(this)) {
-            isExportedKey = true;
-          }
-          if (columnReference.getForeignKeyColumn().getParent().equals(this)) {
-            isImportedKey = true;
-          }
-        }
-        switch (tableAssociationType) {
-          case exported:
-            if (!isExportedKey) {
-              iterator.remove();
-            }
-            break;
-          case imported:
-            if (!isImportedKey) {
-              iterator.remove();
-            }
-            break;
-          default:
-            break;
-        }
-      }
+  /**
+   * Gets the relationships of this table to other tables, reusing the last snapshot if the foreign
+   * keys have not changed since it was built.
+   *
+   * @return Relationships of this table
+   */
+  private TableRelationships getRelationships() {
+    final List<MutableForeignKey> foreignKeysList = foreignKeys.values();
+    TableRelationships tableRelationships = relationships;
+    if (tableRelationships == null || !tableRelationships.isBuiltFrom(foreignKeysList)) {
+      tableRelationships = new TableRelationships(this, foreignKeysList);
+      relationships = tableRelationships;
     }
-    return foreignKeysList;
+    return tableRelationships;
   }
 }
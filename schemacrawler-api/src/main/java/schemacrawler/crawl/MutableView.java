@@ -83,6 +83,12 @@ class MutableView extends MutableTable implements View {
     }
   }
 
+  void removeTableUsage(final Table table) {
+    if (table != null) {
+      tableUsage.remove(table);
+    }
+  }
+
   void setCheckOption(final CheckOptionType checkOption) {
     this.checkOption = checkOption;
   }
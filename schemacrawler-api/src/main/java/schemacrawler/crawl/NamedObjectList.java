@@ -29,8 +29,12 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Comparator.naturalOrder;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -51,43 +55,101 @@ import us.fatehi.utility.ObjectToString;
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>Lookup keys are held as compact composite strings, rather than as lists of strings, and named
+ * objects cache their own keys. The sorted values are cached, and the cache is dropped when the
+ * list is modified. The sort order of some named objects (such as tables and columns) can change
+ * after they are added, so the setters that change a sort order advance a version on the object.
+ * The cached values are kept with the total of the versions of the objects in this list when they
+ * were sorted, and are sorted again only if that total has changed, so changes to objects in other
+ * lists or other catalogs do not affect this list. Many lists, such as the privileges of a column,
+ * are never added to, so the map of objects is only created when the first object is added.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
   private static final long serialVersionUID = 3257847666804142128L;
 
-  private static List<String> makeLookupKey(final NamedObject namedObject) {
-    final List<String> key;
-    if (namedObject == null) {
-      key = null;
+  private static final char KEY_SEPARATOR = '\u0000';
+  private static final char NULL_KEY_PART = '\u0001';
+
+  private static void appendKeyPart(final StringBuilder buffer, final String keyPart) {
+    if (keyPart == null) {
+      buffer.append(NULL_KEY_PART);
     } else {
-      key = namedObject.toUniqueLookupKey();
+      buffer.append(keyPart);
     }
-    return key;
+    buffer.append(KEY_SEPARATOR);
   }
 
-  private static List<String> makeLookupKey(final NamedObject namedObject, final String name) {
-    final List<String> key = makeLookupKey(namedObject);
-    if (key != null) {
-      key.add(name);
+  /**
+   * Makes a compact lookup key from the parts of a unique lookup key.
+   *
+   * @param keyParts Parts of a unique lookup key
+   * @return Compact lookup key
+   */
+  static String makeLookupKey(final List<String> keyParts) {
+    if (keyParts == null) {
+      return null;
+    }
+    final StringBuilder buffer = new StringBuilder(keyParts.size() * 16);
+    for (final String keyPart : keyParts) {
+      appendKeyPart(buffer, keyPart);
+    }
+    return buffer.toString();
+  }
+
+  private static String makeLookupKey(final NamedObject namedObject) {
+    if (namedObject == null) {
+      return null;
+    }
+    if (namedObject instanceof AbstractNamedObject) {
+      return ((AbstractNamedObject) namedObject).getLookupKey();
     }
-    return key;
+    return makeLookupKey(namedObject.toUniqueLookupKey());
   }
 
-  private final Map<List<String>, N> objects = new HashMap<>();
+  private static String makeLookupKey(final NamedObject namedObject, final String name) {
+    final String key = makeLookupKey(namedObject);
+    if (key == null) {
+      return null;
+    }
+    final StringBuilder buffer =
+        new StringBuilder(key.length() + (name == null ? 1 : name.length()) + 1);
+    buffer.append(key);
+    appendKeyPart(buffer, name);
+    return buffer.toString();
+  }
+
+  private Map<String, N> objects;
+  private transient volatile SortedValues<N> sortedValues;
+
+  /**
+   * Sorted values, with the sort keys version of the list when they were sorted. These are held
+   * together, so that values are never seen with the version of other values.
+   */
+  private static final class SortedValues<N> {
+
+    private final List<N> values;
+    private final long sortKeysVersion;
+
+    SortedValues(final List<N> values, final long sortKeysVersion) {
+      this.values = values;
+      this.sortKeysVersion = sortKeysVersion;
+    }
+  }
 
   @Override
   public void filter(final Predicate<? super N> predicate) {
-    if (predicate == null) {
+    if (predicate == null || objects == null) {
       return;
     }
 
-    final Set<Entry<List<String>, N>> entrySet = objects.entrySet();
-    for (final Iterator<Entry<List<String>, N>> iterator = entrySet.iterator();
-        iterator.hasNext(); ) {
-      final Entry<List<String>, N> entry = iterator.next();
+    final Set<Entry<String, N>> entrySet = objects.entrySet();
+    for (final Iterator<Entry<String, N>> iterator = entrySet.iterator(); iterator.hasNext(); ) {
+      final Entry<String, N> entry = iterator.next();
       if (!predicate.test(entry.getValue())) {
         iterator.remove();
+        sortedValues = null;
       }
     }
   }
@@ -139,17 +201,21 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    */
   boolean add(final N namedObject) {
     requireNonNull(namedObject, "Cannot add a null object to the list");
-    final List<String> key = makeLookupKey(namedObject);
+    final String key = makeLookupKey(namedObject);
+    if (objects == null) {
+      objects = new HashMap<>();
+    }
     objects.put(key, namedObject);
+    sortedValues = null;
     return true;
   }
 
   boolean contains(final NamedObject namedObject) {
-    return objects.containsKey(makeLookupKey(namedObject));
+    return objects != null && objects.containsKey(makeLookupKey(namedObject));
   }
 
   boolean isEmpty() {
-    return objects.isEmpty();
+    return objects == null || objects.isEmpty();
   }
 
   /**
@@ -159,16 +225,23 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    * @return Named object
    */
   Optional<N> lookup(final List<String> lookupKey) {
-    return internalGet(lookupKey);
+    return internalGet(makeLookupKey(lookupKey));
   }
 
   Optional<N> lookup(final NamedObject namedObject, final String name) {
-    final List<String> key = makeLookupKey(namedObject, name);
+    final String key = makeLookupKey(namedObject, name);
     return internalGet(key);
   }
 
-  N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+  N remove(final NamedObject namedObject) {
+    if (objects == null) {
+      return null;
+    }
+    final N removed = objects.remove(makeLookupKey(namedObject));
+    if (removed != null) {
+      sortedValues = null;
+    }
+    return removed;
   }
 
   /**
@@ -177,21 +250,71 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    * @return Number of elements in this list.
    */
   int size() {
+    if (objects == null) {
+      return 0;
+    }
     return objects.size();
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The returned list is a shared, read-only
+   * snapshot, so callers that need to modify it have to make a copy.
    *
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    if (objects == null) {
+      return emptyList();
+    }
+    // Versions only go up, so the total changes whenever any sort key does
+    final long sortKeysVersion = sortKeysVersion();
+    SortedValues<N> values = sortedValues;
+    if (values == null || values.sortKeysVersion != sortKeysVersion) {
+      final List<N> all = new ArrayList<>(objects.values());
+      all.sort(naturalOrder());
+      values = new SortedValues<>(unmodifiableList(all), sortKeysVersion);
+      sortedValues = values;
+    }
+    return values.values;
   }
 
-  private Optional<N> internalGet(final List<String> key) {
+  private Optional<N> internalGet(final String key) {
+    if (objects == null) {
+      return Optional.empty();
+    }
     return Optional.ofNullable(objects.get(key));
   }
+
+  /**
+   * Catalogs serialized by earlier versions have lists of strings as lookup keys, so these are
+   * converted to compact lookup keys.
+   */
+  @SuppressWarnings("unchecked")
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    if (objects == null) {
+      return;
+    }
+    final Map<?, N> serializedObjects = objects;
+    final Iterator<?> keys = serializedObjects.keySet().iterator();
+    if (!keys.hasNext() || !(keys.next() instanceof List)) {
+      return;
+    }
+    final Map<String, N> convertedObjects = new HashMap<>();
+    for (final Entry<?, N> entry : serializedObjects.entrySet()) {
+      convertedObjects.put(makeLookupKey((List<String>) entry.getKey()), entry.getValue());
+    }
+    objects = convertedObjects;
+  }
+
+  private long sortKeysVersion() {
+    long sortKeysVersion = 0;
+    for (final N namedObject : objects.values()) {
+      if (namedObject instanceof AbstractNamedObject) {
+        sortKeysVersion =
+            sortKeysVersion + ((AbstractNamedObject) namedObject).getSortKeysVersion();
+      }
+    }
+    return sortKeysVersion;
+  }
 }
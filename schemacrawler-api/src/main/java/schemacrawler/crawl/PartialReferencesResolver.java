@@ -0,0 +1,219 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Table;
+
+/**
+ * Replaces partial tables and columns that are referenced by tables, with the real tables and
+ * columns in the catalog, once those are available. Foreign keys and weak associations with
+ * resolved columns are rebuilt, and added to the tables at both ends.
+ */
+final class PartialReferencesResolver {
+
+  private final MutableCatalog catalog;
+  private final Map<List<String>, MutableForeignKey> resolvedForeignKeys;
+  private final Map<List<String>, WeakAssociation> resolvedWeakAssociations;
+
+  PartialReferencesResolver(final MutableCatalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    resolvedForeignKeys = new HashMap<>();
+    resolvedWeakAssociations = new HashMap<>();
+  }
+
+  /**
+   * Resolves the columns, foreign keys, weak associations and view table usage of the given
+   * tables.
+   *
+   * @param tables Tables with references that need to be resolved
+   */
+  void resolveTableReferences(final Iterable<MutableTable> tables) {
+    for (final MutableTable table : tables) {
+      final List<Column> columns = new ArrayList<>(table.getColumns());
+      columns.addAll(table.getHiddenColumns());
+      for (final Column column : columns) {
+        final Column referencedColumn = column.getReferencedColumn();
+        if (referencedColumn instanceof ColumnPartial) {
+          ((MutableColumn) column).setReferencedColumn(resolveColumn(referencedColumn));
+        }
+      }
+
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        final MutableForeignKey resolvedForeignKey =
+            resolveForeignKey((MutableForeignKey) foreignKey);
+        if (resolvedForeignKey != foreignKey) {
+          for (final ForeignKeyColumnReference columnReference : resolvedForeignKey) {
+            addForeignKey(columnReference.getPrimaryKeyColumn(), resolvedForeignKey);
+            addForeignKey(columnReference.getForeignKeyColumn(), resolvedForeignKey);
+          }
+        }
+      }
+
+      for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+        final WeakAssociation resolvedWeakAssociation = resolveWeakAssociation(weakAssociation);
+        if (resolvedWeakAssociation != weakAssociation) {
+          for (final WeakAssociationColumnReference columnReference : resolvedWeakAssociation) {
+            addWeakAssociation(columnReference.getPrimaryKeyColumn(), resolvedWeakAssociation);
+            addWeakAssociation(columnReference.getForeignKeyColumn(), resolvedWeakAssociation);
+          }
+        }
+      }
+
+      if (table instanceof MutableView) {
+        final MutableView view = (MutableView) table;
+        for (final Table usedTable : view.getTableUsage()) {
+          if (usedTable instanceof TablePartial) {
+            view.removeTableUsage(usedTable);
+            catalog
+                .lookupTable(usedTable.getSchema(), usedTable.getName())
+                .ifPresent(view::addTableUsage);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Looks up the real column for a partial column.
+   *
+   * @param column Column, which may be partial
+   * @return The real column if it is in the catalog, or else the column itself
+   */
+  Column resolveColumn(final Column column) {
+    if (!(column instanceof ColumnPartial)) {
+      return column;
+    }
+    final Table table = column.getParent();
+    final Optional<MutableTable> optionalTable =
+        catalog.lookupTable(table.getSchema(), table.getName());
+    if (!optionalTable.isPresent()) {
+      return column;
+    }
+    final Optional<MutableColumn> optionalColumn =
+        optionalTable.get().lookupColumn(column.getName());
+    if (optionalColumn.isPresent()) {
+      return optionalColumn.get();
+    } else {
+      return column;
+    }
+  }
+
+  private void addForeignKey(final Column column, final MutableForeignKey foreignKey) {
+    final Table table = column.getParent();
+    if (table instanceof MutableTable) {
+      ((MutableTable) table).addForeignKey(foreignKey);
+    }
+  }
+
+  private void addWeakAssociation(final Column column, final WeakAssociation weakAssociation) {
+    final Table table = column.getParent();
+    if (table instanceof MutableTable) {
+      ((MutableTable) table).addWeakAssociation(weakAssociation);
+    }
+  }
+
+  private boolean hasResolvableColumns(final List<? extends ColumnReference> columnReferences) {
+    for (final ColumnReference columnReference : columnReferences) {
+      final Column pkColumn = columnReference.getPrimaryKeyColumn();
+      final Column fkColumn = columnReference.getForeignKeyColumn();
+      if (resolveColumn(pkColumn) != pkColumn || resolveColumn(fkColumn) != fkColumn) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private MutableForeignKey resolveForeignKey(final MutableForeignKey foreignKey) {
+    final List<ForeignKeyColumnReference> columnReferences = foreignKey.getColumnReferences();
+    if (!hasResolvableColumns(columnReferences)) {
+      return foreignKey;
+    }
+
+    final List<String> key =
+        new ArrayList<>(
+            columnReferences.get(0).getForeignKeyColumn().getParent().toUniqueLookupKey());
+    key.addAll(foreignKey.toUniqueLookupKey());
+    return resolvedForeignKeys.computeIfAbsent(
+        key,
+        k -> {
+          final MutableForeignKey resolvedForeignKey = new MutableForeignKey(foreignKey.getName());
+          resolvedForeignKey.setSpecificName(foreignKey.getSpecificName());
+          resolvedForeignKey.setUpdateRule(foreignKey.getUpdateRule());
+          resolvedForeignKey.setDeleteRule(foreignKey.getDeleteRule());
+          resolvedForeignKey.setDeferrability(foreignKey.getDeferrability());
+          resolvedForeignKey.appendDefinition(foreignKey.getDefinition());
+          resolvedForeignKey.setRemarks(foreignKey.getRemarks());
+          resolvedForeignKey.addAttributes(foreignKey.getAttributes());
+          for (final ForeignKeyColumnReference columnReference : columnReferences) {
+            resolvedForeignKey.addColumnReference(
+                columnReference.getKeySequence(),
+                resolveColumn(columnReference.getPrimaryKeyColumn()),
+                resolveColumn(columnReference.getForeignKeyColumn()));
+          }
+          return resolvedForeignKey;
+        });
+  }
+
+  private WeakAssociation resolveWeakAssociation(final WeakAssociation weakAssociation) {
+    final List<WeakAssociationColumnReference> columnReferences =
+        weakAssociation.getColumnReferences();
+    if (!hasResolvableColumns(columnReferences)) {
+      return weakAssociation;
+    }
+
+    final List<String> key =
+        new ArrayList<>(
+            columnReferences.get(0).getForeignKeyColumn().getParent().toUniqueLookupKey());
+    key.addAll(weakAssociation.toUniqueLookupKey());
+    return resolvedWeakAssociations.computeIfAbsent(
+        key,
+        k -> {
+          final WeakAssociation resolvedWeakAssociation =
+              new WeakAssociation(weakAssociation.getName());
+          for (final WeakAssociationColumnReference columnReference : columnReferences) {
+            resolvedWeakAssociation.addColumnReference(
+                resolveColumn(columnReference.getPrimaryKeyColumn()),
+                resolveColumn(columnReference.getForeignKeyColumn()));
+          }
+          return resolvedWeakAssociation;
+        });
+  }
+}
@@ -35,6 +35,10 @@ import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.pr
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -74,6 +78,11 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
         retrievePrimaryKeysFromDataDictionary(allTables);
         break;
 
+      case metadata_all_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving primary keys, for all tables in each schema");
+        retrievePrimaryKeysFromMetadataForSchemas(allTables);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving primary keys");
         retrievePrimaryKeysFromMetadata(allTables);
@@ -128,7 +137,7 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(pkSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(pkSql, statement, getLimitOptions())) {
       results.setDescription("retrievePrimaryKeysFromDataDictionary");
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
@@ -148,9 +157,9 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     }
   }
 
-  private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
+  private void retrievePrimaryKeysFromMetadata(final Iterable<MutableTable> tables)
       throws SQLException {
-    for (final MutableTable table : allTables) {
+    for (final MutableTable table : tables) {
       if (table instanceof View) {
         continue;
       }
@@ -169,4 +178,55 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
       }
     }
   }
+
+  /**
+   * Retrieves primary keys for all the tables in a schema with a single metadata call, and routes
+   * each row to its table by lookup. If the driver rejects a null table name, primary keys are
+   * retrieved one table at a time for the remaining schemas.
+   */
+  private void retrievePrimaryKeysFromMetadataForSchemas(
+      final NamedObjectList<MutableTable> allTables) throws SQLException {
+    boolean isBulkRetrievalSupported = true;
+    final Map<Schema, List<MutableTable>> tablesBySchema = groupTablesBySchema(allTables);
+    for (final Entry<Schema, List<MutableTable>> schemaTables : tablesBySchema.entrySet()) {
+      final Schema schema = schemaTables.getKey();
+      if (isBulkRetrievalSupported) {
+        isBulkRetrievalSupported = retrievePrimaryKeysFromMetadataForSchema(schema, allTables);
+      }
+      if (!isBulkRetrievalSupported) {
+        retrievePrimaryKeysFromMetadata(schemaTables.getValue());
+      }
+    }
+  }
+
+  private boolean retrievePrimaryKeysFromMetadataForSchema(
+      final Schema schema, final NamedObjectList<MutableTable> allTables) {
+    LOGGER.log(Level.FINE, new StringFormat("Retrieving primary keys for schema <%s>", schema));
+    try (final MetadataResultSet results =
+        new MetadataResultSet(
+            getMetaData().getPrimaryKeys(schema.getCatalogName(), schema.getName(), null))) {
+      results.setDescription("retrievePrimaryKeysFromMetadataForSchema");
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+        final String tableName = results.getString("TABLE_NAME");
+
+        final Optional<MutableTable> optionalTable =
+            allTables.lookup(Arrays.asList(catalogName, schemaName, tableName));
+        if (!optionalTable.isPresent() || optionalTable.get() instanceof View) {
+          continue;
+        }
+        createPrimaryKeyForTable(optionalTable.get(), results);
+      }
+      return true;
+    } catch (final SQLException e) {
+      logPossiblyUnsupportedSQLFeature(
+          new StringFormat(
+              "Could not retrieve primary keys for schema <%s>, "
+                  + "so retrieving primary keys for each table",
+              schema),
+          e);
+      return false;
+    }
+  }
 }
@@ -42,6 +42,7 @@ import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.MetadataResultSet.BoundColumn;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.ParameterModeType;
@@ -60,6 +61,40 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class ProcedureParameterRetriever extends AbstractRetriever {
 
+  /** Procedure parameter metadata columns, bound once for each result set. */
+  private static final class ProcedureParameterResults {
+
+    private final BoundColumn procedureCat;
+    private final BoundColumn procedureSchem;
+    private final BoundColumn procedureName;
+    private final BoundColumn columnName;
+    private final BoundColumn specificName;
+    private final BoundColumn columnType;
+    private final BoundColumn ordinalPosition;
+    private final BoundColumn dataType;
+    private final BoundColumn typeName;
+    private final BoundColumn length;
+    private final BoundColumn precision;
+    private final BoundColumn nullable;
+    private final BoundColumn remarks;
+
+    ProcedureParameterResults(final MetadataResultSet results) {
+      procedureCat = results.bind("PROCEDURE_CAT");
+      procedureSchem = results.bind("PROCEDURE_SCHEM");
+      procedureName = results.bind("PROCEDURE_NAME");
+      columnName = results.bind("COLUMN_NAME");
+      specificName = results.bind("SPECIFIC_NAME");
+      columnType = results.bind("COLUMN_TYPE");
+      ordinalPosition = results.bind("ORDINAL_POSITION");
+      dataType = results.bind("DATA_TYPE");
+      typeName = results.bind("TYPE_NAME");
+      length = results.bind("LENGTH");
+      precision = results.bind("PRECISION");
+      nullable = results.bind("NULLABLE");
+      remarks = results.bind("REMARKS");
+    }
+  }
+
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(ProcedureParameterRetriever.class.getName());
 
@@ -89,6 +124,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
         retrieveProcedureParametersFromDataDictionary(allRoutines, parameterFilter);
         break;
 
+      case metadata_all_per_schema:
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving procedure parameters");
         retrieveProcedureParametersFromMetadata(allRoutines, parameterFilter);
@@ -101,17 +137,18 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
 
   private void createProcedureParameter(
       final MetadataResultSet results,
+      final ProcedureParameterResults bound,
       final NamedObjectList<MutableRoutine> allRoutines,
       final InclusionRuleFilter<ProcedureParameter> parameterFilter) {
-    final String columnCatalogName = normalizeCatalogName(results.getString("PROCEDURE_CAT"));
-    final String schemaName = normalizeSchemaName(results.getString("PROCEDURE_SCHEM"));
-    final String procedureName = results.getString("PROCEDURE_NAME");
-    String columnName = results.getString("COLUMN_NAME");
-    final String specificName = results.getString("SPECIFIC_NAME");
+    final String columnCatalogName = normalizeCatalogName(results.getString(bound.procedureCat));
+    final String schemaName = normalizeSchemaName(results.getString(bound.procedureSchem));
+    final String procedureName = results.getString(bound.procedureName);
+    String columnName = results.getString(bound.columnName);
+    final String specificName = results.getString(bound.specificName);
 
     final ParameterModeType parameterMode =
         getProcedureParameterMode(
-            results.getInt("COLUMN_TYPE", DatabaseMetaData.procedureColumnUnknown));
+            results.getInt(bound.columnType, DatabaseMetaData.procedureColumnUnknown));
 
     LOGGER.log(
         Level.FINE,
@@ -142,15 +179,15 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
         lookupOrCreateProcedureParameter(procedure, columnName);
     if (parameterFilter.test(parameter)
         && belongsToSchema(procedure, columnCatalogName, schemaName)) {
-      final int ordinalPosition = results.getInt("ORDINAL_POSITION", 0);
-      final int dataType = results.getInt("DATA_TYPE", 0);
-      final String typeName = results.getString("TYPE_NAME");
-      final int length = results.getInt("LENGTH", 0);
-      final int precision = results.getInt("PRECISION", 0);
+      final int ordinalPosition = results.getInt(bound.ordinalPosition, 0);
+      final int dataType = results.getInt(bound.dataType, 0);
+      final String typeName = results.getString(bound.typeName);
+      final int length = results.getInt(bound.length, 0);
+      final int precision = results.getInt(bound.precision, 0);
       final boolean isNullable =
-          results.getShort("NULLABLE", (short) DatabaseMetaData.procedureNullableUnknown)
+          results.getShort(bound.nullable, (short) DatabaseMetaData.procedureNullableUnknown)
               == (short) DatabaseMetaData.procedureNullable;
-      final String remarks = results.getString("REMARKS");
+      final String remarks = results.getString(bound.remarks);
       parameter.setOrdinalPosition(ordinalPosition);
       parameter.setParameterMode(parameterMode);
       parameter.setColumnDataType(
@@ -206,10 +243,11 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(procedureColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(procedureColumnsSql, statement, getLimitOptions())) {
       results.setDescription("retrieveProcedureParametersFromDataDictionary");
+      final ProcedureParameterResults bound = new ProcedureParameterResults(results);
       while (results.next()) {
-        createProcedureParameter(results, allRoutines, parameterFilter);
+        createProcedureParameter(results, bound, allRoutines, parameterFilter);
       }
     }
   }
@@ -233,8 +271,9 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
                       procedure.getSchema().getName(),
                       procedure.getName(),
                       null))) {
+        final ProcedureParameterResults bound = new ProcedureParameterResults(results);
         while (results.next()) {
-          createProcedureParameter(results, allRoutines, parameterFilter);
+          createProcedureParameter(results, bound, allRoutines, parameterFilter);
         }
       } catch (final SQLException e) {
         throw new SchemaCrawlerSQLException(
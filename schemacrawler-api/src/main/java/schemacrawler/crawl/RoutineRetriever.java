@@ -94,6 +94,7 @@ final class RoutineRetriever extends AbstractRetriever {
         retrieveFunctionsFromDataDictionary(schemas, functionFilter);
         break;
 
+      case metadata_all_per_schema:
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving functions");
         retrieveFunctionsFromMetadata(schemas, functionFilter);
@@ -122,6 +123,7 @@ final class RoutineRetriever extends AbstractRetriever {
         retrieveProceduresFromDataDictionary(schemas, procedureFilter);
         break;
 
+      case metadata_all_per_schema:
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving procedures");
         retrieveProceduresFromMetadata(schemas, procedureFilter);
@@ -220,7 +222,7 @@ final class RoutineRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(functionsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(functionsSql, statement, getLimitOptions())) {
       results.setDescription("retrieveFunctionsFromDataDictionary");
       int numFunctions = 0;
       while (results.next()) {
@@ -270,7 +272,7 @@ final class RoutineRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(proceduresSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(proceduresSql, statement, getLimitOptions())) {
       results.setDescription("retrieveProceduresFromDataDictionary");
       int numProcedures = 0;
       while (results.next()) {
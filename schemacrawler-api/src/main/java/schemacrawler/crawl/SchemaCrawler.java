@@ -41,6 +41,8 @@ import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleFor
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSequenceInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSynonymInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnAttributes;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnMetadata;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalDatabaseInfo;
@@ -71,25 +73,43 @@ import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewInform
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewTableUsage;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveWeakAssociations;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.analysis.counts.TableRowCountsFilter;
 import schemacrawler.analysis.counts.TableRowCountsRetriever;
+import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetrics;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
 import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
@@ -106,11 +126,13 @@ public final class SchemaCrawler {
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(SchemaCrawler.class.getName());
 
+  private static final String TABLE_DDL_TIMES = "schemacrawler.table_ddl_times";
+
   private final Connection connection;
   private final SchemaCrawlerOptions options;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final Supplier<Connection> connectionSource;
   private MutableCatalog catalog;
-  private RetrieverConnection retrieverConnection;
 
   /**
    * Constructs a SchemaCrawler object, from a connection.
@@ -128,37 +150,202 @@ public final class SchemaCrawler {
         requireNonNull(
             schemaRetrievalOptions, "No database-specific schema retrieval overrides provided");
     this.options = requireNonNull(options, "No SchemaCrawler options provided");
+    connectionSource = null;
+  }
+
+  /**
+   * Constructs a SchemaCrawler object, from a connection, and a source for additional connections.
+   * Crawl phases that do not depend on each other, such as tables, routines and sequences, are
+   * crawled in parallel, each on its own connection.
+   *
+   * @param connection An database connection.
+   * @param connectionSource Source of additional connections to the same database.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   */
+  public SchemaCrawler(
+      final Connection connection,
+      final Supplier<Connection> connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options) {
+    this.connection = requireNonNull(connection, "No connection specified");
+    this.connectionSource = requireNonNull(connectionSource, "No connection source specified");
+    this.schemaRetrievalOptions =
+        requireNonNull(
+            schemaRetrievalOptions, "No database-specific schema retrieval overrides provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
   }
 
   /**
-   * Crawls the database, to obtain database metadata.
+   * Crawls the database, to obtain database metadata. If a catalog cache directory is set in the
+   * load options, and the schema fingerprint of the database has not changed since the last crawl
+   * with the same options, the catalog is loaded from the cache instead.
    *
    * @return Database metadata
    * @throws SchemaCrawlerException On an exception
    */
   public Catalog crawl() throws SchemaCrawlerException {
-    catalog = new MutableCatalog("catalog");
+    final LoadOptions loadOptions = options.getLoadOptions();
+    final Optional<Path> optionalCacheDirectory = loadOptions.getCatalogCacheDirectory();
+    if (!optionalCacheDirectory.isPresent()) {
+      return crawlCatalog();
+    }
+    if (loadOptions.isLoadRowCounts()) {
+      // Row counts change without any change to the schema fingerprint
+      LOGGER.log(Level.INFO, "Not using catalog cache, since row counts were requested");
+      return crawlCatalog();
+    }
+
+    final CatalogCache catalogCache =
+        new CatalogCache(
+            optionalCacheDirectory.get(),
+            loadOptions.getCatalogCacheMaxBytes(),
+            connection,
+            schemaRetrievalOptions,
+            options);
+    final Optional<Catalog> cachedCatalog = catalogCache.load();
+    if (cachedCatalog.isPresent()) {
+      return cachedCatalog.get();
+    }
+    final Catalog crawledCatalog = crawlCatalog();
+    catalogCache.save(crawledCatalog);
+    return crawledCatalog;
+  }
+
+  /**
+   * Crawls the database again, to refresh a catalog obtained from an earlier crawl with the same
+   * options. Only the tables with a DDL time that changed since the earlier crawl, and tables that
+   * were created or dropped, are crawled again, along with their columns, keys, indexes, triggers
+   * and other details. The rest of the catalog is reused. Table DDL times are obtained from the
+   * ADDITIONAL_INFO.TABLE_DDL_TIMES query, which is run at every crawl. If the query is not
+   * provided, a full crawl is done instead.
+   *
+   * @param previousCatalog Catalog from an earlier crawl, which is refreshed in place
+   * @return Database metadata, which may be a new catalog if a full crawl was needed
+   * @throws SchemaCrawlerException On an exception
+   */
+  public Catalog recrawl(final Catalog previousCatalog) throws SchemaCrawlerException {
+    requireNonNull(previousCatalog, "No catalog provided");
+    if (!isIncrementalCrawlSupported(previousCatalog)) {
+      return crawl();
+    }
+
+    final MutableCatalog mutableCatalog = (MutableCatalog) previousCatalog;
+    final Optional<Map<String, String>> previousTableDdlTimes =
+        mutableCatalog.lookupAttribute(TABLE_DDL_TIMES);
+    if (!previousTableDdlTimes.isPresent()) {
+      LOGGER.log(
+          Level.INFO, "Crawling all tables again, since table DDL times were not previously known");
+      return crawl();
+    }
+    final Optional<Map<String, String>> tableDdlTimes = crawlTableDdlTimes(mutableCatalog);
+    if (!tableDdlTimes.isPresent()) {
+      LOGGER.log(Level.INFO, "Crawling all tables again, since table DDL times are not known");
+      return crawl();
+    }
+
+    final Set<String> changedTableFullNames = new HashSet<>();
+    final Set<String> tableFullNames = new HashSet<>(previousTableDdlTimes.get().keySet());
+    tableFullNames.addAll(tableDdlTimes.get().keySet());
+    for (final String tableFullName : tableFullNames) {
+      if (!Objects.equals(
+          previousTableDdlTimes.get().get(tableFullName),
+          tableDdlTimes.get().get(tableFullName))) {
+        changedTableFullNames.add(tableFullName);
+      }
+    }
+
+    return recrawlTables(mutableCatalog, changedTableFullNames, tableDdlTimes);
+  }
+
+  /**
+   * Crawls the database again, to refresh a catalog obtained from an earlier crawl with the same
+   * options. Only the given tables are crawled again, along with their columns, keys, indexes,
+   * triggers and other details. The rest of the catalog is reused. Tables that were created since
+   * the earlier crawl are added, and tables that were dropped are removed.
+   *
+   * @param previousCatalog Catalog from an earlier crawl, which is refreshed in place
+   * @param changedTableFullNames Full names of the tables that were created, altered or dropped
+   * @return Database metadata, which may be a new catalog if a full crawl was needed
+   * @throws SchemaCrawlerException On an exception
+   */
+  public Catalog recrawl(
+      final Catalog previousCatalog, final Collection<String> changedTableFullNames)
+      throws SchemaCrawlerException {
+    requireNonNull(previousCatalog, "No catalog provided");
+    requireNonNull(changedTableFullNames, "No changed tables provided");
+    if (!isIncrementalCrawlSupported(previousCatalog)) {
+      return crawl();
+    }
+
+    final MutableCatalog mutableCatalog = (MutableCatalog) previousCatalog;
+    return recrawlTables(
+        mutableCatalog,
+        new HashSet<>(changedTableFullNames),
+        crawlTableDdlTimes(mutableCatalog));
+  }
+
+  private Catalog crawlCatalog() throws SchemaCrawlerException {
+    catalog = newCatalog();
+    final MutableCrawlMetrics crawlMetrics = catalog.getCrawlMetrics();
+    final MutableCrawlMetrics previousCrawlMetrics = MutableCrawlMetrics.current();
+    MutableCrawlMetrics.setCurrent(crawlMetrics);
     try {
-      retrieverConnection = new RetrieverConnection(connection, schemaRetrievalOptions);
+      final RetrieverConnection retrieverConnection =
+          new RetrieverConnection(connection, schemaRetrievalOptions);
 
-      crawlDatabaseInfo();
+      crawlDatabaseInfo(retrieverConnection);
       LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
 
-      crawlSchemas();
-      crawlColumnDataTypes();
-      crawlTables();
-      crawlRoutines();
-      crawlSynonyms();
-      crawlSequences();
-      crawlAnalysis();
+      crawlSchemas(retrieverConnection);
+      crawlColumnDataTypes(retrieverConnection);
+      if (connectionSource == null || schemaRetrievalOptions.getRetrievalWorkers() <= 1) {
+        crawlTables(retrieverConnection);
+        crawlRoutines(retrieverConnection);
+        crawlSynonyms(retrieverConnection);
+        crawlSequences(retrieverConnection);
+      } else {
+        crawlInParallel(retrieverConnection);
+      }
+      crawlAnalysis(retrieverConnection);
+      crawlTableDdlTimes(retrieverConnection, catalog)
+          .ifPresent(tableDdlTimes -> catalog.setAttribute(TABLE_DDL_TIMES, tableDdlTimes));
+
+      crawlMetrics.countObjects(catalog);
+      writeCrawlMetrics(crawlMetrics);
+
+      return catalog;
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException("Database access exception", e);
+    } finally {
+      MutableCrawlMetrics.setCurrent(previousCrawlMetrics);
+      catalog.setStringPool(null);
+    }
+  }
+
+  /**
+   * Crawls only the tables, for an incremental crawl. Routines, sequences and synonyms are not
+   * crawled, and neither are weak associations, since these are computed for the whole catalog.
+   */
+  private MutableCatalog crawlChangedTables() throws SchemaCrawlerException {
+    catalog = newCatalog();
+    try {
+      final RetrieverConnection retrieverConnection =
+          new RetrieverConnection(connection, schemaRetrievalOptions);
+
+      crawlSchemas(retrieverConnection);
+      crawlTables(retrieverConnection);
 
       return catalog;
     } catch (final SQLException e) {
       throw new SchemaCrawlerException("Database access exception", e);
+    } finally {
+      catalog.setStringPool(null);
     }
   }
 
-  private void crawlAnalysis() throws SchemaCrawlerException {
+  private void crawlAnalysis(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
 
     final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
 
@@ -181,7 +368,7 @@ public final class SchemaCrawler {
             }
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
     } catch (final Exception e) {
       throw new SchemaCrawlerException("Exception retrieving weak association information", e);
     }
@@ -189,7 +376,13 @@ public final class SchemaCrawler {
     LOGGER.log(Level.INFO, "Crawling table row counts");
     try {
       final TableRowCountsRetriever rowCountsRetriever =
-          new TableRowCountsRetriever(retrieverConnection.getConnection(), catalog);
+          new TableRowCountsRetriever(
+              retrieverConnection.getConnection(),
+              connectionSource,
+              catalog,
+              options.getLimitOptions(),
+              options.getLoadOptions(),
+              retrieverConnection.getInformationSchemaViews());
       stopWatch.time(
           "retrieveTableRowCounts",
           () -> {
@@ -211,13 +404,36 @@ public final class SchemaCrawler {
             return null;
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
     } catch (final Exception e) {
       throw new SchemaCrawlerException("Exception retrieving table row counts", e);
     }
   }
 
-  private void crawlColumnDataTypes() throws SchemaCrawlerException {
+  /**
+   * Crawls tables, routines and sequences in parallel, since they are independent of each other.
+   * Synonyms can refer to tables and routines, so they are crawled after both are done. Up to as
+   * many connections as there are retrieval workers are used.
+   */
+  private void crawlInParallel(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
+    LOGGER.log(Level.INFO, "Crawling tables, routines and sequences in parallel");
+
+    final CrawlPhaseScheduler scheduler =
+        new CrawlPhaseScheduler(
+            retrieverConnection,
+            connectionSource,
+            schemaRetrievalOptions,
+            schemaRetrievalOptions.getRetrievalWorkers());
+    scheduler.schedule("crawlTables", this::crawlTables);
+    scheduler.schedule("crawlRoutines", this::crawlRoutines);
+    scheduler.schedule("crawlSequences", this::crawlSequences);
+    scheduler.schedule("crawlSynonyms", this::crawlSynonyms, "crawlTables", "crawlRoutines");
+    scheduler.await();
+  }
+
+  private void crawlColumnDataTypes(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
     try {
       LOGGER.log(Level.INFO, "Crawling column data types");
 
@@ -259,7 +475,7 @@ public final class SchemaCrawler {
             return null;
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
     } catch (final SchemaCrawlerSQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e.getCause());
     } catch (final SchemaCrawlerException e) {
@@ -269,7 +485,8 @@ public final class SchemaCrawler {
     }
   }
 
-  private void crawlDatabaseInfo() throws SchemaCrawlerException {
+  private void crawlDatabaseInfo(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
     try {
       final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
       if (!infoLevel.is(retrieveDatabaseInfo)) {
@@ -356,7 +573,7 @@ public final class SchemaCrawler {
             return null;
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
     } catch (final SchemaCrawlerSQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e.getCause());
     } catch (final SchemaCrawlerException e) {
@@ -366,7 +583,8 @@ public final class SchemaCrawler {
     }
   }
 
-  private void crawlRoutines() throws SchemaCrawlerException {
+  private void crawlRoutines(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
 
     final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
     final LimitOptions limitOptions = options.getLimitOptions();
@@ -450,7 +668,7 @@ public final class SchemaCrawler {
             return null;
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
     } catch (final SchemaCrawlerSQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e.getCause());
     } catch (final SchemaCrawlerException e) {
@@ -460,7 +678,8 @@ public final class SchemaCrawler {
     }
   }
 
-  private void crawlSchemas() throws SchemaCrawlerException {
+  private void crawlSchemas(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
     final StopWatch stopWatch = new StopWatch("crawlSchemas");
 
     LOGGER.log(Level.INFO, "Crawling schemas");
@@ -482,7 +701,7 @@ public final class SchemaCrawler {
             return null;
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
 
       final NamedObjectList<SchemaReference> schemas = retriever.getAllSchemas();
       if (schemas.isEmpty()) {
@@ -498,7 +717,8 @@ public final class SchemaCrawler {
     }
   }
 
-  private void crawlSequences() throws SchemaCrawlerException {
+  private void crawlSequences(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
 
     final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
     final LimitOptions limitOptions = options.getLimitOptions();
@@ -530,7 +750,7 @@ public final class SchemaCrawler {
             return null;
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
     } catch (final SchemaCrawlerSQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e.getCause());
     } catch (final SchemaCrawlerException e) {
@@ -540,7 +760,8 @@ public final class SchemaCrawler {
     }
   }
 
-  private void crawlSynonyms() throws SchemaCrawlerException {
+  private void crawlSynonyms(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
 
     final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
     final LimitOptions limitOptions = options.getLimitOptions();
@@ -571,7 +792,7 @@ public final class SchemaCrawler {
             return null;
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
     } catch (final SchemaCrawlerSQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e.getCause());
     } catch (final SchemaCrawlerException e) {
@@ -581,7 +802,8 @@ public final class SchemaCrawler {
     }
   }
 
-  private void crawlTables() throws SchemaCrawlerException {
+  private void crawlTables(final RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException {
 
     final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
     final LimitOptions limitOptions = options.getLimitOptions();
@@ -609,12 +831,20 @@ public final class SchemaCrawler {
           "retrieveTables",
           () -> {
             LOGGER.log(Level.INFO, "Retrieving table names");
-            final NamedObjectList<SchemaReference> schemas = retriever.getAllSchemas();
-            retriever.retrieveTables(
-                schemas,
-                limitOptions.getTableNamePattern(),
-                limitOptions.getTableTypes(),
-                limitOptions.get(ruleForTableInclusion));
+            if (isShardedRetrieval(retrieverConnection, tablesRetrievalStrategy)) {
+              newShardedTableRetriever(retrieverConnection)
+                  .retrieveTables(
+                      limitOptions.getTableNamePattern(),
+                      limitOptions.getTableTypes(),
+                      limitOptions.get(ruleForTableInclusion));
+            } else {
+              final NamedObjectList<SchemaReference> schemas = retriever.getAllSchemas();
+              retriever.retrieveTables(
+                  schemas,
+                  limitOptions.getTableNamePattern(),
+                  limitOptions.getTableTypes(),
+                  limitOptions.get(ruleForTableInclusion));
+            }
             return null;
           });
 
@@ -630,8 +860,13 @@ public final class SchemaCrawler {
             LOGGER.log(Level.INFO, "Retrieving table columns");
             if (infoLevel.is(retrieveTableColumns)
                 && !limitOptions.isExcludeAll(ruleForColumnInclusion)) {
-              columnRetriever.retrieveTableColumns(
-                  allTables, limitOptions.get(ruleForColumnInclusion));
+              if (isShardedRetrieval(retrieverConnection, tableColumnsRetrievalStrategy)) {
+                newShardedTableRetriever(retrieverConnection)
+                    .retrieveTableColumns(allTables, limitOptions.get(ruleForColumnInclusion));
+              } else {
+                columnRetriever.retrieveTableColumns(
+                    allTables, limitOptions.get(ruleForColumnInclusion));
+              }
             }
             return null;
           });
@@ -792,7 +1027,7 @@ public final class SchemaCrawler {
             return null;
           });
 
-      LOGGER.log(Level.INFO, stopWatch.stringify());
+      logTimings(stopWatch, catalog);
     } catch (final SchemaCrawlerSQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e.getCause());
     } catch (final SchemaCrawlerException e) {
@@ -801,4 +1036,191 @@ public final class SchemaCrawler {
       throw new SchemaCrawlerException("Exception retrieving table information", e);
     }
   }
+
+  private Optional<Map<String, String>> crawlTableDdlTimes(final MutableCatalog catalog)
+      throws SchemaCrawlerException {
+    try {
+      final RetrieverConnection retrieverConnection =
+          new RetrieverConnection(connection, schemaRetrievalOptions);
+      return crawlTableDdlTimes(retrieverConnection, catalog);
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  private Optional<Map<String, String>> crawlTableDdlTimes(
+      final RetrieverConnection retrieverConnection, final MutableCatalog catalog)
+      throws SchemaCrawlerException {
+    try {
+      final TableExtRetriever retrieverExtra =
+          new TableExtRetriever(retrieverConnection, catalog, options);
+      return retrieverExtra.retrieveTableDdlTimes();
+    } catch (final Exception e) {
+      throw new SchemaCrawlerException("Exception retrieving table DDL times", e);
+    }
+  }
+
+  /**
+   * Checks whether an earlier catalog can be refreshed by crawling only the changed tables. Tables
+   * that are filtered by grep, by their relationships with other tables or by row counts could be
+   * affected by changes to any other table, so a full crawl is needed for those.
+   */
+  private boolean isIncrementalCrawlSupported(final Catalog previousCatalog) {
+    if (!(previousCatalog instanceof MutableCatalog)) {
+      LOGGER.log(Level.INFO, "Crawling all tables again, since the catalog cannot be modified");
+      return false;
+    }
+
+    final FilterOptions filterOptions = options.getFilterOptions();
+    final GrepOptions grepOptions = options.getGrepOptions();
+    if (filterOptions.getParentTableFilterDepth() > 0
+        || filterOptions.getChildTableFilterDepth() > 0
+        || filterOptions.isNoEmptyTables()
+        || options.getLoadOptions().isLoadRowCounts()
+        || grepOptions.isGrepColumns()
+        || grepOptions.isGrepDefinitions()
+        || grepOptions.isGrepRoutineParameters()) {
+      LOGGER.log(
+          Level.INFO, "Crawling all tables again, since tables are filtered using other tables");
+      return false;
+    }
+    return true;
+  }
+
+  private boolean isShardedRetrieval(
+      final RetrieverConnection retrieverConnection,
+      final SchemaInfoMetadataRetrievalStrategy retrievalStrategy) {
+    return connectionSource != null
+        && schemaRetrievalOptions.getRetrievalWorkers() > 1
+        && retrieverConnection.get(retrievalStrategy) == MetadataRetrievalStrategy.metadata;
+  }
+
+  private Catalog recrawlTables(
+      final MutableCatalog previousCatalog,
+      final Set<String> changedTableFullNames,
+      final Optional<Map<String, String>> tableDdlTimes)
+      throws SchemaCrawlerException {
+    if (changedTableFullNames.isEmpty()) {
+      LOGGER.log(Level.INFO, "Not crawling tables again, since no tables have changed");
+      return previousCatalog;
+    }
+
+    final StopWatch stopWatch = new StopWatch("recrawlTables");
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Crawling %d changed tables again", changedTableFullNames.size()));
+
+    final LimitOptions limitOptions = options.getLimitOptions();
+    final InclusionRule tableInclusionRule = limitOptions.get(ruleForTableInclusion);
+    final InclusionRule changedTableInclusionRule =
+        tableFullName ->
+            changedTableFullNames.contains(tableFullName) && tableInclusionRule.test(tableFullName);
+    final SchemaCrawlerOptions changedTablesOptions =
+        options.withLimitOptions(
+            LimitOptionsBuilder.builder()
+                .fromOptions(limitOptions)
+                .include(ruleForTableInclusion, changedTableInclusionRule)
+                .toOptions());
+
+    final MutableCrawlMetrics previousCrawlMetrics = MutableCrawlMetrics.current();
+    MutableCrawlMetrics.setCurrent(previousCatalog.getCrawlMetrics());
+    try {
+      final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
+      final MutableCatalog changedTablesCatalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, changedTablesOptions)
+              .crawlChangedTables();
+
+      stopWatch.time(
+          "mergeChangedTables",
+          () -> {
+            new ChangedTablesMerger(previousCatalog)
+                .merge(changedTablesCatalog, changedTableFullNames);
+            return null;
+          });
+
+      stopWatch.time(
+          "retrieveViewTableUsage",
+          () -> {
+            // Changed views can use unchanged tables, which were not in the changed tables crawl
+            if (infoLevel.is(retrieveViewTableUsage)) {
+              final RetrieverConnection retrieverConnection =
+                  new RetrieverConnection(connection, schemaRetrievalOptions);
+              new TableExtRetriever(retrieverConnection, previousCatalog, options)
+                  .retrieveViewTableUsage();
+            }
+            return null;
+          });
+
+      stopWatch.time(
+          "retrieveWeakAssociations",
+          () -> {
+            if (infoLevel.is(retrieveWeakAssociations)) {
+              new WeakAssociationsRetriever(previousCatalog).retrieveWeakAssociations();
+            }
+            return null;
+          });
+
+      logTimings(stopWatch, previousCatalog);
+    } catch (final SchemaCrawlerException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new SchemaCrawlerException("Exception crawling changed tables", e);
+    } finally {
+      MutableCrawlMetrics.setCurrent(previousCrawlMetrics);
+    }
+
+    if (tableDdlTimes.isPresent()) {
+      previousCatalog.setAttribute(TABLE_DDL_TIMES, tableDdlTimes.get());
+    } else {
+      previousCatalog.removeAttribute(TABLE_DDL_TIMES);
+    }
+
+    return previousCatalog;
+  }
+
+  /** Logs the time taken for each step of a crawl phase, and records it in the crawl metrics. */
+  private void logTimings(final StopWatch stopWatch, final MutableCatalog catalog) {
+    LOGGER.log(Level.INFO, stopWatch.stringify());
+    final MutableCrawlMetrics crawlMetrics = catalog.getCrawlMetrics();
+    for (final Entry<String, Duration> taskDuration : stopWatch.getTaskDurations().entrySet()) {
+      crawlMetrics.recordTaskDuration(
+          stopWatch.getId() + "." + taskDuration.getKey(), taskDuration.getValue());
+    }
+  }
+
+  /**
+   * Creates an empty catalog to crawl into. Strings from the database metadata are pooled for the
+   * duration of the crawl if memory optimization is requested.
+   */
+  private MutableCatalog newCatalog() {
+    final MutableCatalog newCatalog = new MutableCatalog("catalog");
+    if (options.getLoadOptions().isOptimizeMemory()) {
+      newCatalog.setStringPool(new StringPool());
+    }
+    return newCatalog;
+  }
+
+  private SchemaShardedTableRetriever newShardedTableRetriever(
+      final RetrieverConnection retrieverConnection) {
+    return new SchemaShardedTableRetriever(
+        retrieverConnection, connectionSource, catalog, schemaRetrievalOptions, options);
+  }
+
+  private void writeCrawlMetrics(final CrawlMetrics crawlMetrics) {
+    final Optional<Path> crawlMetricsFile = options.getLoadOptions().getCrawlMetricsFile();
+    if (!crawlMetricsFile.isPresent()) {
+      return;
+    }
+    try {
+      new CrawlMetricsWriter(crawlMetrics).write(crawlMetricsFile.get());
+      LOGGER.log(
+          Level.INFO, new StringFormat("Wrote crawl metrics to <%s>", crawlMetricsFile.get()));
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat("Could not write crawl metrics to <%s>", crawlMetricsFile.get()),
+          e);
+    }
+  }
 }
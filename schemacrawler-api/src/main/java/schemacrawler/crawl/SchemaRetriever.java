@@ -198,7 +198,7 @@ final class SchemaRetriever extends AbstractRetriever {
 
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(schemataSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(schemataSql, statement, getLimitOptions())) {
       results.setDescription("retrieveAllSchemasFromInformationSchemaViews");
       int numSchemas = 0;
       while (results.next()) {
@@ -0,0 +1,185 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.TableTypes;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Retrieves tables and table columns from metadata, with schemas spread across a number of
+ * workers, each with its own connection. Tables are retrieved into a catalog fragment per worker,
+ * and the fragments are merged into the catalog once all workers are done. Columns are retrieved
+ * directly into the tables, since each worker only handles tables from its own schemas.
+ *
+ * @author Sualeh Fatehi
+ */
+final class SchemaShardedTableRetriever {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(SchemaShardedTableRetriever.class.getName());
+
+  private final RetrieverConnection retrieverConnection;
+  private final Supplier<Connection> connectionSource;
+  private final MutableCatalog catalog;
+  private final SchemaCrawlerOptions options;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final int workers;
+
+  SchemaShardedTableRetriever(
+      final RetrieverConnection retrieverConnection,
+      final Supplier<Connection> connectionSource,
+      final MutableCatalog catalog,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options) {
+    this.retrieverConnection =
+        requireNonNull(retrieverConnection, "No retriever connection provided");
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.schemaRetrievalOptions =
+        requireNonNull(schemaRetrievalOptions, "No schema retrieval options provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+    workers = schemaRetrievalOptions.getRetrievalWorkers();
+  }
+
+  void retrieveTableColumns(
+      final NamedObjectList<MutableTable> allTables, final InclusionRule columnInclusionRule)
+      throws SchemaCrawlerException {
+    requireNonNull(allTables, "No tables provided");
+
+    final List<NamedObjectList<SchemaReference>> schemaShards = shardSchemas();
+    final Map<List<String>, Integer> shardIndexes = new HashMap<>();
+    final List<NamedObjectList<MutableTable>> tableShards = new ArrayList<>();
+    for (int i = 0; i < schemaShards.size(); i++) {
+      for (final SchemaReference schema : schemaShards.get(i)) {
+        shardIndexes.put(schema.toUniqueLookupKey(), i);
+      }
+      tableShards.add(new NamedObjectList<>());
+    }
+    for (final MutableTable table : allTables) {
+      final Integer shardIndex = shardIndexes.get(table.getSchema().toUniqueLookupKey());
+      if (shardIndex != null) {
+        tableShards.get(shardIndex).add(table);
+      }
+    }
+
+    final CrawlPhaseScheduler scheduler = newScheduler();
+    for (int i = 0; i < tableShards.size(); i++) {
+      final NamedObjectList<MutableTable> tableShard = tableShards.get(i);
+      if (tableShard.isEmpty()) {
+        continue;
+      }
+      scheduler.schedule(
+          "retrieveTableColumns-" + i,
+          shardConnection -> {
+            final TableColumnRetriever columnRetriever =
+                new TableColumnRetriever(shardConnection, catalog, options);
+            columnRetriever.retrieveTableColumns(tableShard, columnInclusionRule);
+          });
+    }
+    scheduler.await();
+  }
+
+  void retrieveTables(
+      final String tableNamePattern,
+      final TableTypes tableTypes,
+      final InclusionRule tableInclusionRule)
+      throws SchemaCrawlerException {
+
+    final List<NamedObjectList<SchemaReference>> schemaShards = shardSchemas();
+    final List<MutableCatalog> fragments = new ArrayList<>();
+
+    final CrawlPhaseScheduler scheduler = newScheduler();
+    for (int i = 0; i < schemaShards.size(); i++) {
+      final NamedObjectList<SchemaReference> schemaShard = schemaShards.get(i);
+      final MutableCatalog fragment = new MutableCatalog("fragment-" + i);
+      fragment.setStringPool(catalog.getStringPool());
+      fragments.add(fragment);
+      scheduler.schedule(
+          "retrieveTables-" + i,
+          shardConnection -> {
+            final TableRetriever tableRetriever =
+                new TableRetriever(shardConnection, fragment, options);
+            tableRetriever.retrieveTables(
+                schemaShard, tableNamePattern, tableTypes, tableInclusionRule);
+          });
+    }
+    scheduler.await();
+
+    // Merge catalog fragments
+    for (final MutableCatalog fragment : fragments) {
+      for (final MutableTable table : fragment.getAllTables()) {
+        catalog.addTable(table);
+      }
+    }
+  }
+
+  private CrawlPhaseScheduler newScheduler() {
+    return new CrawlPhaseScheduler(
+        retrieverConnection, connectionSource, schemaRetrievalOptions, workers);
+  }
+
+  /**
+   * Spreads schemas across workers, round-robin, so that each worker gets a similar number of
+   * schemas.
+   *
+   * @return Schema shards, one per worker, and no more than the number of schemas
+   */
+  private List<NamedObjectList<SchemaReference>> shardSchemas() {
+    final List<SchemaReference> schemas = catalog.getAllSchemas().values();
+    final int shardCount = Math.max(1, Math.min(workers, schemas.size()));
+    final List<NamedObjectList<SchemaReference>> shards = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      shards.add(new NamedObjectList<>());
+    }
+    for (int i = 0; i < schemas.size(); i++) {
+      shards.get(i % shardCount).add(schemas.get(i));
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Retrieving from %d schemas, sharded across %d workers", schemas.size(), shardCount));
+    return shards;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of strings for a single crawl, so that repeated strings from the database metadata, such
+ * as column names, data type names, default values and attribute values, are shared by all the
+ * objects in the catalog rather than held once for each object. Unlike {@link String#intern()},
+ * the pool is dropped at the end of the crawl, along with all of its entries.
+ */
+final class StringPool {
+
+  private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the pooled copy of a string, adding the string to the pool if it is not there.
+   *
+   * @param value String to pool, which may be null
+   * @return Pooled string, or null if the value is null
+   */
+  String intern(final String value) {
+    if (value == null) {
+      return null;
+    }
+    final String pooled = strings.putIfAbsent(value, value);
+    if (pooled == null) {
+      return value;
+    } else {
+      return pooled;
+    }
+  }
+
+  /**
+   * Pools the names and string values of a map of attributes.
+   *
+   * @param attributes Attributes to pool, which may be null
+   * @return New map of attributes with pooled names and string values
+   */
+  Map<String, Object> intern(final Map<String, Object> attributes) {
+    if (attributes == null || attributes.isEmpty()) {
+      return attributes;
+    }
+    final Map<String, Object> pooled = new HashMap<>(attributes.size() * 4 / 3 + 1);
+    for (final Entry<String, Object> attribute : attributes.entrySet()) {
+      final Object value = attribute.getValue();
+      if (value instanceof String) {
+        pooled.put(intern(attribute.getKey()), intern((String) value));
+      } else {
+        pooled.put(intern(attribute.getKey()), value);
+      }
+    }
+    return pooled;
+  }
+
+  int size() {
+    return strings.size();
+  }
+}
@@ -41,14 +41,18 @@ import java.sql.Statement;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.MetadataResultSet.BoundColumn;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -62,6 +66,42 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class TableColumnRetriever extends AbstractRetriever {
 
+  /** Table column metadata columns, bound once for each result set. */
+  private static final class TableColumnResults {
+
+    private final BoundColumn columnDef;
+    private final BoundColumn tableCat;
+    private final BoundColumn tableSchem;
+    private final BoundColumn tableName;
+    private final BoundColumn columnName;
+    private final BoundColumn ordinalPosition;
+    private final BoundColumn dataType;
+    private final BoundColumn typeName;
+    private final BoundColumn columnSize;
+    private final BoundColumn decimalDigits;
+    private final BoundColumn nullable;
+    private final BoundColumn isAutoIncrement;
+    private final BoundColumn isGeneratedColumn;
+    private final BoundColumn remarks;
+
+    TableColumnResults(final MetadataResultSet results) {
+      columnDef = results.bind("COLUMN_DEF");
+      tableCat = results.bind("TABLE_CAT");
+      tableSchem = results.bind("TABLE_SCHEM");
+      tableName = results.bind("TABLE_NAME");
+      columnName = results.bind("COLUMN_NAME");
+      ordinalPosition = results.bind("ORDINAL_POSITION");
+      dataType = results.bind("DATA_TYPE");
+      typeName = results.bind("TYPE_NAME");
+      columnSize = results.bind("COLUMN_SIZE");
+      decimalDigits = results.bind("DECIMAL_DIGITS");
+      nullable = results.bind("NULLABLE");
+      isAutoIncrement = results.bind("IS_AUTOINCREMENT");
+      isGeneratedColumn = results.bind("IS_GENERATEDCOLUMN");
+      remarks = results.bind("REMARKS");
+    }
+  }
+
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(TableColumnRetriever.class.getName());
 
@@ -93,9 +133,14 @@ final class TableColumnRetriever extends AbstractRetriever {
         retrieveTableColumnsFromDataDictionary(allTables, columnFilter, hiddenColumns);
         break;
 
+      case metadata_all_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving table columns, for all tables in each schema");
+        retrieveTableColumnsFromMetadataForSchemas(allTables, columnFilter, hiddenColumns);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving table columns");
-        retrieveTableColumnsFromMetadata(allTables, columnFilter, hiddenColumns);
+        retrieveTableColumnsFromMetadata(allTables, allTables, columnFilter, hiddenColumns);
         break;
 
       default:
@@ -105,6 +150,7 @@ final class TableColumnRetriever extends AbstractRetriever {
 
   private void createTableColumn(
       final MetadataResultSet results,
+      final TableColumnResults bound,
       final NamedObjectList<MutableTable> allTables,
       final InclusionRuleFilter<Column> columnFilter,
       final Set<List<String>> hiddenColumns) {
@@ -112,13 +158,13 @@ final class TableColumnRetriever extends AbstractRetriever {
     // don't handle it properly otherwise.
     // https://community.oracle.com/message/5940745#5940745
     // NOTE: Still an issue with Oracle JDBC driver 11.2.0.3.0
-    final String defaultValue = results.getString("COLUMN_DEF");
+    final String defaultValue = catalog.intern(results.getString(bound.columnDef));
     //
 
-    final String columnCatalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
-    final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
-    final String tableName = results.getString("TABLE_NAME");
-    final String columnName = results.getString("COLUMN_NAME");
+    final String columnCatalogName = normalizeCatalogName(results.getString(bound.tableCat));
+    final String schemaName = normalizeSchemaName(results.getString(bound.tableSchem));
+    final String tableName = results.getString(bound.tableName);
+    final String columnName = catalog.intern(results.getString(bound.columnName));
     LOGGER.log(
         Level.FINE,
         new StringFormat(
@@ -137,17 +183,17 @@ final class TableColumnRetriever extends AbstractRetriever {
     final MutableTable table = optionalTable.get();
     final MutableColumn column = lookupOrCreateTableColumn(table, columnName);
     if (columnFilter.test(column) && belongsToSchema(table, columnCatalogName, schemaName)) {
-      final int ordinalPosition = results.getInt("ORDINAL_POSITION", 0);
-      final int dataType = results.getInt("DATA_TYPE", 0);
-      final String typeName = results.getString("TYPE_NAME");
-      final int size = results.getInt("COLUMN_SIZE", 0);
-      final int decimalDigits = results.getInt("DECIMAL_DIGITS", 0);
+      final int ordinalPosition = results.getInt(bound.ordinalPosition, 0);
+      final int dataType = results.getInt(bound.dataType, 0);
+      final String typeName = results.getString(bound.typeName);
+      final int size = results.getInt(bound.columnSize, 0);
+      final int decimalDigits = results.getInt(bound.decimalDigits, 0);
       final boolean isNullable =
-          results.getInt("NULLABLE", DatabaseMetaData.columnNullableUnknown)
+          results.getInt(bound.nullable, DatabaseMetaData.columnNullableUnknown)
               == DatabaseMetaData.columnNullable;
-      final boolean isAutoIncremented = results.getBoolean("IS_AUTOINCREMENT");
-      final boolean isGenerated = results.getBoolean("IS_GENERATEDCOLUMN");
-      final String remarks = results.getString("REMARKS");
+      final boolean isAutoIncremented = results.getBoolean(bound.isAutoIncrement);
+      final boolean isGenerated = results.getBoolean(bound.isGeneratedColumn);
+      final String remarks = catalog.intern(results.getString(bound.remarks));
 
       final List<String> lookupKey =
           Arrays.asList(columnCatalogName, schemaName, tableName, columnName);
@@ -177,7 +223,7 @@ final class TableColumnRetriever extends AbstractRetriever {
         column.setDefaultValue(defaultValue);
       }
 
-      column.addAttributes(results.getAttributes());
+      column.addAttributes(catalog.intern(results.getAttributes()));
 
       LOGGER.log(
           Level.FINER,
@@ -213,7 +259,7 @@ final class TableColumnRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(hiddenColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(hiddenColumnsSql, statement, getLimitOptions())) {
       results.setDescription("retrieveHiddenColumns");
       while (results.next()) {
         // NOTE: The column names in the extension table are different
@@ -252,20 +298,22 @@ final class TableColumnRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(tableColumnsSql, statement, getLimitOptions())) {
       results.setDescription("retrieveTableColumnsFromDataDictionary");
+      final TableColumnResults bound = new TableColumnResults(results);
       while (results.next()) {
-        createTableColumn(results, allTables, columnFilter, hiddenColumns);
+        createTableColumn(results, bound, allTables, columnFilter, hiddenColumns);
       }
     }
   }
 
   private void retrieveTableColumnsFromMetadata(
+      final Iterable<MutableTable> tables,
       final NamedObjectList<MutableTable> allTables,
       final InclusionRuleFilter<Column> columnFilter,
       final Set<List<String>> hiddenColumns)
       throws SchemaCrawlerSQLException {
-    for (final MutableTable table : allTables) {
+    for (final MutableTable table : tables) {
       LOGGER.log(Level.FINE, "Retrieving table columns for " + table);
       try (final MetadataResultSet results =
           new MetadataResultSet(
@@ -275,8 +323,9 @@ final class TableColumnRetriever extends AbstractRetriever {
                       table.getSchema().getName(),
                       table.getName(),
                       null))) {
+        final TableColumnResults bound = new TableColumnResults(results);
         while (results.next()) {
-          createTableColumn(results, allTables, columnFilter, hiddenColumns);
+          createTableColumn(results, bound, allTables, columnFilter, hiddenColumns);
         }
       } catch (final SQLException e) {
         throw new SchemaCrawlerSQLException(
@@ -286,4 +335,71 @@ final class TableColumnRetriever extends AbstractRetriever {
       }
     }
   }
+
+  /**
+   * Retrieves columns for all the tables in a schema with a single metadata call, and routes each
+   * row to its table by lookup. Some drivers reject a null table name pattern, or silently return
+   * no rows for it, so in that case columns are retrieved one table at a time for the remaining
+   * schemas.
+   */
+  private void retrieveTableColumnsFromMetadataForSchemas(
+      final NamedObjectList<MutableTable> allTables,
+      final InclusionRuleFilter<Column> columnFilter,
+      final Set<List<String>> hiddenColumns)
+      throws SchemaCrawlerSQLException {
+    boolean isBulkRetrievalSupported = true;
+    final Map<Schema, List<MutableTable>> tablesBySchema = groupTablesBySchema(allTables);
+    for (final Entry<Schema, List<MutableTable>> schemaTables : tablesBySchema.entrySet()) {
+      final Schema schema = schemaTables.getKey();
+      final List<MutableTable> tables = schemaTables.getValue();
+      if (isBulkRetrievalSupported) {
+        isBulkRetrievalSupported =
+            retrieveTableColumnsFromMetadataForSchema(
+                schema, allTables, columnFilter, hiddenColumns);
+      }
+      if (!isBulkRetrievalSupported) {
+        retrieveTableColumnsFromMetadata(tables, allTables, columnFilter, hiddenColumns);
+      }
+    }
+  }
+
+  private boolean retrieveTableColumnsFromMetadataForSchema(
+      final Schema schema,
+      final NamedObjectList<MutableTable> allTables,
+      final InclusionRuleFilter<Column> columnFilter,
+      final Set<List<String>> hiddenColumns) {
+    LOGGER.log(Level.FINE, new StringFormat("Retrieving table columns for schema <%s>", schema));
+    int numColumns = 0;
+    try (final MetadataResultSet results =
+        new MetadataResultSet(
+            getMetaData().getColumns(schema.getCatalogName(), schema.getName(), null, null))) {
+      results.setDescription("retrieveTableColumnsFromMetadataForSchema");
+      final TableColumnResults bound = new TableColumnResults(results);
+      while (results.next()) {
+        numColumns = numColumns + 1;
+        createTableColumn(results, bound, allTables, columnFilter, hiddenColumns);
+      }
+    } catch (final SQLException e) {
+      logPossiblyUnsupportedSQLFeature(
+          new StringFormat(
+              "Could not retrieve table columns for schema <%s>, "
+                  + "so retrieving table columns for each table",
+              schema),
+          e);
+      return false;
+    }
+    if (numColumns == 0) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "No table columns returned for schema <%s>, "
+                  + "so retrieving table columns for each table",
+              schema));
+      return false;
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Processed %d table columns for schema <%s>", numColumns, schema));
+    return true;
+  }
 }
@@ -93,7 +93,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                extTableConstraintInformationSql, statement, getSchemaInclusionRule())) {
+                extTableConstraintInformationSql, statement, getLimitOptions())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -152,7 +152,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
+                tableConstraintsInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -214,7 +214,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsColumnsInformationSql, statement, getSchemaInclusionRule())) {
+                tableConstraintsColumnsInformationSql, statement, getLimitOptions())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -32,6 +32,7 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_COLUMN
 import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_INDEXES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_DDL_TIMES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TRIGGERS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.VIEWS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.VIEW_TABLE_USAGE;
@@ -39,6 +40,8 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.VIEW_TABLE_USAGE;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -54,6 +57,7 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
 import us.fatehi.utility.string.StringFormat;
 
 /**
@@ -93,7 +97,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(columnAttributesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(columnAttributesSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -180,7 +184,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableAttributesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(tableAttributesSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -227,7 +231,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(extIndexesInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(extIndexesInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("INDEX_CATALOG"));
@@ -280,6 +284,50 @@ final class TableExtRetriever extends AbstractRetriever {
     }
   }
 
+  /**
+   * Retrieves the time of the last DDL change for each table, keyed by the full name of the table.
+   * Tables do not have to be in the catalog, so that newly created tables can be found.
+   *
+   * @return Last DDL change times, or empty if they could not be retrieved
+   */
+  Optional<Map<String, String>> retrieveTableDdlTimes() {
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+
+    if (!informationSchemaViews.hasQuery(TABLE_DDL_TIMES)) {
+      LOGGER.log(Level.INFO, "Not retrieving table DDL times, since this was not requested");
+      LOGGER.log(Level.FINE, "Table DDL times SQL statement was not provided");
+      return Optional.empty();
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving table DDL times");
+
+    final Query tableDdlTimesSql = informationSchemaViews.getQuery(TABLE_DDL_TIMES);
+    final Connection connection = getDatabaseConnection();
+    final Map<String, String> tableDdlTimes = new HashMap<>();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(tableDdlTimesSql, statement, getLimitOptions())) {
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        final String lastDdlTime = results.getString("LAST_DDL_TIME");
+
+        final Table table =
+            new TablePartial(new SchemaReference(catalogName, schemaName), tableName);
+        tableDdlTimes.put(table.getFullName(), lastDdlTime);
+      }
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not retrieve table DDL times", e);
+      return Optional.empty();
+    }
+
+    LOGGER.log(
+        Level.INFO, new StringFormat("Retrieved DDL times for %d tables", tableDdlTimes.size()));
+    return Optional.of(tableDdlTimes);
+  }
+
   /**
    * Retrieves table definitions from the database, in the INFORMATION_SCHEMA format.
    *
@@ -302,7 +350,7 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableDefinitionsInformationSql, statement, getSchemaInclusionRule())) {
+                tableDefinitionsInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -361,7 +409,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(triggerInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(triggerInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TRIGGER_CATALOG"));
@@ -437,7 +485,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(viewInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -492,7 +540,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewTableUsageSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(viewTableUsageSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("VIEW_CATALOG"));
@@ -0,0 +1,125 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Table;
+import schemacrawler.utility.NamedObjectSort;
+
+/**
+ * Relationships of a table to other tables, worked out in a single pass over the foreign keys of
+ * the table. Holds the exported and imported foreign keys, and the parent and child tables. A
+ * snapshot is only valid for the list of foreign keys that it was built from, so it is rebuilt
+ * when foreign keys are added or removed, or when they are sorted again.
+ */
+final class TableRelationships {
+
+  private final List<MutableForeignKey> foreignKeys;
+  private final List<ForeignKey> exportedForeignKeys;
+  private final List<ForeignKey> importedForeignKeys;
+  private final List<Table> parentTables;
+  private final List<Table> childTables;
+
+  TableRelationships(final Table table, final List<MutableForeignKey> foreignKeys) {
+    this.foreignKeys = foreignKeys;
+
+    final List<ForeignKey> exportedForeignKeys = new ArrayList<>();
+    final List<ForeignKey> importedForeignKeys = new ArrayList<>();
+    final Set<Table> parentTables = new HashSet<>();
+    final Set<Table> childTables = new HashSet<>();
+    for (final ForeignKey foreignKey : foreignKeys) {
+      boolean isExportedKey = false;
+      boolean isImportedKey = false;
+      for (final ForeignKeyColumnReference columnReference : foreignKey) {
+        final Table parentTable = columnReference.getPrimaryKeyColumn().getParent();
+        final Table childTable = columnReference.getForeignKeyColumn().getParent();
+        if (parentTable.equals(table)) {
+          isExportedKey = true;
+          childTables.add(childTable);
+        }
+        if (childTable.equals(table)) {
+          isImportedKey = true;
+          parentTables.add(parentTable);
+        }
+      }
+      if (isExportedKey) {
+        exportedForeignKeys.add(foreignKey);
+      }
+      if (isImportedKey) {
+        importedForeignKeys.add(foreignKey);
+      }
+    }
+
+    this.exportedForeignKeys = unmodifiableList(exportedForeignKeys);
+    this.importedForeignKeys = unmodifiableList(importedForeignKeys);
+    this.parentTables = sortedTables(parentTables);
+    this.childTables = sortedTables(childTables);
+  }
+
+  List<Table> getChildTables() {
+    return childTables;
+  }
+
+  List<ForeignKey> getExportedForeignKeys() {
+    return exportedForeignKeys;
+  }
+
+  List<ForeignKey> getImportedForeignKeys() {
+    return importedForeignKeys;
+  }
+
+  List<Table> getParentTables() {
+    return parentTables;
+  }
+
+  /**
+   * Checks whether this snapshot was built from the given list of foreign keys. Lists of foreign
+   * keys are shared, read-only snapshots, so they can be compared by identity.
+   *
+   * @param foreignKeys Current list of foreign keys of the table
+   * @return Whether the relationships are up to date
+   */
+  boolean isBuiltFrom(final List<MutableForeignKey> foreignKeys) {
+    return this.foreignKeys == foreignKeys;
+  }
+
+  private List<Table> sortedTables(final Set<Table> tables) {
+    final List<Table> tablesList = new ArrayList<>(tables);
+    tablesList.sort(NamedObjectSort.alphabetical);
+    return unmodifiableList(tablesList);
+  }
+}
@@ -40,6 +40,7 @@ import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.MetadataResultSet.BoundColumn;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Schema;
@@ -60,6 +61,24 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class TableRetriever extends AbstractRetriever {
 
+  /** Table metadata columns, bound once for each result set. */
+  private static final class TableResults {
+
+    private final BoundColumn tableCat;
+    private final BoundColumn tableSchem;
+    private final BoundColumn tableName;
+    private final BoundColumn tableType;
+    private final BoundColumn remarks;
+
+    TableResults(final MetadataResultSet results) {
+      tableCat = results.bind("TABLE_CAT");
+      tableSchem = results.bind("TABLE_SCHEM");
+      tableName = results.bind("TABLE_NAME");
+      tableType = results.bind("TABLE_TYPE");
+      remarks = results.bind("REMARKS");
+    }
+  }
+
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(TableRetriever.class.getName());
 
@@ -93,6 +112,7 @@ final class TableRetriever extends AbstractRetriever {
         retrieveTablesFromDataDictionary(schemas, tableNamePattern, tableTypes, tableFilter);
         break;
 
+      case metadata_all_per_schema:
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving tables");
         retrieveTablesFromMetadata(schemas, tableNamePattern, tableTypes, tableFilter);
@@ -105,17 +125,18 @@ final class TableRetriever extends AbstractRetriever {
 
   private void createTable(
       final MetadataResultSet results,
+      final TableResults bound,
       final NamedObjectList<SchemaReference> schemas,
       final InclusionRuleFilter<Table> tableFilter,
       final TableTypes filteredTableTypes) {
-    final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
-    final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
-    final String tableName = results.getString("TABLE_NAME");
+    final String catalogName = normalizeCatalogName(results.getString(bound.tableCat));
+    final String schemaName = normalizeSchemaName(results.getString(bound.tableSchem));
+    final String tableName = catalog.intern(results.getString(bound.tableName));
     LOGGER.log(
         Level.FINE,
         new StringFormat("Retrieving table <%s.%s.%s>", catalogName, schemaName, tableName));
-    final String tableTypeString = results.getString("TABLE_TYPE");
-    final String remarks = results.getString("REMARKS");
+    final String tableTypeString = results.getString(bound.tableType);
+    final String remarks = catalog.intern(results.getString(bound.remarks));
 
     final Optional<SchemaReference> optionalSchema =
         schemas.lookup(Arrays.asList(catalogName, schemaName));
@@ -172,12 +193,13 @@ final class TableRetriever extends AbstractRetriever {
     }
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(tablesSql, statement, getLimitOptions())) {
       results.setDescription("retrieveTablesFromDataDictionary");
+      final TableResults bound = new TableResults(results);
       int numTables = 0;
       while (results.next()) {
         numTables = numTables + 1;
-        createTable(results, schemas, tableFilter, filteredTableTypes);
+        createTable(results, bound, schemas, tableFilter, filteredTableTypes);
       }
       LOGGER.log(Level.INFO, new StringFormat("Processed %d tables", numTables));
     }
@@ -205,10 +227,11 @@ final class TableRetriever extends AbstractRetriever {
                   .getTables(
                       catalogName, schemaName, tableNamePattern, filteredTableTypes.toArray()))) {
         results.setDescription("retrieveTablesFromMetadata");
+        final TableResults bound = new TableResults(results);
         int numTables = 0;
         while (results.next()) {
           numTables = numTables + 1;
-          createTable(results, schemas, tableFilter, supportedTableTypes);
+          createTable(results, bound, schemas, tableFilter, supportedTableTypes);
         }
         LOGGER.log(Level.INFO, new StringFormat("Processed %d tables", numTables));
       }
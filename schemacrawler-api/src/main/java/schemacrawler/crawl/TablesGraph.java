@@ -32,9 +32,8 @@ import java.util.List;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
-import schemacrawler.schema.ForeignKey;
-import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
 import schemacrawler.schema.View;
 import us.fatehi.utility.graph.DirectedGraph;
 import us.fatehi.utility.graph.GraphException;
@@ -54,12 +53,11 @@ final class TablesGraph extends DirectedGraph<Table> {
 
     for (final Table table : tables) {
       addVertex(table);
-      for (final ForeignKey foreignKey : table.getForeignKeys()) {
-        for (final ForeignKeyColumnReference columnRef : foreignKey) {
-          addEdge(
-              columnRef.getPrimaryKeyColumn().getParent(),
-              columnRef.getForeignKeyColumn().getParent());
-        }
+      for (final Table parentTable : table.getRelatedTables(TableRelationshipType.parent)) {
+        addEdge(parentTable, table);
+      }
+      for (final Table childTable : table.getRelatedTables(TableRelationshipType.child)) {
+        addEdge(table, childTable);
       }
     }
   }
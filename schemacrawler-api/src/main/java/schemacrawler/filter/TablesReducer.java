@@ -29,8 +29,10 @@ package schemacrawler.filter;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -97,6 +99,11 @@ final class TablesReducer implements Reducer<Table> {
     allTables.filter(table -> keepTables.contains(table));
   }
 
+  /**
+   * Includes tables related to the grepped tables, up to the given depth. This is a breadth-first
+   * search that is bounded by the depth, and only expands the tables that were newly included at
+   * the previous level.
+   */
   private Collection<Table> includeRelatedTables(
       final TableRelationshipType tableRelationshipType,
       final int depth,
@@ -104,14 +111,17 @@ final class TablesReducer implements Reducer<Table> {
     final Set<Table> includedTables = new HashSet<>();
     includedTables.addAll(greppedTables);
 
-    for (int i = 0; i < depth; i++) {
-      for (final Table table : new HashSet<>(includedTables)) {
+    Collection<Table> currentLevel = greppedTables;
+    for (int i = 0; i < depth && !currentLevel.isEmpty(); i++) {
+      final List<Table> nextLevel = new ArrayList<>();
+      for (final Table table : currentLevel) {
         for (final Table relatedTable : table.getRelatedTables(tableRelationshipType)) {
-          if (!isTablePartial(relatedTable)) {
-            includedTables.add(relatedTable);
+          if (!isTablePartial(relatedTable) && includedTables.add(relatedTable)) {
+            nextLevel.add(relatedTable);
           }
         }
       }
+      currentLevel = nextLevel;
     }
 
     return includedTables;
@@ -0,0 +1,333 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.inclusionrule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Matches text against a regular expression, with fast paths for the shapes of patterns that are
+ * commonly used for inclusion rules and grep. A pattern that is an alternation of literals,
+ * prefixes (<code>PUBLIC\.BOOKS\..*</code>), suffixes (<code>.*\.ID</code>) and infixes (<code>
+ * .*NAME.*</code>) is compiled into a single matcher that checks all the alternatives in one call,
+ * with exact literals held in a hash set. Unescaped dots match any single character, and
+ * case-insensitive matching is supported, as long as the pattern has no other flags. All other
+ * patterns are matched with the regular expression.
+ *
+ * <p>The fast paths follow the semantics of {@link java.util.regex.Matcher#matches()}. Case
+ * insensitive matching only folds US-ASCII letters, and wildcards do not match line terminators
+ * unless the pattern is in dot-all mode.
+ */
+final class CompiledPattern {
+
+  private static final char ANY_CHARACTER = '\uFFFF';
+  private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+
+  /** A fixed-length run of literal characters and single-character wildcards. */
+  private static final class Segment {
+
+    private final char[] chars;
+    private final boolean hasWildcards;
+    private final boolean anyPrefix;
+    private final boolean anySuffix;
+
+    Segment(final StringBuilder chars, final boolean anyPrefix, final boolean anySuffix) {
+      this.chars = chars.toString().toCharArray();
+      hasWildcards = chars.indexOf(String.valueOf(ANY_CHARACTER)) >= 0;
+      this.anyPrefix = anyPrefix;
+      this.anySuffix = anySuffix;
+    }
+  }
+
+  /**
+   * Compiles a regular expression into a matcher.
+   *
+   * @param pattern Regular expression
+   * @return Compiled matcher
+   */
+  static CompiledPattern compile(final Pattern pattern) {
+    requireNonNull(pattern, "No pattern provided");
+    return new CompiledPattern(pattern);
+  }
+
+  private static boolean isAsciiLetter(final char ch) {
+    return ch >= 'A' && ch <= 'Z' || ch >= 'a' && ch <= 'z';
+  }
+
+  private static boolean isLineTerminator(final char ch) {
+    return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+  }
+
+  private final Pattern pattern;
+  private final boolean caseInsensitive;
+  private final boolean dotAll;
+  private final boolean isFastPath;
+  private final Set<String> literals;
+  private final List<Segment> segments;
+
+  private CompiledPattern(final Pattern pattern) {
+    this.pattern = pattern;
+    literals = new HashSet<>();
+    segments = new ArrayList<>();
+
+    String regex = pattern.pattern();
+    int flags = pattern.flags();
+    if (regex.startsWith("(?i)") || regex.startsWith("(?s)")) {
+      flags = flags | inlineFlags(regex.substring(2, 3));
+      regex = regex.substring(4);
+    } else if (regex.startsWith("(?is)") || regex.startsWith("(?si)")) {
+      flags = flags | inlineFlags(regex.substring(2, 4));
+      regex = regex.substring(5);
+    }
+    caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0;
+    dotAll = (flags & Pattern.DOTALL) != 0;
+
+    isFastPath = (flags & ~SUPPORTED_FLAGS) == 0 && parseAlternatives(regex);
+    if (!isFastPath) {
+      literals.clear();
+      segments.clear();
+    }
+  }
+
+  /**
+   * Whether the pattern is matched without the regular expression engine.
+   *
+   * @return Whether the pattern has a fast path
+   */
+  boolean isFastPath() {
+    return isFastPath;
+  }
+
+  /**
+   * Checks whether the entire text matches the pattern.
+   *
+   * @param text Text to match
+   * @return Whether the text matches
+   */
+  boolean matches(final String text) {
+    if (text == null) {
+      return false;
+    }
+    if (!isFastPath) {
+      return pattern.matcher(text).matches();
+    }
+
+    if (!dotAll) {
+      // No part of a fast path pattern can match a line terminator
+      for (int i = 0; i < text.length(); i++) {
+        if (isLineTerminator(text.charAt(i))) {
+          return false;
+        }
+      }
+    }
+
+    if (!literals.isEmpty()) {
+      final String key = caseInsensitive ? toLowerCaseAscii(text) : text;
+      if (literals.contains(key)) {
+        return true;
+      }
+    }
+    for (final Segment segment : segments) {
+      if (matches(segment, text)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return pattern.pattern();
+  }
+
+  private boolean charMatches(final char patternChar, final char textChar) {
+    if (patternChar == textChar) {
+      return true;
+    }
+    if (patternChar == ANY_CHARACTER) {
+      return dotAll || !isLineTerminator(textChar);
+    }
+    return caseInsensitive
+        && isAsciiLetter(patternChar)
+        && isAsciiLetter(textChar)
+        && (textChar | 0x20) == (patternChar | 0x20);
+  }
+
+  private int inlineFlags(final String inlineFlags) {
+    int flags = 0;
+    if (inlineFlags.indexOf('i') >= 0) {
+      flags = flags | Pattern.CASE_INSENSITIVE;
+    }
+    if (inlineFlags.indexOf('s') >= 0) {
+      flags = flags | Pattern.DOTALL;
+    }
+    return flags;
+  }
+
+  private boolean matches(final Segment segment, final String text) {
+    final int length = segment.chars.length;
+    final int textLength = text.length();
+    if (textLength < length) {
+      return false;
+    }
+    if (!segment.anyPrefix && !segment.anySuffix) {
+      return textLength == length && matchesAt(segment, text, 0);
+    }
+    if (!segment.anyPrefix) {
+      return matchesAt(segment, text, 0);
+    }
+    if (!segment.anySuffix) {
+      return matchesAt(segment, text, textLength - length);
+    }
+    if (!segment.hasWildcards && !caseInsensitive) {
+      return text.contains(new String(segment.chars));
+    }
+    for (int offset = 0; offset <= textLength - length; offset++) {
+      if (matchesAt(segment, text, offset)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean matchesAt(final Segment segment, final String text, final int offset) {
+    final char[] chars = segment.chars;
+    for (int i = 0; i < chars.length; i++) {
+      if (!charMatches(chars[i], text.charAt(offset + i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses a pattern made up of alternatives that are literals, optionally starting or ending with
+   * <code>.*</code>. Returns false if the pattern has any other regular expression constructs.
+   */
+  private boolean parseAlternatives(final String regex) {
+    StringBuilder chars = new StringBuilder();
+    boolean anyPrefix = false;
+    boolean anySuffix = false;
+
+    for (int i = 0; i < regex.length(); i++) {
+      final char ch = regex.charAt(i);
+      if (anySuffix && ch != '|') {
+        // .* is only supported at the start or the end of an alternative
+        if (ch == '.' && i + 1 < regex.length() && regex.charAt(i + 1) == '*') {
+          i++;
+          continue;
+        }
+        return false;
+      }
+      switch (ch) {
+        case '\\':
+          if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+            // Escaped letters and digits are character classes or other constructs
+            return false;
+          }
+          i++;
+          chars.append(regex.charAt(i));
+          break;
+        case '.':
+          if (i + 1 < regex.length() && regex.charAt(i + 1) == '*') {
+            i++;
+            if (chars.length() == 0) {
+              anyPrefix = true;
+            } else {
+              anySuffix = true;
+            }
+          } else {
+            chars.append(ANY_CHARACTER);
+          }
+          break;
+        case '|':
+          addAlternative(chars, anyPrefix, anySuffix);
+          chars = new StringBuilder();
+          anyPrefix = false;
+          anySuffix = false;
+          break;
+        case '[':
+        case ']':
+        case '(':
+        case ')':
+        case '{':
+        case '}':
+        case '?':
+        case '*':
+        case '+':
+        case '^':
+        case '$':
+          return false;
+        default:
+          if (isLineTerminator(ch) || ch == ANY_CHARACTER) {
+            return false;
+          }
+          chars.append(ch);
+          break;
+      }
+    }
+    addAlternative(chars, anyPrefix, anySuffix);
+
+    return true;
+  }
+
+  private void addAlternative(
+      final StringBuilder chars, final boolean anyPrefix, final boolean anySuffix) {
+    if (anyPrefix && chars.length() == 0) {
+      // .* on its own
+      segments.add(new Segment(chars, true, true));
+      return;
+    }
+    final Segment segment = new Segment(chars, anyPrefix, anySuffix);
+    if (!anyPrefix && !anySuffix && !segment.hasWildcards) {
+      final String literal = chars.toString();
+      literals.add(caseInsensitive ? toLowerCaseAscii(literal) : literal);
+    } else {
+      segments.add(segment);
+    }
+  }
+
+  private String toLowerCaseAscii(final String text) {
+    char[] chars = null;
+    for (int i = 0; i < text.length(); i++) {
+      final char ch = text.charAt(i);
+      if (ch >= 'A' && ch <= 'Z') {
+        if (chars == null) {
+          chars = text.toCharArray();
+        }
+        chars[i] = (char) (ch | 0x20);
+      }
+    }
+    return chars == null ? text : new String(chars);
+  }
+}
@@ -48,8 +48,29 @@ public final class RegularExpressionRule implements InclusionRuleWithRegularExpr
   private static final long serialVersionUID = 3443758881974362293L;
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(RegularExpressionRule.class.getName());
+  // Depth of the frame that is logged as the source of the message, from
+  // the frame of the test method
+  private static final int CALLER_DEPTH = 5;
+
+  private static final int MEMOIZED_RESULTS_SIZE = 4096;
+  private static final int MAX_MEMOIZED_TEXT_LENGTH = 256;
+
   private final Pattern patternExclude;
   private final Pattern patternInclude;
+  private transient volatile CompiledPattern compiledExclude;
+  private transient volatile CompiledPattern compiledInclude;
+  private transient volatile MemoizedResult[] results;
+
+  private static final class MemoizedResult {
+
+    private final String text;
+    private final boolean include;
+
+    MemoizedResult(final String text, final boolean include) {
+      this.text = text;
+      this.include = include;
+    }
+  }
 
   /**
    * Set include and exclude patterns.
@@ -128,18 +149,87 @@ public final class RegularExpressionRule implements InclusionRuleWithRegularExpr
     return result;
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Patterns are compiled into fast matchers where possible. When a pattern needs a full regular
+   * expression match, results for names and other short text are memoized, since the same names
+   * are tested again and again while a catalog is crawled and filtered.
+   */
   @Override
   public boolean test(final String text) {
+    if (isBlank(text) || LOGGER.isLoggable(Level.FINE)) {
+      return testAndLog(text);
+    }
+    if (text.length() > MAX_MEMOIZED_TEXT_LENGTH
+        || getCompiledInclude().isFastPath() && getCompiledExclude().isFastPath()) {
+      return matches(text);
+    }
+
+    // Results are memoized in a direct-mapped table, so that a lookup is a single array access
+    final MemoizedResult[] results = getResults();
+    final int slot = text.hashCode() & MEMOIZED_RESULTS_SIZE - 1;
+    final MemoizedResult memoized = results[slot];
+    if (memoized != null && (memoized.text == text || memoized.text.equals(text))) {
+      return memoized.include;
+    }
+    final boolean include = matches(text);
+    results[slot] = new MemoizedResult(text, include);
+    return include;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return String.format(
+        "%s@%h {+/%s/ -/%s/}",
+        getClass().getSimpleName(),
+        System.identityHashCode(this),
+        patternInclude.pattern(),
+        patternExclude.pattern());
+  }
+
+  private CompiledPattern getCompiledExclude() {
+    CompiledPattern compiled = compiledExclude;
+    if (compiled == null) {
+      compiled = CompiledPattern.compile(patternExclude);
+      compiledExclude = compiled;
+    }
+    return compiled;
+  }
+
+  private CompiledPattern getCompiledInclude() {
+    CompiledPattern compiled = compiledInclude;
+    if (compiled == null) {
+      compiled = CompiledPattern.compile(patternInclude);
+      compiledInclude = compiled;
+    }
+    return compiled;
+  }
+
+  private MemoizedResult[] getResults() {
+    MemoizedResult[] memoized = results;
+    if (memoized == null) {
+      memoized = new MemoizedResult[MEMOIZED_RESULTS_SIZE];
+      results = memoized;
+    }
+    return memoized;
+  }
+
+  private boolean matches(final String text) {
+    return getCompiledInclude().matches(text) && !getCompiledExclude().matches(text);
+  }
+
+  private boolean testAndLog(final String text) {
 
     final Supplier<String> actionMessage;
     boolean include = false;
     if (!isBlank(text)) {
-      if (!patternInclude.matcher(text).matches()) {
+      if (!getCompiledInclude().matches(text)) {
         actionMessage =
             new StringFormat(
                 "Excluding <%s> since it does not match /%s/", text, patternInclude.pattern());
-      } else if (patternExclude.matcher(text).matches()) {
+      } else if (getCompiledExclude().matches(text)) {
         actionMessage =
             new StringFormat(
                 "Excluding <%s> since it matches /%s/", text, patternExclude.pattern());
@@ -153,22 +243,12 @@ public final class RegularExpressionRule implements InclusionRuleWithRegularExpr
       actionMessage = new StringFormat("Excluding, since text is blank");
     }
 
-    // Log caller
+    // Log caller, allowing for the extra frame, since this is only called
+    // from the test method
     if (LOGGER.isLoggable(Level.FINE)) {
-      LOGGER.log(Level.FINE, 5, actionMessage.get(), null);
+      LOGGER.log(Level.FINE, CALLER_DEPTH + 1, actionMessage.get(), null);
     }
 
     return include;
   }
-
-  /** {@inheritDoc} */
-  @Override
-  public String toString() {
-    return String.format(
-        "%s@%h {+/%s/ -/%s/}",
-        getClass().getSimpleName(),
-        System.identityHashCode(this),
-        patternInclude.pattern(),
-        patternExclude.pattern());
-  }
 }
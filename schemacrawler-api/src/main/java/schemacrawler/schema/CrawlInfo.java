@@ -34,6 +34,14 @@ import schemacrawler.ProductVersion;
 
 public interface CrawlInfo extends Serializable {
 
+  /**
+   * Gets measurements taken while the database was crawled, such as the time taken for each step
+   * of the crawl, and the number of rows read.
+   *
+   * @return Crawl metrics
+   */
+  CrawlMetrics getCrawlMetrics();
+
   /**
    * Gets the timestamp of when the database was crawled, in UTC, in ISO 8501 format, with precision
    * to the second.
@@ -0,0 +1,77 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+
+/** Measurements taken while the database was crawled, for comparing crawls with each other. */
+public interface CrawlMetrics extends Serializable {
+
+  /**
+   * Gets the number of result sets that were read from the database, from database metadata calls
+   * and from data dictionary queries.
+   *
+   * @return Number of JDBC calls
+   */
+  long getJdbcCallCount();
+
+  /**
+   * Gets the estimated number of round trips to the database that were needed to fetch the rows of
+   * the result sets. The estimate is based on the requested fetch sizes, which drivers may ignore
+   * or cap.
+   *
+   * @return Estimated number of fetch round trips
+   */
+  long getFetchRoundTrips();
+
+  /**
+   * Gets the number of database objects in the catalog, by type, such as tables or columns.
+   *
+   * @return Number of objects, by type
+   */
+  Map<String, Long> getObjectCounts();
+
+  /**
+   * Gets the number of rows read, by the name of the metadata call or data dictionary query.
+   *
+   * @return Number of rows read, by result set
+   */
+  Map<String, Long> getRowsRead();
+
+  /**
+   * Gets the time taken for each step of the crawl, by name, such as "crawlTables.retrieveColumns".
+   * Steps that run in parallel are timed separately, so the times can add up to more than the
+   * total time for the crawl.
+   *
+   * @return Time taken, by crawl step
+   */
+  Map<String, Duration> getTaskDurations();
+}
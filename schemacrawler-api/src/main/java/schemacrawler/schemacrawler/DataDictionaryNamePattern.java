@@ -0,0 +1,249 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Translates an inclusion rule for the full names of tables or columns into a regular expression
+ * for the simple names, that can be used to filter rows in data dictionary SQL on the database
+ * server. The translated expression matches at least every name that the inclusion rule could
+ * include, and possibly more, so inclusion rules still need to be applied to the rows that are
+ * returned. Only inclusion rules that end in a known name, or one of a few known names, such as
+ * "PUBLIC\.BOOKS\.(AUTHORS|BOOKS)" or ".*\.AUTHORS", can be translated. All other rules are
+ * translated into an expression that matches any name.
+ *
+ * <p>The translated expression only uses the parts of regular expressions that POSIX extended
+ * regular expressions also support, so it can be used with regular expression operators such as
+ * REGEXP_LIKE.
+ */
+@UtilityMarker
+final class DataDictionaryNamePattern {
+
+  static final String MATCH_ALL = ".*";
+
+  /**
+   * Translates an inclusion rule for full names into a regular expression for simple names.
+   *
+   * @param inclusionRule Inclusion rule for full names, which may be null
+   * @return Regular expression for simple names
+   */
+  static String toNamePattern(final InclusionRule inclusionRule) {
+    if (!(inclusionRule instanceof InclusionRuleWithRegularExpression)) {
+      return MATCH_ALL;
+    }
+    final Pattern inclusionPattern =
+        ((InclusionRuleWithRegularExpression) inclusionRule).getInclusionPattern();
+    if (inclusionPattern == null || inclusionPattern.flags() != 0) {
+      return MATCH_ALL;
+    }
+
+    final List<String> names = new ArrayList<>();
+    for (final String alternative : splitAlternatives(inclusionPattern.pattern())) {
+      if (!addNames(alternative, names)) {
+        return MATCH_ALL;
+      }
+    }
+    if (names.isEmpty()) {
+      return MATCH_ALL;
+    }
+
+    // Match the last part of names that have dots in them too, in case they are not quoted
+    final StringBuilder buffer = new StringBuilder("(^|\\.)(");
+    for (int i = 0; i < names.size(); i++) {
+      if (i > 0) {
+        buffer.append('|');
+      }
+      buffer.append(names.get(i).replace("$", "\\$"));
+    }
+    buffer.append(")$");
+    return buffer.toString();
+  }
+
+  /**
+   * Adds the names that a single alternative of a regular expression ends in. The alternative has
+   * to end with a literal name, or a group of alternative literal names, either after an escaped
+   * dot or on its own.
+   *
+   * @return False if the names could not be worked out
+   */
+  private static boolean addNames(final String alternative, final List<String> names) {
+    String regex = alternative;
+    if (regex.startsWith("^")) {
+      regex = regex.substring(1);
+    }
+    if (regex.endsWith("$") && !regex.endsWith("\\$")) {
+      regex = regex.substring(0, regex.length() - 1);
+    }
+
+    final int lastSeparator = lastTopLevelSeparator(regex);
+    final String namePart;
+    if (lastSeparator < 0) {
+      namePart = regex;
+    } else {
+      namePart = regex.substring(lastSeparator + 2);
+    }
+
+    final String groupBody;
+    if (namePart.startsWith("(?:") && namePart.endsWith(")")) {
+      groupBody = namePart.substring(3, namePart.length() - 1);
+    } else if (namePart.startsWith("(")
+        && namePart.endsWith(")")
+        && !namePart.startsWith("(?")) {
+      groupBody = namePart.substring(1, namePart.length() - 1);
+    } else {
+      final String name = toLiteral(namePart);
+      if (name == null) {
+        return false;
+      }
+      names.add(name);
+      return true;
+    }
+
+    final List<String> groupAlternatives = splitAlternatives(groupBody);
+    if (groupAlternatives.isEmpty()) {
+      return false;
+    }
+    for (final String groupAlternative : groupAlternatives) {
+      final String name = toLiteral(groupAlternative);
+      if (name == null) {
+        return false;
+      }
+      names.add(name);
+    }
+    return true;
+  }
+
+  private static boolean isNameCharacter(final char ch) {
+    return Character.isLetterOrDigit(ch) || ch == '_' || ch == '#' || ch == '@';
+  }
+
+  /**
+   * Finds the last escaped dot that is not inside a group or a character class.
+   *
+   * @return Index of the backslash, or -1 if there is none
+   */
+  private static int lastTopLevelSeparator(final String regex) {
+    int lastSeparator = -1;
+    int depth = 0;
+    boolean inClass = false;
+    for (int i = 0; i < regex.length(); i++) {
+      final char ch = regex.charAt(i);
+      if (ch == '\\') {
+        if (i + 1 < regex.length() && regex.charAt(i + 1) == '.' && depth == 0 && !inClass) {
+          lastSeparator = i;
+        }
+        i++;
+      } else if (inClass) {
+        if (ch == ']') {
+          inClass = false;
+        }
+      } else if (ch == '[') {
+        inClass = true;
+      } else if (ch == '(') {
+        depth++;
+      } else if (ch == ')') {
+        depth--;
+      }
+    }
+    return lastSeparator;
+  }
+
+  /**
+   * Splits a regular expression into its top level alternatives.
+   *
+   * @return Alternatives, or an empty list if the regular expression is not well formed
+   */
+  private static List<String> splitAlternatives(final String regex) {
+    final List<String> alternatives = new ArrayList<>();
+    int depth = 0;
+    boolean inClass = false;
+    int start = 0;
+    for (int i = 0; i < regex.length(); i++) {
+      final char ch = regex.charAt(i);
+      if (ch == '\\') {
+        i++;
+      } else if (inClass) {
+        if (ch == ']') {
+          inClass = false;
+        }
+      } else if (ch == '[') {
+        inClass = true;
+      } else if (ch == '(') {
+        depth++;
+      } else if (ch == ')') {
+        depth--;
+        if (depth < 0) {
+          return new ArrayList<>();
+        }
+      } else if (ch == '|' && depth == 0) {
+        alternatives.add(regex.substring(start, i));
+        start = i + 1;
+      }
+    }
+    if (depth != 0 || inClass) {
+      return new ArrayList<>();
+    }
+    alternatives.add(regex.substring(start));
+    return alternatives;
+  }
+
+  /**
+   * Converts a regular expression that only matches a single name into that name.
+   *
+   * @return Name, or null if the regular expression can match anything else
+   */
+  private static String toLiteral(final String regex) {
+    if (regex.isEmpty()) {
+      return null;
+    }
+    final StringBuilder name = new StringBuilder(regex.length());
+    for (int i = 0; i < regex.length(); i++) {
+      final char ch = regex.charAt(i);
+      if (ch == '\\' && i + 1 < regex.length() && regex.charAt(i + 1) == '$') {
+        name.append('$');
+        i++;
+      } else if (isNameCharacter(ch)) {
+        name.append(ch);
+      } else {
+        return null;
+      }
+    }
+    return name.toString();
+  }
+
+  private DataDictionaryNamePattern() {
+    // Prevent instantiation
+  }
+}
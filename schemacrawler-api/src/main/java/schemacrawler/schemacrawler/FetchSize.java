@@ -0,0 +1,130 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+import java.io.Serializable;
+
+/**
+ * Number of rows to fetch from the database in one round trip, for a metadata query. A fetch size
+ * can be fixed, or adaptive. An adaptive fetch size starts small, and is doubled after each round
+ * trip, for as long as the estimated size of one fetch stays within a memory limit.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class FetchSize implements Serializable {
+
+  private static final long serialVersionUID = -5367391257314049387L;
+
+  /** Default fetch size for metadata queries. */
+  public static final FetchSize DEFAULT = fixed(20);
+
+  /**
+   * Adaptive fetch size, that starts at the provided number of rows, and grows within the memory
+   * limit.
+   *
+   * @param initialFetchSize Number of rows for the first round trip
+   * @param maxFetchBytes Maximum estimated size of a single fetch, in bytes
+   * @return Adaptive fetch size
+   */
+  public static FetchSize adaptive(final int initialFetchSize, final long maxFetchBytes) {
+    if (maxFetchBytes <= 0) {
+      throw new IllegalArgumentException("Maximum fetch size in bytes needs to be positive");
+    }
+    return new FetchSize(initialFetchSize, maxFetchBytes);
+  }
+
+  /**
+   * Fixed fetch size.
+   *
+   * @param fetchSize Number of rows for each round trip
+   * @return Fixed fetch size
+   */
+  public static FetchSize fixed(final int fetchSize) {
+    return new FetchSize(fetchSize, 0);
+  }
+
+  private final int initialFetchSize;
+  private final long maxFetchBytes;
+
+  private FetchSize(final int initialFetchSize, final long maxFetchBytes) {
+    if (initialFetchSize <= 0) {
+      throw new IllegalArgumentException("Fetch size needs to be positive");
+    }
+    this.initialFetchSize = initialFetchSize;
+    this.maxFetchBytes = maxFetchBytes;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    final FetchSize other = (FetchSize) obj;
+    return initialFetchSize == other.initialFetchSize && maxFetchBytes == other.maxFetchBytes;
+  }
+
+  /**
+   * Number of rows for the first round trip, or for every round trip for a fixed fetch size.
+   *
+   * @return Number of rows
+   */
+  public int getInitialFetchSize() {
+    return initialFetchSize;
+  }
+
+  /**
+   * Maximum estimated size of a single fetch, in bytes, for an adaptive fetch size.
+   *
+   * @return Maximum fetch size in bytes, or 0 for a fixed fetch size
+   */
+  public long getMaxFetchBytes() {
+    return maxFetchBytes;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * initialFetchSize + Long.hashCode(maxFetchBytes);
+  }
+
+  public boolean isAdaptive() {
+    return maxFetchBytes > 0;
+  }
+
+  @Override
+  public String toString() {
+    if (isAdaptive()) {
+      return String.format(
+          "adaptive fetch size, from %d rows, up to %d bytes", initialFetchSize, maxFetchBytes);
+    } else {
+      return String.format("fixed fetch size of %d rows", initialFetchSize);
+    }
+  }
+}
@@ -52,11 +52,14 @@ public enum InformationSchemaKey {
   PROCEDURE_COLUMNS(DATABASE_METADATA),
   ROUTINES(INFORMATION_SCHEMA),
   SCHEMATA(INFORMATION_SCHEMA),
+  SCHEMA_FINGERPRINT(ADDITIONAL_INFO),
   SEQUENCES(INFORMATION_SCHEMA),
   SERVER_INFORMATION(ADDITIONAL_INFO),
   TABLES(DATABASE_METADATA),
   TABLE_COLUMNS(DATABASE_METADATA),
   TABLE_CONSTRAINTS(INFORMATION_SCHEMA),
+  TABLE_DDL_TIMES(ADDITIONAL_INFO),
+  TABLE_ROW_COUNTS(ADDITIONAL_INFO),
   TRIGGERS(INFORMATION_SCHEMA),
   VIEWS(INFORMATION_SCHEMA),
   VIEW_TABLE_USAGE(INFORMATION_SCHEMA),
@@ -43,6 +43,8 @@ import us.fatehi.utility.ObjectToString;
 public final class InformationSchemaViews implements Options {
 
   private final Map<InformationSchemaKey, String> informationSchemaQueries;
+  private final Map<InformationSchemaKey, FetchSize> fetchSizes;
+  private final FetchSize defaultFetchSize;
 
   /** Creates empty information schema views. */
   InformationSchemaViews() {
@@ -55,10 +57,40 @@ public final class InformationSchemaViews implements Options {
    * @param informationSchemaViewsQueries Map of information schema view definitions.
    */
   InformationSchemaViews(final Map<InformationSchemaKey, String> informationSchemaViewsQueries) {
+    this(informationSchemaViewsQueries, null, FetchSize.DEFAULT);
+  }
+
+  /**
+   * Information schema views from a map, with fetch sizes for the queries.
+   *
+   * @param informationSchemaViewsQueries Map of information schema view definitions.
+   * @param fetchSizes Map of fetch sizes for information schema view queries.
+   * @param defaultFetchSize Fetch size for queries that do not have one of their own.
+   */
+  InformationSchemaViews(
+      final Map<InformationSchemaKey, String> informationSchemaViewsQueries,
+      final Map<InformationSchemaKey, FetchSize> fetchSizes,
+      final FetchSize defaultFetchSize) {
     informationSchemaQueries = new EnumMap<>(InformationSchemaKey.class);
     if (informationSchemaViewsQueries != null) {
       informationSchemaQueries.putAll(informationSchemaViewsQueries);
     }
+    this.fetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    if (fetchSizes != null) {
+      this.fetchSizes.putAll(fetchSizes);
+    }
+    this.defaultFetchSize = requireNonNull(defaultFetchSize, "No default fetch size provided");
+  }
+
+  /**
+   * Gets the fetch size for an information schema view query.
+   *
+   * @param key SQL query key
+   * @return Fetch size for the query, or the default fetch size
+   */
+  public FetchSize getFetchSize(final InformationSchemaKey key) {
+    requireNonNull(key, "No SQL query key provided");
+    return fetchSizes.getOrDefault(key, defaultFetchSize);
   }
 
   /**
@@ -68,7 +100,7 @@ public final class InformationSchemaViews implements Options {
    */
   public Query getQuery(final InformationSchemaKey key) {
     requireNonNull(key, "No SQL query key provided");
-    return new Query(key.name(), informationSchemaQueries.get(key));
+    return new Query(key.name(), informationSchemaQueries.get(key), getFetchSize(key));
   }
 
   public boolean hasQuery(final InformationSchemaKey key) {
@@ -92,4 +124,12 @@ public final class InformationSchemaViews implements Options {
   protected Map<InformationSchemaKey, String> getAllInformationSchemaViews() {
     return new EnumMap<>(informationSchemaQueries);
   }
+
+  FetchSize getDefaultFetchSize() {
+    return defaultFetchSize;
+  }
+
+  Map<InformationSchemaKey, FetchSize> getFetchSizes() {
+    return new EnumMap<>(fetchSizes);
+  }
 }
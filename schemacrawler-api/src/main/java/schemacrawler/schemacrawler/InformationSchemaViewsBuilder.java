@@ -59,9 +59,13 @@ public final class InformationSchemaViewsBuilder
   }
 
   private final Map<InformationSchemaKey, String> informationSchemaQueries;
+  private final Map<InformationSchemaKey, FetchSize> fetchSizes;
+  private FetchSize defaultFetchSize;
 
   private InformationSchemaViewsBuilder() {
     informationSchemaQueries = new EnumMap<>(InformationSchemaKey.class);
+    fetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    defaultFetchSize = FetchSize.DEFAULT;
   }
 
   @Override
@@ -72,6 +76,8 @@ public final class InformationSchemaViewsBuilder
     }
 
     informationSchemaQueries.putAll(informationSchemaViews.getAllInformationSchemaViews());
+    fetchSizes.putAll(informationSchemaViews.getFetchSizes());
+    defaultFetchSize = informationSchemaViews.getDefaultFetchSize();
 
     return this;
   }
@@ -116,7 +122,7 @@ public final class InformationSchemaViewsBuilder
 
   @Override
   public InformationSchemaViews toOptions() {
-    return new InformationSchemaViews(informationSchemaQueries);
+    return new InformationSchemaViews(informationSchemaQueries, fetchSizes, defaultFetchSize);
   }
 
   @Override
@@ -124,6 +130,40 @@ public final class InformationSchemaViewsBuilder
     return ObjectToString.toString(informationSchemaQueries);
   }
 
+  /**
+   * Sets the fetch size for queries that do not have a fetch size of their own.
+   *
+   * @param fetchSize Fetch size, or null for the SchemaCrawler default.
+   * @return Builder
+   */
+  public InformationSchemaViewsBuilder withDefaultFetchSize(final FetchSize fetchSize) {
+    if (fetchSize == null) {
+      defaultFetchSize = FetchSize.DEFAULT;
+    } else {
+      defaultFetchSize = fetchSize;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the fetch size for a query. Large data dictionary queries, such as for table columns,
+   * run much faster with a larger fetch size.
+   *
+   * @param key SQL query key
+   * @param fetchSize Fetch size, or null to use the default fetch size.
+   * @return Builder
+   */
+  public InformationSchemaViewsBuilder withFetchSize(
+      final InformationSchemaKey key, final FetchSize fetchSize) {
+    requireNonNull(key, "No key provided");
+    if (fetchSize == null) {
+      fetchSizes.remove(key);
+    } else {
+      fetchSizes.put(key, fetchSize);
+    }
+    return this;
+  }
+
   public InformationSchemaViewsBuilder withFunction(
       final BiConsumer<InformationSchemaViewsBuilder, Connection>
           informationSchemaViewsBuilderForConnection,
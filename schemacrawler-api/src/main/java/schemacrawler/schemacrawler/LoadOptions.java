@@ -29,16 +29,105 @@ package schemacrawler.schemacrawler;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 import us.fatehi.utility.ObjectToString;
 
 public final class LoadOptions implements Options {
 
   private final boolean isLoadRowCounts;
+  private final boolean isEstimateRowCounts;
+  private final boolean isOptimizeMemory;
+  private final int rowCountWorkers;
+  private final int rowCountQueryTimeoutSeconds;
+  private final int rowCountDeadlineSeconds;
   private final SchemaInfoLevel schemaInfoLevel;
+  private final Path catalogCacheDirectory;
+  private final long catalogCacheMaxBytes;
+  private final Path crawlMetricsFile;
 
-  LoadOptions(final SchemaInfoLevel schemaInfoLevel, final boolean isLoadRowCounts) {
+  LoadOptions(
+      final SchemaInfoLevel schemaInfoLevel,
+      final boolean isLoadRowCounts,
+      final boolean isEstimateRowCounts,
+      final int rowCountWorkers,
+      final int rowCountQueryTimeoutSeconds,
+      final int rowCountDeadlineSeconds,
+      final Path catalogCacheDirectory,
+      final long catalogCacheMaxBytes,
+      final Path crawlMetricsFile,
+      final boolean isOptimizeMemory) {
     this.schemaInfoLevel = requireNonNull(schemaInfoLevel, "No schema info level provided");
     this.isLoadRowCounts = isLoadRowCounts;
+    this.isEstimateRowCounts = isEstimateRowCounts;
+    this.rowCountWorkers = rowCountWorkers;
+    this.rowCountQueryTimeoutSeconds = rowCountQueryTimeoutSeconds;
+    this.rowCountDeadlineSeconds = rowCountDeadlineSeconds;
+    this.catalogCacheDirectory = catalogCacheDirectory;
+    this.catalogCacheMaxBytes = catalogCacheMaxBytes;
+    this.crawlMetricsFile = crawlMetricsFile;
+    this.isOptimizeMemory = isOptimizeMemory;
+  }
+
+  /**
+   * Directory for the catalog cache. Crawled catalogs are kept in this directory, and are used
+   * again for the same database and options as long as the schema fingerprint of the database has
+   * not changed.
+   *
+   * @return Catalog cache directory, if the cache is enabled
+   */
+  public Optional<Path> getCatalogCacheDirectory() {
+    return Optional.ofNullable(catalogCacheDirectory);
+  }
+
+  /**
+   * Maximum size of the catalog cache, in bytes. The least recently used catalogs are removed
+   * when the cache grows larger than this.
+   *
+   * @return Maximum size of the catalog cache, in bytes
+   */
+  public long getCatalogCacheMaxBytes() {
+    return catalogCacheMaxBytes;
+  }
+
+  /**
+   * File to write crawl metrics to, after each crawl. Metrics are written as JSON if the file name
+   * ends with ".json", and in the OpenMetrics text format otherwise.
+   *
+   * @return Crawl metrics file, if crawl metrics are to be written
+   */
+  public Optional<Path> getCrawlMetricsFile() {
+    return Optional.ofNullable(crawlMetricsFile);
+  }
+
+  /**
+   * Overall time allowed for counting table rows, in seconds. Tables that are not counted by then
+   * are marked as having an unknown row count. Zero means that there is no deadline.
+   *
+   * @return Deadline for row counts, in seconds
+   */
+  public int getRowCountDeadlineSeconds() {
+    return rowCountDeadlineSeconds;
+  }
+
+  /**
+   * Time allowed for counting the rows of a single table, in seconds. Zero means that there is no
+   * timeout.
+   *
+   * @return Query timeout for a single row count, in seconds
+   */
+  public int getRowCountQueryTimeoutSeconds() {
+    return rowCountQueryTimeoutSeconds;
+  }
+
+  /**
+   * Number of database connections to use for counting table rows at the same time.
+   *
+   * @return Number of row count workers
+   */
+  public int getRowCountWorkers() {
+    return rowCountWorkers;
   }
 
   /**
@@ -50,6 +139,15 @@ public final class LoadOptions implements Options {
     return schemaInfoLevel;
   }
 
+  /**
+   * Whether row counts should be estimated from database statistics, rather than counted exactly.
+   *
+   * @return Whether to estimate row counts
+   */
+  public boolean isEstimateRowCounts() {
+    return isEstimateRowCounts;
+  }
+
   /**
    * If infolevel=maximum, this option will load row counts.
    *
@@ -59,6 +157,16 @@ public final class LoadOptions implements Options {
     return isLoadRowCounts;
   }
 
+  /**
+   * Whether the crawled catalog should use less memory, by sharing repeated strings such as column
+   * names, data type names and remarks between the objects in the catalog.
+   *
+   * @return Whether to optimize the memory used by the catalog
+   */
+  public boolean isOptimizeMemory() {
+    return isOptimizeMemory;
+  }
+
   /** {@inheritDoc} */
   @Override
   public String toString() {
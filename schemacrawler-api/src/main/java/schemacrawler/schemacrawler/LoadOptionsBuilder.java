@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.schemacrawler;
 
+import java.nio.file.Path;
+
 public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuilder, LoadOptions> {
 
   public static LoadOptionsBuilder builder() {
@@ -39,11 +41,27 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
   }
 
   private boolean isLoadRowCounts;
+  private boolean isEstimateRowCounts;
+  private int rowCountWorkers;
+  private int rowCountQueryTimeoutSeconds;
+  private int rowCountDeadlineSeconds;
   private SchemaInfoLevel schemaInfoLevel;
+  private Path catalogCacheDirectory;
+  private long catalogCacheMaxBytes;
+  private Path crawlMetricsFile;
+  private boolean isOptimizeMemory;
 
   /** Default options. */
   private LoadOptionsBuilder() {
     schemaInfoLevel = SchemaInfoLevelBuilder.standard();
+    rowCountWorkers = 1;
+    catalogCacheMaxBytes = 512L * 1024 * 1024;
+  }
+
+  /** Estimate row counts from database statistics, instead of counting rows exactly. */
+  public LoadOptionsBuilder estimateRowCounts(final boolean value) {
+    isEstimateRowCounts = value;
+    return this;
   }
 
   @Override
@@ -54,6 +72,14 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
 
     schemaInfoLevel = options.getSchemaInfoLevel();
     isLoadRowCounts = options.isLoadRowCounts();
+    isEstimateRowCounts = options.isEstimateRowCounts();
+    rowCountWorkers = options.getRowCountWorkers();
+    rowCountQueryTimeoutSeconds = options.getRowCountQueryTimeoutSeconds();
+    rowCountDeadlineSeconds = options.getRowCountDeadlineSeconds();
+    catalogCacheDirectory = options.getCatalogCacheDirectory().orElse(null);
+    catalogCacheMaxBytes = options.getCatalogCacheMaxBytes();
+    crawlMetricsFile = options.getCrawlMetricsFile().orElse(null);
+    isOptimizeMemory = options.isOptimizeMemory();
 
     return this;
   }
@@ -69,9 +95,66 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     return this;
   }
 
+  /**
+   * Use less memory for large catalogs, by sharing repeated strings such as column names, data
+   * type names and remarks between the objects in the catalog. This makes the crawl a little
+   * slower.
+   */
+  public LoadOptionsBuilder optimizeMemory(final boolean value) {
+    isOptimizeMemory = value;
+    return this;
+  }
+
   @Override
   public LoadOptions toOptions() {
-    return new LoadOptions(schemaInfoLevel, isLoadRowCounts);
+    return new LoadOptions(
+        schemaInfoLevel,
+        isLoadRowCounts,
+        isEstimateRowCounts,
+        rowCountWorkers,
+        rowCountQueryTimeoutSeconds,
+        rowCountDeadlineSeconds,
+        catalogCacheDirectory,
+        catalogCacheMaxBytes,
+        crawlMetricsFile,
+        isOptimizeMemory);
+  }
+
+  /**
+   * Keep crawled catalogs in a cache directory, and use them again for repeated crawls of an
+   * unchanged database. The cache is only used for databases that provide a schema fingerprint
+   * query.
+   *
+   * @param catalogCacheDirectory Cache directory, or null to turn off the cache
+   */
+  public LoadOptionsBuilder withCatalogCacheDirectory(final Path catalogCacheDirectory) {
+    this.catalogCacheDirectory = catalogCacheDirectory;
+    return this;
+  }
+
+  /**
+   * Maximum size of the catalog cache. The least recently used catalogs are removed when the cache
+   * grows larger than this.
+   *
+   * @param catalogCacheMaxBytes Maximum size in bytes
+   */
+  public LoadOptionsBuilder withCatalogCacheMaxBytes(final long catalogCacheMaxBytes) {
+    if (catalogCacheMaxBytes <= 0) {
+      throw new IllegalArgumentException("Catalog cache size must be positive");
+    }
+    this.catalogCacheMaxBytes = catalogCacheMaxBytes;
+    return this;
+  }
+
+  /**
+   * Write crawl metrics to a file after each crawl, as JSON if the file name ends with ".json",
+   * and in the OpenMetrics text format otherwise.
+   *
+   * @param crawlMetricsFile Crawl metrics file, or null to not write crawl metrics
+   */
+  public LoadOptionsBuilder withCrawlMetricsFile(final Path crawlMetricsFile) {
+    this.crawlMetricsFile = crawlMetricsFile;
+    return this;
   }
 
   public LoadOptionsBuilder withInfoLevel(final InfoLevel infoLevel) {
@@ -95,4 +178,45 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     }
     return this;
   }
+
+  /**
+   * Overall time allowed for counting table rows. Tables that are not counted by then are marked
+   * as having an unknown row count.
+   *
+   * @param rowCountDeadlineSeconds Deadline in seconds, or zero for no deadline
+   */
+  public LoadOptionsBuilder withRowCountDeadlineSeconds(final int rowCountDeadlineSeconds) {
+    if (rowCountDeadlineSeconds < 0) {
+      throw new IllegalArgumentException("Row count deadline cannot be negative");
+    }
+    this.rowCountDeadlineSeconds = rowCountDeadlineSeconds;
+    return this;
+  }
+
+  /**
+   * Time allowed for counting the rows of a single table.
+   *
+   * @param rowCountQueryTimeoutSeconds Query timeout in seconds, or zero for no timeout
+   */
+  public LoadOptionsBuilder withRowCountQueryTimeoutSeconds(final int rowCountQueryTimeoutSeconds) {
+    if (rowCountQueryTimeoutSeconds < 0) {
+      throw new IllegalArgumentException("Row count query timeout cannot be negative");
+    }
+    this.rowCountQueryTimeoutSeconds = rowCountQueryTimeoutSeconds;
+    return this;
+  }
+
+  /**
+   * Number of database connections to use for counting table rows at the same time. Additional
+   * connections are only opened if a connection source is available to the crawler.
+   *
+   * @param rowCountWorkers Number of row count workers, at least one
+   */
+  public LoadOptionsBuilder withRowCountWorkers(final int rowCountWorkers) {
+    if (rowCountWorkers < 1) {
+      throw new IllegalArgumentException("At least one row count worker is needed");
+    }
+    this.rowCountWorkers = rowCountWorkers;
+    return this;
+  }
 }
@@ -32,6 +32,11 @@ public enum MetadataRetrievalStrategy {
   // use JDBC metadata calls to retrieve information one database object at a time;
   // each JDBC driver decides how to honor these requests
   metadata,
+  // use JDBC metadata calls to retrieve table columns, primary keys, indexes and
+  // foreign keys for all tables in a schema together, falling back to one table at
+  // a time if the JDBC driver does not support this; other database objects are
+  // retrieved the same way as for metadata
+  metadata_all_per_schema,
   // use the INFORMATION_SCHEMA or database-specific data dictionary queries to
   // retrieve information for all database objects together
   data_dictionary_all
@@ -27,6 +27,7 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.schemacrawler;
 
+import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.TemplatingUtility.extractTemplateVariables;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
@@ -44,6 +45,7 @@ public final class Query implements Serializable {
 
   private final String name;
   private final String query;
+  private final FetchSize fetchSize;
 
   /**
    * Definition of a query, including a name, and parameterized or regular SQL.
@@ -52,8 +54,30 @@ public final class Query implements Serializable {
    * @param query Query SQL.
    */
   public Query(final String name, final String query) {
+    this(name, query, FetchSize.DEFAULT);
+  }
+
+  /**
+   * Definition of a query, including a name, parameterized or regular SQL, and the number of rows
+   * to fetch in one round trip.
+   *
+   * @param name Query name.
+   * @param query Query SQL.
+   * @param fetchSize Fetch size for results.
+   */
+  public Query(final String name, final String query, final FetchSize fetchSize) {
     this.name = requireNotBlank(name, "No query name provided");
     this.query = requireNotBlank(query, "No query SQL provided");
+    this.fetchSize = requireNonNull(fetchSize, "No fetch size provided");
+  }
+
+  /**
+   * Gets the fetch size for query results.
+   *
+   * @return Fetch size
+   */
+  public FetchSize getFetchSize() {
+    return fetchSize;
   }
 
   /**
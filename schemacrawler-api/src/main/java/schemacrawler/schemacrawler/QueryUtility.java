@@ -28,6 +28,10 @@ http://www.gnu.org/licenses/
 package schemacrawler.schemacrawler;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DataDictionaryNamePattern.toNamePattern;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForColumnInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
 import static us.fatehi.utility.DatabaseUtility.executeSql;
 import static us.fatehi.utility.DatabaseUtility.executeSqlForLong;
 import static us.fatehi.utility.DatabaseUtility.executeSqlForScalar;
@@ -70,6 +74,34 @@ public final class QueryUtility {
     return executeSql(statement, sql);
   }
 
+  /**
+   * Executes a data dictionary query, with the schema, table and column inclusion rules from the
+   * limit options substituted as the "schemas", "tables" and "columns" template parameters, so that
+   * the database server can filter rows before they are returned. The table and column parameters
+   * are regular expressions for simple names, which match at least every name that the inclusion
+   * rules could include, so the inclusion rules still need to be applied to the results.
+   *
+   * @param query Query, which can use the "schemas", "tables" and "columns" template parameters
+   * @param statement Statement to execute the query with
+   * @param limitOptions Limit options, with the inclusion rules
+   * @return Results of the query
+   * @throws SQLException On an exception
+   */
+  public static ResultSet executeAgainstSchema(
+      final Query query, final Statement statement, final LimitOptions limitOptions)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(limitOptions, "No limit options provided");
+    final String sql =
+        getQuery(
+            query,
+            limitOptions.get(ruleForSchemaInclusion),
+            limitOptions.get(ruleForTableInclusion),
+            limitOptions.get(ruleForColumnInclusion));
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSql(statement, sql);
+  }
+
   public static ResultSet executeAgainstTable(
       final Query query,
       final Statement statement,
@@ -97,6 +129,30 @@ public final class QueryUtility {
     return executeSqlForLong(connection, sql);
   }
 
+  /**
+   * Executes a query for a table, that returns a single number. The statement can be reused for
+   * queries against other tables.
+   *
+   * @param query Query, which can use table template variables
+   * @param statement Statement to execute the query with
+   * @param table Table to run the query against
+   * @param identifiers Identifiers, to quote table and column names
+   * @return Long value of the result
+   * @throws SQLException On an exception, or if the result is not a number
+   */
+  public static long executeForLong(
+      final Query query,
+      final Statement statement,
+      final Table table,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(identifiers, "No identifiers provided");
+    final String sql = getQuery(query, table, true, identifiers);
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSqlForLong(statement, sql);
+  }
+
   public static Object executeForScalar(final Query query, final Connection connection)
       throws SQLException {
     requireNonNull(query, "No query provided");
@@ -117,6 +173,30 @@ public final class QueryUtility {
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Executes a query for a table, that returns a single value. The statement can be reused for
+   * queries against other tables.
+   *
+   * @param query Query, which can use table template variables
+   * @param statement Statement to execute the query with
+   * @param table Table to run the query against
+   * @param identifiers Identifiers, to quote table and column names
+   * @return Value of the result, or null if there are no rows
+   * @throws SQLException On an exception
+   */
+  public static Object executeForScalar(
+      final Query query,
+      final Statement statement,
+      final Table table,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(identifiers, "No identifiers provided");
+    final String sql = getQuery(query, table, true, identifiers);
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSqlForScalar(statement, sql);
+  }
+
   private static String getColumnsListAsString(
       final List<Column> columns,
       final boolean omitLargeObjectColumns,
@@ -146,8 +226,27 @@ public final class QueryUtility {
    * @return Ready-to-execute query
    */
   private static String getQuery(final Query query, final InclusionRule schemaInclusionRule) {
+    return getQuery(query, schemaInclusionRule, null, null);
+  }
+
+  /**
+   * Gets the query with parameters substituted.
+   *
+   * @param schemaInclusionRule Schema inclusion rule
+   * @param tableInclusionRule Table inclusion rule
+   * @param columnInclusionRule Column inclusion rule
+   * @return Ready-to-execute query
+   */
+  private static String getQuery(
+      final Query query,
+      final InclusionRule schemaInclusionRule,
+      final InclusionRule tableInclusionRule,
+      final InclusionRule columnInclusionRule) {
     final Map<String, String> properties = new HashMap<>();
 
+    properties.put("tables", toNamePattern(tableInclusionRule));
+    properties.put("columns", toNamePattern(columnInclusionRule));
+
     properties.put("schemas", ".*");
     if (schemaInclusionRule != null
         && schemaInclusionRule instanceof InclusionRuleWithRegularExpression) {
@@ -54,6 +54,7 @@ public final class SchemaRetrievalOptions implements Options {
   private final boolean supportsSchemas;
   private final TypeMap typeMap;
   private final EnumDataTypeHelper enumDataTypeHelper;
+  private final int retrievalWorkers;
   EnumMap<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       metadataRetrievalStrategyMap;
 
@@ -68,6 +69,7 @@ public final class SchemaRetrievalOptions implements Options {
     identifiers = bldr.identifiers;
     typeMap = bldr.overridesTypeMap.orElse(new TypeMap());
     enumDataTypeHelper = bldr.enumDataTypeHelper;
+    retrievalWorkers = bldr.retrievalWorkers;
     metadataRetrievalStrategyMap = new EnumMap<>(bldr.metadataRetrievalStrategyMap);
   }
 
@@ -101,6 +103,10 @@ public final class SchemaRetrievalOptions implements Options {
     return informationSchemaViews;
   }
 
+  public int getRetrievalWorkers() {
+    return retrievalWorkers;
+  }
+
   public TypeMap getTypeMap() {
     return typeMap;
   }
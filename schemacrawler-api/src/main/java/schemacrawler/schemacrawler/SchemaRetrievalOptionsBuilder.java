@@ -67,6 +67,7 @@ public final class SchemaRetrievalOptionsBuilder
   boolean supportsSchemas;
   EnumDataTypeHelper enumDataTypeHelper;
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> metadataRetrievalStrategyMap;
+  int retrievalWorkers;
 
   private SchemaRetrievalOptionsBuilder() {
     dbServerType = DatabaseServerType.UNKNOWN;
@@ -79,6 +80,7 @@ public final class SchemaRetrievalOptionsBuilder
     identifiers = Identifiers.STANDARD;
     overridesTypeMap = Optional.empty();
     enumDataTypeHelper = NO_OP_ENUM_DATA_TYPE_HELPER;
+    retrievalWorkers = 1;
 
     metadataRetrievalStrategyMap = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
     for (final SchemaInfoMetadataRetrievalStrategy key :
@@ -133,6 +135,7 @@ public final class SchemaRetrievalOptionsBuilder
     identifiers = options.getIdentifiers();
     overridesTypeMap = Optional.empty();
     metadataRetrievalStrategyMap = options.getMetadataRetrievalStrategyMap();
+    retrievalWorkers = options.getRetrievalWorkers();
 
     return this;
   }
@@ -218,6 +221,35 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the fetch size for information schema view queries that do not have a fetch size of
+   * their own.
+   *
+   * @param fetchSize Fetch size, or null for the SchemaCrawler default
+   */
+  public SchemaRetrievalOptionsBuilder withDefaultFetchSize(final FetchSize fetchSize) {
+    informationSchemaViews =
+        InformationSchemaViewsBuilder.builder(informationSchemaViews)
+            .withDefaultFetchSize(fetchSize)
+            .toOptions();
+    return this;
+  }
+
+  /**
+   * Sets the fetch size for an information schema view query.
+   *
+   * @param key Information schema view query key
+   * @param fetchSize Fetch size, or null to use the default fetch size
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(
+      final InformationSchemaKey key, final FetchSize fetchSize) {
+    informationSchemaViews =
+        InformationSchemaViewsBuilder.builder(informationSchemaViews)
+            .withFetchSize(key, fetchSize)
+            .toOptions();
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withInformationSchemaViews(
       final InformationSchemaViews informationSchemaViews) {
     this.informationSchemaViews =
@@ -254,6 +286,22 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of workers, each with its own connection, that are used to crawl tables,
+   * routines and sequences at the same time, and that schemas are spread across when tables and
+   * columns are retrieved from metadata. Parallel retrieval needs a source of additional
+   * connections, and is turned off with a single worker.
+   *
+   * @param retrievalWorkers Number of workers, at least 1
+   */
+  public SchemaRetrievalOptionsBuilder withRetrievalWorkers(final int retrievalWorkers) {
+    if (retrievalWorkers < 1) {
+      throw new IllegalArgumentException("Need at least one retrieval worker");
+    }
+    this.retrievalWorkers = retrievalWorkers;
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withTypeMap(final Map<String, Class<?>> typeMap) {
     if (typeMap == null) {
       overridesTypeMap = Optional.empty();
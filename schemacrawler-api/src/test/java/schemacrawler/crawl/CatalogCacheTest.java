@@ -0,0 +1,224 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CatalogCacheTest {
+
+  private static List<String> cacheFiles(final Path cacheDirectory) throws Exception {
+    try (final Stream<Path> files = Files.list(cacheDirectory)) {
+      return files.map(file -> file.getFileName().toString()).collect(Collectors.toList());
+    }
+  }
+
+  private static List<String> fullNames(final Collection<? extends NamedObject> namedObjects) {
+    return namedObjects.stream().map(NamedObject::getFullName).collect(Collectors.toList());
+  }
+
+  private static SchemaCrawlerOptions schemaCrawlerOptions(final Path cacheDirectory) {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder()
+            .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+            .withCatalogCacheDirectory(cacheDirectory);
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  private static SchemaRetrievalOptions schemaRetrievalOptions() {
+    return schemaRetrievalOptions(
+        "SELECT TABLE_CATALOG, TABLE_SCHEMA, COUNT(*) AS OBJECT_COUNT "
+            + "FROM INFORMATION_SCHEMA.TABLES "
+            + "GROUP BY TABLE_CATALOG, TABLE_SCHEMA ORDER BY TABLE_CATALOG, TABLE_SCHEMA");
+  }
+
+  private static SchemaRetrievalOptions schemaRetrievalOptions(final String fingerprintSql) {
+    return SchemaRetrievalOptionsBuilder.builder()
+        .withInformationSchemaViews(
+            InformationSchemaViewsBuilder.builder()
+                .withSql(InformationSchemaKey.SCHEMA_FINGERPRINT, fingerprintSql)
+                .toOptions())
+        .toOptions();
+  }
+
+  @Test
+  public void cacheStatistics(final Connection connection, @TempDir final Path cacheDirectory)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = schemaRetrievalOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions(cacheDirectory);
+
+    final CatalogCache catalogCache =
+        new CatalogCache(
+            cacheDirectory,
+            Long.MAX_VALUE,
+            connection,
+            schemaRetrievalOptions,
+            schemaCrawlerOptions);
+    assertThat(catalogCache.load().isPresent(), is(false));
+    catalogCache.save(
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl());
+    assertThat(catalogCache.load().isPresent(), is(true));
+    assertThat(catalogCache.getHits(), is(1L));
+    assertThat(catalogCache.getMisses(), is(1L));
+    assertThat(catalogCache.getBytesSaved(), is(greaterThan(0L)));
+
+    // Statistics are not shared between caches
+    final CatalogCache otherCatalogCache =
+        new CatalogCache(
+            cacheDirectory,
+            Long.MAX_VALUE,
+            connection,
+            schemaRetrievalOptions,
+            schemaCrawlerOptions);
+    assertThat(otherCatalogCache.getHits(), is(0L));
+    assertThat(otherCatalogCache.getMisses(), is(0L));
+    assertThat(otherCatalogCache.getBytesSaved(), is(0L));
+  }
+
+  @Test
+  public void cachedCatalog(final Connection connection, @TempDir final Path cacheDirectory)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = schemaRetrievalOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions(cacheDirectory);
+
+    final Catalog crawledCatalog =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+    assertThat(cacheFiles(cacheDirectory).size(), is(2));
+
+    // Options that are built again, with new inclusion rule objects, find the same cache entry
+    final Catalog cachedCatalog =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions(cacheDirectory))
+            .crawl();
+    assertThat(cacheFiles(cacheDirectory).size(), is(2));
+
+    // The cached catalog has the crawl information from the first crawl
+    assertThat(
+        cachedCatalog.getCrawlInfo().getCrawlTimestamp(),
+        is(crawledCatalog.getCrawlInfo().getCrawlTimestamp()));
+    assertThat(cachedCatalog, is(not(sameInstance(crawledCatalog))));
+    assertThat(fullNames(cachedCatalog.getTables()), is(fullNames(crawledCatalog.getTables())));
+    assertThat(fullNames(cachedCatalog.getSchemas()), is(fullNames(crawledCatalog.getSchemas())));
+  }
+
+  @Test
+  public void emptySchemaFingerprint(
+      final Connection connection, @TempDir final Path cacheDirectory) throws Exception {
+    // No rows for the crawled schemas, as if the data dictionary views could not be seen
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        schemaRetrievalOptions(
+            "SELECT CATALOG_NAME AS TABLE_CATALOG, SCHEMA_NAME AS TABLE_SCHEMA "
+                + "FROM INFORMATION_SCHEMA.SCHEMATA WHERE SCHEMA_NAME = 'FOR_LINT'");
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions(cacheDirectory);
+
+    final CatalogCache catalogCache =
+        new CatalogCache(
+            cacheDirectory,
+            Long.MAX_VALUE,
+            connection,
+            schemaRetrievalOptions,
+            schemaCrawlerOptions);
+    assertThat(catalogCache.load().isPresent(), is(false));
+    catalogCache.save(
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl());
+    assertThat(catalogCache.load().isPresent(), is(false));
+    // Without any rows to hash, the cache cannot be validated, so it is not used
+    assertThat(cacheFiles(cacheDirectory).isEmpty(), is(true));
+    assertThat(catalogCache.getMisses(), is(0L));
+  }
+
+  @Test
+  public void excludedSchemaFingerprint(
+      final Connection connection, @TempDir final Path cacheDirectory) throws Exception {
+    // The fingerprint changes every time for the FOR_LINT schema, which is not crawled
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        schemaRetrievalOptions(
+            "SELECT CATALOG_NAME AS TABLE_CATALOG, SCHEMA_NAME AS TABLE_SCHEMA, "
+                + "CASE WHEN SCHEMA_NAME = 'FOR_LINT' THEN RAND() ELSE 0 END AS CHANGE_MARKER "
+                + "FROM INFORMATION_SCHEMA.SCHEMATA");
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions(cacheDirectory);
+
+    final Catalog crawledCatalog =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+    final Catalog cachedCatalog =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+
+    assertThat(
+        cachedCatalog.getCrawlInfo().getCrawlTimestamp(),
+        is(crawledCatalog.getCrawlInfo().getCrawlTimestamp()));
+  }
+
+  @Test
+  public void noSchemaFingerprint(final Connection connection, @TempDir final Path cacheDirectory)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions(cacheDirectory);
+
+    final Catalog catalog =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+    assertThat(catalog.getTables().isEmpty(), is(false));
+    // Without a schema fingerprint, the cache cannot be validated, so it is not used
+    assertThat(cacheFiles(cacheDirectory).isEmpty(), is(true));
+  }
+}
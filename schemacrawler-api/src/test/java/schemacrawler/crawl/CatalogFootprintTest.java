@@ -0,0 +1,205 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * Checks compact storage of catalog objects, and that strings are shared in a memory-optimized
+ * catalog. The footprint benchmark estimates the heap used by a generated large catalog, with and
+ * without pooled strings, from the used memory of the runtime after garbage collection, and is only
+ * run with the benchmarks profile.
+ */
+public class CatalogFootprintTest {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(CatalogFootprintTest.class.getName());
+
+  private static final int TABLES = 2_000;
+  private static final int SMALL_TABLES = 10;
+  private static final int COLUMNS_PER_TABLE = 50;
+
+  private static long usedMemory() {
+    final Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  @Test
+  public void emptyContainers() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableTable table = new MutableTable(schema, "TABLE");
+    final MutableColumn column = new MutableColumn(table, "COLUMN");
+
+    assertThat(column.getAttributes(), is(anEmptyMap()));
+    assertThat(column.hasAttribute("ANY"), is(false));
+    assertThat(column.getAttribute("ANY", "default"), is("default"));
+    assertThat(column.getPrivileges(), is(empty()));
+    assertThat(column.lookupPrivilege("SELECT").isPresent(), is(false));
+    column.removeAttribute("ANY");
+
+    column.setAttribute("ANY", "value");
+    assertThat(column.getAttributes(), is(not(anEmptyMap())));
+    assertThat(column.getAttribute("ANY"), is("value"));
+    column.setAttribute("ANY", null);
+    assertThat(column.hasAttribute("ANY"), is(false));
+  }
+
+  @Test
+  public void compactColumnFlags() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableTable table = new MutableTable(schema, "TABLE");
+    final MutableColumn column = new MutableColumn(table, "COLUMN");
+
+    column.setAutoIncremented(true);
+    column.setHidden(true);
+    column.markAsPartOfUniqueIndex();
+    assertThat(column.isAutoIncremented(), is(true));
+    assertThat(column.isGenerated(), is(false));
+    assertThat(column.isHidden(), is(true));
+    assertThat(column.isPartOfIndex(), is(false));
+    assertThat(column.isPartOfPrimaryKey(), is(false));
+    assertThat(column.isPartOfUniqueIndex(), is(true));
+
+    column.setAutoIncremented(false);
+    column.setGenerated(true);
+    column.markAsPartOfIndex();
+    column.markAsPartOfPrimaryKey();
+    assertThat(column.isAutoIncremented(), is(false));
+    assertThat(column.isGenerated(), is(true));
+    assertThat(column.isHidden(), is(true));
+    assertThat(column.isPartOfIndex(), is(true));
+    assertThat(column.isPartOfPrimaryKey(), is(true));
+    assertThat(column.isPartOfUniqueIndex(), is(true));
+  }
+
+  @Test
+  @Tag("benchmark")
+  public void footprint() {
+    final long baseline = usedMemory();
+    final MutableCatalog catalog = makeCatalog(TABLES, null);
+    final long unpooled = usedMemory() - baseline;
+    assertThat(catalog.getTables().size(), is(TABLES));
+
+    final StringPool stringPool = new StringPool();
+    final long pooledBaseline = usedMemory();
+    final MutableCatalog pooledCatalog = makeCatalog(TABLES, stringPool);
+    final long pooled = usedMemory() - pooledBaseline;
+    assertThat(pooledCatalog.getTables().size(), is(TABLES));
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "%d columns: %,d bytes without pooled strings, %,d bytes with %,d pooled strings",
+            TABLES * COLUMNS_PER_TABLE, unpooled, pooled, stringPool.size()));
+  }
+
+  @Test
+  public void pooledStrings() {
+    final MutableCatalog catalog = makeCatalog(SMALL_TABLES, null);
+    final MutableCatalog pooledCatalog = makeCatalog(SMALL_TABLES, new StringPool());
+
+    final Column unpooledFirstColumn = firstColumn(catalog, "TABLE_1");
+    final Column unpooledSecondColumn = firstColumn(catalog, "TABLE_2");
+    assertThat(unpooledFirstColumn.getName(), is(unpooledSecondColumn.getName()));
+    assertThat(
+        unpooledFirstColumn.getName(), is(not(sameInstance(unpooledSecondColumn.getName()))));
+
+    final Column firstColumn = firstColumn(pooledCatalog, "TABLE_1");
+    final Column secondColumn = firstColumn(pooledCatalog, "TABLE_2");
+    assertThat(firstColumn.getName(), is(secondColumn.getName()));
+    assertThat(firstColumn.getName(), is(sameInstance(secondColumn.getName())));
+    assertThat(firstColumn.getRemarks(), is(sameInstance(secondColumn.getRemarks())));
+    assertThat(
+        firstColumn.getAttribute("IS_NULLABLE"),
+        is(sameInstance(secondColumn.getAttribute("IS_NULLABLE"))));
+  }
+
+  private Column firstColumn(final MutableCatalog catalog, final String tableName) {
+    final Schema schema = catalog.getSchemas().iterator().next();
+    return catalog.lookupTable(schema, tableName).get().getColumns().get(0);
+  }
+
+  /**
+   * Makes a catalog the way that the retrievers do, with new strings for every value read from the
+   * database metadata.
+   */
+  private MutableCatalog makeCatalog(final int tableCount, final StringPool stringPool) {
+    final MutableCatalog catalog = new MutableCatalog("catalog");
+    catalog.setStringPool(stringPool);
+    final SchemaReference schema = new SchemaReference("PUBLIC", "BOOKS");
+    catalog.addSchema(schema);
+    for (int i = 0; i < tableCount; i++) {
+      final MutableTable table = new MutableTable(schema, catalog.intern(fresh("TABLE_" + i)));
+      table.setRemarks(catalog.intern(fresh("")));
+      for (int j = 0; j < COLUMNS_PER_TABLE; j++) {
+        final MutableColumn column =
+            new MutableColumn(table, catalog.intern(fresh("COLUMN_" + j)));
+        column.setOrdinalPosition(j + 1);
+        column.setNullable(j % 3 != 0);
+        column.setRemarks(catalog.intern(fresh(j % 5 == 0 ? "Identifier" : "")));
+        column.setDefaultValue(catalog.intern(fresh(j % 3 == 0 ? null : "NULL")));
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put(fresh("IS_NULLABLE"), fresh(j % 3 == 0 ? "NO" : "YES"));
+        attributes.put(fresh("SCOPE_TABLE"), null);
+        column.addAttributes(catalog.intern(attributes));
+        table.addColumn(column);
+      }
+      catalog.addTable(table);
+    }
+    catalog.setStringPool(null);
+    return catalog;
+  }
+
+  /** Makes a copy of a string, as a JDBC driver does for every row. */
+  private String fresh(final String value) {
+    if (value == null) {
+      return null;
+    }
+    return new String(value.toCharArray());
+  }
+}
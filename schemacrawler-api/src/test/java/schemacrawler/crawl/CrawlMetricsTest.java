@@ -0,0 +1,112 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CrawlMetricsTest {
+
+  private static SchemaCrawlerOptions schemaCrawlerOptions(final Path crawlMetricsFile) {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder()
+            .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+            .withCrawlMetricsFile(crawlMetricsFile);
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  @Test
+  public void crawlMetrics(final Connection connection, @TempDir final Path directory)
+      throws Exception {
+    final Path crawlMetricsFile = directory.resolve("crawl-metrics.json");
+    final Catalog catalog =
+        new SchemaCrawler(
+                connection,
+                SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                schemaCrawlerOptions(crawlMetricsFile))
+            .crawl();
+
+    final CrawlMetrics crawlMetrics = catalog.getCrawlInfo().getCrawlMetrics();
+    assertThat(crawlMetrics.getJdbcCallCount(), is(greaterThan(0L)));
+    assertThat(crawlMetrics.getFetchRoundTrips(), is(greaterThan(0L)));
+    assertThat(crawlMetrics.getRowsRead().isEmpty(), is(false));
+    assertThat(crawlMetrics.getTaskDurations().isEmpty(), is(false));
+    assertThat(
+        crawlMetrics.getObjectCounts().get("tables"), is((long) catalog.getTables().size()));
+
+    final String json = new String(Files.readAllBytes(crawlMetricsFile), UTF_8);
+    assertThat(json, startsWith("{"));
+    assertThat(crawlMetrics.getObjectCounts(), hasKey("columns"));
+  }
+
+  @Test
+  public void crawlMetricsOpenMetrics(final Connection connection, @TempDir final Path directory)
+      throws Exception {
+    final Path crawlMetricsFile = directory.resolve("crawl-metrics.txt");
+    new SchemaCrawler(
+            connection,
+            SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions(crawlMetricsFile))
+        .crawl();
+
+    final String openMetrics = new String(Files.readAllBytes(crawlMetricsFile), UTF_8);
+    assertThat(openMetrics, startsWith("# TYPE schemacrawler_crawl_jdbc_calls counter"));
+    assertThat(openMetrics.trim(), endsWith("# EOF"));
+  }
+}
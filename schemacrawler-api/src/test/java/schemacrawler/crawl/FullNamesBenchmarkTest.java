@@ -0,0 +1,142 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionRule;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * Checks that full names are cached. The benchmark compares cached full names with quoting names
+ * every time, on the paths that grep and lint take over every column in a large catalog, and is
+ * only run with the benchmarks profile.
+ */
+public class FullNamesBenchmarkTest {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(FullNamesBenchmarkTest.class.getName());
+
+  private static final int TABLES = 10_000;
+  private static final int COLUMNS_PER_TABLE = 50;
+
+  @Test
+  public void fullNamesAreCached() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableTable table = new MutableTable(schema, "TABLE");
+    final MutableColumn column = new MutableColumn(table, "COLUMN");
+
+    assertThat(table.getFullName(), is("CATALOG.SCHEMA.\"TABLE\""));
+    assertThat(table.getFullName(), is(sameInstance(table.getFullName())));
+    assertThat(column.getFullName(), is(Identifiers.STANDARD.quoteFullName(column)));
+    assertThat(column.getFullName(), is(sameInstance(column.getFullName())));
+    assertThat(column.getShortName(), is(sameInstance(column.getShortName())));
+    assertThat(table.toUniqueLookupKey(), is(table.toUniqueLookupKey()));
+  }
+
+  @Test
+  @Tag("benchmark")
+  public void grepAndLintPaths() {
+    final List<Table> tables = makeTables();
+
+    final InclusionRule grepRule = new RegularExpressionRule(".*\\.COLUMN_3_ID", null);
+
+    final long startQuoted = System.nanoTime();
+    int quotedMatches = 0;
+    final Set<String> quotedNames = new HashSet<>();
+    for (final Table table : tables) {
+      for (final Column column : table.getColumns()) {
+        final String fullName = Identifiers.STANDARD.quoteFullName(column);
+        if (grepRule.test(fullName)) {
+          quotedMatches++;
+        }
+        quotedNames.add(fullName);
+      }
+    }
+    final long quotedNanos = System.nanoTime() - startQuoted;
+
+    // First pass works out and caches the full names
+    for (final Table table : tables) {
+      for (final Column column : table.getColumns()) {
+        column.getFullName();
+      }
+    }
+
+    final long startCached = System.nanoTime();
+    int cachedMatches = 0;
+    final Set<String> cachedNames = new HashSet<>();
+    for (final Table table : tables) {
+      for (final Column column : table.getColumns()) {
+        final String fullName = column.getFullName();
+        if (grepRule.test(fullName)) {
+          cachedMatches++;
+        }
+        cachedNames.add(fullName);
+      }
+    }
+    final long cachedNanos = System.nanoTime() - startCached;
+
+    assertThat(cachedMatches, is(quotedMatches));
+    assertThat(cachedNames, is(quotedNames));
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "%d columns: quoting full names %.1f ms, cached full names %.1f ms",
+            TABLES * COLUMNS_PER_TABLE, quotedNanos / 1e6, cachedNanos / 1e6));
+  }
+
+  private List<Table> makeTables() {
+    final SchemaReference schema = new SchemaReference("PUBLIC", "BOOKS");
+    final List<Table> tables = new ArrayList<>();
+    for (int i = 0; i < TABLES; i++) {
+      final MutableTable table = new MutableTable(schema, "TABLE" + i);
+      for (int j = 0; j < COLUMNS_PER_TABLE; j++) {
+        table.addColumn(new MutableColumn(table, "COLUMN_" + j + (j % 7 == 0 ? "_ID" : "_NAME")));
+      }
+      tables.add(table);
+    }
+    return tables;
+  }
+}
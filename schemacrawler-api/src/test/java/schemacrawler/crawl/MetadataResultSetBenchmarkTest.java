@@ -0,0 +1,172 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.MetadataResultSet.BoundColumn;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+/**
+ * Times reads from metadata result sets against the test HSQLDB database, by column name and by
+ * bound column, and times a crawl with maximum metadata, which goes through the metadata
+ * retrievers. Only run with the benchmarks profile. The number of rounds can be set with the
+ * "metadata.benchmark.rounds" system property.
+ */
+@Tag("benchmark")
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class MetadataResultSetBenchmarkTest {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(MetadataResultSetBenchmarkTest.class.getName());
+
+  private static final int ROUNDS = Integer.getInteger("metadata.benchmark.rounds", 200);
+  private static final String[] COLUMN_NAMES = {
+    "TABLE_CAT",
+    "TABLE_SCHEM",
+    "TABLE_NAME",
+    "COLUMN_NAME",
+    "ORDINAL_POSITION",
+    "DATA_TYPE",
+    "TYPE_NAME",
+    "COLUMN_SIZE",
+    "DECIMAL_DIGITS",
+    "NULLABLE",
+    "REMARKS",
+  };
+
+  @Test
+  public void crawl(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions options =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                    .toOptions());
+
+    // Warm up
+    crawl(connection, options);
+
+    final int rounds = Math.max(1, ROUNDS / 10);
+    final long start = System.nanoTime();
+    for (int i = 0; i < rounds; i++) {
+      crawl(connection, options);
+    }
+    final long nanos = System.nanoTime() - start;
+
+    LOGGER.log(
+        Level.INFO,
+        String.format("Crawl with maximum metadata: %.1f ms per crawl", nanos / 1e6 / rounds));
+  }
+
+  @Test
+  public void metadataReads(final Connection connection) throws Exception {
+    final DatabaseMetaData metaData = connection.getMetaData();
+
+    // Warm up
+    readByName(metaData);
+    readByBoundColumn(metaData);
+
+    final long startByName = System.nanoTime();
+    long byNameChecksum = 0;
+    for (int i = 0; i < ROUNDS; i++) {
+      byNameChecksum = byNameChecksum + readByName(metaData);
+    }
+    final long byNameNanos = System.nanoTime() - startByName;
+
+    final long startBound = System.nanoTime();
+    long boundChecksum = 0;
+    for (int i = 0; i < ROUNDS; i++) {
+      boundChecksum = boundChecksum + readByBoundColumn(metaData);
+    }
+    final long boundNanos = System.nanoTime() - startBound;
+
+    assertThat(boundChecksum, is(byNameChecksum));
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "%d reads of all table columns: by name %.1f ms, by bound column %.1f ms",
+            ROUNDS, byNameNanos / 1e6, boundNanos / 1e6));
+  }
+
+  private void crawl(final Connection connection, final SchemaCrawlerOptions options)
+      throws Exception {
+    new SchemaCrawler(
+            connection, SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(), options)
+        .crawl();
+  }
+
+  private long readByBoundColumn(final DatabaseMetaData metaData) throws Exception {
+    long checksum = 0;
+    try (final MetadataResultSet results =
+        new MetadataResultSet(metaData.getColumns(null, null, "%", "%"))) {
+      final BoundColumn[] columns = new BoundColumn[COLUMN_NAMES.length];
+      for (int i = 0; i < COLUMN_NAMES.length; i++) {
+        columns[i] = results.bind(COLUMN_NAMES[i]);
+      }
+      while (results.next()) {
+        for (final BoundColumn column : columns) {
+          checksum = checksum + String.valueOf(results.getString(column)).hashCode();
+        }
+        checksum = checksum + results.getAttributes().size();
+      }
+    }
+    return checksum;
+  }
+
+  private long readByName(final DatabaseMetaData metaData) throws Exception {
+    long checksum = 0;
+    try (final MetadataResultSet results =
+        new MetadataResultSet(metaData.getColumns(null, null, "%", "%"))) {
+      while (results.next()) {
+        for (final String columnName : COLUMN_NAMES) {
+          checksum = checksum + String.valueOf(results.getString(columnName)).hashCode();
+        }
+        checksum = checksum + results.getAttributes().size();
+      }
+    }
+    return checksum;
+  }
+}
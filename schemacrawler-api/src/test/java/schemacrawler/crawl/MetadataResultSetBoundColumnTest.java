@@ -0,0 +1,131 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static java.util.Collections.emptyMap;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.MetadataResultSet.BoundColumn;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class MetadataResultSetBoundColumnTest {
+
+  private static final String SQL =
+      "SELECT TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, IS_NULLABLE "
+          + "FROM INFORMATION_SCHEMA.COLUMNS "
+          + "WHERE TABLE_SCHEMA = 'BOOKS' "
+          + "ORDER BY TABLE_NAME, ORDINAL_POSITION";
+
+  @Test
+  public void boundColumns(final Connection connection) throws Exception {
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery(SQL);
+        final MetadataResultSet results = new MetadataResultSet(resultSet);
+        final Statement checkStatement = connection.createStatement();
+        final ResultSet checkResults = checkStatement.executeQuery(SQL)) {
+
+      final BoundColumn tableName = results.bind("table_name");
+      final BoundColumn ordinalPosition = results.bind("ORDINAL_POSITION");
+      final BoundColumn isNullable = results.bind("IS_NULLABLE");
+      final BoundColumn missing = results.bind("NOT_A_COLUMN");
+
+      assertThat(tableName.isPresent(), is(true));
+      assertThat(missing.isPresent(), is(false));
+
+      int rowCount = 0;
+      while (results.next()) {
+        assertThat(checkResults.next(), is(true));
+        rowCount = rowCount + 1;
+
+        assertThat(results.getString(tableName), is(checkResults.getString("TABLE_NAME")));
+        assertThat(
+            results.getInt(ordinalPosition, -1), is(checkResults.getInt("ORDINAL_POSITION")));
+        assertThat(results.getBoolean(isNullable), is(results.getBoolean("IS_NULLABLE")));
+        assertThat(results.getString(missing), is(nullValue()));
+        assertThat(results.getInt(missing, -1), is(-1));
+
+        // Columns that were read are not additional attributes
+        final Map<String, Object> attributes = results.getAttributes();
+        assertThat(attributes, not(hasKey("TABLE_NAME")));
+        assertThat(attributes, not(hasKey("ORDINAL_POSITION")));
+        assertThat(attributes, not(hasKey("IS_NULLABLE")));
+        assertThat(attributes, hasKey("COLUMN_NAME"));
+      }
+      assertThat(rowCount > 0, is(true));
+    }
+  }
+
+  @Test
+  public void allColumnsRead(final Connection connection) throws Exception {
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(statement.executeQuery(SQL))) {
+      assertThat(results.next(), is(true));
+      assertThat(results.getAttributes().size(), is(4));
+
+      for (final String columnName : results.getColumnNames()) {
+        results.getString(columnName);
+      }
+      assertThat(results.getAttributes(), is(emptyMap()));
+    }
+  }
+
+  @Test
+  public void boundColumnFromAnotherResultSet(final Connection connection) throws Exception {
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(statement.executeQuery(SQL));
+        final Statement otherStatement = connection.createStatement();
+        final MetadataResultSet otherResults =
+            new MetadataResultSet(otherStatement.executeQuery(SQL))) {
+
+      // Columns are bound once for each result set
+      final BoundColumn tableName = results.bind("TABLE_NAME");
+      assertThat(results.bind("TABLE_NAME"), is(sameInstance(tableName)));
+      assertThat(otherResults.bind("TABLE_NAME"), is(not(sameInstance(tableName))));
+
+      assertThat(otherResults.next(), is(true));
+      assertThrows(IllegalArgumentException.class, () -> otherResults.getString(tableName));
+      assertThrows(IllegalArgumentException.class, () -> otherResults.getInt(tableName, -1));
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.schemacrawler.FetchSize;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class MetadataResultSetFetchSizeTest {
+
+  private static final String SQL = "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS";
+
+  private static int countRows(final Connection connection, final FetchSize fetchSize)
+      throws Exception {
+    final Query query = new Query("columns", SQL, fetchSize);
+    int rowCount = 0;
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(query, statement, new IncludeAll())) {
+      while (results.next()) {
+        rowCount = rowCount + 1;
+      }
+    }
+    return rowCount;
+  }
+
+  @Test
+  public void adaptiveFetchSize(final Connection connection) throws Exception {
+    final int fixedRowCount = countRows(connection, FetchSize.DEFAULT);
+    final int adaptiveRowCount = countRows(connection, FetchSize.adaptive(2, 1_000_000));
+    final int tinyAdaptiveRowCount = countRows(connection, FetchSize.adaptive(1, 1));
+
+    assertThat(fixedRowCount, is(greaterThan(0)));
+    assertThat(adaptiveRowCount, is(fixedRowCount));
+    assertThat(tinyAdaptiveRowCount, is(fixedRowCount));
+  }
+
+  @Test
+  public void fetchSizeValues() {
+    assertThat(FetchSize.DEFAULT.getInitialFetchSize(), is(20));
+    assertThat(FetchSize.DEFAULT.isAdaptive(), is(false));
+    assertThat(FetchSize.adaptive(10, 1024).isAdaptive(), is(true));
+    assertThat(FetchSize.adaptive(10, 1024).getMaxFetchBytes(), is(1024L));
+    assertThat(FetchSize.fixed(100), is(FetchSize.fixed(100)));
+
+    assertThrows(IllegalArgumentException.class, () -> FetchSize.fixed(0));
+    assertThrows(IllegalArgumentException.class, () -> FetchSize.adaptive(10, 0));
+  }
+
+  @Test
+  public void fetchSizeForInformationSchemaKey() {
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(InformationSchemaKey.TABLES, SQL)
+            .withSql(InformationSchemaKey.TABLE_COLUMNS, SQL)
+            .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, FetchSize.fixed(5000))
+            .withDefaultFetchSize(FetchSize.fixed(200))
+            .toOptions();
+
+    assertThat(
+        informationSchemaViews.getQuery(InformationSchemaKey.TABLE_COLUMNS).getFetchSize(),
+        is(FetchSize.fixed(5000)));
+    assertThat(
+        informationSchemaViews.getQuery(InformationSchemaKey.TABLES).getFetchSize(),
+        is(FetchSize.fixed(200)));
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .withInformationSchemaViews(informationSchemaViews)
+            .withFetchSize(InformationSchemaKey.TABLES, FetchSize.adaptive(100, 1_000_000))
+            .toOptions();
+    final InformationSchemaViews retrievalViews =
+        schemaRetrievalOptions.getInformationSchemaViews();
+    assertThat(
+        retrievalViews.getFetchSize(InformationSchemaKey.TABLES),
+        is(FetchSize.adaptive(100, 1_000_000)));
+    assertThat(
+        retrievalViews.getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(FetchSize.fixed(5000)));
+    assertThat(
+        retrievalViews.getFetchSize(InformationSchemaKey.FOREIGN_KEYS), is(FetchSize.fixed(200)));
+  }
+}
@@ -0,0 +1,183 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+public class NamedObjectListTest {
+
+  @Test
+  public void deserializeListLookupKeys() throws Exception {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableTable table = new MutableTable(schema, "TABLE1");
+
+    // Earlier versions used lists of strings as lookup keys
+    final Map<List<String>, MutableTable> listKeyedObjects = new HashMap<>();
+    listKeyedObjects.put(table.toUniqueLookupKey(), table);
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final Field objectsField = NamedObjectList.class.getDeclaredField("objects");
+    objectsField.setAccessible(true);
+    objectsField.set(tables, listKeyedObjects);
+
+    final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+      out.writeObject(tables);
+    }
+    final NamedObjectList<?> deserializedTables;
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+      deserializedTables = (NamedObjectList<?>) in.readObject();
+    }
+
+    assertThat(deserializedTables.size(), is(1));
+    assertThat(deserializedTables.lookup(schema, "TABLE1").isPresent(), is(true));
+  }
+
+  @Test
+  public void lookupAfterLookupKeyChange() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final NamedObjectList<MutableRoutine> routines = new NamedObjectList<>();
+    final MutableProcedure procedure = new MutableProcedure(schema, "PROCEDURE1");
+    assertThat(routines.contains(procedure), is(false));
+
+    procedure.setSpecificName("PROCEDURE1_1");
+    routines.add(procedure);
+    assertThat(routines.lookup(procedure.toUniqueLookupKey()).get(), is(procedure));
+    assertThat(
+        routines.lookup(Arrays.asList("CATALOG", "SCHEMA", "PROCEDURE1", "PROCEDURE1_1")).get(),
+        is(procedure));
+  }
+
+  @Test
+  public void lookupWithNullKeyParts() {
+    final NamedObjectList<SchemaReference> schemas = new NamedObjectList<>();
+    final SchemaReference schema1 = new SchemaReference(null, "SCHEMA");
+    final SchemaReference schema2 = new SchemaReference("CATALOG", null);
+    schemas.add(schema1);
+    schemas.add(schema2);
+
+    assertThat(schemas.lookup(Arrays.asList(null, "SCHEMA")).get(), is(schema1));
+    assertThat(schemas.lookup(Arrays.asList("CATALOG", null)).get(), is(schema2));
+    assertThat(schemas.lookup(Arrays.asList("SCHEMA", null)).isPresent(), is(false));
+    assertThat(schemas.lookup(Arrays.asList(null, null)).isPresent(), is(false));
+  }
+
+  @Test
+  public void lookupDependentObject() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table = new MutableTable(schema, "TABLE1");
+    tables.add(table);
+
+    assertThat(tables.lookup(schema, "TABLE1").get(), is(table));
+    assertThat(tables.lookup(schema, "TABLE2").isPresent(), is(false));
+    assertThat(tables.lookup(table.toUniqueLookupKey()).get(), is(table));
+  }
+
+  @Test
+  public void sortedValuesAreCached() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table2 = new MutableTable(schema, "TABLE2");
+    final MutableTable table1 = new MutableTable(schema, "TABLE1");
+    tables.add(table2);
+    tables.add(table1);
+
+    final List<MutableTable> values = tables.values();
+    assertThat(values, contains(table1, table2));
+    assertThat(tables.values(), is(sameInstance(values)));
+    assertThrows(UnsupportedOperationException.class, () -> values.add(table1));
+
+    final MutableTable table3 = new MutableTable(schema, "TABLE0");
+    tables.add(table3);
+    assertThat(tables.values(), is(not(sameInstance(values))));
+    assertThat(tables.values(), contains(table3, table1, table2));
+
+    tables.remove(table3);
+    assertThat(tables.values(), contains(table1, table2));
+
+    tables.filter(table -> !table.getName().equals("TABLE1"));
+    assertThat(tables.values(), contains(table2));
+  }
+
+  @Test
+  public void sortedValuesFollowSortOrderChanges() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table1 = new MutableTable(schema, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema, "TABLE2");
+    tables.add(table1);
+    tables.add(table2);
+    assertThat(tables.values(), contains(table1, table2));
+
+    table1.setSortIndex(2);
+    table2.setSortIndex(1);
+    assertThat(tables.values(), contains(table2, table1));
+  }
+
+  @Test
+  public void sortedValuesIgnoreOtherLists() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(new MutableTable(schema, "TABLE1"));
+    tables.add(new MutableTable(schema, "TABLE2"));
+    final List<MutableTable> values = tables.values();
+
+    // Sort order changes to tables in another list, such as in another
+    // catalog, keep the sorted values of this list
+    final NamedObjectList<MutableTable> otherTables = new NamedObjectList<>();
+    final MutableTable otherTable = new MutableTable(schema, "TABLE3");
+    otherTables.add(otherTable);
+    otherTable.setSortIndex(1);
+    assertThat(tables.values(), is(sameInstance(values)));
+
+    // Table types are not part of the sort order
+    values.get(0).setTableType(new TableType("VIEW"));
+    assertThat(tables.values(), is(sameInstance(values)));
+  }
+}
@@ -0,0 +1,158 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class RecrawlTest {
+
+  private static List<String> foreignKeys(final Catalog catalog) {
+    final List<String> foreignKeys = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      foreignKeys.add(table.getFullName() + " " + fullNames(table.getForeignKeys()));
+    }
+    return foreignKeys;
+  }
+
+  private static List<String> fullNames(final Collection<? extends NamedObject> namedObjects) {
+    return namedObjects.stream().map(NamedObject::getFullName).collect(Collectors.toList());
+  }
+
+  private static SchemaCrawlerOptions schemaCrawlerOptions() {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  @Test
+  public void recrawlChangedTable(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions();
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions());
+
+    final Catalog catalog = schemaCrawler.crawl();
+    final List<String> tableNames = fullNames(catalog.getTables());
+    final List<String> foreignKeys = foreignKeys(catalog);
+    final Table changedTable =
+        catalog.getTables().stream()
+            .filter(table -> !table.getForeignKeys().isEmpty())
+            .findFirst()
+            .get();
+
+    final Catalog recrawledCatalog =
+        schemaCrawler.recrawl(catalog, Collections.singleton(changedTable.getFullName()));
+
+    // The catalog is refreshed in place, and only the changed table is replaced
+    assertThat(recrawledCatalog, is(sameInstance(catalog)));
+    final Table recrawledTable =
+        recrawledCatalog.lookupTable(changedTable.getSchema(), changedTable.getName()).get();
+    assertThat(recrawledTable, is(not(sameInstance(changedTable))));
+    assertThat(fullNames(recrawledTable.getColumns()), is(fullNames(changedTable.getColumns())));
+    assertThat(fullNames(recrawledCatalog.getTables()), is(tableNames));
+    assertThat(foreignKeys(recrawledCatalog), is(foreignKeys));
+  }
+
+  @Test
+  public void recrawlUnchangedTableDdlTimes(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .withInformationSchemaViews(
+                InformationSchemaViewsBuilder.builder()
+                    .withSql(
+                        InformationSchemaKey.TABLE_DDL_TIMES,
+                        "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                            + "'2020-01-01' AS LAST_DDL_TIME "
+                            + "FROM INFORMATION_SCHEMA.TABLES")
+                    .toOptions())
+            .toOptions();
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions());
+
+    final Catalog catalog = schemaCrawler.crawl();
+    final Table table = catalog.getTables().iterator().next();
+
+    final Catalog recrawledCatalog = schemaCrawler.recrawl(catalog);
+
+    // No table DDL times changed, so nothing is crawled again
+    assertThat(recrawledCatalog, is(sameInstance(catalog)));
+    assertThat(
+        recrawledCatalog.lookupTable(table.getSchema(), table.getName()).get(),
+        is(sameInstance(table)));
+  }
+
+  @Test
+  public void recrawlWithoutTableDdlTimes(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions();
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions());
+
+    final Catalog catalog = schemaCrawler.crawl();
+    final Catalog recrawledCatalog = schemaCrawler.recrawl(catalog);
+
+    // Without table DDL times, changed tables cannot be found, so all tables are crawled again
+    assertThat(recrawledCatalog, is(not(sameInstance(catalog))));
+    assertThat(fullNames(recrawledCatalog.getTables()), is(fullNames(catalog.getTables())));
+  }
+}
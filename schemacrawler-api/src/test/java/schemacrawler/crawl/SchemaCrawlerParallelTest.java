@@ -0,0 +1,203 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class SchemaCrawlerParallelTest {
+
+  private static Supplier<Connection> connectionSource(
+      final DatabaseConnectionInfo connectionInfo, final AtomicInteger connectionCount) {
+    return () -> {
+      try {
+        connectionCount.incrementAndGet();
+        return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+      } catch (final SQLException e) {
+        throw new SchemaCrawlerRuntimeException("Could not connect", e);
+      }
+    };
+  }
+
+  private static List<String> fullNames(final Collection<? extends NamedObject> namedObjects) {
+    return namedObjects.stream().map(NamedObject::getFullName).collect(Collectors.toList());
+  }
+
+  private static SchemaCrawlerOptions schemaCrawlerOptions() {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+            .includeAllSynonyms()
+            .includeAllSequences()
+            .includeAllRoutines();
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  @Test
+  public void parallelCrawl(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder().withRetrievalWorkers(3).toOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+
+    final Catalog serialCatalog =
+        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        connectionSource(connectionInfo, connectionCount);
+    final Catalog parallelCatalog =
+        new SchemaCrawler(
+                connection, connectionSource, schemaRetrievalOptions, schemaCrawlerOptions)
+            .crawl();
+
+    assertThat(fullNames(parallelCatalog.getTables()), is(fullNames(serialCatalog.getTables())));
+    assertThat(
+        fullNames(parallelCatalog.getRoutines()), is(fullNames(serialCatalog.getRoutines())));
+    assertThat(
+        fullNames(parallelCatalog.getSequences()), is(fullNames(serialCatalog.getSequences())));
+    assertThat(
+        fullNames(parallelCatalog.getSynonyms()), is(fullNames(serialCatalog.getSynonyms())));
+    assertThat(
+        fullNames(parallelCatalog.getColumnDataTypes()),
+        is(fullNames(serialCatalog.getColumnDataTypes())));
+    assertThat(parallelCatalog.getTables().isEmpty(), is(false));
+    assertThat(connectionCount.get(), is(not(0)));
+  }
+
+  @Test
+  public void shardedCrawl(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+
+    final Catalog serialCatalog =
+        new SchemaCrawler(
+                connection,
+                SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                schemaCrawlerOptions)
+            .crawl();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder().withRetrievalWorkers(4).toOptions();
+    assertThat(schemaRetrievalOptions.getRetrievalWorkers(), is(4));
+    final Catalog shardedCatalog =
+        new SchemaCrawler(
+                connection,
+                connectionSource(connectionInfo, connectionCount),
+                schemaRetrievalOptions,
+                schemaCrawlerOptions)
+            .crawl();
+
+    assertThat(fullNames(shardedCatalog.getTables()), is(fullNames(serialCatalog.getTables())));
+    for (final Table table : serialCatalog.getTables()) {
+      final Table shardedTable =
+          shardedCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(fullNames(shardedTable.getColumns()), is(fullNames(table.getColumns())));
+    }
+    assertThat(connectionCount.get(), is(not(0)));
+  }
+
+  @Test
+  public void retrievalWorkersValidation() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> SchemaRetrievalOptionsBuilder.builder().withRetrievalWorkers(0));
+  }
+
+  @Test
+  public void parallelCrawlFailure(final Connection connection) throws Exception {
+    final Supplier<Connection> connectionSource =
+        () -> {
+          throw new SchemaCrawlerRuntimeException("No more connections");
+        };
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            connectionSource,
+            SchemaRetrievalOptionsBuilder.builder().withRetrievalWorkers(3).toOptions(),
+            schemaCrawlerOptions());
+
+    assertThrows(SchemaCrawlerException.class, () -> schemaCrawler.crawl());
+  }
+
+  @Test
+  public void singleWorkerCrawl(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Catalog catalog =
+        new SchemaCrawler(
+                connection,
+                connectionSource(connectionInfo, connectionCount),
+                SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                schemaCrawlerOptions())
+            .crawl();
+
+    assertThat(catalog.getTables().isEmpty(), is(false));
+    assertThat(connectionCount.get(), is(0));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.TableRelationshipType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+public class TableRelationshipsTest {
+
+  private static MutableForeignKey addForeignKey(
+      final String name, final MutableTable pkTable, final MutableTable fkTable) {
+    final MutableForeignKey foreignKey = new MutableForeignKey(name);
+    foreignKey.addColumnReference(1, pkTable.getColumns().get(0), fkTable.getColumns().get(0));
+    pkTable.addForeignKey(foreignKey);
+    if (pkTable != fkTable) {
+      fkTable.addForeignKey(foreignKey);
+    }
+    return foreignKey;
+  }
+
+  private static MutableTable makeTable(final SchemaReference schema, final String name) {
+    final MutableTable table = new MutableTable(schema, name);
+    table.addColumn(new MutableColumn(table, "ID"));
+    return table;
+  }
+
+  @Test
+  public void relationships() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableTable table1 = makeTable(schema, "TABLE1");
+    final MutableTable table2 = makeTable(schema, "TABLE2");
+    final MutableTable table3 = makeTable(schema, "TABLE3");
+    final MutableForeignKey fk12 = addForeignKey("FK_1_2", table1, table2);
+    final MutableForeignKey fk23 = addForeignKey("FK_2_3", table2, table3);
+    addForeignKey("FK_3_3", table3, table3);
+
+    assertThat(table1.getRelatedTables(TableRelationshipType.parent), is(empty()));
+    assertThat(table1.getRelatedTables(TableRelationshipType.child), contains(table2));
+    assertThat(table2.getRelatedTables(TableRelationshipType.parent), contains(table1));
+    assertThat(table2.getRelatedTables(TableRelationshipType.child), contains(table3));
+    assertThat(table3.getRelatedTables(TableRelationshipType.parent), contains(table2, table3));
+    assertThat(table3.getRelatedTables(TableRelationshipType.child), contains(table3));
+    assertThat(table3.getRelatedTables(TableRelationshipType.none), is(empty()));
+
+    assertThat(table2.getExportedForeignKeys(), contains(fk23));
+    assertThat(table2.getImportedForeignKeys(), contains(fk12));
+    assertThat(table3.getImportedForeignKeys().size(), is(2));
+  }
+
+  @Test
+  public void relationshipsFollowForeignKeyChanges() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableTable table1 = makeTable(schema, "TABLE1");
+    final MutableTable table2 = makeTable(schema, "TABLE2");
+    addForeignKey("FK_1_2", table1, table2);
+    assertThat(table1.getRelatedTables(TableRelationshipType.parent), is(empty()));
+
+    final MutableForeignKey fk21 = addForeignKey("FK_2_1", table2, table1);
+    assertThat(table1.getRelatedTables(TableRelationshipType.parent), contains(table2));
+    assertThat(table1.getImportedForeignKeys().size(), is(1));
+
+    table1.removeForeignKey(fk21);
+    assertThat(table1.getRelatedTables(TableRelationshipType.parent), is(empty()));
+    assertThat(table1.getImportedForeignKeys(), is(empty()));
+  }
+}
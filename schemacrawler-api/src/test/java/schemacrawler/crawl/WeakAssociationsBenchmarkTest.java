@@ -0,0 +1,141 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.analysis.associations.ProposedWeakAssociation;
+import schemacrawler.analysis.associations.WeakAssociationsAnalyzer;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Times weak association analysis for 1,000, 10,000 and 50,000 tables. Every table has an integer
+ * primary key, a column of the same type that matches the previous table, and a column of another
+ * type that matches the table before that. Every tenth match is already a foreign key. Only run
+ * with the benchmarks profile.
+ */
+@Tag("benchmark")
+public class WeakAssociationsBenchmarkTest {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(WeakAssociationsBenchmarkTest.class.getName());
+
+  private static final SchemaReference SCHEMA = new SchemaReference("PUBLIC", "BOOKS");
+  private static final JavaSqlTypes JAVA_SQL_TYPES = new JavaSqlTypes();
+
+  @Test
+  public void weakAssociations() {
+    // Warm up
+    analyze(makeTables(1_000));
+
+    for (final int tableCount : new int[] {1_000, 10_000, 50_000}) {
+      final List<Table> tables = makeTables(tableCount);
+
+      final long start = System.nanoTime();
+      final Collection<ProposedWeakAssociation> weakAssociations = analyze(tables);
+      final long nanos = System.nanoTime() - start;
+
+      // Every match with the previous table, except for foreign keys
+      final int expected = tableCount - 1 - (tableCount - 1) / 10;
+      assertThat(weakAssociations.size(), is(expected));
+
+      LOGGER.log(
+          Level.INFO,
+          String.format(
+              "%d tables: %d weak associations in %.1f ms",
+              tableCount, weakAssociations.size(), nanos / 1e6));
+    }
+  }
+
+  private MutableColumn addColumn(
+      final MutableTable table, final String name, final MutableColumnDataType columnDataType) {
+    final MutableColumn column = new MutableColumn(table, name);
+    column.setColumnDataType(columnDataType);
+    table.addColumn(column);
+    return column;
+  }
+
+  private Collection<ProposedWeakAssociation> analyze(final List<Table> tables) {
+    return new WeakAssociationsAnalyzer(tables).analyzeTables();
+  }
+
+  private MutableColumnDataType makeColumnDataType(final int javaSqlType) {
+    final MutableColumnDataType columnDataType =
+        new MutableColumnDataType(SCHEMA, JAVA_SQL_TYPES.valueOf(javaSqlType).getName());
+    columnDataType.setJavaSqlType(JAVA_SQL_TYPES.valueOf(javaSqlType));
+    return columnDataType;
+  }
+
+  private List<Table> makeTables(final int tableCount) {
+    final MutableColumnDataType integerType = makeColumnDataType(Types.INTEGER);
+    final MutableColumnDataType varcharType = makeColumnDataType(Types.VARCHAR);
+
+    final List<Table> tables = new ArrayList<>();
+    final List<MutableColumn> idColumns = new ArrayList<>();
+    for (int i = 0; i < tableCount; i++) {
+      final MutableTable table = new MutableTable(SCHEMA, "TABLE" + i);
+      final MutableColumn idColumn = addColumn(table, "ID", integerType);
+      idColumn.markAsPartOfPrimaryKey();
+      final MutablePrimaryKey primaryKey = new MutablePrimaryKey(table, "PK_TABLE" + i);
+      primaryKey.addColumn(new MutableTableConstraintColumn(primaryKey, idColumn));
+      table.setPrimaryKey(primaryKey);
+      addColumn(table, "NAME", varcharType);
+
+      if (i > 0) {
+        final MutableColumn fkColumn = addColumn(table, "TABLE" + (i - 1) + "_ID", integerType);
+        if (i % 10 == 0) {
+          final MutableForeignKey foreignKey = new MutableForeignKey("FK_TABLE" + i);
+          foreignKey.addColumnReference(1, idColumns.get(i - 1), fkColumn);
+          ((MutableTable) tables.get(i - 1)).addForeignKey(foreignKey);
+          table.addForeignKey(foreignKey);
+        }
+      }
+      if (i > 1) {
+        addColumn(table, "TABLE" + (i - 2) + "_ID", varcharType);
+      }
+
+      tables.add(table);
+      idColumns.add(idColumn);
+    }
+    return tables;
+  }
+}
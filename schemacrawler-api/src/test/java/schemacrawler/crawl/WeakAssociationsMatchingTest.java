@@ -0,0 +1,143 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.analysis.associations.ProposedWeakAssociation;
+import schemacrawler.analysis.associations.WeakAssociationsAnalyzer;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+public class WeakAssociationsMatchingTest {
+
+  private static final SchemaReference SCHEMA = new SchemaReference("PUBLIC", "BOOKS");
+  private static final JavaSqlTypes JAVA_SQL_TYPES = new JavaSqlTypes();
+
+  private static MutableColumn addColumn(
+      final MutableTable table, final String name, final int javaSqlType) {
+    final MutableColumnDataType columnDataType =
+        new MutableColumnDataType(SCHEMA, JAVA_SQL_TYPES.valueOf(javaSqlType).getName());
+    columnDataType.setJavaSqlType(JAVA_SQL_TYPES.valueOf(javaSqlType));
+    final MutableColumn column = new MutableColumn(table, name);
+    column.setColumnDataType(columnDataType);
+    table.addColumn(column);
+    return column;
+  }
+
+  private static void addForeignKey(
+      final String name, final Column pkColumn, final Column fkColumn) {
+    final MutableForeignKey foreignKey = new MutableForeignKey(name);
+    foreignKey.addColumnReference(1, pkColumn, fkColumn);
+    ((MutableTable) pkColumn.getParent()).addForeignKey(foreignKey);
+    ((MutableTable) fkColumn.getParent()).addForeignKey(foreignKey);
+  }
+
+  private static List<String> analyze(final Table... tables) {
+    final Collection<ProposedWeakAssociation> weakAssociations =
+        new WeakAssociationsAnalyzer(Arrays.asList(tables)).analyzeTables();
+    return weakAssociations.stream()
+        .map(
+            weakAssociation ->
+                String.format(
+                    "%s -> %s",
+                    weakAssociation.getKey().getFullName(),
+                    weakAssociation.getValue().getFullName()))
+        .collect(toList());
+  }
+
+  private static MutableTable makeTable(final String name) {
+    final MutableTable table = new MutableTable(SCHEMA, name);
+    final MutableColumn idColumn = addColumn(table, "ID", Types.INTEGER);
+    idColumn.markAsPartOfPrimaryKey();
+    final MutablePrimaryKey primaryKey = new MutablePrimaryKey(table, "PK_" + name);
+    primaryKey.addColumn(new MutableTableConstraintColumn(primaryKey, idColumn));
+    table.setPrimaryKey(primaryKey);
+    return table;
+  }
+
+  @Test
+  public void columnTypesMustMatch() {
+    final MutableTable authors = makeTable("AUTHORS");
+    final MutableTable publishers = makeTable("PUBLISHERS");
+    final MutableTable books = makeTable("BOOKS");
+    addColumn(books, "AUTHOR_ID", Types.INTEGER);
+    addColumn(books, "PUBLISHER_ID", Types.VARCHAR);
+
+    assertThat(
+        analyze(authors, publishers, books),
+        contains("PUBLIC.BOOKS.AUTHORS.ID -> PUBLIC.BOOKS.BOOKS.AUTHOR_ID"));
+  }
+
+  @Test
+  public void foreignKeysAreNotProposed() {
+    final MutableTable authors = makeTable("AUTHORS");
+    final MutableTable publishers = makeTable("PUBLISHERS");
+    final MutableTable books = makeTable("BOOKS");
+    final MutableColumn authorId = addColumn(books, "AUTHOR_ID", Types.INTEGER);
+    addColumn(books, "PUBLISHER_ID", Types.INTEGER);
+    addForeignKey("FK_BOOKS_AUTHORS", authors.getColumns().get(0), authorId);
+
+    assertThat(
+        analyze(authors, publishers, books),
+        contains("PUBLIC.BOOKS.PUBLISHERS.ID -> PUBLIC.BOOKS.BOOKS.PUBLISHER_ID"));
+  }
+
+  @Test
+  public void weakAssociationsInTableOrder() {
+    final MutableTable authors = makeTable("AUTHORS");
+    final MutableTable publishers = makeTable("PUBLISHERS");
+    final MutableTable books = makeTable("BOOKS");
+    addColumn(books, "AUTHOR_ID", Types.INTEGER);
+    addColumn(books, "PUBLISHER_ID", Types.INTEGER);
+    final MutableTable reviews = makeTable("REVIEWS");
+    addColumn(reviews, "BOOK_ID", Types.INTEGER);
+
+    final List<String> weakAssociations = analyze(reviews, publishers, books, authors);
+    assertThat(
+        weakAssociations,
+        contains(
+            "PUBLIC.BOOKS.AUTHORS.ID -> PUBLIC.BOOKS.BOOKS.AUTHOR_ID",
+            "PUBLIC.BOOKS.BOOKS.ID -> PUBLIC.BOOKS.REVIEWS.BOOK_ID",
+            "PUBLIC.BOOKS.PUBLISHERS.ID -> PUBLIC.BOOKS.BOOKS.PUBLISHER_ID"));
+    assertThat(analyze(authors, books, publishers, reviews), is(weakAssociations));
+  }
+}
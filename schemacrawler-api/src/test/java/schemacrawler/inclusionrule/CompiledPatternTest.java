@@ -0,0 +1,107 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.inclusionrule;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledPatternTest {
+
+  private static final String[] PATTERNS = {
+    "",
+    ".*",
+    "A",
+    "A|B|",
+    ".*\\.ID",
+    "(?i).*\\.id",
+    "PUBLIC\\.BOOKS\\..*",
+    ".*NAME.*",
+    "(?i).*name.*",
+    "PUBLIC.BOOKS.AUTHORS",
+    "A|.*B|C.*|.*D.*",
+    "(?s).*X.*",
+    "(?is).*x",
+    ".*\\..*\\.ID",
+    "(?i)é",
+    "[AB]",
+    "(A|B)",
+    "\\d",
+    "A.*B",
+    ".*\\$.*",
+  };
+
+  private static final String[] TEXTS = {
+    "",
+    "A",
+    "B",
+    "CD",
+    "PUBLIC.BOOKS.AUTHORS",
+    "PUBLIC.BOOKS.AUTHORS.ID",
+    "public.books.authors.id",
+    "aXc",
+    "a\nc",
+    "FIRST_NAME",
+    "first_name\n",
+    "x\ny",
+    "É",
+    "é",
+    "a$b",
+    "K",
+    "x ",
+  };
+
+  @Test
+  public void fastPaths() {
+    assertThat(CompiledPattern.compile(Pattern.compile(".*\\.ID")).isFastPath(), is(true));
+    assertThat(CompiledPattern.compile(Pattern.compile("(?i)A|.*B.*")).isFastPath(), is(true));
+    assertThat(CompiledPattern.compile(Pattern.compile("[AB]")).isFastPath(), is(false));
+    assertThat(
+        CompiledPattern.compile(Pattern.compile(".*", Pattern.MULTILINE)).isFastPath(), is(false));
+  }
+
+  @Test
+  public void matchesLikeRegularExpressions() {
+    final int[] flags = {0, Pattern.CASE_INSENSITIVE, Pattern.DOTALL, Pattern.MULTILINE};
+    for (final String regex : PATTERNS) {
+      for (final int flag : flags) {
+        final Pattern pattern = Pattern.compile(regex, flag);
+        final CompiledPattern compiledPattern = CompiledPattern.compile(pattern);
+        for (final String text : TEXTS) {
+          assertThat(
+              String.format("/%s/ (%d) on <%s>", regex, flag, text),
+              compiledPattern.matches(text),
+              is(pattern.matcher(text).matches()));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.inclusionrule;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.SchemaCrawlerLogger;
+
+/**
+ * Checks that inclusion rules match the same grep texts as plain regular expressions. The
+ * benchmarks compare the two on a million column names and view definitions, and are only run with
+ * the benchmarks profile.
+ */
+public class RegularExpressionRuleBenchmarkTest {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(RegularExpressionRuleBenchmarkTest.class.getName());
+
+  private static final String[] COLUMN_PATTERNS = {
+    ".*\\.COLUMN_3_ID", "(?i).*_id|.*\\.SECRET.*", "PUBLIC\\.SCHEMA1\\..*", ".*TABLE1[0-9]+\\..*"
+  };
+  private static final String[] DEFINITION_PATTERNS = {
+    ".*TABLE123 .*", "(?i).*from table12.*|.*UNION.*"
+  };
+
+  private static List<String> columnNames(final int count) {
+    final List<String> columnNames = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      columnNames.add(
+          String.format(
+              "PUBLIC.SCHEMA%d.TABLE%d.COLUMN_%d%s",
+              i % 10, i / 20, i % 20, i % 7 == 0 ? "_ID" : "_NAME"));
+    }
+    return columnNames;
+  }
+
+  private static List<String> definitions(final int count) {
+    final List<String> definitions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      definitions.add(
+          String.format(
+              "SELECT COLUMN_%d, COLUMN_%d FROM TABLE%d WHERE COLUMN_%d > %d",
+              i % 20, (i + 1) % 20, i / 20, i % 20, i));
+    }
+    return definitions;
+  }
+
+  @Test
+  @Tag("benchmark")
+  public void grepColumns() {
+    final List<String> columnNames = columnNames(1_000_000);
+    for (final String regex : COLUMN_PATTERNS) {
+      benchmark("grep-columns", columnNames, regex);
+    }
+  }
+
+  @Test
+  @Tag("benchmark")
+  public void grepDefinitions() {
+    final List<String> definitions = definitions(1_000_000);
+    for (final String regex : DEFINITION_PATTERNS) {
+      benchmark("grep-def", definitions, regex);
+    }
+  }
+
+  @Test
+  public void sameMatchesAsRegularExpressions() {
+    final List<String> columnNames = columnNames(5_000);
+    for (final String regex : COLUMN_PATTERNS) {
+      assertSameMatches(columnNames, regex);
+    }
+    final List<String> definitions = definitions(5_000);
+    for (final String regex : DEFINITION_PATTERNS) {
+      assertSameMatches(definitions, regex);
+    }
+  }
+
+  private void assertSameMatches(final List<String> texts, final String regex) {
+    final Pattern pattern = Pattern.compile(regex);
+    final InclusionRule rule = new RegularExpressionRule(regex, null);
+    for (final String text : texts) {
+      assertThat(regex + " on " + text, rule.test(text), is(pattern.matcher(text).matches()));
+    }
+  }
+
+  private void benchmark(final String option, final List<String> texts, final String regex) {
+    final Pattern pattern = Pattern.compile(regex);
+    final long startRegex = System.nanoTime();
+    int regexMatches = 0;
+    for (final String text : texts) {
+      if (pattern.matcher(text).matches()) {
+        regexMatches++;
+      }
+    }
+    final long regexNanos = System.nanoTime() - startRegex;
+
+    final InclusionRule rule = new RegularExpressionRule(regex, null);
+    final long startRule = System.nanoTime();
+    int ruleMatches = 0;
+    for (final String text : texts) {
+      if (rule.test(text)) {
+        ruleMatches++;
+      }
+    }
+    final long ruleNanos = System.nanoTime() - startRule;
+
+    assertThat(ruleMatches, is(regexMatches));
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "--%s=%s on %d texts: regular expression %.1f ms, inclusion rule %.1f ms",
+            option, regex, texts.size(), regexNanos / 1e6, ruleNanos / 1e6));
+  }
+}
@@ -0,0 +1,112 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.inclusionrule;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class RegularExpressionRuleTest {
+
+  private final InclusionRule rule = new RegularExpressionRule("A.*", "AB");
+
+  @Test
+  public void logsCaller() {
+    final Logger logger = Logger.getLogger(RegularExpressionRule.class.getName());
+    final Level level = logger.getLevel();
+    final List<LogRecord> records = new ArrayList<>();
+    final Handler handler =
+        new Handler() {
+          @Override
+          public void close() {}
+
+          @Override
+          public void flush() {}
+
+          @Override
+          public void publish(final LogRecord record) {
+            records.add(record);
+          }
+        };
+
+    logger.setLevel(Level.FINE);
+    logger.addHandler(handler);
+    try {
+      assertThat(caller1("ABC"), is(true));
+      assertThat(caller1("AB"), is(false));
+      assertThat(caller1(""), is(false));
+    } finally {
+      logger.removeHandler(handler);
+      logger.setLevel(level);
+    }
+
+    assertThat(records, hasSize(3));
+    for (final LogRecord record : records) {
+      assertThat(record.getSourceClassName(), is(RegularExpressionRuleTest.class.getName()));
+      assertThat(record.getSourceMethodName(), is("caller1"));
+    }
+  }
+
+  @Test
+  public void memoizedResults() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(rule.test("ABC"), is(true));
+      assertThat(rule.test("AB"), is(false));
+      assertThat(rule.test("BA"), is(false));
+      assertThat(rule.test(""), is(false));
+    }
+  }
+
+  // The rule logs the frame five up from its test method, and calls through
+  // the inclusion rule interface go through a bridge method, so that is the
+  // fourth caller up
+  private boolean caller1(final String text) {
+    return caller2(text);
+  }
+
+  private boolean caller2(final String text) {
+    return caller3(text);
+  }
+
+  private boolean caller3(final String text) {
+    return caller4(text);
+  }
+
+  private boolean caller4(final String text) {
+    return rule.test(text);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.schemacrawler.DataDictionaryNamePattern.MATCH_ALL;
+import static schemacrawler.schemacrawler.DataDictionaryNamePattern.toNamePattern;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.inclusionrule.ExcludeAll;
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionRule;
+
+public class DataDictionaryNamePatternTest {
+
+  @Test
+  public void knownNames() {
+    assertThat(namePattern("PUBLIC\\.BOOKS\\.AUTHORS"), is("(^|\\.)(AUTHORS)$"));
+    assertThat(namePattern(".*\\.AUTHORS"), is("(^|\\.)(AUTHORS)$"));
+    assertThat(namePattern("^AUTHORS$"), is("(^|\\.)(AUTHORS)$"));
+    assertThat(
+        namePattern("PUBLIC\\.BOOKS\\.(AUTHORS|BOOKS)"), is("(^|\\.)(AUTHORS|BOOKS)$"));
+    assertThat(
+        namePattern(".*\\.(?:AUTHORS|BOOKS)|.*\\.PUBLISHERS"),
+        is("(^|\\.)(AUTHORS|BOOKS|PUBLISHERS)$"));
+    assertThat(namePattern(".*\\.SYS\\$LOG"), is("(^|\\.)(SYS\\$LOG)$"));
+    assertThat(namePattern("(PUBLIC|SYSTEM)\\.BOOKS\\.AUTHORS"), is("(^|\\.)(AUTHORS)$"));
+  }
+
+  @Test
+  public void matchAll() {
+    assertThat(toNamePattern(null), is(MATCH_ALL));
+    assertThat(toNamePattern(new IncludeAll()), is(MATCH_ALL));
+    assertThat(toNamePattern(new ExcludeAll()), is(MATCH_ALL));
+    assertThat(toNamePattern(tableFullName -> true), is(MATCH_ALL));
+
+    for (final String pattern :
+        Arrays.asList(
+            ".*",
+            "",
+            ".*AUTHORS",
+            ".*\\.AUTH.*",
+            ".*\\.AUTHORS?",
+            ".*\\.(AUTHORS|BOOKS)+",
+            ".*\\.(AUTHORS)(BOOKS)",
+            ".*\\.(?i)AUTHORS",
+            ".*\\.[AB]UTHORS",
+            ".*\\.\"AUTHORS\"",
+            ".*\\.AUTHORS|.*")) {
+      assertThat(pattern, namePattern(pattern), is(MATCH_ALL));
+    }
+    assertThat(
+        toNamePattern(
+            new RegularExpressionInclusionRule(
+                Pattern.compile(".*\\.AUTHORS", Pattern.CASE_INSENSITIVE))),
+        is(MATCH_ALL));
+  }
+
+  @Test
+  public void exclusionsAreNotPushedDown() {
+    final InclusionRule rule = new RegularExpressionRule(".*\\.AUTHORS", ".*\\.BOOKS");
+    assertThat(toNamePattern(rule), is("(^|\\.)(AUTHORS)$"));
+  }
+
+  @Test
+  public void namePatternIncludesAllMatches() {
+    final String[][] fullNames = {
+      {"PUBLIC.BOOKS.AUTHORS", "AUTHORS"},
+      {"PUBLIC.BOOKS.BOOKS", "BOOKS"},
+      {"BOOKS.AUTHORS", "AUTHORS"},
+      {"AUTHORS", "AUTHORS"},
+      {"PUBLIC.BOOKS.X.AUTHORS", "X.AUTHORS"},
+    };
+    final String regex = ".*\\.AUTHORS|AUTHORS";
+    final Pattern fullNamePattern = Pattern.compile(regex);
+    final Pattern namePattern = Pattern.compile(namePattern(regex));
+    for (final String[] fullName : fullNames) {
+      if (fullNamePattern.matcher(fullName[0]).matches()) {
+        assertThat(fullName[0], namePattern.matcher(fullName[1]).find(), is(true));
+      }
+    }
+  }
+
+  private String namePattern(final String regex) {
+    return toNamePattern(new RegularExpressionInclusionRule(regex));
+  }
+}
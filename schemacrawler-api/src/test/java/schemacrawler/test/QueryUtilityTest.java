@@ -41,12 +41,17 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.QueryUtility;
 import schemacrawler.test.utility.TestContext;
@@ -104,6 +109,34 @@ public class QueryUtilityTest {
     executeAgainstSchemaTest(testContext, cxn, query, schemaInclusionRule);
   }
 
+  @Test
+  public void executeAgainstSchemaWithTablesAndColumns(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Columns for tables",
+            "SELECT * FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE REGEXP_MATCHES(TABLE_SCHEMA, '${schemas}') "
+                + "AND REGEXP_MATCHES(TABLE_NAME, '${tables}') "
+                + "AND REGEXP_MATCHES(COLUMN_NAME, '${columns}')");
+    final LimitOptions limitOptions =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule("BOOKS"))
+            .includeTables(new RegularExpressionInclusionRule(".*\\.BOOKS\\.(AUTHORS|BOOKS)"))
+            .includeColumns(new RegularExpressionInclusionRule(".*\\.ID"))
+            .toOptions();
+
+    final Set<String> columns = new HashSet<>();
+    try (final Connection connection = cxn;
+        final Statement statement = connection.createStatement();
+        final ResultSet resultSet =
+            QueryUtility.executeAgainstSchema(query, statement, limitOptions)) {
+      while (resultSet.next()) {
+        columns.add(resultSet.getString("TABLE_NAME") + "." + resultSet.getString("COLUMN_NAME"));
+      }
+    }
+    assertThat(columns, is(new HashSet<>(Arrays.asList("AUTHORS.ID", "BOOKS.ID"))));
+  }
+
   @Test
   public void executeForScalar(final TestContext testContext, final Connection cxn)
       throws Exception {
@@ -0,0 +1,141 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.crawl.ForeignKeyRetrieverTest.verifyRetrieveForeignKeys;
+import static schemacrawler.crawl.IndexRetrieverTest.verifyRetrieveIndexes;
+import static schemacrawler.crawl.PrimaryKeyRetrieverTest.verifyRetrievePrimaryKeys;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_all_per_schema;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SchemaCrawlerMetadataPerSchemaTest {
+
+  private static List<String> describeColumns(final Catalog catalog) {
+    final List<String> columns = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      for (final Column column : table.getColumns()) {
+        columns.add(
+            String.format(
+                "%s %d %s %b",
+                column.getFullName(),
+                column.getOrdinalPosition(),
+                column.getColumnDataType().getFullName(),
+                column.isNullable()));
+      }
+    }
+    return columns;
+  }
+
+  private static SchemaCrawlerOptions schemaCrawlerOptions() {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  private Catalog catalog;
+  private Catalog metadataCatalog;
+
+  @Test
+  public void foreignKeys() throws Exception {
+    verifyRetrieveForeignKeys(catalog);
+  }
+
+  @Test
+  public void indexes() throws Exception {
+    verifyRetrieveIndexes(catalog);
+  }
+
+  @BeforeAll
+  public void loadCatalogs(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(tableColumnsRetrievalStrategy, metadata_all_per_schema)
+            .with(primaryKeysRetrievalStrategy, metadata_all_per_schema)
+            .with(indexesRetrievalStrategy, metadata_all_per_schema)
+            .with(foreignKeysRetrievalStrategy, metadata_all_per_schema)
+            .toOptions();
+    catalog = getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions());
+
+    metadataCatalog =
+        getCatalog(
+            connection,
+            SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions());
+  }
+
+  @Test
+  public void primaryKeys() throws Exception {
+    verifyRetrievePrimaryKeys(catalog);
+  }
+
+  @Test
+  public void tableColumns() throws Exception {
+    assertThat(catalog.getTables(), hasSize(metadataCatalog.getTables().size()));
+    // Columns retrieved for all tables in a schema together should be the same as columns
+    // retrieved one table at a time
+    assertThat(describeColumns(catalog), is(equalTo(describeColumns(metadataCatalog))));
+  }
+}
@@ -0,0 +1,249 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.getRowCount;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.getRowCountMessage;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.isRowCountEstimated;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.isRowCountUnknown;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.analysis.counts.TableRowCountsRetriever;
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class TableRowCountsRetrieverTest {
+
+  private static Catalog loadCatalog(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+    return getCatalog(
+        connection,
+        SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+        schemaCrawlerOptions);
+  }
+
+  private static Map<String, Long> rowCounts(final Catalog catalog) {
+    final Map<String, Long> rowCounts = new HashMap<>();
+    for (final Table table : catalog.getTables()) {
+      assertThat(hasRowCount(table), is(true));
+      rowCounts.put(table.getFullName(), getRowCount(table));
+    }
+    return rowCounts;
+  }
+
+  @Test
+  public void estimatedRowCounts(final Connection connection) throws Exception {
+    final Catalog catalog = loadCatalog(connection);
+
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                InformationSchemaKey.TABLE_ROW_COUNTS,
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, 42 AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'AUTHORS'")
+            .toOptions();
+    final LoadOptions loadOptions =
+        LoadOptionsBuilder.builder().loadRowCounts().estimateRowCounts(true).toOptions();
+    new TableRowCountsRetriever(
+            connection,
+            null,
+            catalog,
+            LimitOptionsBuilder.newLimitOptions(),
+            loadOptions,
+            informationSchemaViews)
+        .retrieveTableRowCounts();
+
+    for (final Table table : catalog.getTables()) {
+      if (table.getName().equals("AUTHORS")) {
+        assertThat(isRowCountEstimated(table), is(true));
+        assertThat(getRowCount(table), is(42L));
+        assertThat(getRowCountMessage(table), is("about 42 rows"));
+      } else {
+        assertThat(isRowCountUnknown(table), is(true));
+        assertThat(getRowCountMessage(table), is("unknown rows"));
+      }
+    }
+  }
+
+  @Test
+  public void estimatedRowCountsForIncludedSchemas(final Connection connection)
+      throws Exception {
+    final Catalog catalog = loadCatalog(connection);
+
+    // The estimates query is only run against the included schemas
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                InformationSchemaKey.TABLE_ROW_COUNTS,
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, 42 AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.TABLES "
+                    + "WHERE REGEXP_MATCHES(TABLE_CATALOG || '.' || TABLE_SCHEMA, '${schemas}')")
+            .toOptions();
+    final LoadOptions loadOptions =
+        LoadOptionsBuilder.builder().loadRowCounts().estimateRowCounts(true).toOptions();
+    new TableRowCountsRetriever(
+            connection,
+            null,
+            catalog,
+            LimitOptionsBuilder.builder()
+                .includeSchemas(new RegularExpressionInclusionRule("PUBLIC\\.BOOKS"))
+                .toOptions(),
+            loadOptions,
+            informationSchemaViews)
+        .retrieveTableRowCounts();
+
+    for (final Table table : catalog.getTables()) {
+      if (table.getSchema().getFullName().equals("PUBLIC.BOOKS")) {
+        assertThat(table.getFullName(), isRowCountEstimated(table), is(true));
+      } else {
+        assertThat(table.getFullName(), isRowCountUnknown(table), is(true));
+      }
+    }
+  }
+
+  @Test
+  public void parallelRowCounts(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final Catalog serialCatalog = loadCatalog(connection);
+    new TableRowCountsRetriever(connection, serialCatalog).retrieveTableRowCounts();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            connectionCount.incrementAndGet();
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+    final Catalog parallelCatalog = loadCatalog(connection);
+    final LoadOptions loadOptions =
+        LoadOptionsBuilder.builder()
+            .loadRowCounts()
+            .withRowCountWorkers(3)
+            .withRowCountQueryTimeoutSeconds(30)
+            .withRowCountDeadlineSeconds(60)
+            .toOptions();
+    new TableRowCountsRetriever(
+            connection,
+            connectionSource,
+            parallelCatalog,
+            LimitOptionsBuilder.newLimitOptions(),
+            loadOptions,
+            InformationSchemaViewsBuilder.newInformationSchemaViews())
+        .retrieveTableRowCounts();
+
+    assertThat(connectionCount.get(), is(2));
+    assertThat(rowCounts(parallelCatalog), is(rowCounts(serialCatalog)));
+    assertThat(connection.isClosed(), is(false));
+  }
+
+  @Test
+  public void rowCountsWithoutExtraConnections(final Connection connection) throws Exception {
+    final Catalog catalog = loadCatalog(connection);
+    final Supplier<Connection> connectionSource =
+        () -> {
+          throw new SchemaCrawlerRuntimeException("No more connections");
+        };
+    final LoadOptions loadOptions =
+        LoadOptionsBuilder.builder().loadRowCounts().withRowCountWorkers(3).toOptions();
+    new TableRowCountsRetriever(
+            connection,
+            connectionSource,
+            catalog,
+            LimitOptionsBuilder.newLimitOptions(),
+            loadOptions,
+            InformationSchemaViewsBuilder.newInformationSchemaViews())
+        .retrieveTableRowCounts();
+
+    assertThat(rowCounts(catalog).size(), is(greaterThan(0)));
+    for (final Table table : catalog.getTables()) {
+      assertThat(isRowCountUnknown(table), is(false));
+    }
+  }
+
+  @Test
+  public void rowCountMessages() {
+    assertThat(getRowCountMessage(0), is("empty"));
+    assertThat(getRowCountMessage(-1), is("empty"));
+    assertThat(getRowCountMessage(1_000), is("1,000 rows"));
+  }
+
+  @Test
+  public void rowCountOptionsValidation() {
+    assertThrows(
+        IllegalArgumentException.class, () -> LoadOptionsBuilder.builder().withRowCountWorkers(0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> LoadOptionsBuilder.builder().withRowCountQueryTimeoutSeconds(-1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> LoadOptionsBuilder.builder().withRowCountDeadlineSeconds(-1));
+  }
+}
@@ -139,6 +139,7 @@ public class ExecuteCommand extends BaseStateHolder implements Runnable {
       executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
 
       executable.setConnection(connection);
+      executable.setConnectionSource(state.getDataSource());
       executable.setCatalog(catalog);
 
       executable.execute();
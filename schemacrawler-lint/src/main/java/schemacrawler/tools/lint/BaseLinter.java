@@ -33,8 +33,8 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -44,6 +44,8 @@ import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import us.fatehi.utility.string.StringFormat;
@@ -64,6 +66,7 @@ public abstract class BaseLinter extends Linter {
   private InclusionRule tableInclusionRule;
   private InclusionRule columnInclusionRule;
   private TableTypesFilter tableTypesFilter;
+  private TableLintContext tableContext;
 
   protected BaseLinter() {
     setTableTypesFilter(null);
@@ -96,11 +99,11 @@ public abstract class BaseLinter extends Linter {
       return Collections.emptyList();
     }
 
-    final List<Column> columns = new ArrayList<>(table.getColumns());
-    for (final Iterator<Column> iterator = columns.iterator(); iterator.hasNext(); ) {
-      final Column column = iterator.next();
-      if (!includeColumn(column)) {
-        iterator.remove();
+    final List<Column> allColumns = getTableContext(table).getColumns();
+    final List<Column> columns = new ArrayList<>(allColumns.size());
+    for (final Column column : allColumns) {
+      if (includeColumn(column)) {
+        columns.add(column);
       }
     }
     return columns;
@@ -110,6 +113,35 @@ public abstract class BaseLinter extends Linter {
     return catalog.getCrawlInfo();
   }
 
+  /**
+   * Gets the full names of columns in each imported foreign key of a table. Column inclusion rules
+   * are not applied.
+   *
+   * @param table Table
+   * @return Read-only map of imported foreign keys to column names
+   */
+  protected final Map<ForeignKey, List<String>> getImportedForeignKeyColumnNames(
+      final Table table) {
+    if (table == null) {
+      return Collections.emptyMap();
+    }
+    return getTableContext(table).getImportedForeignKeyColumnNames();
+  }
+
+  /**
+   * Gets the full names of columns in each index of a table. Column inclusion rules are not
+   * applied.
+   *
+   * @param table Table
+   * @return Read-only map of indexes to column names
+   */
+  protected final Map<Index, List<String>> getIndexColumnNames(final Table table) {
+    if (table == null) {
+      return Collections.emptyMap();
+    }
+    return getTableContext(table).getIndexColumnNames();
+  }
+
   protected final TableTypesFilter getTableTypesFilter() {
     return tableTypesFilter;
   }
@@ -146,20 +178,67 @@ public abstract class BaseLinter extends Linter {
   @Override
   final void lint(final Catalog catalog, final Connection connection)
       throws SchemaCrawlerException {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
-
-    start(connection);
+    startLint(catalog, connection);
     for (final Table table : catalog.getTables()) {
-      if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
+      lint(new TableLintContext(table), connection);
+    }
+    endLint(connection);
+  }
+
+  /**
+   * Finishes linting the catalog, as part of a pass over the catalog that is shared with other
+   * linters.
+   *
+   * @param connection Database connection
+   */
+  final void endLint(final Connection connection) throws SchemaCrawlerException {
+    end(connection);
+    catalog = null;
+  }
+
+  /**
+   * Lints a table, as part of a pass over the catalog that is shared with other linters. The table
+   * is skipped if it is excluded for this linter.
+   *
+   * @param tableContext Table, with data shared by all linters
+   * @param connection Database connection
+   */
+  final void lint(final TableLintContext tableContext, final Connection connection)
+      throws SchemaCrawlerException {
+    final Table table = tableContext.getTable();
+    if (tableInclusionRule.test(tableContext.getTableFullName()) && tableTypesFilter.test(table)) {
+      this.tableContext = tableContext;
+      try {
         lint(table, connection);
-      } else {
-        LOGGER.log(
-            Level.FINE,
-            new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+      } finally {
+        this.tableContext = null;
       }
+    } else {
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
     }
-    end(connection);
-    this.catalog = null;
+  }
+
+  /**
+   * Starts linting the catalog, as part of a pass over the catalog that is shared with other
+   * linters.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Database connection
+   */
+  final void startLint(final Catalog catalog, final Connection connection)
+      throws SchemaCrawlerException {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    start(connection);
+  }
+
+  private TableLintContext getTableContext(final Table table) {
+    if (tableContext != null && tableContext.getTable() == table) {
+      return tableContext;
+    }
+    // Linters may look at tables other than the one being linted
+    return new TableLintContext(table);
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule) {
@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.lint;
 
 import static java.util.Comparator.naturalOrder;
+import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -37,14 +38,35 @@ import java.util.List;
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints, and attaches them to the linted objects as attributes. When linters run in
+ * parallel, each linter collects lints into its own shard. A shard does not modify the linted
+ * objects, so that catalog objects are only changed on one thread, when the shards are merged.
+ */
 public final class LintCollector {
 
   private static final String LINT_KEY = "schemacrawler.lint";
 
+  private static void attachLint(final AttributedObject lintedObject, final Lint<?> lint) {
+    final Collection<Lint<?>> lints = lintedObject.getAttribute(LINT_KEY, new ArrayList<>());
+    lints.add(lint);
+    lintedObject.setAttribute(LINT_KEY, lints);
+  }
+
   private final List<Lint<? extends Serializable>> lints;
+  private final List<AttributedObject> lintedObjects;
 
   public LintCollector() {
+    this(false);
+  }
+
+  private LintCollector(final boolean isShard) {
     lints = new ArrayList<>();
+    if (isShard) {
+      lintedObjects = new ArrayList<>();
+    } else {
+      lintedObjects = null;
+    }
   }
 
   public <N extends NamedObject & AttributedObject> void addLint(
@@ -54,9 +76,11 @@ public final class LintCollector {
         && namedObject.getFullName().equals(lint.getObjectName())) {
       lints.add(lint);
 
-      final Collection<Lint<?>> columnLints = namedObject.getAttribute(LINT_KEY, new ArrayList<>());
-      columnLints.add(lint);
-      namedObject.setAttribute(LINT_KEY, columnLints);
+      if (lintedObjects == null) {
+        attachLint(namedObject, lint);
+      } else {
+        lintedObjects.add(namedObject);
+      }
     }
   }
 
@@ -68,4 +92,35 @@ public final class LintCollector {
   public int size() {
     return lints.size();
   }
+
+  /**
+   * Adds lints from a shard to this collector, and attaches them to the linted objects. Shards
+   * need to be merged on one thread, after linters that use them have finished.
+   *
+   * @param shard Shard to merge
+   */
+  void merge(final LintCollector shard) {
+    requireNonNull(shard, "No lint collector shard provided");
+    if (shard.lintedObjects == null) {
+      throw new IllegalArgumentException("Cannot merge a lint collector that is not a shard");
+    }
+    for (int i = 0; i < shard.lints.size(); i++) {
+      final Lint<? extends Serializable> lint = shard.lints.get(i);
+      lints.add(lint);
+      if (lintedObjects == null) {
+        attachLint(shard.lintedObjects.get(i), lint);
+      } else {
+        lintedObjects.add(shard.lintedObjects.get(i));
+      }
+    }
+  }
+
+  /**
+   * Creates an empty shard, for lints from one linter.
+   *
+   * @return New shard
+   */
+  LintCollector newShard() {
+    return new LintCollector(true);
+  }
 }
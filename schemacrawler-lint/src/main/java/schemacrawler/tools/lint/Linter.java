@@ -132,6 +132,17 @@ public abstract class Linter {
     return String.format("%s [%s] - %s", getLinterInstanceId(), getSeverity(), getSummary());
   }
 
+  /**
+   * Whether this linter runs queries against the database connection. Linters that use the
+   * connection are not run in parallel with each other. Needs to be overridden by linters that use
+   * the connection.
+   *
+   * @return Whether this linter uses the connection
+   */
+  public boolean usesConnection() {
+    return false;
+  }
+
   protected final <N extends NamedObject & AttributedObject, V extends Serializable> void addLint(
       final LintObjectType objectType, final N namedObject, final String message, final V value) {
     LOGGER.log(
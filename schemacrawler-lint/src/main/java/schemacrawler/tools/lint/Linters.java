@@ -35,10 +35,15 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import us.fatehi.utility.string.StringFormat;
 
@@ -168,11 +173,91 @@ public final class Linters implements Iterable<Linter> {
     return linters.iterator();
   }
 
+  /**
+   * Lints the catalog with a single pass over the tables, dispatching each table to all linters.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Database connection, for linters that run queries
+   * @throws SchemaCrawlerException On an exception from a linter
+   */
   public void lint(final Catalog catalog, final Connection connection)
       throws SchemaCrawlerException {
-    for (final Linter linter : linters) {
-      LOGGER.log(Level.FINE, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
-      linter.lint(catalog, connection);
+    lint(catalog, connection, 1);
+  }
+
+  /**
+   * Lints the catalog, running linters in parallel on a fork-join pool. Linters that use the
+   * connection are run together in a single pass on the calling thread, while the other linters run
+   * on the pool. Each linter collects lints into its own shard, and shards are merged in the order
+   * of the linters, so the results are the same as when linters are run one after another.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Database connection, for linters that run queries
+   * @param parallelism Number of threads to run linters on, or 1 to run them one after another
+   * @throws SchemaCrawlerException On an exception from a linter
+   */
+  public void lint(final Catalog catalog, final Connection connection, final int parallelism)
+      throws SchemaCrawlerException {
+    if (parallelism <= 1 || linters.size() <= 1) {
+      lintInSinglePass(linters, catalog, connection);
+      return;
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Linting with %d linters, on %d threads", linters.size(), parallelism));
+
+    final List<LintCollector> shards = new ArrayList<>();
+    final List<Future<Void>> lintTasks = new ArrayList<>();
+    final ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, linters.size()));
+    try {
+      for (final Linter linter : linters) {
+        final LintCollector shard = collector.newShard();
+        shards.add(shard);
+        linter.setLintCollector(shard);
+        if (!linter.usesConnection()) {
+          lintTasks.add(
+              pool.submit(
+                  () -> {
+                    lint(linter, catalog, connection);
+                    return null;
+                  }));
+        }
+      }
+      // Linters that use the connection share it, so run them on this thread
+      final List<Linter> connectionLinters = new ArrayList<>();
+      for (final Linter linter : linters) {
+        if (linter.usesConnection()) {
+          connectionLinters.add(linter);
+        }
+      }
+      lintInSinglePass(connectionLinters, catalog, connection);
+      for (final Future<Void> lintTask : lintTasks) {
+        lintTask.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while linting", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException) {
+        throw (SchemaCrawlerException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new SchemaCrawlerException("Could not lint catalog", cause);
+    } finally {
+      // Wait for running linters to finish before they lose their shards
+      pool.shutdownNow();
+      pool.awaitQuiescence(Long.MAX_VALUE, TimeUnit.DAYS);
+      for (final Linter linter : linters) {
+        linter.setLintCollector(collector);
+      }
+    }
+
+    for (final LintCollector shard : shards) {
+      collector.merge(shard);
     }
   }
 
@@ -190,6 +275,47 @@ public final class Linters implements Iterable<Linter> {
     return linters.toString();
   }
 
+  private void lint(final Linter linter, final Catalog catalog, final Connection connection)
+      throws SchemaCrawlerException {
+    LOGGER.log(Level.FINE, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+    linter.lint(catalog, connection);
+  }
+
+  /**
+   * Lints the catalog with a single pass over the tables, dispatching each table to all linters.
+   * Data derived from a table is computed once, and shared by the linters. Linters that do not
+   * extend {@link BaseLinter} visit the catalog on their own.
+   */
+  private void lintInSinglePass(
+      final List<Linter> linters, final Catalog catalog, final Connection connection)
+      throws SchemaCrawlerException {
+    final List<BaseLinter> tableLinters = new ArrayList<>();
+    for (final Linter linter : linters) {
+      if (linter instanceof BaseLinter) {
+        tableLinters.add((BaseLinter) linter);
+      } else {
+        lint(linter, catalog, connection);
+      }
+    }
+    if (tableLinters.isEmpty()) {
+      return;
+    }
+
+    for (final BaseLinter linter : tableLinters) {
+      LOGGER.log(Level.FINE, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+      linter.startLint(catalog, connection);
+    }
+    for (final Table table : catalog.getTables()) {
+      final TableLintContext tableContext = new TableLintContext(table);
+      for (final BaseLinter linter : tableLinters) {
+        linter.lint(tableContext, connection);
+      }
+    }
+    for (final BaseLinter linter : tableLinters) {
+      linter.endLint(connection);
+    }
+  }
+
   private Linter newLinter(final String linterId) {
     final Linter linter = registry.newLinter(linterId);
     if (linter != null) {
@@ -0,0 +1,122 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.MetaDataUtility.columnNames;
+import static schemacrawler.utility.MetaDataUtility.foreignKeyColumnNames;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Table;
+
+/**
+ * Data derived from a table that is needed by several linters. The data is computed when it is
+ * first asked for, and then shared by all linters that lint the table, so that a single pass over
+ * the catalog does not compute it again for every linter. Not thread-safe, so a context is only
+ * used on the thread that created it.
+ */
+final class TableLintContext {
+
+  private final Table table;
+  private final String tableFullName;
+  private List<Column> columns;
+  private Map<Index, List<String>> indexColumnNames;
+  private Map<ForeignKey, List<String>> importedForeignKeyColumnNames;
+
+  TableLintContext(final Table table) {
+    this.table = requireNonNull(table, "No table provided");
+    tableFullName = table.getFullName();
+  }
+
+  /**
+   * Gets all columns of the table, in ordinal order.
+   *
+   * @return Read-only list of columns
+   */
+  List<Column> getColumns() {
+    if (columns == null) {
+      columns = unmodifiableList(table.getColumns());
+    }
+    return columns;
+  }
+
+  /**
+   * Gets the full names of columns in imported foreign keys, for each foreign key.
+   *
+   * @return Read-only map of foreign keys to column names
+   */
+  Map<ForeignKey, List<String>> getImportedForeignKeyColumnNames() {
+    if (importedForeignKeyColumnNames == null) {
+      final Map<ForeignKey, List<String>> foreignKeyColumns = new LinkedHashMap<>();
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        foreignKeyColumns.put(foreignKey, unmodifiableList(foreignKeyColumnNames(foreignKey)));
+      }
+      importedForeignKeyColumnNames = unmodifiableMap(foreignKeyColumns);
+    }
+    return importedForeignKeyColumnNames;
+  }
+
+  /**
+   * Gets the full names of index columns, for each index of the table.
+   *
+   * @return Read-only map of indexes to column names
+   */
+  Map<Index, List<String>> getIndexColumnNames() {
+    if (indexColumnNames == null) {
+      if (table instanceof PartialDatabaseObject) {
+        indexColumnNames = emptyMap();
+      } else {
+        final Map<Index, List<String>> indexColumns = new LinkedHashMap<>();
+        for (final Index index : table.getIndexes()) {
+          indexColumns.put(index, unmodifiableList(columnNames(index)));
+        }
+        indexColumnNames = unmodifiableMap(indexColumns);
+      }
+    }
+    return indexColumnNames;
+  }
+
+  Table getTable() {
+    return table;
+  }
+
+  String getTableFullName() {
+    return tableFullName;
+  }
+}
@@ -65,7 +65,7 @@ public class LintCommand extends BaseSchemaCrawlerCommand<LintOptions> {
     final LinterConfigs linterConfigs = readLinterConfigs(commandOptions);
     LOGGER.log(Level.FINEST, new ObjectToStringFormat(linterConfigs));
     final Linters linters = new Linters(linterConfigs, commandOptions.isRunAllLinters());
-    linters.lint(catalog, connection);
+    linters.lint(catalog, connection, commandOptions.getLintParallelism());
 
     // Produce the lint report
     final LintReport lintReport =
@@ -72,6 +72,13 @@ public class LintCommandProvider extends BaseCommandProvider {
             "Specifies how to fail if a linter threshold is exceeded%n"
                 + "Optional, defaults to none%n"
                 + "Corresponds to the configuration file setting: schemacrawler.lint.lintdispatch")
+        .addOption(
+            "lint-parallelism",
+            int.class,
+            "Number of threads to run linters on%n"
+                + "Optional, defaults to 1, to run linters one at a time%n"
+                + "Corresponds to the configuration file setting: "
+                + "schemacrawler.lint.lint-parallelism")
         .addOption(
             "run-all-linters",
             boolean.class,
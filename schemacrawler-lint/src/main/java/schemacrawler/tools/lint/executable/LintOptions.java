@@ -39,6 +39,7 @@ public class LintOptions extends BaseTextOptions {
 
   private final String linterConfigs;
   private final LintDispatch lintDispatch;
+  private final int lintParallelism;
   private final boolean runAllLinters;
   private final Map<String, String> properties;
 
@@ -46,6 +47,7 @@ public class LintOptions extends BaseTextOptions {
     super(builder);
     linterConfigs = builder.linterConfigs;
     lintDispatch = requireNonNull(builder.lintDispatch, "No dispatch provided");
+    lintParallelism = builder.lintParallelism;
     runAllLinters = builder.runAllLinters;
     requireNonNull(builder.properties, "No properties provided");
     properties = new HashMap<>(builder.properties);
@@ -60,6 +62,15 @@ public class LintOptions extends BaseTextOptions {
     return lintDispatch;
   }
 
+  /**
+   * Gets the number of threads to run linters on. Linters are run one after another if this is 1.
+   *
+   * @return Number of threads to run linters on.
+   */
+  public int getLintParallelism() {
+    return lintParallelism;
+  }
+
   /**
    * Gets the path to the linter configs file.
    *
@@ -41,10 +41,12 @@ public final class LintOptionsBuilder
 
   private static final String CLI_LINTER_CONFIGS = "linter-configs";
   private static final String CLI_LINT_DISPATCH = "lint-dispatch";
+  private static final String CLI_LINT_PARALLELISM = "lint-parallelism";
   private static final String CLI_RUN_ALL_LINTERS = "run-all-linters";
   private static final String SCHEMACRAWLER_LINT_PREFIX = "schemacrawler.lint.";
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_LINT_PREFIX + CLI_LINTER_CONFIGS;
   private static final String LINT_DISPATCH = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_DISPATCH;
+  private static final String LINT_PARALLELISM = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_PARALLELISM;
   private static final String RUN_ALL_LINTERS = SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_ALL_LINTERS;
 
   public static LintOptionsBuilder builder() {
@@ -56,6 +58,7 @@ public final class LintOptionsBuilder
   }
 
   LintDispatch lintDispatch;
+  int lintParallelism;
   String linterConfigs;
   boolean runAllLinters;
   Map<String, String> properties;
@@ -63,6 +66,7 @@ public final class LintOptionsBuilder
   private LintOptionsBuilder() {
     linterConfigs = "";
     lintDispatch = LintDispatch.none;
+    lintParallelism = 1;
     runAllLinters = true;
     properties = new HashMap<>();
   }
@@ -94,6 +98,16 @@ public final class LintOptionsBuilder
     }
     lintDispatch = config.getEnumValue(lintDispatchKey, LintDispatch.none);
 
+    final String lintParallelismKey;
+    if (config.containsKey(CLI_LINT_PARALLELISM)) {
+      // Honor command-line option first
+      lintParallelismKey = CLI_LINT_PARALLELISM;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      lintParallelismKey = LINT_PARALLELISM;
+    }
+    withLintParallelism(config.getIntegerValue(lintParallelismKey, 1));
+
     final String runAllLintersKey;
     if (config.containsKey(CLI_RUN_ALL_LINTERS)) {
       // Honor command-line option first
@@ -116,6 +130,7 @@ public final class LintOptionsBuilder
 
     linterConfigs = options.getLinterConfigs();
     lintDispatch = options.getLintDispatch();
+    lintParallelism = options.getLintParallelism();
     runAllLinters = options.isRunAllLinters();
 
     return this;
@@ -133,6 +148,7 @@ public final class LintOptionsBuilder
     final Config config = super.toConfig();
     config.setStringValue(LINTER_CONFIGS, linterConfigs);
     config.setEnumValue(LINT_DISPATCH, lintDispatch);
+    config.setStringValue(LINT_PARALLELISM, String.valueOf(lintParallelism));
     config.setBooleanValue(RUN_ALL_LINTERS, runAllLinters);
     // Lint report output format is not written to the config
     return config;
@@ -153,6 +169,12 @@ public final class LintOptionsBuilder
     return this;
   }
 
+  /** With the number of threads to run linters on. */
+  public LintOptionsBuilder withLintParallelism(final int lintParallelism) {
+    this.lintParallelism = Math.max(1, lintParallelism);
+    return this;
+  }
+
   /** With the name of a linter configs file. */
   public LintOptionsBuilder withLinterConfigs(final String linterConfigs) {
     if (isBlank(linterConfigs)) {
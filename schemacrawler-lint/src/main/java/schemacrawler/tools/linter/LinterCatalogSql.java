@@ -56,6 +56,11 @@ public class LinterCatalogSql extends BaseLinter {
     }
   }
 
+  @Override
+  public boolean usesConnection() {
+    return true;
+  }
+
   @Override
   protected void configure(final Map<String, String> config) {
     requireNonNull(config, "No configuration provided");
@@ -29,13 +29,12 @@ package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.lint.LintUtility.listStartsWith;
-import static schemacrawler.utility.MetaDataUtility.allIndexCoumnNames;
-import static schemacrawler.utility.MetaDataUtility.foreignKeyColumnNames;
 
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map.Entry;
 
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Table;
@@ -67,9 +66,11 @@ public class LinterForeignKeyWithNoIndexes extends BaseLinter {
   private List<ForeignKey> findForeignKeysWithoutIndexes(final Table table) {
     final List<ForeignKey> foreignKeysWithoutIndexes = new ArrayList<>();
     if (!(table instanceof View)) {
-      final Collection<List<String>> allIndexCoumns = allIndexCoumnNames(table);
-      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
-        final List<String> foreignKeyColumns = foreignKeyColumnNames(foreignKey);
+      final Collection<List<String>> allIndexCoumns = getIndexColumnNames(table).values();
+      for (final Entry<ForeignKey, List<String>> foreignKeyEntry :
+          getImportedForeignKeyColumnNames(table).entrySet()) {
+        final ForeignKey foreignKey = foreignKeyEntry.getKey();
+        final List<String> foreignKeyColumns = foreignKeyEntry.getValue();
         boolean hasIndex = false;
         for (final List<String> indexColumns : allIndexCoumns) {
           if (listStartsWith(indexColumns, foreignKeyColumns)) {
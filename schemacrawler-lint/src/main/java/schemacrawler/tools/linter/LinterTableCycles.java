@@ -34,9 +34,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import schemacrawler.schema.ForeignKey;
-import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
 import us.fatehi.utility.graph.DirectedGraph;
@@ -74,12 +73,11 @@ public class LinterTableCycles extends BaseLinter {
     requireNonNull(tablesGraph, "Not initialized");
 
     tablesGraph.addVertex(table);
-    for (final ForeignKey foreignKey : table.getForeignKeys()) {
-      for (final ForeignKeyColumnReference columnReference : foreignKey) {
-        tablesGraph.addEdge(
-            columnReference.getPrimaryKeyColumn().getParent(),
-            columnReference.getForeignKeyColumn().getParent());
-      }
+    for (final Table parentTable : table.getRelatedTables(TableRelationshipType.parent)) {
+      tablesGraph.addEdge(parentTable, table);
+    }
+    for (final Table childTable : table.getRelatedTables(TableRelationshipType.child)) {
+      tablesGraph.addEdge(table, childTable);
     }
   }
 
@@ -29,9 +29,15 @@ package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static us.fatehi.utility.DatabaseUtility.executeSql;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -39,18 +45,35 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.lint.LintSeverity;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Checks for empty tables. Tables are counted in batches, with a single UNION ALL query for each
+ * batch, using one statement for the lint run. If a batch cannot be counted, each table in the
+ * batch is counted on its own.
+ */
 public class LinterTableEmpty extends BaseLinter {
 
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(LinterTableEmpty.class.getName());
 
+  private static final Query COUNT_QUERY = new Query("Count", "SELECT COUNT(*) FROM ${table}");
+
+  private final List<Table> pendingTables;
+  private int batchSize;
+  private int queryTimeoutSeconds;
+  private Identifiers identifiers;
+  private Statement statement;
+
   public LinterTableEmpty() {
     setSeverity(LintSeverity.low);
     setTableTypesFilter(new TableTypesFilter("TABLE"));
+
+    pendingTables = new ArrayList<>();
+    batchSize = 100;
   }
 
   @Override
@@ -58,20 +81,134 @@ public class LinterTableEmpty extends BaseLinter {
     return "empty table";
   }
 
+  @Override
+  public boolean usesConnection() {
+    return true;
+  }
+
+  @Override
+  protected void configure(final Map<String, String> config) {
+    requireNonNull(config, "No configuration provided");
+
+    if (config.containsKey("batch-size")) {
+      batchSize = Math.max(1, Integer.valueOf(config.get("batch-size")));
+    }
+    if (config.containsKey("query-timeout")) {
+      queryTimeoutSeconds = Integer.valueOf(config.get("query-timeout"));
+    }
+  }
+
+  @Override
+  protected void end(final Connection connection) throws SchemaCrawlerException {
+    countPendingTables();
+
+    if (statement != null) {
+      try {
+        statement.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not close statement for counting rows", e);
+      }
+    }
+    statement = null;
+    identifiers = null;
+
+    super.end(connection);
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
+    requireNonNull(statement, "Linter was not started");
+
+    pendingTables.add(table);
+    if (pendingTables.size() >= batchSize) {
+      countPendingTables();
+    }
+  }
+
+  @Override
+  protected void start(final Connection connection) throws SchemaCrawlerException {
+    super.start(connection);
+
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
-      final long count = executeForLong(query, connection, table, identifiers);
-      if (count == 0) {
-        addTableLint(table, getSummary());
+      identifiers = Identifiers.identifiers().withConnection(connection).build();
+      statement = connection.createStatement();
+      if (queryTimeoutSeconds > 0) {
+        statement.setQueryTimeout(queryTimeoutSeconds);
       }
     } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, new StringFormat("Could not get count for table, ", table), e);
+      throw new SchemaCrawlerException("Could not prepare to count rows", e);
+    }
+  }
+
+  private void countPendingTables() {
+    if (pendingTables.isEmpty()) {
+      return;
+    }
+
+    if (pendingTables.size() == 1) {
+      countTables();
+    } else {
+      try {
+        countTablesInBatch();
+      } catch (final SQLException e) {
+        LOGGER.log(
+            Level.FINE,
+            new StringFormat(
+                "Could not count rows for a batch of %d tables, so counting each table",
+                pendingTables.size()),
+            e);
+        countTables();
+      }
+    }
+    pendingTables.clear();
+  }
+
+  private void countTables() {
+    for (final Table table : pendingTables) {
+      try {
+        final long count = executeForLong(COUNT_QUERY, statement, table, identifiers);
+        if (count == 0) {
+          addTableLint(table, getSummary());
+        }
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, new StringFormat("Could not get count for table <%s>", table), e);
+      }
+    }
+  }
+
+  private void countTablesInBatch() throws SQLException {
+    final StringBuilder sql = new StringBuilder(pendingTables.size() * 64);
+    for (int i = 0; i < pendingTables.size(); i++) {
+      if (i > 0) {
+        sql.append(System.lineSeparator()).append("UNION ALL").append(System.lineSeparator());
+      }
+      sql.append("SELECT ")
+          .append(i)
+          .append(" AS TABLE_INDEX, COUNT(*) AS ROW_COUNT FROM ")
+          .append(identifiers.quoteFullName(pendingTables.get(i)));
+    }
+    LOGGER.log(Level.FINE, new StringFormat("Executing batch count: %n%s", sql));
+
+    // Find all empty tables before adding lints, in case the batch fails part way through
+    final List<Table> emptyTables = new ArrayList<>();
+    try (final ResultSet results = executeSql(statement, sql.toString())) {
+      if (results == null) {
+        throw new SQLException("No results for batch count");
+      }
+      while (results.next()) {
+        final int index = results.getInt(1);
+        final long count = results.getLong(2);
+        if (count == 0) {
+          emptyTables.add(pendingTables.get(index));
+        }
+      }
+    }
+
+    for (final Table table : emptyTables) {
+      addTableLint(table, getSummary());
     }
   }
 }
@@ -34,6 +34,7 @@ import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Map;
 import java.util.logging.Level;
 
@@ -41,6 +42,7 @@ import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
 import us.fatehi.utility.string.StringFormat;
 
@@ -51,6 +53,10 @@ public class LinterTableSql extends BaseLinter {
 
   private String message;
   private String sql;
+  private int queryTimeoutSeconds;
+  private Query query;
+  private Identifiers identifiers;
+  private Statement statement;
 
   @Override
   public String getSummary() {
@@ -62,6 +68,11 @@ public class LinterTableSql extends BaseLinter {
     }
   }
 
+  @Override
+  public boolean usesConnection() {
+    return true;
+  }
+
   @Override
   protected void configure(final Map<String, String> config) {
     requireNonNull(config, "No configuration provided");
@@ -71,6 +82,26 @@ public class LinterTableSql extends BaseLinter {
 
     sql = config.get("sql");
     requireNotBlank(sql, "No SQL provided");
+
+    if (config.containsKey("query-timeout")) {
+      queryTimeoutSeconds = Integer.valueOf(config.get("query-timeout"));
+    }
+  }
+
+  @Override
+  protected void end(final Connection connection) throws SchemaCrawlerException {
+    if (statement != null) {
+      try {
+        statement.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not close statement for table lints", e);
+      }
+    }
+    statement = null;
+    identifiers = null;
+    query = null;
+
+    super.end(connection);
   }
 
   @Override
@@ -80,12 +111,10 @@ public class LinterTableSql extends BaseLinter {
     }
 
     requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
+    requireNonNull(statement, "Linter was not started");
 
-    final Query query = new Query(message, sql);
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
-      final Object queryResult = executeForScalar(query, connection, table, identifiers);
+      final Object queryResult = executeForScalar(query, statement, table, identifiers);
       if (queryResult != null) {
         addTableLint(table, getSummary() + " " + queryResult);
       }
@@ -96,4 +125,30 @@ public class LinterTableSql extends BaseLinter {
           e);
     }
   }
+
+  /**
+   * Builds identifiers and a statement once for the lint run, rather than for every table, since
+   * that needs database metadata.
+   */
+  @Override
+  protected void start(final Connection connection) throws SchemaCrawlerException {
+    super.start(connection);
+
+    if (isBlank(sql)) {
+      return;
+    }
+
+    requireNonNull(connection, "No connection provided");
+
+    try {
+      query = new Query(message, sql);
+      identifiers = Identifiers.identifiers().withConnection(connection).build();
+      statement = connection.createStatement();
+      if (queryTimeoutSeconds > 0) {
+        statement.setQueryTimeout(queryTimeoutSeconds);
+      }
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException("Could not prepare SQL for table lints", e);
+    }
+  }
 }
@@ -42,22 +42,29 @@ import schemacrawler.tools.lint.BaseLinter;
 
 public class LinterTableWithQuotedNames extends BaseLinter {
 
+  private Identifiers identifiers;
+
   @Override
   public String getSummary() {
     return "spaces in name, or reserved word";
   }
 
+  @Override
+  public boolean usesConnection() {
+    return true;
+  }
+
+  @Override
+  protected void end(final Connection connection) throws SchemaCrawlerException {
+    identifiers = null;
+    super.end(connection);
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
       throws SchemaCrawlerException {
     requireNonNull(table, "No table provided");
-
-    Identifiers identifiers;
-    try {
-      identifiers = Identifiers.identifiers().withConnection(connection).build();
-    } catch (final SQLException e) {
-      throw new SchemaCrawlerException(e.getMessage(), e);
-    }
+    requireNonNull(identifiers, "Linter was not started");
 
     final String tableName = table.getName();
     if (identifiers.isToBeQuoted(tableName)) {
@@ -71,6 +78,18 @@ public class LinterTableWithQuotedNames extends BaseLinter {
     }
   }
 
+  /** Builds identifiers once for the lint run, since that needs database metadata. */
+  @Override
+  protected void start(final Connection connection) throws SchemaCrawlerException {
+    super.start(connection);
+
+    try {
+      identifiers = Identifiers.identifiers().withConnection(connection).build();
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+  }
+
   private List<String> findColumnsWithQuotedNames(
       final List<Column> columns, final Identifiers identifiers) {
     final List<String> columnsWithQuotedNames = new ArrayList<>();
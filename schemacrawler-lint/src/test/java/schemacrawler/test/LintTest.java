@@ -40,7 +40,9 @@ import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
 
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -68,6 +70,25 @@ public class LintTest {
 
   private static final String LINTS_OUTPUT = "lints_output/";
 
+  private static List<String> emptyTableLints(
+      final Catalog catalog, final Connection connection, final String batchSize)
+      throws Exception {
+    final LinterConfigs linterConfigs = new LinterConfigs(new HashMap<>());
+    final LinterConfig linterConfig =
+        new LinterConfig("schemacrawler.tools.linter.LinterTableEmpty");
+    linterConfig.put("batch-size", batchSize);
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, false);
+    linters.lint(catalog, connection);
+
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint : linters.getCollector().getLints()) {
+      lints.add(lint.toString());
+    }
+    return lints;
+  }
+
   @Test
   public void lints(final Connection connection) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
@@ -116,6 +137,69 @@ public class LintTest {
         hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
   }
 
+  @Test
+  public void emptyTablesInBatches(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+
+    final List<String> lintsForEachTable = emptyTableLints(catalog, connection, "1");
+    assertThat(lintsForEachTable.isEmpty(), is(false));
+    // Counting in batches finds the same empty tables
+    assertThat(emptyTableLints(catalog, connection, "3"), is(lintsForEachTable));
+    assertThat(emptyTableLints(catalog, connection, "1000"), is(lintsForEachTable));
+  }
+
+  @Test
+  public void lintsInParallel(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat(catalog, notNullValue());
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new HashMap<>());
+    final LinterConfig linterConfig =
+        new LinterConfig("schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+    linterConfig.setThreshold(0);
+    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, true);
+    linters.lint(catalog, connection, 4);
+    final LintCollector lintCollector = linters.getCollector();
+    assertThat(lintCollector.size(), is(51));
+
+    // Results are the same as when linters are run one after another
+    final TestWriter testout1 = new TestWriter();
+    try (final TestWriter out = testout1) {
+      for (final Lint<?> lint : lintCollector.getLints()) {
+        out.println(lint);
+      }
+    }
+    assertThat(
+        outputOf(testout1),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.txt")));
+
+    final TestWriter testout2 = new TestWriter();
+    try (final TestWriter out = testout2) {
+      out.println(linters.getLintSummary());
+    }
+    assertThat(
+        outputOf(testout2),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
+  }
+
   @Test
   public void lintsWithExcludedColumns(final Connection connection) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
@@ -0,0 +1,124 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import us.fatehi.utility.string.StringFormat;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class LintTraversalBenchmarkTest {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(LintTraversalBenchmarkTest.class.getName());
+
+  private static final int BENCHMARK_ITERATIONS = 20;
+
+  private static List<String> lints(final Linters linters) {
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint : linters.getCollector().getLints()) {
+      lints.add(lint.toString());
+    }
+    return lints;
+  }
+
+  private static Linters newLinters() throws Exception {
+    return new Linters(new LinterConfigs(new HashMap<>()), true);
+  }
+
+  @Test
+  public void singlePassFindsSameLints(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final Linters passPerLinter = newLinters();
+    for (final Linter linter : passPerLinter) {
+      linter.lint(catalog, connection);
+    }
+    final Linters singlePass = newLinters();
+    singlePass.lint(catalog, connection);
+    assertThat(lints(singlePass).isEmpty(), is(false));
+    assertThat(lints(singlePass), is(lints(passPerLinter)));
+  }
+
+  /**
+   * Compares linting with a single pass over the catalog with a pass for each linter, and logs the
+   * results. Only run with the benchmarks profile.
+   */
+  @Test
+  @Tag("benchmark")
+  public void traversalBenchmark(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    // Warm up
+    for (final Linter linter : newLinters()) {
+      linter.lint(catalog, connection);
+    }
+    newLinters().lint(catalog, connection);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+      for (final Linter linter : newLinters()) {
+        linter.lint(catalog, connection);
+      }
+    }
+    final double passPerLinterMillis = (System.nanoTime() - start) / 1_000_000D;
+
+    start = System.nanoTime();
+    for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+      newLinters().lint(catalog, connection);
+    }
+    final double singlePassMillis = (System.nanoTime() - start) / 1_000_000D;
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Linting %d tables: %.1f ms with a pass for each linter, %.1f ms with a single pass",
+            catalog.getTables().size(),
+            passPerLinterMillis / BENCHMARK_ITERATIONS,
+            singlePassMillis / BENCHMARK_ITERATIONS));
+  }
+}
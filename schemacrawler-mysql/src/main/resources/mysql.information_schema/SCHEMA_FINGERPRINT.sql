@@ -0,0 +1,91 @@
+SELECT
+  SCHEMATA.SCHEMA_NAME AS TABLE_CATALOG,
+  (
+    SELECT
+      CONCAT(
+        COUNT(*), ':',
+        BIT_XOR(CRC32(CONCAT_WS('|',
+          TABLES.TABLE_NAME, TABLES.TABLE_TYPE, TABLES.ENGINE,
+          TABLES.CREATE_TIME, TABLES.TABLE_COLLATION, TABLES.TABLE_COMMENT))))
+    FROM
+      INFORMATION_SCHEMA.TABLES TABLES
+    WHERE
+      TABLES.TABLE_SCHEMA = SCHEMATA.SCHEMA_NAME
+  ) AS TABLES_FINGERPRINT,
+  (
+    SELECT
+      CONCAT(
+        COUNT(*), ':',
+        BIT_XOR(CRC32(CONCAT_WS('|',
+          COLUMNS.TABLE_NAME, COLUMNS.COLUMN_NAME, COLUMNS.ORDINAL_POSITION,
+          COLUMNS.COLUMN_TYPE, COLUMNS.IS_NULLABLE, COALESCE(COLUMNS.COLUMN_DEFAULT, '<null>'),
+          COLUMNS.COLLATION_NAME, COLUMNS.EXTRA, COLUMNS.COLUMN_COMMENT))))
+    FROM
+      INFORMATION_SCHEMA.COLUMNS COLUMNS
+    WHERE
+      COLUMNS.TABLE_SCHEMA = SCHEMATA.SCHEMA_NAME
+  ) AS COLUMNS_FINGERPRINT,
+  (
+    SELECT
+      CONCAT(
+        COUNT(*), ':',
+        BIT_XOR(CRC32(CONCAT_WS('|',
+          STATISTICS.TABLE_NAME, STATISTICS.INDEX_NAME, STATISTICS.SEQ_IN_INDEX,
+          STATISTICS.COLUMN_NAME, STATISTICS.NON_UNIQUE, STATISTICS.INDEX_TYPE))))
+    FROM
+      INFORMATION_SCHEMA.STATISTICS STATISTICS
+    WHERE
+      STATISTICS.TABLE_SCHEMA = SCHEMATA.SCHEMA_NAME
+  ) AS INDEXES_FINGERPRINT,
+  (
+    SELECT
+      CONCAT(
+        COUNT(*), ':',
+        BIT_XOR(CRC32(CONCAT_WS('|',
+          KEY_COLUMN_USAGE.TABLE_NAME, KEY_COLUMN_USAGE.CONSTRAINT_NAME,
+          KEY_COLUMN_USAGE.COLUMN_NAME, KEY_COLUMN_USAGE.ORDINAL_POSITION,
+          KEY_COLUMN_USAGE.REFERENCED_TABLE_SCHEMA, KEY_COLUMN_USAGE.REFERENCED_TABLE_NAME,
+          KEY_COLUMN_USAGE.REFERENCED_COLUMN_NAME))))
+    FROM
+      INFORMATION_SCHEMA.KEY_COLUMN_USAGE KEY_COLUMN_USAGE
+    WHERE
+      KEY_COLUMN_USAGE.TABLE_SCHEMA = SCHEMATA.SCHEMA_NAME
+  ) AS CONSTRAINTS_FINGERPRINT,
+  (
+    SELECT
+      CONCAT(
+        COUNT(*), ':',
+        BIT_XOR(CRC32(CONCAT_WS('|',
+          VIEWS.TABLE_NAME, VIEWS.VIEW_DEFINITION, VIEWS.CHECK_OPTION, VIEWS.IS_UPDATABLE))))
+    FROM
+      INFORMATION_SCHEMA.VIEWS VIEWS
+    WHERE
+      VIEWS.TABLE_SCHEMA = SCHEMATA.SCHEMA_NAME
+  ) AS VIEWS_FINGERPRINT,
+  (
+    SELECT
+      CONCAT(
+        COUNT(*), ':',
+        BIT_XOR(CRC32(CONCAT_WS('|',
+          ROUTINES.SPECIFIC_NAME, ROUTINES.ROUTINE_TYPE, ROUTINES.CREATED,
+          ROUTINES.LAST_ALTERED, ROUTINES.ROUTINE_DEFINITION))))
+    FROM
+      INFORMATION_SCHEMA.ROUTINES ROUTINES
+    WHERE
+      ROUTINES.ROUTINE_SCHEMA = SCHEMATA.SCHEMA_NAME
+  ) AS ROUTINES_FINGERPRINT,
+  (
+    SELECT
+      CONCAT(
+        COUNT(*), ':',
+        BIT_XOR(CRC32(CONCAT_WS('|',
+          TRIGGERS.TRIGGER_NAME, TRIGGERS.CREATED, TRIGGERS.ACTION_STATEMENT))))
+    FROM
+      INFORMATION_SCHEMA.TRIGGERS TRIGGERS
+    WHERE
+      TRIGGERS.TRIGGER_SCHEMA = SCHEMATA.SCHEMA_NAME
+  ) AS TRIGGERS_FINGERPRINT
+FROM
+  INFORMATION_SCHEMA.SCHEMATA SCHEMATA
+ORDER BY
+  SCHEMATA.SCHEMA_NAME
@@ -0,0 +1,117 @@
+SELECT
+  TABLES.TABLE_SCHEMA AS TABLE_CATALOG,
+  NULL AS TABLE_SCHEMA,
+  TABLES.TABLE_NAME,
+  CONCAT_WS(':',
+    CRC32(CONCAT_WS('|',
+      TABLES.TABLE_TYPE, TABLES.ENGINE, TABLES.CREATE_TIME,
+      TABLES.TABLE_COLLATION, TABLES.TABLE_COMMENT)),
+    COALESCE(TABLE_COLUMNS.CHECKSUM, 0),
+    COALESCE(TABLE_INDEXES.CHECKSUM, 0),
+    COALESCE(TABLE_KEYS.CHECKSUM, 0),
+    COALESCE(REFERENCING_KEYS.CHECKSUM, 0),
+    COALESCE(TABLE_VIEWS.CHECKSUM, 0),
+    COALESCE(TABLE_TRIGGERS.CHECKSUM, 0)
+  ) AS LAST_DDL_TIME
+FROM
+  INFORMATION_SCHEMA.TABLES TABLES
+  LEFT JOIN
+  (
+    SELECT
+      COLUMNS.TABLE_SCHEMA,
+      COLUMNS.TABLE_NAME,
+      BIT_XOR(CRC32(CONCAT_WS('|',
+        COLUMNS.COLUMN_NAME, COLUMNS.ORDINAL_POSITION, COLUMNS.COLUMN_TYPE,
+        COLUMNS.IS_NULLABLE, COALESCE(COLUMNS.COLUMN_DEFAULT, '<null>'),
+        COLUMNS.COLLATION_NAME, COLUMNS.EXTRA, COLUMNS.COLUMN_COMMENT))) AS CHECKSUM
+    FROM
+      INFORMATION_SCHEMA.COLUMNS COLUMNS
+    GROUP BY
+      COLUMNS.TABLE_SCHEMA,
+      COLUMNS.TABLE_NAME
+  ) TABLE_COLUMNS
+    ON TABLE_COLUMNS.TABLE_SCHEMA = TABLES.TABLE_SCHEMA
+      AND TABLE_COLUMNS.TABLE_NAME = TABLES.TABLE_NAME
+  LEFT JOIN
+  (
+    SELECT
+      STATISTICS.TABLE_SCHEMA,
+      STATISTICS.TABLE_NAME,
+      BIT_XOR(CRC32(CONCAT_WS('|',
+        STATISTICS.INDEX_NAME, STATISTICS.SEQ_IN_INDEX, STATISTICS.COLUMN_NAME,
+        STATISTICS.NON_UNIQUE, STATISTICS.INDEX_TYPE))) AS CHECKSUM
+    FROM
+      INFORMATION_SCHEMA.STATISTICS STATISTICS
+    GROUP BY
+      STATISTICS.TABLE_SCHEMA,
+      STATISTICS.TABLE_NAME
+  ) TABLE_INDEXES
+    ON TABLE_INDEXES.TABLE_SCHEMA = TABLES.TABLE_SCHEMA
+      AND TABLE_INDEXES.TABLE_NAME = TABLES.TABLE_NAME
+  LEFT JOIN
+  (
+    SELECT
+      KEY_COLUMN_USAGE.TABLE_SCHEMA,
+      KEY_COLUMN_USAGE.TABLE_NAME,
+      BIT_XOR(CRC32(CONCAT_WS('|',
+        KEY_COLUMN_USAGE.CONSTRAINT_NAME, KEY_COLUMN_USAGE.COLUMN_NAME,
+        KEY_COLUMN_USAGE.ORDINAL_POSITION, KEY_COLUMN_USAGE.REFERENCED_TABLE_SCHEMA,
+        KEY_COLUMN_USAGE.REFERENCED_TABLE_NAME,
+        KEY_COLUMN_USAGE.REFERENCED_COLUMN_NAME))) AS CHECKSUM
+    FROM
+      INFORMATION_SCHEMA.KEY_COLUMN_USAGE KEY_COLUMN_USAGE
+    GROUP BY
+      KEY_COLUMN_USAGE.TABLE_SCHEMA,
+      KEY_COLUMN_USAGE.TABLE_NAME
+  ) TABLE_KEYS
+    ON TABLE_KEYS.TABLE_SCHEMA = TABLES.TABLE_SCHEMA
+      AND TABLE_KEYS.TABLE_NAME = TABLES.TABLE_NAME
+  LEFT JOIN
+  (
+    SELECT
+      KEY_COLUMN_USAGE.REFERENCED_TABLE_SCHEMA,
+      KEY_COLUMN_USAGE.REFERENCED_TABLE_NAME,
+      BIT_XOR(CRC32(CONCAT_WS('|',
+        KEY_COLUMN_USAGE.TABLE_SCHEMA, KEY_COLUMN_USAGE.TABLE_NAME,
+        KEY_COLUMN_USAGE.CONSTRAINT_NAME, KEY_COLUMN_USAGE.COLUMN_NAME,
+        KEY_COLUMN_USAGE.REFERENCED_COLUMN_NAME))) AS CHECKSUM
+    FROM
+      INFORMATION_SCHEMA.KEY_COLUMN_USAGE KEY_COLUMN_USAGE
+    WHERE
+      KEY_COLUMN_USAGE.REFERENCED_TABLE_NAME IS NOT NULL
+    GROUP BY
+      KEY_COLUMN_USAGE.REFERENCED_TABLE_SCHEMA,
+      KEY_COLUMN_USAGE.REFERENCED_TABLE_NAME
+  ) REFERENCING_KEYS
+    ON REFERENCING_KEYS.REFERENCED_TABLE_SCHEMA = TABLES.TABLE_SCHEMA
+      AND REFERENCING_KEYS.REFERENCED_TABLE_NAME = TABLES.TABLE_NAME
+  LEFT JOIN
+  (
+    SELECT
+      VIEWS.TABLE_SCHEMA,
+      VIEWS.TABLE_NAME,
+      CRC32(CONCAT_WS('|',
+        VIEWS.VIEW_DEFINITION, VIEWS.CHECK_OPTION, VIEWS.IS_UPDATABLE)) AS CHECKSUM
+    FROM
+      INFORMATION_SCHEMA.VIEWS VIEWS
+  ) TABLE_VIEWS
+    ON TABLE_VIEWS.TABLE_SCHEMA = TABLES.TABLE_SCHEMA
+      AND TABLE_VIEWS.TABLE_NAME = TABLES.TABLE_NAME
+  LEFT JOIN
+  (
+    SELECT
+      TRIGGERS.EVENT_OBJECT_SCHEMA,
+      TRIGGERS.EVENT_OBJECT_TABLE,
+      BIT_XOR(CRC32(CONCAT_WS('|',
+        TRIGGERS.TRIGGER_NAME, TRIGGERS.CREATED, TRIGGERS.ACTION_STATEMENT))) AS CHECKSUM
+    FROM
+      INFORMATION_SCHEMA.TRIGGERS TRIGGERS
+    GROUP BY
+      TRIGGERS.EVENT_OBJECT_SCHEMA,
+      TRIGGERS.EVENT_OBJECT_TABLE
+  ) TABLE_TRIGGERS
+    ON TABLE_TRIGGERS.EVENT_OBJECT_SCHEMA = TABLES.TABLE_SCHEMA
+      AND TABLE_TRIGGERS.EVENT_OBJECT_TABLE = TABLES.TABLE_NAME
+ORDER BY
+  TABLES.TABLE_SCHEMA,
+  TABLES.TABLE_NAME
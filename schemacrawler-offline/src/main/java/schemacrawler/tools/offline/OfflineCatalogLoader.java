@@ -1,17 +1,21 @@
 package schemacrawler.tools.offline;
 
+import static java.nio.file.Files.newInputStream;
 import static schemacrawler.filter.ReducerFactory.getRoutineReducer;
 import static schemacrawler.filter.ReducerFactory.getSchemaReducer;
 import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
 import static schemacrawler.filter.ReducerFactory.getSynonymReducer;
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 
-import java.io.FileInputStream;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.IndexedCatalogSnapshot;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Routine;
@@ -19,11 +23,14 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.tools.catalogloader.CatalogLoader;
+import schemacrawler.tools.integration.serialize.CatalogSerializer;
+import schemacrawler.tools.integration.serialize.IndexedSerializedCatalog;
 import schemacrawler.tools.integration.serialize.JavaSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 
@@ -32,6 +39,8 @@ public final class OfflineCatalogLoader implements CatalogLoader {
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(OfflineCatalogLoader.class.getName());
 
+  private static final int BUFFER_SIZE = 256 * 1024;
+
   private static void checkConnection(final Connection connection) {
     if (connection == null || !(connection instanceof OfflineConnection)) {
       LOGGER.log(Level.SEVERE, "Offline database connection not provided for the offline snapshot");
@@ -99,16 +108,33 @@ public final class OfflineCatalogLoader implements CatalogLoader {
     }
 
     final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-    final FileInputStream inputFileStream = new FileInputStream(offlineDatabasePath.toFile());
-
-    final JavaSerializedCatalog deserializedCatalog = new JavaSerializedCatalog(inputFileStream);
-
-    final Catalog catalog = deserializedCatalog.getCatalog();
+    final Catalog catalog = readCatalog(offlineDatabasePath);
     reduceCatalog(catalog);
 
     return catalog;
   }
 
+  /**
+   * Reads a catalog snapshot. Indexed snapshots are read from a memory-mapped file, loading only
+   * the schemas that are needed. Java serialized snapshots are read through a buffered stream. The
+   * format is detected from the snapshot header.
+   */
+  private Catalog readCatalog(final Path offlineDatabasePath)
+      throws IOException, SchemaCrawlerException {
+    if (IndexedCatalogSnapshot.isIndexedCatalogSnapshot(offlineDatabasePath)) {
+      LOGGER.log(Level.INFO, "Loading indexed catalog snapshot");
+      return new IndexedSerializedCatalog(offlineDatabasePath, getSchemaCrawlerOptions())
+          .getCatalog();
+    }
+
+    try (final InputStream in =
+        new BufferedInputStream(newInputStream(offlineDatabasePath), BUFFER_SIZE)) {
+      LOGGER.log(Level.INFO, "Loading Java serialized catalog snapshot");
+      final CatalogSerializer deserializedCatalog = new JavaSerializedCatalog(in);
+      return deserializedCatalog.getCatalog();
+    }
+  }
+
   private void reduceCatalog(final Catalog catalog) {
     ((Reducible) catalog).reduce(Schema.class, getSchemaReducer(schemaCrawlerOptions));
     ((Reducible) catalog).reduce(Table.class, getTableReducer(schemaCrawlerOptions));
@@ -34,6 +34,7 @@ WHERE
   AND REGEXP_LIKE(INDEXES.OWNER, '${schemas}')
   AND INDEXES.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(INDEXES.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
+  AND REGEXP_LIKE(INDEXES.TABLE_NAME, '${tables}')
 ORDER BY 
   TABLE_SCHEM,
   TABLE_NAME,
@@ -27,6 +27,7 @@ WHERE
   AND REGEXP_LIKE(PRIMARY_KEYS.OWNER, '${schemas}')
   AND PRIMARY_KEYS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
+  AND REGEXP_LIKE(PRIMARY_KEYS.TABLE_NAME, '${tables}')
   AND PRIMARY_KEYS.CONSTRAINT_TYPE = 'P'
 ORDER BY 
   TABLE_SCHEM,
@@ -0,0 +1,12 @@
+SELECT /*+ PARALLEL(AUTO) */
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  TO_CHAR(MAX(OBJECTS.LAST_DDL_TIME), 'YYYY-MM-DD HH24:MI:SS') AS LAST_DDL_TIME,
+  COUNT(*) AS OBJECT_COUNT
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+WHERE
+  REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+GROUP BY
+  OBJECTS.OWNER
+ORDER BY
+  OBJECTS.OWNER
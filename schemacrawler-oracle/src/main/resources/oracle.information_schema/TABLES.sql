@@ -20,6 +20,7 @@ WHERE
   AND REGEXP_LIKE(TABLES.OWNER, '${schemas}')
   AND TABLES.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(TABLES.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
+  AND REGEXP_LIKE(TABLES.TABLE_NAME, '${tables}')
 UNION ALL
 SELECT  
   NULL AS TABLE_CAT,
@@ -41,3 +42,4 @@ WHERE
   AND NOT REGEXP_LIKE(MVIEWS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(MVIEWS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(MVIEWS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(MVIEWS.MVIEW_NAME, '${tables}')
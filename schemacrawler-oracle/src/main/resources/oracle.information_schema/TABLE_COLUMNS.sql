@@ -92,6 +92,8 @@ WHERE
   AND REGEXP_LIKE(COLUMNS.OWNER, '${schemas}')
   AND COLUMNS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(COLUMNS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
+  AND REGEXP_LIKE(COLUMNS.TABLE_NAME, '${tables}')
+  AND REGEXP_LIKE(COLUMNS.COLUMN_NAME, '${columns}')
 ORDER BY 
   TABLE_SCHEM, 
   TABLE_NAME, 
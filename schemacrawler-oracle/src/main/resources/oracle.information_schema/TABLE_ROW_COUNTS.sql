@@ -0,0 +1,10 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CATALOG,
+  TABLES.OWNER AS TABLE_SCHEMA,
+  TABLES.TABLE_NAME,
+  TABLES.NUM_ROWS AS ROW_COUNT
+FROM
+  ${catalogscope}_TABLES TABLES
+WHERE
+  REGEXP_LIKE(TABLES.OWNER, '${schemas}')
+  AND TABLES.NUM_ROWS IS NOT NULL
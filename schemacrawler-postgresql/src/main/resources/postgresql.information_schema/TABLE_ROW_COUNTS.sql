@@ -0,0 +1,11 @@
+SELECT
+  current_database()::information_schema.sql_identifier AS TABLE_CATALOG,
+  nc.nspname::information_schema.sql_identifier AS TABLE_SCHEMA,
+  c.relname::information_schema.sql_identifier AS TABLE_NAME,
+  CASE WHEN c.reltuples < 0 THEN NULL ELSE c.reltuples::bigint END AS ROW_COUNT
+FROM
+  pg_catalog.pg_class c
+  INNER JOIN pg_catalog.pg_namespace nc
+    ON c.relnamespace = nc.oid
+WHERE
+  c.relkind IN ('r', 'p', 'm')
@@ -38,6 +38,11 @@ import schemacrawler.tools.options.OutputFormatState;
 import us.fatehi.utility.string.StringFormat;
 
 public enum SerializationFormat implements OutputFormat {
+  indexed(
+      "Indexed snapshot, that loads only the schemas that are needed",
+      "schemacrawler.tools.integration.serialize.IndexedSerializedCatalog",
+      true,
+      "scidx"),
   java(
       "Java serialization",
       "schemacrawler.tools.integration.serialize.JavaSerializedCatalog",
@@ -48,6 +53,11 @@ public enum SerializationFormat implements OutputFormat {
       "schemacrawler.tools.integration.serialize.JsonSerializedCatalog",
       false,
       "json"),
+  jsongz(
+      "Streaming JSON serialization, with stable identifiers, gzip compressed",
+      "schemacrawler.tools.integration.serialize.StreamingJsonSerializedCatalog",
+      true,
+      "json.gz"),
   yaml(
       "YAML Ain't Markup Language (YAML) serialization format",
       "schemacrawler.tools.integration.serialize.YamlSerializedCatalog",
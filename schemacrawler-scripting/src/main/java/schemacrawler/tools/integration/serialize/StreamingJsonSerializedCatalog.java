@@ -0,0 +1,597 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.serialize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DescribedObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Serializes a catalog to JSON, by walking the catalog, and writing each schema with its tables,
+ * columns, routines, sequences and synonyms directly to a streaming JSON generator. Nothing is
+ * buffered, so memory use does not grow with the size of the catalog. Every object has an "@id"
+ * made from its kind and full name, so that the identifiers are the same every time the same
+ * catalog is serialized. Other objects, such as the referenced column of a column, are written as
+ * references to these identifiers.
+ *
+ * <p>Binary output is gzip compressed, unless compression is turned off. Character output is never
+ * compressed.
+ */
+public final class StreamingJsonSerializedCatalog implements CatalogSerializer {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static String columnId(final Column column) {
+    return id("column", column.getParent().getFullName() + "." + column.getName());
+  }
+
+  private static String id(final String kind, final String fullName) {
+    return kind + ":" + fullName;
+  }
+
+  private static String id(final String kind, final NamedObject namedObject) {
+    return id(kind, namedObject.getFullName());
+  }
+
+  private static String routineId(final Routine routine) {
+    return id("routine", routine.getFullName() + "/" + routine.getSpecificName());
+  }
+
+  private static String tableId(final Table table) {
+    return id("table", table);
+  }
+
+  private final Catalog catalog;
+  private final boolean isCompressed;
+
+  public StreamingJsonSerializedCatalog(final Catalog catalog) {
+    this(catalog, true);
+  }
+
+  public StreamingJsonSerializedCatalog(final Catalog catalog, final boolean isCompressed) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.isCompressed = isCompressed;
+  }
+
+  @Override
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final OutputStream out) throws SchemaCrawlerException {
+    requireNonNull(out, "No output stream provided");
+    try {
+      if (isCompressed) {
+        final GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024);
+        try (final JsonGenerator generator =
+            JSON_FACTORY.createGenerator(gzipOut, JsonEncoding.UTF8)) {
+          writeCatalog(generator);
+        }
+      } else {
+        try (final JsonGenerator generator =
+            JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+          writeCatalog(generator);
+        }
+      }
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not serialize catalog", e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final Writer out) throws SchemaCrawlerException {
+    requireNonNull(out, "No writer provided");
+    try (final JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      writeCatalog(generator);
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not serialize catalog", e);
+    }
+  }
+
+  private void writeAttributes(final JsonGenerator generator, final AttributedObject object)
+      throws IOException {
+    final Map<String, Object> attributes = object.getAttributes();
+    if (attributes == null || attributes.isEmpty()) {
+      return;
+    }
+    generator.writeObjectFieldStart("attributes");
+    for (final Map.Entry<String, Object> attribute : new TreeMap<>(attributes).entrySet()) {
+      final Object value = attribute.getValue();
+      if (value == null) {
+        generator.writeNullField(attribute.getKey());
+      } else if (value instanceof Boolean) {
+        generator.writeBooleanField(attribute.getKey(), (Boolean) value);
+      } else if (value instanceof Long || value instanceof Integer) {
+        generator.writeNumberField(attribute.getKey(), ((Number) value).longValue());
+      } else {
+        generator.writeStringField(attribute.getKey(), String.valueOf(value));
+      }
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeBaseColumn(final JsonGenerator generator, final BaseColumn<?> column)
+      throws IOException {
+    writeNamedObject(generator, column);
+    generator.writeNumberField("ordinal-position", column.getOrdinalPosition());
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (columnDataType != null) {
+      generator.writeStringField("column-data-type", id("column-data-type", columnDataType));
+      writeString(
+          generator, "database-specific-type-name", columnDataType.getDatabaseSpecificTypeName());
+    }
+    generator.writeNumberField("size", column.getSize());
+    generator.writeNumberField("decimal-digits", column.getDecimalDigits());
+    generator.writeBooleanField("nullable", column.isNullable());
+  }
+
+  private void writeCatalog(final JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    writeString(generator, "name", catalog.getName());
+    writeCrawlInfo(generator, catalog.getCrawlInfo());
+    writeDatabaseInfo(generator, catalog.getDatabaseInfo());
+    writeJdbcDriverInfo(generator, catalog.getJdbcDriverInfo());
+
+    generator.writeArrayFieldStart("column-data-types");
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      writeColumnDataType(generator, columnDataType);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("schemas");
+    for (final Schema schema : catalog.getSchemas()) {
+      writeSchema(generator, schema);
+    }
+    generator.writeEndArray();
+
+    generator.writeEndObject();
+  }
+
+  private void writeColumn(final JsonGenerator generator, final Column column)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", columnId(column));
+    writeBaseColumn(generator, column);
+    writeString(generator, "width", column.getWidth());
+    writeString(generator, "default-value", column.getDefaultValue());
+    generator.writeBooleanField("auto-incremented", column.isAutoIncremented());
+    generator.writeBooleanField("generated", column.isGenerated());
+    generator.writeBooleanField("hidden", column.isHidden());
+    generator.writeBooleanField("part-of-primary-key", column.isPartOfPrimaryKey());
+    generator.writeBooleanField("part-of-foreign-key", column.isPartOfForeignKey());
+    generator.writeBooleanField("part-of-index", column.isPartOfIndex());
+    generator.writeBooleanField("part-of-unique-index", column.isPartOfUniqueIndex());
+    final Column referencedColumn = column.getReferencedColumn();
+    if (referencedColumn != null) {
+      generator.writeStringField("referenced-column", columnId(referencedColumn));
+    }
+    writeRemarksAndAttributes(generator, column);
+    generator.writeEndObject();
+  }
+
+  private void writeColumnDataType(
+      final JsonGenerator generator, final ColumnDataType columnDataType) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id("column-data-type", columnDataType));
+    writeNamedObject(generator, columnDataType);
+    writeString(
+        generator, "database-specific-type-name", columnDataType.getDatabaseSpecificTypeName());
+    writeString(generator, "java-sql-type", String.valueOf(columnDataType.getJavaSqlType()));
+    generator.writeBooleanField("user-defined", columnDataType.isUserDefined());
+    generator.writeNumberField("precision", columnDataType.getPrecision());
+    generator.writeBooleanField("nullable", columnDataType.isNullable());
+    final ColumnDataType baseType = columnDataType.getBaseType();
+    if (baseType != null) {
+      generator.writeStringField("base-type", id("column-data-type", baseType));
+    }
+    writeRemarksAndAttributes(generator, columnDataType);
+    generator.writeEndObject();
+  }
+
+  private void writeColumnReferences(
+      final JsonGenerator generator, final Collection<? extends ColumnReference> columnReferences)
+      throws IOException {
+    generator.writeArrayFieldStart("column-references");
+    for (final ColumnReference columnReference : columnReferences) {
+      generator.writeStartObject();
+      if (columnReference instanceof ForeignKeyColumnReference) {
+        generator.writeNumberField(
+            "key-sequence", ((ForeignKeyColumnReference) columnReference).getKeySequence());
+      }
+      generator.writeStringField(
+          "foreign-key-column", columnId(columnReference.getForeignKeyColumn()));
+      generator.writeStringField(
+          "primary-key-column", columnId(columnReference.getPrimaryKeyColumn()));
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeCrawlInfo(final JsonGenerator generator, final CrawlInfo crawlInfo)
+      throws IOException {
+    if (crawlInfo == null) {
+      return;
+    }
+    generator.writeObjectFieldStart("crawl-info");
+    writeString(generator, "run-id", crawlInfo.getRunId());
+    writeString(generator, "crawl-timestamp", crawlInfo.getCrawlTimestamp());
+    writeProductVersion(generator, "schema-crawler-version", crawlInfo.getSchemaCrawlerVersion());
+    writeProductVersion(generator, "database-version", crawlInfo.getDatabaseVersion());
+    writeProductVersion(generator, "jdbc-driver-version", crawlInfo.getJdbcDriverVersion());
+    writeProductVersion(generator, "jvm-version", crawlInfo.getJvmVersion());
+    writeProductVersion(
+        generator, "operating-system-version", crawlInfo.getOperatingSystemVersion());
+    generator.writeEndObject();
+  }
+
+  private void writeDatabaseInfo(final JsonGenerator generator, final DatabaseInfo databaseInfo)
+      throws IOException {
+    if (databaseInfo == null) {
+      return;
+    }
+    generator.writeObjectFieldStart("database-info");
+    writeString(generator, "product-name", databaseInfo.getProductName());
+    writeString(generator, "product-version", databaseInfo.getProductVersion());
+    writeString(generator, "user-name", databaseInfo.getUserName());
+    generator.writeEndObject();
+  }
+
+  private void writeForeignKey(final JsonGenerator generator, final ForeignKey foreignKey)
+      throws IOException {
+    generator.writeStartObject();
+    final String fkTableName =
+        foreignKey.getColumnReferences().get(0).getForeignKeyColumn().getParent().getFullName();
+    generator.writeStringField("@id", id("foreign-key", fkTableName + "." + foreignKey.getName()));
+    writeString(generator, "name", foreignKey.getName());
+    writeString(generator, "specific-name", foreignKey.getSpecificName());
+    writeString(generator, "update-rule", String.valueOf(foreignKey.getUpdateRule()));
+    writeString(generator, "delete-rule", String.valueOf(foreignKey.getDeleteRule()));
+    writeString(generator, "deferrability", String.valueOf(foreignKey.getDeferrability()));
+    writeColumnReferences(generator, foreignKey.getColumnReferences());
+    writeAttributes(generator, foreignKey);
+    generator.writeEndObject();
+  }
+
+  private void writeIndex(final JsonGenerator generator, final Index index) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id("index", index));
+    writeNamedObject(generator, index);
+    writeString(generator, "index-type", String.valueOf(index.getIndexType()));
+    generator.writeBooleanField("unique", index.isUnique());
+    generator.writeNumberField("cardinality", index.getCardinality());
+    generator.writeNumberField("pages", index.getPages());
+    generator.writeArrayFieldStart("columns");
+    for (final IndexColumn indexColumn : index.getColumns()) {
+      generator.writeStartObject();
+      generator.writeStringField("column", columnId(indexColumn));
+      generator.writeNumberField("index-ordinal-position", indexColumn.getIndexOrdinalPosition());
+      writeString(generator, "sort-sequence", String.valueOf(indexColumn.getSortSequence()));
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    writeRemarksAndAttributes(generator, index);
+    generator.writeEndObject();
+  }
+
+  private void writeJdbcDriverInfo(
+      final JsonGenerator generator, final JdbcDriverInfo jdbcDriverInfo) throws IOException {
+    if (jdbcDriverInfo == null) {
+      return;
+    }
+    generator.writeObjectFieldStart("jdbc-driver-info");
+    writeString(generator, "product-name", jdbcDriverInfo.getProductName());
+    writeString(generator, "product-version", jdbcDriverInfo.getProductVersion());
+    writeString(generator, "driver-class-name", jdbcDriverInfo.getDriverClassName());
+    writeString(generator, "connection-url", jdbcDriverInfo.getConnectionUrl());
+    generator.writeBooleanField("jdbc-compliant", jdbcDriverInfo.isJdbcCompliant());
+    generator.writeEndObject();
+  }
+
+  private void writeNamedObject(final JsonGenerator generator, final NamedObject namedObject)
+      throws IOException {
+    writeString(generator, "name", namedObject.getName());
+    writeString(generator, "full-name", namedObject.getFullName());
+  }
+
+  private void writeProductVersion(
+      final JsonGenerator generator, final String fieldName, final ProductVersion productVersion)
+      throws IOException {
+    if (productVersion == null) {
+      return;
+    }
+    generator.writeObjectFieldStart(fieldName);
+    writeString(generator, "product-name", productVersion.getProductName());
+    writeString(generator, "product-version", productVersion.getProductVersion());
+    generator.writeEndObject();
+  }
+
+  private <O extends AttributedObject & DescribedObject> void writeRemarksAndAttributes(
+      final JsonGenerator generator, final O object) throws IOException {
+    if (object.hasRemarks()) {
+      generator.writeStringField("remarks", object.getRemarks());
+    }
+    writeAttributes(generator, object);
+  }
+
+  private void writeRoutine(final JsonGenerator generator, final Routine routine)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", routineId(routine));
+    writeNamedObject(generator, routine);
+    writeString(generator, "specific-name", routine.getSpecificName());
+    writeString(generator, "routine-type", String.valueOf(routine.getRoutineType()));
+    writeString(generator, "return-type", String.valueOf(routine.getReturnType()));
+    writeString(generator, "routine-body-type", String.valueOf(routine.getRoutineBodyType()));
+    generator.writeArrayFieldStart("parameters");
+    for (final RoutineParameter<? extends Routine> parameter : routine.getParameters()) {
+      generator.writeStartObject();
+      writeBaseColumn(generator, parameter);
+      writeString(generator, "parameter-mode", String.valueOf(parameter.getParameterMode()));
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    if (routine.hasDefinition()) {
+      generator.writeStringField("definition", routine.getDefinition());
+    }
+    writeRemarksAndAttributes(generator, routine);
+    generator.writeEndObject();
+  }
+
+  private void writeSchema(final JsonGenerator generator, final Schema schema)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id("schema", schema));
+    writeString(generator, "catalog-name", schema.getCatalogName());
+    writeNamedObject(generator, schema);
+    writeRemarksAndAttributes(generator, schema);
+
+    generator.writeArrayFieldStart("tables");
+    for (final Table table : catalog.getTables(schema)) {
+      writeTable(generator, table);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("routines");
+    for (final Routine routine : catalog.getRoutines(schema)) {
+      writeRoutine(generator, routine);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("sequences");
+    for (final Sequence sequence : catalog.getSequences(schema)) {
+      writeSequence(generator, sequence);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("synonyms");
+    for (final Synonym synonym : catalog.getSynonyms(schema)) {
+      writeSynonym(generator, synonym);
+    }
+    generator.writeEndArray();
+
+    generator.writeEndObject();
+  }
+
+  private void writeSequence(final JsonGenerator generator, final Sequence sequence)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id("sequence", sequence));
+    writeNamedObject(generator, sequence);
+    generator.writeNumberField("increment", sequence.getIncrement());
+    if (sequence.getStartValue() != null) {
+      generator.writeNumberField("start-value", sequence.getStartValue());
+    }
+    if (sequence.getMinimumValue() != null) {
+      generator.writeNumberField("minimum-value", sequence.getMinimumValue());
+    }
+    if (sequence.getMaximumValue() != null) {
+      generator.writeNumberField("maximum-value", sequence.getMaximumValue());
+    }
+    generator.writeBooleanField("cycle", sequence.isCycle());
+    writeRemarksAndAttributes(generator, sequence);
+    generator.writeEndObject();
+  }
+
+  private void writeString(
+      final JsonGenerator generator, final String fieldName, final String value)
+      throws IOException {
+    if (value != null) {
+      generator.writeStringField(fieldName, value);
+    }
+  }
+
+  private void writeSynonym(final JsonGenerator generator, final Synonym synonym)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id("synonym", synonym));
+    writeNamedObject(generator, synonym);
+    final DatabaseObject referencedObject = synonym.getReferencedObject();
+    if (referencedObject instanceof Table) {
+      generator.writeStringField("referenced-object", tableId((Table) referencedObject));
+    } else if (referencedObject instanceof Routine) {
+      generator.writeStringField("referenced-object", routineId((Routine) referencedObject));
+    } else if (referencedObject != null) {
+      writeString(generator, "referenced-object-name", referencedObject.getFullName());
+    }
+    writeRemarksAndAttributes(generator, synonym);
+    generator.writeEndObject();
+  }
+
+  private void writeTable(final JsonGenerator generator, final Table table) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", tableId(table));
+    writeNamedObject(generator, table);
+    if (table instanceof PartialDatabaseObject) {
+      generator.writeEndObject();
+      return;
+    }
+    writeString(generator, "table-type", String.valueOf(table.getTableType()));
+
+    generator.writeArrayFieldStart("columns");
+    for (final Column column : table.getColumns()) {
+      writeColumn(generator, column);
+    }
+    generator.writeEndArray();
+
+    final Collection<Column> hiddenColumns = table.getHiddenColumns();
+    if (!hiddenColumns.isEmpty()) {
+      generator.writeArrayFieldStart("hidden-columns");
+      for (final Column column : hiddenColumns) {
+        writeColumn(generator, column);
+      }
+      generator.writeEndArray();
+    }
+
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey != null) {
+      generator.writeFieldName("primary-key");
+      writeTableConstraint(generator, primaryKey);
+    }
+
+    generator.writeArrayFieldStart("foreign-keys");
+    for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      writeForeignKey(generator, foreignKey);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("indexes");
+    for (final Index index : table.getIndexes()) {
+      writeIndex(generator, index);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("table-constraints");
+    for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+      writeTableConstraint(generator, tableConstraint);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("triggers");
+    for (final Trigger trigger : table.getTriggers()) {
+      writeTrigger(generator, trigger);
+    }
+    generator.writeEndArray();
+
+    if (table instanceof View) {
+      generator.writeArrayFieldStart("table-usage");
+      for (final Table usedTable : ((View) table).getTableUsage()) {
+        generator.writeString(tableId(usedTable));
+      }
+      generator.writeEndArray();
+    }
+
+    if (table.hasDefinition()) {
+      generator.writeStringField("definition", table.getDefinition());
+    }
+    writeRemarksAndAttributes(generator, table);
+    generator.writeEndObject();
+  }
+
+  private void writeTableConstraint(
+      final JsonGenerator generator, final TableConstraint tableConstraint) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(
+        "@id",
+        id(
+            "table-constraint",
+            tableConstraint.getParent().getFullName() + "." + tableConstraint.getName()));
+    writeNamedObject(generator, tableConstraint);
+    writeString(generator, "constraint-type", String.valueOf(tableConstraint.getConstraintType()));
+    generator.writeArrayFieldStart("columns");
+    for (final TableConstraintColumn column : tableConstraint.getColumns()) {
+      generator.writeString(columnId(column));
+    }
+    generator.writeEndArray();
+    if (tableConstraint.hasDefinition()) {
+      generator.writeStringField("definition", tableConstraint.getDefinition());
+    }
+    writeRemarksAndAttributes(generator, tableConstraint);
+    generator.writeEndObject();
+  }
+
+  private void writeTrigger(final JsonGenerator generator, final Trigger trigger)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id("trigger", trigger));
+    writeNamedObject(generator, trigger);
+    writeString(generator, "action-condition", trigger.getActionCondition());
+    generator.writeNumberField("action-order", trigger.getActionOrder());
+    writeString(generator, "action-orientation", String.valueOf(trigger.getActionOrientation()));
+    writeString(generator, "action-statement", trigger.getActionStatement());
+    writeString(generator, "condition-timing", String.valueOf(trigger.getConditionTiming()));
+    writeString(
+        generator, "event-manipulation-type", String.valueOf(trigger.getEventManipulationType()));
+    writeRemarksAndAttributes(generator, trigger);
+    generator.writeEndObject();
+  }
+}
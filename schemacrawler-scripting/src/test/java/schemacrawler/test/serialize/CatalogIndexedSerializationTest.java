@@ -0,0 +1,163 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test.serialize;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static schemacrawler.test.utility.TestUtility.fileHeaderOf;
+import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.IndexedCatalogSnapshot;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.integration.serialize.IndexedSerializedCatalog;
+import schemacrawler.tools.integration.serialize.JavaSerializedCatalog;
+import us.fatehi.utility.IOUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CatalogIndexedSerializationTest {
+
+  @Test
+  public void catalogSerializationWithIndex(final Connection connection) throws Exception {
+    final Catalog catalog = crawlCatalog(connection);
+    final Path testOutputFile = save(catalog);
+    assertThat(fileHeaderOf(testOutputFile), is("5343"));
+    assertThat(IndexedCatalogSnapshot.isIndexedCatalogSnapshot(testOutputFile), is(true));
+
+    final Catalog catalogDeserialized =
+        new IndexedSerializedCatalog(
+                testOutputFile, SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions())
+            .getCatalog();
+    assertThat(catalogDeserialized.getSchemas(), hasSize(catalog.getSchemas().size()));
+    assertThat(catalogDeserialized.getTables(), hasSize(catalog.getTables().size()));
+    assertThat(catalogDeserialized.getRoutines(), hasSize(catalog.getRoutines().size()));
+    assertThat(catalogDeserialized.getSequences(), hasSize(catalog.getSequences().size()));
+    assertThat(catalogDeserialized.getSynonyms(), hasSize(catalog.getSynonyms().size()));
+
+    // References between schemas are resolved, when all schemas are loaded
+    assertThat(
+        countPartialForeignKeyColumns(catalogDeserialized),
+        is(countPartialForeignKeyColumns(catalog)));
+  }
+
+  @Test
+  public void loadOnlyIncludedSchemas(final Connection connection) throws Exception {
+    final Catalog catalog = crawlCatalog(connection);
+    final Path testOutputFile = save(catalog);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule("PUBLIC.BOOKS"))
+                    .toOptions());
+    final Catalog catalogDeserialized =
+        IndexedCatalogSnapshot.load(testOutputFile, schemaCrawlerOptions);
+
+    final Schema schema = catalogDeserialized.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schema, notNullValue());
+    assertThat(catalogDeserialized.getTables(schema), hasSize(10));
+    for (final Table table : catalogDeserialized.getTables()) {
+      assertThat(table.getSchema(), is(schema));
+    }
+  }
+
+  @Test
+  public void javaSerializationIsNotIndexed(final Connection connection) throws Exception {
+    final Catalog catalog = crawlCatalog(connection);
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_indexed_serialization", "ser");
+    try (final OutputStream out = new FileOutputStream(testOutputFile.toFile())) {
+      new JavaSerializedCatalog(catalog).save(out);
+    }
+    assertThat(IndexedCatalogSnapshot.isIndexedCatalogSnapshot(testOutputFile), is(false));
+  }
+
+  private Catalog crawlCatalog(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    assertThat("Could not obtain catalog", catalog, notNullValue());
+    assertThat("Could not find any schemas", catalog.getSchemas(), not(empty()));
+    return catalog;
+  }
+
+  private int countPartialForeignKeyColumns(final Catalog catalog) {
+    int count = 0;
+    for (final Table table : catalog.getTables()) {
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        for (final ForeignKeyColumnReference columnReference : foreignKey) {
+          if (isPartial(columnReference.getPrimaryKeyColumn())) {
+            count = count + 1;
+          }
+          if (isPartial(columnReference.getForeignKeyColumn())) {
+            count = count + 1;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  private boolean isPartial(final Column column) {
+    return column instanceof PartialDatabaseObject
+        || column.getParent() instanceof PartialDatabaseObject;
+  }
+
+  private Path save(final Catalog catalog) throws Exception {
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_indexed_serialization", "scidx");
+    try (final OutputStream out = new FileOutputStream(testOutputFile.toFile())) {
+      new IndexedSerializedCatalog(catalog).save(out);
+    }
+    assertThat("Catalog was not serialized", Files.size(testOutputFile), greaterThan(0L));
+    return testOutputFile;
+  }
+}
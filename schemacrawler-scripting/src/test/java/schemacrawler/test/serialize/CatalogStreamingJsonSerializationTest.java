@@ -0,0 +1,157 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test.serialize;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.integration.serialize.CatalogSerializer;
+import schemacrawler.tools.integration.serialize.JsonSerializedCatalog;
+import schemacrawler.tools.integration.serialize.StreamingJsonSerializedCatalog;
+import us.fatehi.utility.string.StringFormat;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CatalogStreamingJsonSerializationTest {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(CatalogStreamingJsonSerializationTest.class.getName());
+
+  private static final int BENCHMARK_ITERATIONS = 10;
+
+  @Test
+  public void streamingJsonSerialization(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    new StreamingJsonSerializedCatalog(catalog).save(compressed);
+    final ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+    new StreamingJsonSerializedCatalog(catalog, false).save(uncompressed);
+    assertThat(compressed.size(), is(greaterThan(0)));
+    assertThat(compressed.size(), is(lessThan(uncompressed.size())));
+
+    final JsonNode catalogNode;
+    try (final InputStream in =
+        new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+      catalogNode = new ObjectMapper().readTree(in);
+    }
+
+    JsonNode booksSchemaNode = null;
+    for (final JsonNode schemaNode : catalogNode.get("schemas")) {
+      if ("schema:PUBLIC.BOOKS".equals(schemaNode.get("@id").asText())) {
+        booksSchemaNode = schemaNode;
+      }
+    }
+    assertThat("Could not find schema", booksSchemaNode, notNullValue());
+    assertThat(booksSchemaNode.get("tables").size(), is(10));
+    for (final JsonNode tableNode : booksSchemaNode.get("tables")) {
+      assertThat(tableNode.get("@id").asText().startsWith("table:PUBLIC.BOOKS."), is(true));
+    }
+  }
+
+  @Test
+  public void stableIdentifiers(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final ByteArrayOutputStream first = new ByteArrayOutputStream();
+    new StreamingJsonSerializedCatalog(catalog, false).save(first);
+    final ByteArrayOutputStream second = new ByteArrayOutputStream();
+    new StreamingJsonSerializedCatalog(catalog, false).save(second);
+
+    assertThat(Arrays.equals(first.toByteArray(), second.toByteArray()), is(true));
+  }
+
+  /**
+   * Compares the throughput of the streaming serializer with the object mapper based serializer,
+   * and logs the results. Only run with the benchmarks profile.
+   */
+  @Test
+  @Tag("benchmark")
+  public void throughputBenchmark(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    int objectCount = catalog.getSchemas().size() + catalog.getRoutines().size();
+    for (final Table table : catalog.getTables()) {
+      objectCount = objectCount + 1 + table.getColumns().size();
+    }
+
+    benchmark("mapper", new JsonSerializedCatalog(catalog), objectCount);
+    benchmark("streaming", new StreamingJsonSerializedCatalog(catalog, false), objectCount);
+    benchmark("streaming gzip", new StreamingJsonSerializedCatalog(catalog), objectCount);
+  }
+
+  private void benchmark(
+      final String name, final CatalogSerializer serializer, final int objectCount)
+      throws Exception {
+    // Warm up
+    serializer.save(new ByteArrayOutputStream());
+
+    long bytes = 0;
+    final long start = System.nanoTime();
+    for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      serializer.save(out);
+      bytes = bytes + out.size();
+    }
+    final double seconds = (System.nanoTime() - start) / 1_000_000_000D;
+    assertThat(bytes, is(greaterThan(0L)));
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "%s serialization: %.1f MB/s, %.0f objects/s",
+            name,
+            bytes / seconds / (1024 * 1024),
+            objectCount * BENCHMARK_ITERATIONS / seconds));
+  }
+}
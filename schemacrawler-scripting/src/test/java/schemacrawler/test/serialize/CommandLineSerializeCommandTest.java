@@ -104,6 +104,12 @@ public class CommandLineSerializeCommandTest {
         commandlineSerialize(connectionInfo, SerializationFormat.json), is(oneOf("7B0D", "7B0A")));
   }
 
+  @Test
+  public void commandLineJsonGzip(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    assertThatOutputIsCorrect(
+        commandlineSerialize(connectionInfo, SerializationFormat.jsongz), is("1F8B"));
+  }
+
   @Test
   public void commandLineYaml(final DatabaseConnectionInfo connectionInfo) throws Exception {
     assertThatOutputIsCorrect(
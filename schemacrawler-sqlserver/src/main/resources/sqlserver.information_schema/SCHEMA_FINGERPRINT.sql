@@ -0,0 +1,11 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEMA,
+  CONVERT(VARCHAR(30), MAX(OBJECTS.MODIFY_DATE), 126) AS LAST_DDL_TIME,
+  COUNT(*) AS OBJECT_COUNT
+FROM
+  SYS.OBJECTS OBJECTS
+GROUP BY
+  OBJECTS.SCHEMA_ID
+ORDER BY
+  TABLE_SCHEMA
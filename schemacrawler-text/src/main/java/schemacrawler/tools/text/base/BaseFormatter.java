@@ -122,6 +122,11 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
     return columnNullable;
   }
 
+  /** Writes out any buffered output, without closing the writer. */
+  protected final void flush() {
+    out.flush();
+  }
+
   protected boolean isColumnSignificant(final Column column) {
     return column != null
         && (column instanceof IndexColumn
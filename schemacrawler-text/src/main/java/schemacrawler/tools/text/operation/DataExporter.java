@@ -0,0 +1,627 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.options.DataExportFormat;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+
+/**
+ * Streams data directly to the output in a data export format. Column values are read with typed
+ * getters, and escaped straight into a reused character buffer that is written out when it fills
+ * up, so no objects are created per cell, other than the strings handed out by the JDBC driver.
+ * Each result set is written as a block - for CSV and TSV, a block starts with a row of column
+ * names, and blocks are separated by a blank line, and for JSON Lines, each row is an object with
+ * a member for each column. JSON Lines rows for table data start with a "_table" member, with the
+ * full name of the table, since the rows of all tables are written one after another. Lines end
+ * with the system line separator.
+ *
+ * @author Sualeh Fatehi
+ */
+final class DataExporter implements SpooledDataHandler {
+
+  private static final int STRING = 0;
+  private static final int INTEGER = 1;
+  private static final int LONG = 2;
+  private static final int FLOAT = 3;
+  private static final int DOUBLE = 4;
+  private static final int DECIMAL = 5;
+  private static final int BOOLEAN = 6;
+  private static final int BINARY = 7;
+  private static final int CHARACTER_LOB = 8;
+
+  private static final String BINARY_PLACEHOLDER = "<binary>";
+  private static final String TABLE_MEMBER = "_table";
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private static int columnKind(final int javaSqlType) {
+    switch (javaSqlType) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+        return INTEGER;
+      case Types.BIGINT:
+        return LONG;
+      case Types.REAL:
+        return FLOAT;
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return DOUBLE;
+      case Types.DECIMAL:
+      case Types.NUMERIC:
+        return DECIMAL;
+      case Types.BIT:
+      case Types.BOOLEAN:
+        return BOOLEAN;
+      case Types.BINARY:
+      case Types.VARBINARY:
+      case Types.LONGVARBINARY:
+      case Types.BLOB:
+        return BINARY;
+      case Types.CLOB:
+      case Types.NCLOB:
+      case Types.LONGVARCHAR:
+      case Types.LONGNVARCHAR:
+        return CHARACTER_LOB;
+      default:
+        return STRING;
+    }
+  }
+
+  private final DataExportFormat exportFormat;
+  private final OperationOptions options;
+  private final boolean isShowLobs;
+  private final OutputOptions outputOptions;
+  private final char[] buffer;
+  private final char[] lobBuffer;
+  // Scratch space to format numbers without creating strings
+  private final StringBuilder numberBuffer;
+  private Writer out;
+  private int position;
+  private int dataBlockCount;
+
+  /**
+   * Streaming export of data.
+   *
+   * @param exportFormat Data export format
+   * @param options Options for the export of data
+   * @param outputOptions Options for the output
+   */
+  DataExporter(
+      final DataExportFormat exportFormat,
+      final OperationOptions options,
+      final OutputOptions outputOptions) {
+    this.exportFormat = requireNonNull(exportFormat, "No data export format provided");
+    this.options = requireNonNull(options, "No operation options provided");
+    this.outputOptions = requireNonNull(outputOptions, "No output options provided");
+
+    isShowLobs = options.isShowLobs();
+    buffer = new char[options.getExportBufferSize()];
+    lobBuffer = new char[Math.min(buffer.length, 8192)];
+    numberBuffer = new StringBuilder(32);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void appendSpooledData(final Reader spool) throws SchemaCrawlerException {
+    if (out == null) {
+      throw new SchemaCrawlerException("Data export has not begun");
+    }
+
+    try {
+      if (exportFormat != DataExportFormat.jsonl && dataBlockCount > 0) {
+        write(LINE_SEPARATOR);
+      }
+      int read;
+      while ((read = spool.read(lobBuffer)) != -1) {
+        for (int i = 0; i < read; i++) {
+          write(lobBuffer[i]);
+        }
+      }
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not append spooled data", e);
+    }
+
+    dataBlockCount++;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void begin() throws SchemaCrawlerException {
+    try {
+      out = outputOptions.openNewOutputWriter(false);
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not open output for data export", e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void end() throws SchemaCrawlerException {
+    if (out == null) {
+      return;
+    }
+    try {
+      flushBuffer();
+      out.close();
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not complete data export", e);
+    } finally {
+      out = null;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handle(final CrawlInfo crawlInfo) {
+    // No information is exported
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handle(final DatabaseInfo databaseInfo) {
+    // No information is exported
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handle(final JdbcDriverInfo driverInfo) {
+    // No information is exported
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handleData(final Query query, final ResultSet rows) throws SchemaCrawlerException {
+    export(null, rows);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handleData(final Table table, final ResultSet rows) throws SchemaCrawlerException {
+    export(table, rows);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handleHeaderEnd() {
+    // No header is exported
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handleHeaderStart() {
+    // No header is exported
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handleInfoEnd() {
+    // No information is exported
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handleInfoStart() {
+    // No information is exported
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void spoolData(final Table table, final ResultSet rows, final Writer spool)
+      throws SchemaCrawlerException {
+    final OutputOptions spoolOutputOptions =
+        OutputOptionsBuilder.builder(outputOptions).withOutputWriter(spool).toOptions();
+    final DataExporter spoolExporter = new DataExporter(exportFormat, options, spoolOutputOptions);
+    spoolExporter.begin();
+    spoolExporter.export(table, rows);
+    spoolExporter.end();
+  }
+
+  private void export(final Table table, final ResultSet rows) throws SchemaCrawlerException {
+    if (rows == null) {
+      return;
+    }
+    if (out == null) {
+      throw new SchemaCrawlerException("Data export has not begun");
+    }
+
+    try {
+      final ResultSetMetaData metaData = rows.getMetaData();
+      final int columnCount = metaData.getColumnCount();
+      final int[] columnKinds = new int[columnCount];
+      final String[] columnLabels = new String[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        columnKinds[i] = columnKind(metaData.getColumnType(i + 1));
+        columnLabels[i] = metaData.getColumnLabel(i + 1);
+      }
+      final String tableName = table == null ? null : table.getFullName();
+
+      if (exportFormat != DataExportFormat.jsonl) {
+        if (dataBlockCount > 0) {
+          write(LINE_SEPARATOR);
+        }
+        writeHeaderRow(columnLabels);
+      }
+
+      while (rows.next()) {
+        writeRow(rows, tableName, columnKinds, columnLabels);
+      }
+      dataBlockCount++;
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException("Could not export data", e);
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not write exported data", e);
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    if (position > 0) {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+
+  private boolean needsCsvQuotes(final String value) {
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      if (ch == ',' || ch == '"' || ch == '\n' || ch == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void write(final char ch) throws IOException {
+    if (position == buffer.length) {
+      flushBuffer();
+    }
+    buffer[position++] = ch;
+  }
+
+  private void write(final CharSequence value) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      write(value.charAt(i));
+    }
+  }
+
+  private void writeBinary(final ResultSet rows, final int columnIndex)
+      throws SQLException, IOException {
+    final Object value = rows.getObject(columnIndex);
+    if (value == null) {
+      writeNull();
+    } else if (value instanceof byte[]) {
+      final byte[] bytes = (byte[]) value;
+      if (exportFormat == DataExportFormat.jsonl) {
+        write('"');
+      }
+      for (final byte b : bytes) {
+        write(HEX_DIGITS[(b >> 4) & 0x0F]);
+        write(HEX_DIGITS[b & 0x0F]);
+      }
+      if (exportFormat == DataExportFormat.jsonl) {
+        write('"');
+      }
+    } else {
+      writeText(BINARY_PLACEHOLDER);
+    }
+  }
+
+  private void writeCharacterLob(final ResultSet rows, final int columnIndex)
+      throws SQLException, IOException {
+    if (!isShowLobs) {
+      final Object value = rows.getObject(columnIndex);
+      if (value == null) {
+        writeNull();
+      } else {
+        writeText(BINARY_PLACEHOLDER);
+      }
+      return;
+    }
+
+    try (final Reader reader = rows.getCharacterStream(columnIndex)) {
+      if (reader == null) {
+        writeNull();
+        return;
+      }
+      // The length of the value is not known up front, so always quote
+      // CSV values
+      if (exportFormat != DataExportFormat.tsv) {
+        write('"');
+      }
+      int read;
+      while ((read = reader.read(lobBuffer)) != -1) {
+        for (int i = 0; i < read; i++) {
+          writeEscaped(lobBuffer[i]);
+        }
+      }
+      if (exportFormat != DataExportFormat.tsv) {
+        write('"');
+      }
+    }
+  }
+
+  private void writeColumnSeparator() throws IOException {
+    if (exportFormat == DataExportFormat.tsv) {
+      write('\t');
+    } else {
+      write(',');
+    }
+  }
+
+  private void writeEscaped(final char ch) throws IOException {
+    switch (exportFormat) {
+      case csv:
+        if (ch == '"') {
+          write('"');
+        }
+        write(ch);
+        break;
+      case tsv:
+        switch (ch) {
+          case '\t':
+            write('\\');
+            write('t');
+            break;
+          case '\n':
+            write('\\');
+            write('n');
+            break;
+          case '\r':
+            write('\\');
+            write('r');
+            break;
+          case '\\':
+            write('\\');
+            write('\\');
+            break;
+          default:
+            write(ch);
+        }
+        break;
+      case jsonl:
+      default:
+        writeJsonEscaped(ch);
+        break;
+    }
+  }
+
+  private void writeHeaderRow(final String[] columnLabels) throws IOException {
+    for (int i = 0; i < columnLabels.length; i++) {
+      if (i > 0) {
+        writeColumnSeparator();
+      }
+      writeText(columnLabels[i]);
+    }
+    write(LINE_SEPARATOR);
+  }
+
+  private void writeJsonEscaped(final char ch) throws IOException {
+    switch (ch) {
+      case '"':
+        write('\\');
+        write('"');
+        break;
+      case '\\':
+        write('\\');
+        write('\\');
+        break;
+      case '\n':
+        write('\\');
+        write('n');
+        break;
+      case '\r':
+        write('\\');
+        write('r');
+        break;
+      case '\t':
+        write('\\');
+        write('t');
+        break;
+      default:
+        if (ch < 0x20) {
+          write('\\');
+          write('u');
+          write(HEX_DIGITS[(ch >> 12) & 0x0F]);
+          write(HEX_DIGITS[(ch >> 8) & 0x0F]);
+          write(HEX_DIGITS[(ch >> 4) & 0x0F]);
+          write(HEX_DIGITS[ch & 0x0F]);
+        } else {
+          write(ch);
+        }
+        break;
+    }
+  }
+
+  private void writeNull() throws IOException {
+    if (exportFormat == DataExportFormat.jsonl) {
+      write("null");
+    }
+  }
+
+  private void writeRow(
+      final ResultSet rows,
+      final String tableName,
+      final int[] columnKinds,
+      final String[] columnLabels)
+      throws SQLException, IOException {
+    final boolean isJson = exportFormat == DataExportFormat.jsonl;
+    final boolean hasTableMember = isJson && tableName != null;
+    if (isJson) {
+      write('{');
+    }
+    if (hasTableMember) {
+      writeText(TABLE_MEMBER);
+      write(':');
+      writeText(tableName);
+    }
+    for (int i = 0; i < columnKinds.length; i++) {
+      final int columnIndex = i + 1;
+      if (i > 0 || hasTableMember) {
+        writeColumnSeparator();
+      }
+      if (isJson) {
+        writeText(columnLabels[i]);
+        write(':');
+      }
+
+      switch (columnKinds[i]) {
+        case INTEGER:
+          {
+            final int value = rows.getInt(columnIndex);
+            if (rows.wasNull()) {
+              writeNull();
+            } else {
+              numberBuffer.setLength(0);
+              write(numberBuffer.append(value));
+            }
+            break;
+          }
+        case LONG:
+          {
+            final long value = rows.getLong(columnIndex);
+            if (rows.wasNull()) {
+              writeNull();
+            } else {
+              numberBuffer.setLength(0);
+              write(numberBuffer.append(value));
+            }
+            break;
+          }
+        case FLOAT:
+          {
+            // Read single precision values as float, so that they are not
+            // written with the extra digits of a widened double
+            final float value = rows.getFloat(columnIndex);
+            if (rows.wasNull() || isJson && (Float.isNaN(value) || Float.isInfinite(value))) {
+              // JSON has no representation for NaN or infinity
+              writeNull();
+            } else {
+              numberBuffer.setLength(0);
+              write(numberBuffer.append(value));
+            }
+            break;
+          }
+        case DOUBLE:
+          {
+            final double value = rows.getDouble(columnIndex);
+            if (rows.wasNull() || isJson && (Double.isNaN(value) || Double.isInfinite(value))) {
+              // JSON has no representation for NaN or infinity
+              writeNull();
+            } else {
+              numberBuffer.setLength(0);
+              write(numberBuffer.append(value));
+            }
+            break;
+          }
+        case DECIMAL:
+          {
+            final String value = rows.getString(columnIndex);
+            if (value == null) {
+              writeNull();
+            } else {
+              write(value);
+            }
+            break;
+          }
+        case BOOLEAN:
+          {
+            final boolean value = rows.getBoolean(columnIndex);
+            if (rows.wasNull()) {
+              writeNull();
+            } else {
+              write(value ? "true" : "false");
+            }
+            break;
+          }
+        case BINARY:
+          writeBinary(rows, columnIndex);
+          break;
+        case CHARACTER_LOB:
+          writeCharacterLob(rows, columnIndex);
+          break;
+        case STRING:
+        default:
+          {
+            final String value = rows.getString(columnIndex);
+            if (value == null) {
+              writeNull();
+            } else {
+              writeText(value);
+            }
+            break;
+          }
+      }
+    }
+    if (isJson) {
+      write('}');
+    }
+    write(LINE_SEPARATOR);
+  }
+
+  private void writeText(final String value) throws IOException {
+    final boolean isQuoted;
+    switch (exportFormat) {
+      case csv:
+        isQuoted = needsCsvQuotes(value);
+        break;
+      case jsonl:
+        isQuoted = true;
+        break;
+      default:
+        isQuoted = false;
+        break;
+    }
+
+    if (isQuoted) {
+      write('"');
+    }
+    for (int i = 0; i < value.length(); i++) {
+      writeEscaped(value.charAt(i));
+    }
+    if (isQuoted) {
+      write('"');
+    }
+  }
+}
@@ -31,6 +31,9 @@ package schemacrawler.tools.text.operation;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.analysis.counts.TableRowCountsUtility.getRowCountMessage;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
@@ -40,9 +43,9 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import us.fatehi.utility.Color;
 import us.fatehi.utility.html.Alignment;
 
@@ -52,7 +55,7 @@ import us.fatehi.utility.html.Alignment;
  * @author Sualeh Fatehi
  */
 final class DataTextFormatter extends BaseTabularFormatter<OperationOptions>
-    implements DataTraversalHandler {
+    implements SpooledDataHandler {
 
   private static String getMessage(final double aggregate) {
     final Number number;
@@ -66,6 +69,7 @@ final class DataTextFormatter extends BaseTabularFormatter<OperationOptions>
   }
 
   private final Operation operation;
+  private final String identifierQuoteString;
   private int dataBlockCount;
 
   /**
@@ -89,6 +93,27 @@ final class DataTextFormatter extends BaseTabularFormatter<OperationOptions>
         outputOptions,
         identifierQuoteString);
     this.operation = requireNonNull(operation, "No operation provided");
+    this.identifierQuoteString = identifierQuoteString;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void appendSpooledData(final Reader spool) throws SchemaCrawlerException {
+    if (dataBlockCount == 0) {
+      printHeader();
+    }
+
+    try {
+      final char[] buffer = new char[8192];
+      int read;
+      while ((read = spool.read(buffer)) != -1) {
+        formattingHelper.append(new String(buffer, 0, read));
+      }
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not read spooled data", e);
+    }
+
+    dataBlockCount++;
   }
 
   /** {@inheritDoc} */
@@ -131,6 +156,21 @@ final class DataTextFormatter extends BaseTabularFormatter<OperationOptions>
     handleData(tableName, rows);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void spoolData(final Table table, final ResultSet rows, final Writer spool)
+      throws SchemaCrawlerException {
+    final OutputOptions spoolOutputOptions =
+        OutputOptionsBuilder.builder(outputOptions).withOutputWriter(spool).toOptions();
+    final DataTextFormatter spoolFormatter =
+        new DataTextFormatter(operation, options, spoolOutputOptions, identifierQuoteString);
+    // The header is written by this formatter, when the spooled data
+    // is appended
+    spoolFormatter.dataBlockCount = 1;
+    spoolFormatter.handleData(table, rows);
+    spoolFormatter.flush();
+  }
+
   /**
    * Handles an aggregate operation, such as a count, for a given table.
    *
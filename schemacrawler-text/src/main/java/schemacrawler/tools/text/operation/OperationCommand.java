@@ -37,6 +37,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -46,8 +47,8 @@ import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
+import schemacrawler.tools.options.DataExportFormat;
 import schemacrawler.tools.options.TextOutputFormat;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.string.StringFormat;
 
@@ -60,6 +61,10 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(OperationCommand.class.getName());
 
+  // Number of rows to fetch at a time for streaming data exports, so
+  // that drivers that buffer rows use bounded memory
+  private static final int EXPORT_FETCH_SIZE = 1_000;
+
   public OperationCommand(final String command) {
     super(command);
   }
@@ -82,7 +87,7 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
       return;
     }
 
-    final DataTraversalHandler handler = getDataTraversalHandler();
+    final SpooledDataHandler handler = getDataTraversalHandler();
     final Query query = commandOptions.getQuery();
 
     handler.begin();
@@ -102,24 +107,40 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
       final Identifiers identifiers =
           Identifiers.identifiers().withIdentifierQuoteString(identifierQuoteString).build();
 
-      try (final Statement statement = createStatement(connection)) {
-        for (final Table table : getSortedTables(catalog)) {
-          final boolean isAlphabeticalSortForTableColumns =
-              commandOptions.isAlphabeticalSortForTableColumns();
-          try (final ResultSet results =
-              executeAgainstTable(
-                  query, statement, table, isAlphabeticalSortForTableColumns, identifiers)) {
-            handler.handleData(table, results);
-          } catch (final SQLException e) {
-            LOGGER.log(Level.WARNING, new StringFormat("Bad operation for table <%s>", table), e);
+      final List<? extends Table> tables = getSortedTables(catalog);
+      if (isParallel(tables)) {
+        final ParallelOperationExecutor executor =
+            new ParallelOperationExecutor(
+                connection, connectionSource, query, commandOptions, identifiers, getFetchSize());
+        executor.execute(tables, handler);
+      } else {
+        try (final Statement statement = createStatement(connection)) {
+          setFetchSize(statement);
+          final int tableQueryTimeoutSeconds = commandOptions.getTableQueryTimeoutSeconds();
+          if (tableQueryTimeoutSeconds > 0) {
+            statement.setQueryTimeout(tableQueryTimeoutSeconds);
+          }
+          for (final Table table : tables) {
+            final boolean isAlphabeticalSortForTableColumns =
+                commandOptions.isAlphabeticalSortForTableColumns();
+            try (final ResultSet results =
+                executeAgainstTable(
+                    query, statement, table, isAlphabeticalSortForTableColumns, identifiers)) {
+              handler.handleData(table, results);
+            } catch (final SQLException e) {
+              LOGGER.log(
+                  Level.WARNING, new StringFormat("Bad operation for table <%s>", table), e);
+            }
           }
         }
       }
     } else {
       final String sql = query.getQuery();
-      try (final Statement statement = createStatement(connection);
-          final ResultSet results = executeSql(statement, sql)) {
-        handler.handleData(query, results);
+      try (final Statement statement = createStatement(connection)) {
+        setFetchSize(statement);
+        try (final ResultSet results = executeSql(statement, sql)) {
+          handler.handleData(query, results);
+        }
       }
     }
 
@@ -131,15 +152,48 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
     return true;
   }
 
-  private DataTraversalHandler getDataTraversalHandler() throws SchemaCrawlerException {
+  private SpooledDataHandler getDataTraversalHandler() throws SchemaCrawlerException {
     final Operation operation = commandOptions.getOperation();
     final String identifierQuoteString = identifiers.getIdentifierQuoteString();
 
-    final DataTraversalHandler formatter =
-        new DataTextFormatter(operation, commandOptions, outputOptions, identifierQuoteString);
+    final Optional<DataExportFormat> exportFormat = getDataExportFormat();
+    final SpooledDataHandler formatter;
+    if (exportFormat.isPresent()) {
+      formatter = new DataExporter(exportFormat.get(), commandOptions, outputOptions);
+    } else {
+      formatter =
+          new DataTextFormatter(operation, commandOptions, outputOptions, identifierQuoteString);
+    }
     return formatter;
   }
 
+  /**
+   * Data is streamed directly to the output for formats that have no text formatting, such as CSV
+   * and JSON Lines, and also for TSV if streaming exports are requested. Aggregate operations, such
+   * as counts, are always formatted as text.
+   *
+   * @return Data export format, if the data is to be streamed
+   */
+  private Optional<DataExportFormat> getDataExportFormat() {
+    final String outputFormatValue = outputOptions.getOutputFormatValue();
+    if (commandOptions.getOperation() == OperationType.count
+        || !DataExportFormat.isSupportedFormat(outputFormatValue)) {
+      return Optional.empty();
+    }
+    if (TextOutputFormat.isSupportedFormat(outputFormatValue)
+        && !commandOptions.isStreamingExport()) {
+      return Optional.empty();
+    }
+    return Optional.of(DataExportFormat.fromFormat(outputFormatValue));
+  }
+
+  private int getFetchSize() {
+    if (getDataExportFormat().isPresent()) {
+      return EXPORT_FETCH_SIZE;
+    }
+    return 0;
+  }
+
   private List<? extends Table> getSortedTables(final Catalog catalog) {
     final List<? extends Table> tables = new ArrayList<>(catalog.getTables());
     tables.sort(NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
@@ -148,7 +202,33 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
 
   private boolean isOutputFormatSupported() {
     final String outputFormatValue = outputOptions.getOutputFormatValue();
-    final boolean isOutputFormatSupported = TextOutputFormat.isSupportedFormat(outputFormatValue);
+    final boolean isOutputFormatSupported =
+        TextOutputFormat.isSupportedFormat(outputFormatValue) || getDataExportFormat().isPresent();
     return isOutputFormatSupported;
   }
+
+  private boolean isParallel(final List<? extends Table> tables) {
+    if (commandOptions.getParallelWorkers() <= 1 || tables.size() <= 1) {
+      return false;
+    }
+    if (connectionSource == null) {
+      LOGGER.log(
+          Level.INFO,
+          "Running operation on one table at a time, since no connection source is available");
+      return false;
+    }
+    return true;
+  }
+
+  private void setFetchSize(final Statement statement) {
+    final int fetchSize = getFetchSize();
+    if (fetchSize <= 0) {
+      return;
+    }
+    try {
+      statement.setFetchSize(fetchSize);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Could not set fetch size for data export", e);
+    }
+  }
 }
@@ -42,22 +42,59 @@ public final class OperationOptions extends BaseTextOptions {
 
   private final Operation operation;
   private final boolean isShowLobs;
+  private final boolean isStreamingExport;
+  private final int exportBufferSize;
+  private final int parallelWorkers;
+  private final int tableQueryTimeoutSeconds;
 
   protected OperationOptions(final OperationOptionsBuilder builder) {
     super(builder);
 
     operation = requireNonNull(builder.operation, "No operation provided");
     isShowLobs = builder.isShowLobs;
+    isStreamingExport = builder.isStreamingExport;
+    exportBufferSize = builder.exportBufferSize;
+    parallelWorkers = builder.parallelWorkers;
+    tableQueryTimeoutSeconds = builder.tableQueryTimeoutSeconds;
+  }
+
+  /**
+   * Size of the output buffer, in characters, for streaming data exports.
+   *
+   * @return Size of the output buffer
+   */
+  public int getExportBufferSize() {
+    return exportBufferSize;
   }
 
   public Operation getOperation() {
     return operation;
   }
 
+  /**
+   * Number of database connections to use for running the operation against tables at the same
+   * time.
+   *
+   * @return Number of parallel workers, at least one
+   */
+  public int getParallelWorkers() {
+    return parallelWorkers;
+  }
+
   public Query getQuery() {
     return operation.getQuery();
   }
 
+  /**
+   * Time allowed for running the operation against a single table, including reading all of the
+   * results.
+   *
+   * @return Timeout in seconds, or zero for no timeout
+   */
+  public int getTableQueryTimeoutSeconds() {
+    return tableQueryTimeoutSeconds;
+  }
+
   /**
    * Whether to show LOBs.
    *
@@ -66,4 +103,15 @@ public final class OperationOptions extends BaseTextOptions {
   public boolean isShowLobs() {
     return isShowLobs;
   }
+
+  /**
+   * Whether to stream data directly to the output for formats that can be exported, such as TSV,
+   * instead of formatting it as text. Data export formats such as CSV and JSON Lines are always
+   * streamed.
+   *
+   * @return Whether to stream data exports.
+   */
+  public boolean isStreamingExport() {
+    return isStreamingExport;
+  }
 }
@@ -40,6 +40,17 @@ import schemacrawler.tools.text.base.BaseTextOptionsBuilder;
 public final class OperationOptionsBuilder
     extends BaseTextOptionsBuilder<OperationOptionsBuilder, OperationOptions> {
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX + "data.show_lobs";
+  private static final String STREAMING_EXPORT =
+      SCHEMACRAWLER_FORMAT_PREFIX + "data.streaming_export";
+  private static final String EXPORT_BUFFER_SIZE =
+      SCHEMACRAWLER_FORMAT_PREFIX + "data.export_buffer_size";
+  private static final String PARALLEL_WORKERS =
+      SCHEMACRAWLER_FORMAT_PREFIX + "data.parallel_workers";
+  private static final String TABLE_QUERY_TIMEOUT_SECONDS =
+      SCHEMACRAWLER_FORMAT_PREFIX + "data.table_query_timeout_seconds";
+
+  private static final int DEFAULT_EXPORT_BUFFER_SIZE = 64 * 1024;
+  private static final int MIN_EXPORT_BUFFER_SIZE = 1024;
 
   public static OperationOptionsBuilder builder() {
     return new OperationOptionsBuilder();
@@ -48,9 +59,14 @@ public final class OperationOptionsBuilder
   private String command;
   protected Operation operation;
   protected boolean isShowLobs;
+  protected boolean isStreamingExport;
+  protected int exportBufferSize;
+  protected int parallelWorkers;
+  protected int tableQueryTimeoutSeconds;
 
   private OperationOptionsBuilder() {
-    // Set default values, if any
+    exportBufferSize = DEFAULT_EXPORT_BUFFER_SIZE;
+    parallelWorkers = 1;
   }
 
   @Override
@@ -61,6 +77,10 @@ public final class OperationOptionsBuilder
     super.fromConfig(config);
 
     isShowLobs = config.getBooleanValue(SHOW_LOBS, false);
+    isStreamingExport = config.getBooleanValue(STREAMING_EXPORT, false);
+    withExportBufferSize(config.getIntegerValue(EXPORT_BUFFER_SIZE, DEFAULT_EXPORT_BUFFER_SIZE));
+    parallelWorkers = Math.max(1, config.getIntegerValue(PARALLEL_WORKERS, 1));
+    tableQueryTimeoutSeconds = Math.max(0, config.getIntegerValue(TABLE_QUERY_TIMEOUT_SECONDS, 0));
     operation = getQueryFromCommand(config);
 
     return this;
@@ -74,6 +94,10 @@ public final class OperationOptionsBuilder
     super.fromOptions(options);
 
     isShowLobs = options.isShowLobs();
+    isStreamingExport = options.isStreamingExport();
+    exportBufferSize = options.getExportBufferSize();
+    parallelWorkers = options.getParallelWorkers();
+    tableQueryTimeoutSeconds = options.getTableQueryTimeoutSeconds();
 
     return this;
   }
@@ -93,10 +117,29 @@ public final class OperationOptionsBuilder
     return this;
   }
 
+  public OperationOptionsBuilder streamingExport() {
+    return streamingExport(true);
+  }
+
+  /**
+   * Stream data directly to the output, or not, for formats that can be exported.
+   *
+   * @param value Whether to stream data exports.
+   * @return Builder
+   */
+  public OperationOptionsBuilder streamingExport(final boolean value) {
+    isStreamingExport = value;
+    return this;
+  }
+
   @Override
   public Config toConfig() {
     final Config config = super.toConfig();
     config.setBooleanValue(SHOW_LOBS, isShowLobs);
+    config.setBooleanValue(STREAMING_EXPORT, isStreamingExport);
+    config.setStringValue(EXPORT_BUFFER_SIZE, String.valueOf(exportBufferSize));
+    config.setStringValue(PARALLEL_WORKERS, String.valueOf(parallelWorkers));
+    config.setStringValue(TABLE_QUERY_TIMEOUT_SECONDS, String.valueOf(tableQueryTimeoutSeconds));
     return config;
   }
 
@@ -111,6 +154,49 @@ public final class OperationOptionsBuilder
     return this;
   }
 
+  /**
+   * Size of the output buffer, in characters, for streaming data exports. Very small sizes are
+   * raised to a minimum.
+   *
+   * @param exportBufferSize Size of the output buffer
+   * @return Builder
+   */
+  public OperationOptionsBuilder withExportBufferSize(final int exportBufferSize) {
+    this.exportBufferSize = Math.max(exportBufferSize, MIN_EXPORT_BUFFER_SIZE);
+    return this;
+  }
+
+  /**
+   * Number of database connections to use for running the operation against tables at the same
+   * time. Additional connections are only opened if a connection source is available to the
+   * command.
+   *
+   * @param parallelWorkers Number of parallel workers, at least one
+   * @return Builder
+   */
+  public OperationOptionsBuilder withParallelWorkers(final int parallelWorkers) {
+    if (parallelWorkers < 1) {
+      throw new IllegalArgumentException("At least one parallel worker is needed");
+    }
+    this.parallelWorkers = parallelWorkers;
+    return this;
+  }
+
+  /**
+   * Time allowed for running the operation against a single table, including reading all of the
+   * results.
+   *
+   * @param tableQueryTimeoutSeconds Timeout in seconds, or zero for no timeout
+   * @return Builder
+   */
+  public OperationOptionsBuilder withTableQueryTimeoutSeconds(final int tableQueryTimeoutSeconds) {
+    if (tableQueryTimeoutSeconds < 0) {
+      throw new IllegalArgumentException("Table query timeout cannot be negative");
+    }
+    this.tableQueryTimeoutSeconds = tableQueryTimeoutSeconds;
+    return this;
+  }
+
   private Operation getOperationFromCommand() {
     Operation operation = null;
     try {
@@ -0,0 +1,402 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs an operation against tables on a number of workers, each with its own connection. The data
+ * for each table is written to a spool in a temporary file, and the spools are appended to the
+ * output in the order of the tables, as soon as they are ready, so the output is the same as if the
+ * tables were handled one at a time. Workers take tables in order, so that the output can be
+ * written while later tables are still being queried. Each table can be given a timeout, after
+ * which its query is cancelled, and the table is left out of the output. If a worker fails
+ * unexpectedly, the operation fails as soon as possible, and the other workers are cancelled.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ParallelOperationExecutor {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(ParallelOperationExecutor.class.getName());
+
+  private static final long CANCEL_GRACE_SECONDS = 5;
+  private static final long WORKER_CHECK_SECONDS = 1;
+
+  private final Connection connection;
+  private final Supplier<Connection> connectionSource;
+  private final Query query;
+  private final OperationOptions options;
+  private final Identifiers identifiers;
+  private final int fetchSize;
+
+  /**
+   * Parallel operation executor.
+   *
+   * @param connection Primary connection, used by the first worker
+   * @param connectionSource Source of additional connections for other workers
+   * @param query Query to run against each table
+   * @param options Options for workers, timeouts and column sort order
+   * @param identifiers Identifiers for quoting names in the query
+   * @param fetchSize Fetch size for queries, or zero for the driver default
+   */
+  ParallelOperationExecutor(
+      final Connection connection,
+      final Supplier<Connection> connectionSource,
+      final Query query,
+      final OperationOptions options,
+      final Identifiers identifiers,
+      final int fetchSize) {
+    this.connection = requireNonNull(connection, "No connection provided");
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    this.query = requireNonNull(query, "No query provided");
+    this.options = requireNonNull(options, "No operation options provided");
+    this.identifiers = requireNonNull(identifiers, "No identifiers provided");
+    this.fetchSize = fetchSize;
+  }
+
+  /**
+   * Runs the operation against all of the tables, and appends the data for each to the handler in
+   * the order of the tables. Tables that could not be queried, or timed out, are logged and left
+   * out.
+   *
+   * @param tables Tables, in the order of the output
+   * @param handler Handler for the data
+   * @throws SchemaCrawlerException On an exception appending data to the output
+   */
+  void execute(final List<? extends Table> tables, final SpooledDataHandler handler)
+      throws SchemaCrawlerException {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(handler, "No handler provided");
+    if (tables.isEmpty()) {
+      return;
+    }
+
+    final int workers = Math.max(1, Math.min(options.getParallelWorkers(), tables.size()));
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Running operation <%s> on %d tables, with %d workers",
+            query.getName(), tables.size(), workers));
+
+    final List<CompletableFuture<Path>> spools = new ArrayList<>(tables.size());
+    final Queue<Integer> pendingTables = new ConcurrentLinkedQueue<>();
+    for (int i = 0; i < tables.size(); i++) {
+      spools.add(new CompletableFuture<>());
+      pendingTables.add(i);
+    }
+    final AtomicInteger completedTables = new AtomicInteger();
+    final List<Connection> openedConnections = Collections.synchronizedList(new ArrayList<>());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(workers);
+    final ScheduledExecutorService timeouts = Executors.newSingleThreadScheduledExecutor();
+    try {
+      for (int i = 0; i < workers; i++) {
+        final boolean isPrimary = i == 0;
+        executor.execute(
+            () -> {
+              final Connection workerConnection;
+              try {
+                if (isPrimary) {
+                  workerConnection = connection;
+                } else {
+                  workerConnection = connectionSource.get();
+                  openedConnections.add(workerConnection);
+                }
+              } catch (final RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Could not open a connection for the operation", e);
+                return;
+              }
+              try {
+                spoolTables(
+                    workerConnection,
+                    tables,
+                    handler,
+                    pendingTables,
+                    spools,
+                    completedTables,
+                    timeouts);
+              } catch (final Throwable e) {
+                // Fail the operation, rather than leave the output waiting
+                // for tables that this worker would have handled
+                fail(pendingTables, spools, e);
+              }
+            });
+      }
+      executor.shutdown();
+
+      appendSpools(tables, handler, spools, executor);
+    } finally {
+      cancel(executor, timeouts);
+      closeConnections(openedConnections);
+      deleteSpools(spools);
+    }
+  }
+
+  private void appendSpools(
+      final List<? extends Table> tables,
+      final SpooledDataHandler handler,
+      final List<CompletableFuture<Path>> spools,
+      final ExecutorService executor)
+      throws SchemaCrawlerException {
+    for (int i = 0; i < tables.size(); i++) {
+      final Path spoolFile = awaitSpool(tables.get(i), spools.get(i), executor);
+      if (spoolFile == null) {
+        continue;
+      }
+
+      try (final Reader spool = Files.newBufferedReader(spoolFile, UTF_8)) {
+        handler.appendSpooledData(spool);
+      } catch (final IOException e) {
+        throw new SchemaCrawlerException("Could not read spooled data", e);
+      }
+      deleteSpool(spoolFile);
+    }
+  }
+
+  /**
+   * Waits for the spool for a table. Workers complete every spool they take, even if they fail, but
+   * the workers are also checked while waiting, so that the output never waits on a table that no
+   * worker is left to handle.
+   */
+  private Path awaitSpool(
+      final Table table, final CompletableFuture<Path> spool, final ExecutorService executor)
+      throws SchemaCrawlerException {
+    while (true) {
+      try {
+        return spool.get(WORKER_CHECK_SECONDS, TimeUnit.SECONDS);
+      } catch (final TimeoutException e) {
+        if (executor.isTerminated() && !spool.isDone()) {
+          throw new SchemaCrawlerException(
+              String.format("No workers left to run operation for table <%s>", table));
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SchemaCrawlerException("Interrupted while running operation", e);
+      } catch (final ExecutionException e) {
+        throw new SchemaCrawlerException("Could not run operation", e.getCause());
+      }
+    }
+  }
+
+  private void cancel(final ExecutorService executor, final ScheduledExecutorService timeouts) {
+    timeouts.shutdownNow();
+    executor.shutdownNow();
+    try {
+      executor.awaitTermination(CANCEL_GRACE_SECONDS, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void cancel(final Statement statement, final Table table) {
+    LOGGER.log(
+        Level.WARNING,
+        new StringFormat(
+            "Cancelling operation for table <%s>, after the timeout of %d seconds",
+            table, options.getTableQueryTimeoutSeconds()));
+    try {
+      statement.cancel();
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Could not cancel operation", e);
+    }
+  }
+
+  private void closeConnections(final List<Connection> openedConnections) {
+    synchronized (openedConnections) {
+      for (final Connection openedConnection : openedConnections) {
+        try {
+          openedConnection.close();
+        } catch (final SQLException e) {
+          LOGGER.log(Level.WARNING, "Could not close connection", e);
+        }
+      }
+    }
+  }
+
+  private void deleteSpool(final Path spoolFile) {
+    try {
+      Files.deleteIfExists(spoolFile);
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, new StringFormat("Could not delete spool <%s>", spoolFile), e);
+    }
+  }
+
+  private void deleteSpools(final List<CompletableFuture<Path>> spools) {
+    for (final CompletableFuture<Path> spool : spools) {
+      // Spools that are still being written are abandoned, and so are
+      // deleted by the worker
+      if (!spool.complete(null) && !spool.isCompletedExceptionally()) {
+        final Path spoolFile = spool.getNow(null);
+        if (spoolFile != null) {
+          deleteSpool(spoolFile);
+        }
+      }
+    }
+  }
+
+  /** Fails all spools that are not complete, so that the output does not wait for them. */
+  private void fail(
+      final Queue<Integer> pendingTables,
+      final List<CompletableFuture<Path>> spools,
+      final Throwable cause) {
+    LOGGER.log(Level.WARNING, "Could not run operation", cause);
+    pendingTables.clear();
+    for (final CompletableFuture<Path> spool : spools) {
+      spool.completeExceptionally(cause);
+    }
+  }
+
+  /**
+   * Writes the data for a table to a spool file. The spool file is deleted if the table could not
+   * be written, whatever the failure.
+   *
+   * @return Spool file, or null if the table could not be queried
+   */
+  private Path spoolTable(
+      final Connection workerConnection,
+      final Table table,
+      final SpooledDataHandler handler,
+      final ScheduledExecutorService timeouts) {
+    final int tableQueryTimeoutSeconds = options.getTableQueryTimeoutSeconds();
+    Path spoolFile = null;
+    boolean isSpooled = false;
+    try (final Statement statement = workerConnection.createStatement()) {
+      if (fetchSize > 0) {
+        statement.setFetchSize(fetchSize);
+      }
+      // The query timeout only applies to running the query, so also
+      // cancel the statement if reading the results takes too long
+      ScheduledFuture<?> timeout = null;
+      if (tableQueryTimeoutSeconds > 0) {
+        statement.setQueryTimeout(tableQueryTimeoutSeconds);
+        timeout =
+            timeouts.schedule(
+                () -> cancel(statement, table), tableQueryTimeoutSeconds, TimeUnit.SECONDS);
+      }
+      try {
+        spoolFile = Files.createTempFile("schemacrawler.operation.", ".spool");
+        try (final ResultSet results =
+                executeAgainstTable(
+                    query,
+                    statement,
+                    table,
+                    options.isAlphabeticalSortForTableColumns(),
+                    identifiers);
+            final Writer spool = Files.newBufferedWriter(spoolFile, UTF_8)) {
+          handler.spoolData(table, results, spool);
+        }
+      } finally {
+        if (timeout != null) {
+          timeout.cancel(false);
+        }
+      }
+      isSpooled = true;
+      return spoolFile;
+    } catch (final SQLException | SchemaCrawlerException | IOException e) {
+      LOGGER.log(Level.WARNING, new StringFormat("Bad operation for table <%s>", table), e);
+      return null;
+    } finally {
+      if (!isSpooled && spoolFile != null) {
+        deleteSpool(spoolFile);
+      }
+    }
+  }
+
+  private void spoolTables(
+      final Connection workerConnection,
+      final List<? extends Table> tables,
+      final SpooledDataHandler handler,
+      final Queue<Integer> pendingTables,
+      final List<CompletableFuture<Path>> spools,
+      final AtomicInteger completedTables,
+      final ScheduledExecutorService timeouts) {
+    final int progressInterval = Math.max(1, tables.size() / 10);
+    Integer index;
+    while ((index = pendingTables.poll()) != null) {
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+
+      final Table table = tables.get(index);
+      final Path spoolFile;
+      try {
+        spoolFile = spoolTable(workerConnection, table, handler, timeouts);
+      } catch (final Throwable e) {
+        fail(pendingTables, spools, e);
+        return;
+      }
+      if (!spools.get(index).complete(spoolFile) && spoolFile != null) {
+        // The operation was abandoned while this table was running
+        deleteSpool(spoolFile);
+      }
+
+      final int completed = completedTables.incrementAndGet();
+      if (completed % progressInterval == 0 || completed == tables.size()) {
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat("Completed operation on %d of %d tables", completed, tables.size()));
+      }
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.ResultSet;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.traversal.DataTraversalHandler;
+
+/**
+ * A data traversal handler that can have the data for each table written separately to a spool, so
+ * that tables can be queried at the same time, and then appended to the output in order.
+ *
+ * @author Sualeh Fatehi
+ */
+interface SpooledDataHandler extends DataTraversalHandler {
+
+  /**
+   * Appends data for a table, that was written to a spool, to the output. The output is the same as
+   * if the data was handled directly.
+   *
+   * @param spool Spooled data
+   * @throws SchemaCrawlerException On an exception
+   */
+  void appendSpooledData(Reader spool) throws SchemaCrawlerException;
+
+  /**
+   * Writes data for a table to a spool. This can be called from any number of threads at the same
+   * time, and does not change the state of the handler.
+   *
+   * @param table Table
+   * @param rows Data for the table
+   * @param spool Spool to write to
+   * @throws SchemaCrawlerException On an exception
+   */
+  void spoolData(Table table, ResultSet rows, Writer spool) throws SchemaCrawlerException;
+}
@@ -0,0 +1,111 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableOf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.Config;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ParallelOperationOutputTest {
+
+  private static String operationOutput(
+      final Connection connection,
+      final Supplier<Connection> connectionSource,
+      final String command,
+      final String outputFormatValue,
+      final int parallelWorkers)
+      throws Exception {
+    final Config config = new Config();
+    config.put("schemacrawler.format.data.parallel_workers", String.valueOf(parallelWorkers));
+    config.put("schemacrawler.format.data.table_query_timeout_seconds", "30");
+    config.put("schemacrawler.format.sort_alphabetically.tables", Boolean.TRUE.toString());
+
+    final SchemaCrawlerExecutable executable = executableOf(command);
+    executable.setAdditionalConfiguration(config);
+    executable.setConnectionSource(connectionSource);
+
+    final Path outputFile = executableExecution(connection, executable, outputFormatValue);
+    return new String(Files.readAllBytes(outputFile), UTF_8);
+  }
+
+  @Test
+  public void parallelOperationOutput(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            connectionCount.incrementAndGet();
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+
+    for (final String command : new String[] {"count", "dump"}) {
+      for (final String outputFormatValue : new String[] {"text", "html", "csv", "jsonl"}) {
+        final String serialOutput =
+            operationOutput(connection, null, command, outputFormatValue, 1);
+        final String parallelOutput =
+            operationOutput(connection, connectionSource, command, outputFormatValue, 3);
+        assertThat(command + " " + outputFormatValue, parallelOutput, is(serialOutput));
+      }
+    }
+
+    assertThat(connectionCount.get() > 0, is(true));
+    assertThat(connection.isClosed(), is(false));
+  }
+
+  @Test
+  public void parallelOperationWithoutConnectionSource(final Connection connection)
+      throws Exception {
+    assertThat(
+        operationOutput(connection, null, "dump", "text", 3),
+        is(operationOutput(connection, null, "dump", "text", 1)));
+  }
+}
@@ -0,0 +1,204 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.tools.options.DataExportFormat;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.traversal.DataTraversalHandler;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Dumps a large table with the streaming data exporter, and with text formatting, and logs the
+ * throughput. Only run with the benchmarks profile. The number of rows can be set with the
+ * "dataexport.benchmark.rows" system property - for example, to 10000000 for a full scale run.
+ */
+@Tag("benchmark")
+public class DataExportBenchmarkTest {
+
+  private static final class CountingWriter extends Writer {
+
+    private long characters;
+    private long lines;
+
+    @Override
+    public void close() {
+      // Nothing to close
+    }
+
+    @Override
+    public void flush() {
+      // Nothing to flush
+    }
+
+    @Override
+    public void write(final char[] buffer, final int offset, final int length) {
+      characters = characters + length;
+      for (int i = offset; i < offset + length; i++) {
+        if (buffer[i] == '\n') {
+          lines = lines + 1;
+        }
+      }
+    }
+  }
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(DataExportBenchmarkTest.class.getName());
+
+  private static final int ROWS = Integer.getInteger("dataexport.benchmark.rows", 100_000);
+  private static final String SQL = "SELECT * FROM BENCHMARK_DATA";
+
+  private static Connection connection;
+
+  @AfterAll
+  public static void shutdown() throws Exception {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+    connection.close();
+  }
+
+  @BeforeAll
+  public static void loadTable() throws Exception {
+    connection = DriverManager.getConnection("jdbc:hsqldb:mem:dataexportbenchmark", "SA", "");
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE BENCHMARK_DATA ("
+              + "ID BIGINT PRIMARY KEY, "
+              + "QUANTITY INTEGER, "
+              + "RATIO DOUBLE, "
+              + "PRICE DECIMAL(10, 2), "
+              + "ACTIVE BOOLEAN, "
+              + "NAME VARCHAR(50))");
+    }
+    try (final PreparedStatement statement =
+        connection.prepareStatement("INSERT INTO BENCHMARK_DATA VALUES (?, ?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < ROWS; i++) {
+        statement.setLong(1, i);
+        statement.setInt(2, i % 1000);
+        statement.setDouble(3, i / 7D);
+        statement.setBigDecimal(4, BigDecimal.valueOf(i, 2));
+        statement.setBoolean(5, i % 2 == 0);
+        statement.setString(6, "Name, \"" + i + "\"");
+        statement.addBatch();
+        if (i % 10_000 == 0) {
+          statement.executeBatch();
+        }
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private static CountingWriter dump(
+      final DataTraversalHandler handler, final CountingWriter writer) throws Exception {
+    handler.begin();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = statement.executeQuery(SQL)) {
+      handler.handleData(new Query("benchmark", SQL), results);
+    }
+    handler.end();
+    return writer;
+  }
+
+  private static CountingWriter export(final DataExportFormat exportFormat) throws Exception {
+    final CountingWriter writer = new CountingWriter();
+    final OutputOptions outputOptions =
+        OutputOptionsBuilder.builder()
+            .withOutputFormat(exportFormat)
+            .withOutputWriter(writer)
+            .toOptions();
+    return dump(new DataExporter(exportFormat, operationOptions(), outputOptions), writer);
+  }
+
+  private static CountingWriter format() throws Exception {
+    final CountingWriter writer = new CountingWriter();
+    final OutputOptions outputOptions =
+        OutputOptionsBuilder.builder()
+            .withOutputFormat(TextOutputFormat.tsv)
+            .withOutputWriter(writer)
+            .toOptions();
+    return dump(
+        new DataTextFormatter(OperationType.quickdump, operationOptions(), outputOptions, "\""),
+        writer);
+  }
+
+  private static OperationOptions operationOptions() {
+    return OperationOptionsBuilder.builder().withCommand("quickdump").noInfo().toOptions();
+  }
+
+  @Test
+  public void exportBenchmark() throws Exception {
+    // Warm up
+    export(DataExportFormat.csv);
+    format();
+
+    for (final DataExportFormat exportFormat : DataExportFormat.values()) {
+      final long start = System.nanoTime();
+      final CountingWriter writer = export(exportFormat);
+      final double seconds = (System.nanoTime() - start) / 1_000_000_000D;
+
+      final long expectedLines = exportFormat == DataExportFormat.jsonl ? ROWS : ROWS + 1;
+      assertThat(writer.lines, is(expectedLines));
+
+      log(exportFormat.getFormat() + " export", writer, seconds);
+    }
+
+    final long start = System.nanoTime();
+    final CountingWriter writer = format();
+    final double seconds = (System.nanoTime() - start) / 1_000_000_000D;
+    log("tsv text formatting", writer, seconds);
+  }
+
+  private void log(final String title, final CountingWriter writer, final double seconds) {
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Dumped %d rows with %s: %.2f s, %.1f MB/s",
+            ROWS, title, seconds, writer.characters / seconds / 1_000_000D));
+  }
+}
@@ -0,0 +1,154 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.options.DataExportFormat;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class DataExporterTest {
+
+  private static final String NL = System.lineSeparator();
+
+  private static final String SQL =
+      "SELECT "
+          + "CAST(1 AS INTEGER) AS ID, "
+          + "CAST(NULL AS INTEGER) AS MISSING, "
+          + "CAST(2.5 AS DOUBLE) AS RATIO, "
+          + "CAST(0.1 AS REAL) AS SCORE, "
+          + "CAST(12.50 AS DECIMAL(5, 2)) AS PRICE, "
+          + "TRUE AS FLAG, "
+          + "'Say \"hi\", then' || CHAR(10) || 'tab' || CHAR(9) AS NOTE "
+          + "FROM (VALUES(0))";
+
+  private static String export(
+      final Connection connection, final DataExportFormat exportFormat, final int blocks)
+      throws Exception {
+    return export(connection, exportFormat, null, SQL, blocks);
+  }
+
+  private static String export(
+      final Connection connection,
+      final DataExportFormat exportFormat,
+      final Table table,
+      final String sql,
+      final int blocks)
+      throws Exception {
+    final StringWriter writer = new StringWriter();
+    final OperationOptions options =
+        OperationOptionsBuilder.builder().withCommand("quickdump").toOptions();
+    final OutputOptions outputOptions =
+        OutputOptionsBuilder.builder()
+            .withOutputFormat(exportFormat)
+            .withOutputWriter(writer)
+            .toOptions();
+
+    final DataExporter exporter = new DataExporter(exportFormat, options, outputOptions);
+    exporter.begin();
+    for (int i = 0; i < blocks; i++) {
+      try (final Statement statement = connection.createStatement();
+          final ResultSet results = statement.executeQuery(sql)) {
+        if (table == null) {
+          exporter.handleData(new Query("export", sql), results);
+        } else {
+          exporter.handleData(table, results);
+        }
+      }
+    }
+    exporter.end();
+
+    return writer.toString();
+  }
+
+  @Test
+  public void csv(final Connection connection) throws Exception {
+    final String block =
+        "ID,MISSING,RATIO,SCORE,PRICE,FLAG,NOTE"
+            + NL
+            + "1,,2.5,0.1,12.50,true,\"Say \"\"hi\"\", then\ntab\t\""
+            + NL;
+    assertThat(export(connection, DataExportFormat.csv, 1), is(block));
+    assertThat(export(connection, DataExportFormat.csv, 2), is(block + NL + block));
+  }
+
+  @Test
+  public void jsonLines(final Connection connection) throws Exception {
+    final String row =
+        "{\"ID\":1,\"MISSING\":null,\"RATIO\":2.5,\"SCORE\":0.1,\"PRICE\":12.50,"
+            + "\"FLAG\":true,"
+            + "\"NOTE\":\"Say \\\"hi\\\", then\\ntab\\t\"}"
+            + NL;
+    assertThat(export(connection, DataExportFormat.jsonl, 1), is(row));
+    assertThat(export(connection, DataExportFormat.jsonl, 2), is(row + row));
+  }
+
+  @Test
+  public void jsonLinesForTable(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    final Table table =
+        catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "AUTHORS").get();
+    final String sql = "SELECT ID, FIRSTNAME FROM PUBLIC.BOOKS.AUTHORS WHERE ID = 1";
+
+    // Rows for table data say which table they are from
+    final String row =
+        "{\"_table\":\"PUBLIC.BOOKS.AUTHORS\",\"ID\":1,\"FIRSTNAME\":\"Oren\"}" + NL;
+    assertThat(export(connection, DataExportFormat.jsonl, table, sql, 1), is(row));
+    assertThat(
+        export(connection, DataExportFormat.csv, table, sql, 1),
+        is("ID,FIRSTNAME" + NL + "1,Oren" + NL));
+  }
+
+  @Test
+  public void tsv(final Connection connection) throws Exception {
+    final String block =
+        "ID\tMISSING\tRATIO\tSCORE\tPRICE\tFLAG\tNOTE"
+            + NL
+            + "1\t\t2.5\t0.1\t12.50\ttrue\tSay \"hi\", then\\ntab\\t"
+            + NL;
+    assertThat(export(connection, DataExportFormat.tsv, 1), is(block));
+  }
+}
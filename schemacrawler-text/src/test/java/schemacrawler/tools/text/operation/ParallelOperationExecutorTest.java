@@ -0,0 +1,252 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.sql.Connection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.options.DataExportFormat;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ParallelOperationExecutorTest {
+
+  /** Exports table data, but fails with an error for one of the tables. */
+  private static final class FailingDataHandler implements SpooledDataHandler {
+
+    private final SpooledDataHandler handler;
+    private final Table failTable;
+
+    FailingDataHandler(final SpooledDataHandler handler, final Table failTable) {
+      this.handler = handler;
+      this.failTable = failTable;
+    }
+
+    @Override
+    public void appendSpooledData(final Reader spool) throws SchemaCrawlerException {
+      handler.appendSpooledData(spool);
+    }
+
+    @Override
+    public void begin() throws SchemaCrawlerException {
+      handler.begin();
+    }
+
+    @Override
+    public void end() throws SchemaCrawlerException {
+      handler.end();
+    }
+
+    @Override
+    public void handle(final CrawlInfo crawlInfo) throws SchemaCrawlerException {
+      handler.handle(crawlInfo);
+    }
+
+    @Override
+    public void handle(final DatabaseInfo databaseInfo) throws SchemaCrawlerException {
+      handler.handle(databaseInfo);
+    }
+
+    @Override
+    public void handle(final JdbcDriverInfo jdbcDriverInfo) throws SchemaCrawlerException {
+      handler.handle(jdbcDriverInfo);
+    }
+
+    @Override
+    public void handleData(final Query query, final ResultSet rows)
+        throws SchemaCrawlerException {
+      handler.handleData(query, rows);
+    }
+
+    @Override
+    public void handleData(final Table table, final ResultSet rows)
+        throws SchemaCrawlerException {
+      handler.handleData(table, rows);
+    }
+
+    @Override
+    public void handleHeaderEnd() throws SchemaCrawlerException {
+      handler.handleHeaderEnd();
+    }
+
+    @Override
+    public void handleHeaderStart() throws SchemaCrawlerException {
+      handler.handleHeaderStart();
+    }
+
+    @Override
+    public void handleInfoEnd() throws SchemaCrawlerException {
+      handler.handleInfoEnd();
+    }
+
+    @Override
+    public void handleInfoStart() throws SchemaCrawlerException {
+      handler.handleInfoStart();
+    }
+
+    @Override
+    public void spoolData(final Table table, final ResultSet rows, final Writer spool)
+        throws SchemaCrawlerException {
+      if (table.equals(failTable)) {
+        throw new OutOfMemoryError("Worker failure for " + table);
+      }
+      handler.spoolData(table, rows, spool);
+    }
+  }
+
+  private static final Query QUERY =
+      new Query("count", "SELECT COUNT(*) AS ROW_COUNT FROM ${table}");
+
+  private static String execute(
+      final Connection connection,
+      final List<Table> tables,
+      final Table failTable,
+      final int parallelWorkers)
+      throws SchemaCrawlerException {
+    final StringWriter writer = new StringWriter();
+    final OperationOptions options =
+        OperationOptionsBuilder.builder()
+            .withCommand("quickdump")
+            .withParallelWorkers(parallelWorkers)
+            .toOptions();
+    final DataExporter exporter =
+        new DataExporter(
+            DataExportFormat.jsonl,
+            options,
+            OutputOptionsBuilder.builder()
+                .withOutputFormat(DataExportFormat.jsonl)
+                .withOutputWriter(writer)
+                .toOptions());
+    final SpooledDataHandler handler = new FailingDataHandler(exporter, failTable);
+
+    final ParallelOperationExecutor executor =
+        new ParallelOperationExecutor(
+            connection,
+            () -> {
+              throw new IllegalStateException("No additional connections");
+            },
+            QUERY,
+            options,
+            Identifiers.STANDARD,
+            0);
+    handler.begin();
+    executor.execute(tables, handler);
+    handler.end();
+    return writer.toString();
+  }
+
+  /** Spool files in the temporary directory, including any left behind by other runs. */
+  private static Set<Path> spoolFiles() throws IOException {
+    final Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+    try (final Stream<Path> files = Files.list(tempDirectory)) {
+      return files
+          .filter(
+              file -> {
+                final String fileName = file.getFileName().toString();
+                return fileName.startsWith("schemacrawler.operation.")
+                    && fileName.endsWith(".spool");
+              })
+          .collect(Collectors.toSet());
+    }
+  }
+
+  private static List<Table> tables(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    return catalog
+        .getTables()
+        .stream()
+        .filter(table -> table.getSchema().getFullName().equals("PUBLIC.BOOKS"))
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  public void workerFailure(final Connection connection) throws Exception {
+    final List<Table> tables = tables(connection);
+    assertThat(tables.size() > 2, is(true));
+
+    // Workers that cannot get a connection leave the tables to the
+    // primary worker, which then fails part way through
+    final Table failTable = tables.get(1);
+    final Set<Path> spoolFiles = spoolFiles();
+    final SchemaCrawlerException exception =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(30),
+            () ->
+                assertThrows(
+                    SchemaCrawlerException.class,
+                    () -> execute(connection, tables, failTable, 3)));
+    assertThat(exception.getCause() instanceof OutOfMemoryError, is(true));
+    assertThat(exception.getCause().getMessage(), containsString(failTable.getName()));
+    // Spools for all tables are deleted, including the one that failed
+    assertThat(spoolFiles(), is(spoolFiles));
+  }
+
+  @Test
+  public void workersWithoutFailure(final Connection connection) throws Exception {
+    final List<Table> tables = tables(connection);
+    final Set<Path> spoolFiles = spoolFiles();
+    // One row count for each table
+    final String output = execute(connection, tables, null, 3);
+    assertThat(output.split(System.lineSeparator()).length, is(tables.size()));
+    assertThat(spoolFiles(), is(spoolFiles));
+  }
+}
@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.executable;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
@@ -64,6 +65,14 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   Connection getConnection();
 
+  /**
+   * Source of additional connections to the same database, for commands that can run queries on
+   * more than one connection at the same time. May be null.
+   *
+   * @return Source of additional connections, or null
+   */
+  Supplier<Connection> getConnectionSource();
+
   Identifiers getIdentifiers();
 
   OutputOptions getOutputOptions();
@@ -83,6 +92,8 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   void setConnection(Connection connection);
 
+  void setConnectionSource(Supplier<Connection> connectionSource);
+
   void setIdentifiers(Identifiers identifiers);
 
   void setOutputOptions(OutputOptions outputOptions);
@@ -32,6 +32,7 @@ import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -66,6 +67,7 @@ public final class SchemaCrawlerExecutable {
   private Config additionalConfiguration;
   private Catalog catalog;
   private Connection connection;
+  private Supplier<Connection> connectionSource;
   private OutputOptions outputOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private SchemaRetrievalOptions schemaRetrievalOptions;
@@ -103,6 +105,7 @@ public final class SchemaCrawlerExecutable {
     // Prepare to execute
     scCommand.setCatalog(catalog);
     scCommand.setConnection(connection);
+    scCommand.setConnectionSource(connectionSource);
 
     // Execute
     LOGGER.log(Level.INFO, new StringFormat("Executing SchemaCrawler command <%s>", command));
@@ -149,6 +152,16 @@ public final class SchemaCrawlerExecutable {
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  /**
+   * Source of additional connections to the same database, which commands can use to run queries
+   * in parallel. Connections obtained from the source are closed by the command that opens them.
+   *
+   * @param connectionSource Source of additional connections, which may be null
+   */
+  public void setConnectionSource(final Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
   public void setOutputOptions(final OutputOptions outputOptions) {
     if (outputOptions == null) {
       this.outputOptions = OutputOptionsBuilder.newOutputOptions();
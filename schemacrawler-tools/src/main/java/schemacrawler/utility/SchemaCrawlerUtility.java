@@ -33,6 +33,7 @@ import static schemacrawler.tools.options.Config.getSystemConfigurationProperty;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -84,6 +85,33 @@ public final class SchemaCrawlerUtility {
     return catalog;
   }
 
+  /**
+   * Crawls a database, and returns a catalog. Independent parts of the catalog are crawled in
+   * parallel, using additional connections from the connection source.
+   *
+   * @param connection Live database connection.
+   * @param connectionSource Source of additional connections to the same database.
+   * @param schemaCrawlerOptions Options.
+   * @return Database catalog.
+   * @throws SchemaCrawlerException On an exception.
+   */
+  public static Catalog getCatalog(
+      final Connection connection,
+      final Supplier<Connection> connectionSource,
+      final SchemaCrawlerOptions schemaCrawlerOptions)
+      throws SchemaCrawlerException {
+    checkConnection(connection);
+    LOGGER.log(Level.CONFIG, new ObjectToStringFormat(schemaCrawlerOptions));
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = matchSchemaRetrievalOptions(connection);
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection, connectionSource, schemaRetrievalOptions, schemaCrawlerOptions);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    return catalog;
+  }
+
   /**
    * Obtains result-set metadata from a live result-set.
    *
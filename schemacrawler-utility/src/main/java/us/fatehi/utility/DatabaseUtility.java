@@ -138,7 +138,23 @@ public final class DatabaseUtility {
 
   public static long executeSqlForLong(final Connection connection, final String sql)
       throws SQLException {
-    final Object longValue = executeSqlForScalar(connection, sql);
+    try (final Statement statement = createStatement(connection)) {
+      return executeSqlForLong(statement, sql);
+    }
+  }
+
+  /**
+   * Executes SQL that returns a single number, using a statement that can be reused for other
+   * queries.
+   *
+   * @param statement Statement to execute the SQL with
+   * @param sql SQL that returns one column and one row
+   * @return Long value of the result
+   * @throws SQLException On an exception, or if the result is not a number
+   */
+  public static long executeSqlForLong(final Statement statement, final String sql)
+      throws SQLException {
+    final Object longValue = executeSqlForScalar(statement, sql);
     // Error checking
     if (longValue == null || !(longValue instanceof Number)) {
       throw new SQLException("Cannot get a long value result from SQL query");
@@ -149,8 +165,23 @@ public final class DatabaseUtility {
 
   public static Object executeSqlForScalar(final Connection connection, final String sql)
       throws SQLException {
-    try (final Statement statement = createStatement(connection);
-        final ResultSet resultSet = executeSql(statement, sql)) {
+    try (final Statement statement = createStatement(connection)) {
+      return executeSqlForScalar(statement, sql);
+    }
+  }
+
+  /**
+   * Executes SQL that returns a single value, using a statement that can be reused for other
+   * queries.
+   *
+   * @param statement Statement to execute the SQL with
+   * @param sql SQL that returns one column, and one row or no rows
+   * @return Value of the result, or null if there are no rows
+   * @throws SQLException On an exception, or if more than one column or row is returned
+   */
+  public static Object executeSqlForScalar(final Statement statement, final String sql)
+      throws SQLException {
+    try (final ResultSet resultSet = executeSql(statement, sql)) {
       if (resultSet == null) {
         return null;
       }
@@ -37,8 +37,10 @@ import java.time.Instant;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 
@@ -92,6 +94,20 @@ public final class StopWatch {
     return id;
   }
 
+  /**
+   * Gets the time taken for each task, in the order that the tasks were run. The times for tasks
+   * that were run more than once are added up.
+   *
+   * @return Time taken for each task, by task name
+   */
+  public Map<String, Duration> getTaskDurations() {
+    final Map<String, Duration> taskDurations = new LinkedHashMap<>();
+    for (final TaskInfo task : tasks) {
+      taskDurations.merge(task.taskName, task.getDuration(), Duration::plus);
+    }
+    return taskDurations;
+  }
+
   /**
    * Return whether the stop watch is currently running.
    *
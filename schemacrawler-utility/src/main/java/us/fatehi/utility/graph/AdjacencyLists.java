@@ -0,0 +1,91 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.graph;
+
+/**
+ * Outgoing adjacency lists of a directed graph, in compressed sparse row form. Vertices are
+ * identified by dense integer ids, and the targets of the edges going out of vertex <code>v</code>
+ * are held in <code>targets[offsets[v]]</code> to <code>targets[offsets[v + 1] - 1]</code>.
+ */
+final class AdjacencyLists {
+
+  private final int[] offsets;
+  private final int[] targets;
+
+  AdjacencyLists(
+      final int vertexCount, final int[] edgeFrom, final int[] edgeTo, final int edgeCount) {
+    offsets = new int[vertexCount + 1];
+    for (int i = 0; i < edgeCount; i++) {
+      offsets[edgeFrom[i] + 1]++;
+    }
+    for (int v = 0; v < vertexCount; v++) {
+      offsets[v + 1] += offsets[v];
+    }
+
+    targets = new int[edgeCount];
+    final int[] positions = new int[vertexCount];
+    System.arraycopy(offsets, 0, positions, 0, vertexCount);
+    for (int i = 0; i < edgeCount; i++) {
+      targets[positions[edgeFrom[i]]++] = edgeTo[i];
+    }
+  }
+
+  /**
+   * Index just past the last outgoing edge of a vertex.
+   *
+   * @param vertexId Vertex id
+   * @return End index into the targets
+   */
+  int end(final int vertexId) {
+    return offsets[vertexId + 1];
+  }
+
+  /**
+   * Index of the first outgoing edge of a vertex.
+   *
+   * @param vertexId Vertex id
+   * @return Start index into the targets
+   */
+  int start(final int vertexId) {
+    return offsets[vertexId];
+  }
+
+  /**
+   * Vertex id at the end of an edge.
+   *
+   * @param edgeIndex Index into the targets
+   * @return Vertex id
+   */
+  int target(final int edgeIndex) {
+    return targets[edgeIndex];
+  }
+
+  int vertexCount() {
+    return offsets.length - 1;
+  }
+}
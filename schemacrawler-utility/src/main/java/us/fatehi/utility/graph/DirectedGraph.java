@@ -27,22 +27,40 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph. Vertices are numbered with dense integer ids in the order in which they
+ * are added, and edges are also recorded as pairs of vertex ids, so that graph algorithms can work
+ * on compact adjacency lists instead of on sets of edge objects.
+ *
+ * @param <T> Any comparable class
+ */
 public class DirectedGraph<T extends Comparable<? super T>> {
 
   private final Set<DirectedEdge<T>> edges;
   private final String name;
-  private final Map<T, Vertex<T>> verticesMap;
+  private final Map<T, Integer> vertexIds;
+  private final List<Vertex<T>> vertices;
+  private int[] edgeFrom;
+  private int[] edgeTo;
+  private int edgeCount;
+  private AdjacencyLists adjacencyLists;
 
   public DirectedGraph(final String name) {
     this.name = name;
-    verticesMap = new HashMap<>();
+    vertexIds = new HashMap<>();
+    vertices = new ArrayList<>();
     edges = new HashSet<>();
+    edgeFrom = new int[16];
+    edgeTo = new int[16];
   }
 
   /**
@@ -53,8 +71,20 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    * @param to Vertex value at the end of the edge
    */
   public void addEdge(final T from, final T to) {
-    if (!from.equals(to)) {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+    if (from.equals(to)) {
+      return;
+    }
+    final int fromId = addVertexId(from);
+    final int toId = addVertexId(to);
+    if (edges.add(new DirectedEdge<>(vertices.get(fromId), vertices.get(toId)))) {
+      if (edgeCount == edgeFrom.length) {
+        edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+        edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+      }
+      edgeFrom[edgeCount] = fromId;
+      edgeTo[edgeCount] = toId;
+      edgeCount++;
+      adjacencyLists = null;
     }
   }
 
@@ -65,14 +95,7 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    * @return The newly added vertex
    */
   public Vertex<T> addVertex(final T value) {
-    final Vertex<T> vertex;
-    if (verticesMap.containsKey(value)) {
-      vertex = verticesMap.get(value);
-    } else {
-      vertex = new Vertex<>(value);
-      verticesMap.put(value, vertex);
-    }
-    return vertex;
+    return vertices.get(addVertexId(value));
   }
 
   public Set<DirectedEdge<T>> edgeSet() {
@@ -88,10 +111,15 @@ public class DirectedGraph<T extends Comparable<? super T>> {
     Objects.requireNonNull(vertexFrom, "No vertex provided");
 
     final Set<DirectedEdge<T>> outgoingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.getFrom().equals(vertexFrom)) {
-        outgoingEdges.add(edge);
-      }
+    final Integer fromId = vertexIds.get(vertexFrom.getValue());
+    if (fromId == null) {
+      return outgoingEdges;
+    }
+
+    final AdjacencyLists adjacencyLists = getAdjacencyLists();
+    final Vertex<T> from = vertices.get(fromId);
+    for (int i = adjacencyLists.start(fromId); i < adjacencyLists.end(fromId); i++) {
+      outgoingEdges.add(new DirectedEdge<>(from, vertices.get(adjacencyLists.target(i))));
     }
     return outgoingEdges;
   }
@@ -103,7 +131,7 @@ public class DirectedGraph<T extends Comparable<? super T>> {
     if (name != null && !name.isEmpty()) {
       writer.append(String.format("  [label=\"%s\"]%n", name));
     }
-    for (final Vertex<T> vertex : verticesMap.values()) {
+    for (final Vertex<T> vertex : vertices) {
       writer.append("  ").append(vertex);
       if (vertex.hasAttribute("fillcolor")) {
         writer.append(
@@ -119,6 +147,38 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   }
 
   public Set<Vertex<T>> vertexSet() {
-    return new HashSet<>(verticesMap.values());
+    return new HashSet<>(vertices);
+  }
+
+  /**
+   * Gets the outgoing adjacency lists for the graph, indexed by vertex id. The adjacency lists are
+   * built when they are first needed, and rebuilt only after new edges are added.
+   *
+   * @return Adjacency lists
+   */
+  AdjacencyLists getAdjacencyLists() {
+    if (adjacencyLists == null || adjacencyLists.vertexCount() != vertices.size()) {
+      adjacencyLists = new AdjacencyLists(vertices.size(), edgeFrom, edgeTo, edgeCount);
+    }
+    return adjacencyLists;
+  }
+
+  T getVertexValue(final int vertexId) {
+    return vertices.get(vertexId).getValue();
+  }
+
+  int vertexCount() {
+    return vertices.size();
+  }
+
+  private int addVertexId(final T value) {
+    final Integer vertexId = vertexIds.get(value);
+    if (vertexId != null) {
+      return vertexId;
+    }
+    final int newVertexId = vertices.size();
+    vertices.add(new Vertex<>(value));
+    vertexIds.put(value, newVertexId);
+    return newVertexId;
   }
 }
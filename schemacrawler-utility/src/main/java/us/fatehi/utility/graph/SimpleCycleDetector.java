@@ -27,29 +27,13 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
-import java.util.Collection;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>> {
 
-  enum TraversalState {
-    notStarted("white"),
-    inProgress("lightgray"),
-    marked("red"),
-    complete("gray");
-
-    private final String color;
-
-    TraversalState(final String color) {
-      this.color = color;
-    }
-
-    public String getColor() {
-      return color;
-    }
-  }
-
-  private static final String ATTRIBUTE_TRAVERSAL_STATE = "traversalstate";
+  private static final byte NOT_STARTED = 0;
+  private static final byte IN_PROGRESS = 1;
+  private static final byte COMPLETE = 2;
 
   private final DirectedGraph<T> graph;
 
@@ -58,50 +42,47 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
   }
 
   /**
-   * Checks if the diagram contains a cycle.
+   * Checks if the diagram contains a cycle. Uses an iterative depth-first search over the
+   * adjacency lists, so that long chains of vertices do not overflow the call stack.
    *
    * @return true if the diagram contains a cycle, false otherwise
    */
   public boolean containsCycle() {
-    final Collection<Vertex<T>> vertices = clearTraversalStates();
-    for (final Vertex<T> vertex : vertices) {
-      if (vertex.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
-        if (visitForCyles(vertex)) {
-          return true;
-        }
-      }
-    }
+    final AdjacencyLists adjacencyLists = graph.getAdjacencyLists();
+    final int vertexCount = adjacencyLists.vertexCount();
 
-    return false;
-  }
+    final byte[] traversalStates = new byte[vertexCount];
+    final int[] callStack = new int[vertexCount];
+    final int[] edgePositions = new int[vertexCount];
 
-  private Collection<Vertex<T>> clearTraversalStates() {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    for (final Vertex<T> vertex : vertices) {
-      vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.notStarted);
-    }
-    return vertices;
-  }
+    for (int root = 0; root < vertexCount; root++) {
+      if (traversalStates[root] != NOT_STARTED) {
+        continue;
+      }
 
-  private boolean visitForCyles(final Vertex<T> vertex) {
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
-
-    for (final DirectedEdge<T> edge : graph.edgeSet()) {
-      if (edge.isFrom(vertex)) {
-        final Vertex<T> to = edge.getTo();
-        if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress) {
-          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
-          return true;
-        } else if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
-          if (visitForCyles(to)) {
+      int depth = 0;
+      callStack[depth++] = root;
+      edgePositions[root] = adjacencyLists.start(root);
+      traversalStates[root] = IN_PROGRESS;
+
+      while (depth > 0) {
+        final int vertex = callStack[depth - 1];
+        if (edgePositions[vertex] < adjacencyLists.end(vertex)) {
+          final int to = adjacencyLists.target(edgePositions[vertex]++);
+          if (traversalStates[to] == IN_PROGRESS) {
             return true;
+          } else if (traversalStates[to] == NOT_STARTED) {
+            callStack[depth++] = to;
+            edgePositions[to] = adjacencyLists.start(to);
+            traversalStates[to] = IN_PROGRESS;
           }
+        } else {
+          traversalStates[vertex] = COMPLETE;
+          depth--;
         }
       }
     }
 
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
-
     return false;
   }
 }
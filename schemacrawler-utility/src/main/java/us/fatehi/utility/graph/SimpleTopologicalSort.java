@@ -30,8 +30,6 @@ package us.fatehi.utility.graph;
 import static java.util.Comparator.naturalOrder;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -43,84 +41,57 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
   }
 
+  /**
+   * Sorts the vertices of the graph level by level, using in-degree counts over the adjacency
+   * lists. Each level consists of all the vertices that have no incoming edges from remaining
+   * vertices, and is sorted in natural order.
+   *
+   * @return Sorted vertex values
+   * @throws GraphException If the graph contains a cycle
+   */
   public List<T> topologicalSort() throws GraphException {
-    if (containsCycle()) {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
-
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    final int collectionSize = vertices.size();
-
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    final AdjacencyLists adjacencyLists = graph.getAdjacencyLists();
+    final int vertexCount = adjacencyLists.vertexCount();
 
-    while (!vertices.isEmpty()) {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator.hasNext(); ) {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges)) {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+    final int[] inDegrees = new int[vertexCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      for (int i = adjacencyLists.start(vertex); i < adjacencyLists.end(vertex); i++) {
+        inDegrees[adjacencyLists.target(i)]++;
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex : vertices) {
-        if (isStartNode(vertex, edges)) {
-          startNodes.add(vertex);
-        }
+    List<Integer> level = new ArrayList<>();
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      if (inDegrees[vertex] == 0) {
+        level.add(vertex);
       }
+    }
 
-      for (final Vertex<T> vertex : startNodes) {
-        // Save the vertex value
-        nodesAtLevel.add(vertex.getValue());
+    final List<T> sortedValues = new ArrayList<>(vertexCount);
+    while (!level.isEmpty()) {
+      final List<T> valuesAtLevel = new ArrayList<>(level.size());
+      final List<Integer> nextLevel = new ArrayList<>();
+      for (final int vertex : level) {
+        valuesAtLevel.add(graph.getVertexValue(vertex));
         // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        for (int i = adjacencyLists.start(vertex); i < adjacencyLists.end(vertex); i++) {
+          final int to = adjacencyLists.target(i);
+          inDegrees[to]--;
+          if (inDegrees[to] == 0) {
+            nextLevel.add(to);
+          }
+        }
       }
 
-      nodesAtLevel.sort(naturalOrder());
-      sortedValues.addAll(nodesAtLevel);
-    }
-
-    return sortedValues;
-  }
-
-  private boolean containsCycle() {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator.hasNext(); ) {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex)) {
-        iterator.remove();
-      }
+      valuesAtLevel.sort(naturalOrder());
+      sortedValues.addAll(valuesAtLevel);
+      level = nextLevel;
     }
-  }
 
-  private boolean isStartNode(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex)) {
-        return false;
-      }
+    if (sortedValues.size() < vertexCount) {
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(
-      final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex) || edge.isFrom(vertex)) {
-        return false;
-      }
-    }
-    return true;
+    return sortedValues;
   }
 }
@@ -27,86 +27,112 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
-import java.util.ArrayDeque;
+import static java.util.Comparator.naturalOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Implementation of <a href=
  * "https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm"> Tarjan's
- * algorithm</a>
+ * algorithm</a>, with an explicit call stack over the adjacency lists, so that deep graphs do not
+ * overflow the thread stack.
  *
  * @param <T> Any comparable class
  * @author Sualeh Fatehi
  */
 public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super T>> {
 
-  private static final String ATTRIBUTE_INDEX = "index";
-  private static final String ATTRIBUTE_LOWLINK = "lowlink";
+  private static final int UNVISITED = -1;
+
   private final DirectedGraph<T> graph;
-  private final Deque<Vertex<T>> stack;
-  private final Collection<List<T>> stronglyConnectedComponents;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph) {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
-
-    stronglyConnectedComponents = new HashSet<>();
-    stack = new ArrayDeque<>();
   }
 
   /**
-   * Calculates the sets of strongly connected vertices.
+   * Calculates the sets of strongly connected vertices. Only components with more than one vertex
+   * are returned, in the order in which they are found, and the vertices in each component are in
+   * natural order.
    *
    * @return Set of strongly connected components (sets of vertices)
    */
   public Collection<List<T>> detectCycles() {
-    for (final Vertex<T> vertex : graph.vertexSet()) {
-      if (!vertex.hasAttribute(ATTRIBUTE_INDEX)) {
-        strongConnect(vertex, 0);
-      }
-    }
-    return stronglyConnectedComponents;
-  }
+    final AdjacencyLists adjacencyLists = graph.getAdjacencyLists();
+    final int vertexCount = adjacencyLists.vertexCount();
 
-  private void strongConnect(final Vertex<T> vertexFrom, final int index) {
-    vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
-    vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
-    stack.push(vertexFrom);
-
-    for (final DirectedEdge<T> edge : graph.getOutgoingEdges(vertexFrom)) {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute(ATTRIBUTE_INDEX)) {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
-      } else if (stack.contains(vertexTo)) {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_INDEX)));
+    final int[] indexes = new int[vertexCount];
+    Arrays.fill(indexes, UNVISITED);
+    final int[] lowlinks = new int[vertexCount];
+    final boolean[] onStack = new boolean[vertexCount];
+    final int[] stack = new int[vertexCount];
+    final int[] callStack = new int[vertexCount];
+    final int[] edgePositions = new int[vertexCount];
+
+    final Collection<List<T>> stronglyConnectedComponents = new ArrayList<>();
+    int nextIndex = 0;
+    int stackSize = 0;
+    for (int root = 0; root < vertexCount; root++) {
+      if (indexes[root] != UNVISITED) {
+        continue;
       }
-    }
 
-    if (vertexFrom.getAttribute(ATTRIBUTE_LOWLINK) == vertexFrom.getAttribute(ATTRIBUTE_INDEX)) {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1) {
-        stronglyConnectedComponents.add(scc);
+      int depth = 0;
+      callStack[depth++] = root;
+      indexes[root] = nextIndex;
+      lowlinks[root] = nextIndex;
+      nextIndex++;
+      edgePositions[root] = adjacencyLists.start(root);
+      stack[stackSize++] = root;
+      onStack[root] = true;
+
+      while (depth > 0) {
+        final int vertexFrom = callStack[depth - 1];
+        if (edgePositions[vertexFrom] < adjacencyLists.end(vertexFrom)) {
+          final int vertexTo = adjacencyLists.target(edgePositions[vertexFrom]++);
+          if (indexes[vertexTo] == UNVISITED) {
+            // Successor vertex has not yet been visited; descend into it
+            callStack[depth++] = vertexTo;
+            indexes[vertexTo] = nextIndex;
+            lowlinks[vertexTo] = nextIndex;
+            nextIndex++;
+            edgePositions[vertexTo] = adjacencyLists.start(vertexTo);
+            stack[stackSize++] = vertexTo;
+            onStack[vertexTo] = true;
+          } else if (onStack[vertexTo]) {
+            // Successor vertex is on stack, hence in the current SCC
+            lowlinks[vertexFrom] = Math.min(lowlinks[vertexFrom], indexes[vertexTo]);
+          }
+          continue;
+        }
+
+        // All successors have been visited, so return to the parent vertex
+        depth--;
+        if (depth > 0) {
+          final int parent = callStack[depth - 1];
+          lowlinks[parent] = Math.min(lowlinks[parent], lowlinks[vertexFrom]);
+        }
+
+        if (lowlinks[vertexFrom] == indexes[vertexFrom]) {
+          final List<T> scc = new ArrayList<>();
+          int sccVertex;
+          do {
+            sccVertex = stack[--stackSize];
+            onStack[sccVertex] = false;
+            scc.add(graph.getVertexValue(sccVertex));
+          } while (sccVertex != vertexFrom);
+          if (scc.size() > 1) {
+            scc.sort(naturalOrder());
+            stronglyConnectedComponents.add(scc);
+          }
+        }
       }
     }
+
+    return stronglyConnectedComponents;
   }
 }
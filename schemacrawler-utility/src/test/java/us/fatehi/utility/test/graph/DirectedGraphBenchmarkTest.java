@@ -0,0 +1,133 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.test.graph;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.graph.DirectedGraph;
+import us.fatehi.utility.graph.SimpleCycleDetector;
+import us.fatehi.utility.graph.SimpleTopologicalSort;
+import us.fatehi.utility.graph.TarjanStronglyConnectedComponentFinder;
+
+/**
+ * Checks that the graph algorithms handle a chain that is too deep for recursion. The benchmark
+ * runs the algorithms on large synthetic graphs shaped like foreign key relationships, and is only
+ * run with the benchmarks profile.
+ */
+public class DirectedGraphBenchmarkTest extends GraphTestBase {
+
+  private static final Logger LOGGER = Logger.getLogger(DirectedGraphBenchmarkTest.class.getName());
+
+  @Test
+  public void deepChain() throws Exception {
+    final int size = 100_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("deep chain");
+    for (int i = 0; i < size - 1; i++) {
+      graph.addEdge(i, i + 1);
+    }
+
+    assertThat(containsCycleSimple(graph), is(false));
+    assertThat(containsCycleTarjan(graph), is(false));
+    assertThat(topologicalSort(graph), hasSize(size));
+
+    // Close the chain into one long cycle
+    graph.addEdge(size - 1, 0);
+
+    assertThat(containsCycleSimple(graph), is(true));
+    final Collection<List<Integer>> sccs =
+        new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles();
+    assertThat(sccs, hasSize(1));
+    assertThat(sccs.iterator().next(), hasSize(size));
+  }
+
+  @Test
+  @Tag("benchmark")
+  public void foreignKeyGraphs() throws Exception {
+    for (final int tableCount : new int[] {1_000, 10_000, 50_000}) {
+      final DirectedGraph<Integer> graph = makeForeignKeyGraph(tableCount, 3);
+
+      final long startCycles = System.nanoTime();
+      final boolean containsCycle = new SimpleCycleDetector<>(graph).containsCycle();
+      final long cyclesNanos = System.nanoTime() - startCycles;
+
+      final long startSort = System.nanoTime();
+      final List<Integer> sorted = new SimpleTopologicalSort<>(graph).topologicalSort();
+      final long sortNanos = System.nanoTime() - startSort;
+
+      // Add back references, to make cycles
+      for (int i = 10; i < tableCount; i = i + 100) {
+        graph.addEdge(i, i - 10);
+      }
+      final long startTarjan = System.nanoTime();
+      final Collection<List<Integer>> sccs =
+          new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles();
+      final long tarjanNanos = System.nanoTime() - startTarjan;
+
+      assertThat(containsCycle, is(false));
+      assertThat(sorted, hasSize(tableCount));
+      assertThat(sccs.isEmpty(), is(false));
+
+      LOGGER.log(
+          Level.INFO,
+          String.format(
+              "%d tables: cycle detection %.1f ms, topological sort %.1f ms, "
+                  + "strongly connected components %.1f ms",
+              tableCount, cyclesNanos / 1e6, sortNanos / 1e6, tarjanNanos / 1e6));
+    }
+  }
+
+  /**
+   * Makes an acyclic graph where every table references up to a given number of tables that were
+   * created before it, which is how foreign keys usually point.
+   */
+  private DirectedGraph<Integer> makeForeignKeyGraph(
+      final int tableCount, final int maxForeignKeys) {
+    final Random random = new Random(tableCount);
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("foreign keys");
+    graph.addVertex(0);
+    for (int table = 1; table < tableCount; table++) {
+      graph.addVertex(table);
+      final int foreignKeyCount = random.nextInt(maxForeignKeys + 1);
+      for (int i = 0; i < foreignKeyCount; i++) {
+        graph.addEdge(random.nextInt(table), table);
+      }
+    }
+    return graph;
+  }
+}